@@ -6,6 +6,8 @@ import java.io.StringWriter;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jabref.gui.Globals;
@@ -17,8 +19,10 @@ import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.importer.fileformat.ParallelBibtexParser;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.search.InvertedFieldIndex;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabase;
@@ -34,6 +38,7 @@ import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
 
 import org.openjdk.jmh.Main;
@@ -52,6 +57,7 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private InvertedFieldIndex fieldIndex;
 
     @Setup
     public void init() throws Exception {
@@ -70,6 +76,7 @@ public class Benchmarks {
             database.insertEntry(entry);
         }
 
+        fieldIndex = new InvertedFieldIndex(database);
         bibtexString = getOutputWriter().toString();
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
@@ -96,6 +103,13 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parallelParse() throws IOException {
+        // the generated library is small, thus use small chunks to actually parse in parallel
+        ParallelBibtexParser parser = new ParallelBibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor(), 16 * 1024, ForkJoinPool.commonPool());
+        return parser.parse(new StringReader(bibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
         return getOutputWriter().toString();
@@ -115,6 +129,13 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> indexedSearch() {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", EnumSet.noneOf(SearchFlags.class));
+        Predicate<BibEntry> candidates = fieldIndex.getCandidateFilter(searchQuery);
+        return database.getEntries().stream().filter(candidates.and(searchQuery::isMatch)).collect(Collectors.toList());
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -0,0 +1,98 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the memory footprint of parsed entries using JOL.
+ * <p>
+ * The retained size of all entries divided by their number is reported as secondary result {@code bytesPerEntry}.
+ * Objects shared between entries, e.g., field instances and deduplicated values, are counted once. As the entries
+ * reference their database through its listener, the size of the database is included as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class BibEntryFootprintBenchmark {
+
+    @Param({"10000"})
+    private int numberOfEntries;
+
+    private String bibtexString;
+    private ImportFormatPreferences importFormatPreferences;
+
+    @Setup
+    public void init() {
+        Globals.prefs = JabRefPreferences.getInstance();
+        importFormatPreferences = Globals.prefs.getImportFormatPreferences();
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < numberOfEntries; i++) {
+            builder.append("@Article{key").append(i).append(",\n")
+                   .append("  author    = {Lastname").append(i).append(", Firstname and Other, Author},\n")
+                   .append("  title     = {A title on the topic number ").append(i).append("},\n")
+                   .append("  journal   = {Journal of Benchmarks ").append(i % 50).append("},\n")
+                   .append("  publisher = {Publisher ").append(i % 10).append("},\n")
+                   .append("  year      = {").append(1950 + (i % 75)).append("},\n")
+                   .append("  volume    = {").append(i % 30).append("},\n")
+                   .append("  pages     = {").append(i % 100).append("--").append((i % 100) + 10).append("},\n")
+                   .append("  abstract  = {").append("Lorem ipsum dolor sit amet. ".repeat(4)).append(i).append("},\n")
+                   .append("}\n\n");
+        }
+        bibtexString = builder.toString();
+    }
+
+    @Benchmark
+    public List<BibEntry> parseEntries(Footprint footprint) throws IOException {
+        List<BibEntry> entries = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor())
+                .parse(new StringReader(bibtexString))
+                .getDatabase()
+                .getEntries();
+        footprint.entries = entries;
+        return entries;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long bytesPerEntry;
+
+        private List<BibEntry> entries;
+
+        @TearDown(Level.Invocation)
+        public void measure() {
+            if ((entries != null) && !entries.isEmpty()) {
+                bytesPerEntry = GraphLayout.parseInstance(entries.toArray()).totalSize() / entries.size();
+            }
+        }
+    }
+}
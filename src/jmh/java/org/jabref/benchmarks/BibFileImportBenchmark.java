@@ -0,0 +1,122 @@
+package org.jabref.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a large .bib file through a {@link java.io.Reader} with the memory-mapped import of
+ * {@link BibtexImporter#importDatabase(Path)}.
+ * <p>
+ * Besides the time, the peak heap usage during the import is reported as secondary result {@code peakHeapMegabytes}.
+ * Run with {@code -prof gc} to additionally get the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BibFileImportBenchmark {
+
+    @Param({"100", "500"})
+    private int fileSizeMegabytes;
+
+    private Path bibFile;
+    private ImportFormatPreferences importFormatPreferences;
+
+    @Setup
+    public void init() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+        importFormatPreferences = Globals.prefs.getImportFormatPreferences();
+
+        bibFile = Files.createTempFile("jabref-benchmark", ".bib");
+        long targetSize = fileSizeMegabytes * 1024L * 1024L;
+        try (BufferedWriter writer = Files.newBufferedWriter(bibFile, StandardCharsets.UTF_8)) {
+            writer.write("% Encoding: UTF-8\n\n");
+            long writtenCharacters = 0;
+            for (int i = 0; writtenCharacters < targetSize; i++) {
+                String entry = "@Article{key" + i + ",\n"
+                        + "  author   = {Müller, Jürgen and Lastname" + i + ", Firstname},\n"
+                        + "  title    = {A {Title} on the topic number " + i + "},\n"
+                        + "  journal  = {Journal of Benchmarks},\n"
+                        + "  year     = {" + (1950 + (i % 75)) + "},\n"
+                        + "  abstract = {" + "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(8) + "},\n"
+                        + "}\n\n";
+                writer.write(entry);
+                writtenCharacters += entry.length();
+            }
+        }
+    }
+
+    @TearDown
+    public void removeFile() throws IOException {
+        Files.deleteIfExists(bibFile);
+    }
+
+    @Benchmark
+    public ParserResult readerImport(HeapUsage heapUsage) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(bibFile, StandardCharsets.UTF_8)) {
+            return new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(reader);
+        }
+    }
+
+    @Benchmark
+    public ParserResult memoryMappedImport(HeapUsage heapUsage) throws IOException {
+        return new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(bibFile);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        public long peakHeapMegabytes;
+
+        private static Stream<MemoryPoolMXBean> heapPools() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP);
+        }
+
+        @Setup(Level.Invocation)
+        public void resetPeak() {
+            System.gc();
+            heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        @TearDown(Level.Invocation)
+        public void recordPeak() {
+            // the sum of the peaks of the pools is an upper bound of the peak of the whole heap
+            peakHeapMegabytes = heapPools().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() / (1024 * 1024);
+        }
+    }
+}
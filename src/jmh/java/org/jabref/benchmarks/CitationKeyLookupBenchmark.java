@@ -0,0 +1,65 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the citation key lookups of {@link BibDatabase} on a large library.
+ */
+@State(Scope.Benchmark)
+public class CitationKeyLookupBenchmark {
+
+    @Param({"100000"})
+    private int numberOfEntries;
+
+    private final BibDatabase database = new BibDatabase();
+    private final Random randomizer = new Random(42);
+
+    @Setup
+    public void init() {
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry()
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.TITLE, "This is my title " + i));
+        }
+    }
+
+    private String randomKey() {
+        return "key" + randomizer.nextInt(numberOfEntries);
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryByCitationKey() {
+        return database.getEntryByCitationKey(randomKey());
+    }
+
+    @Benchmark
+    public List<BibEntry> getEntriesByCitationKey() {
+        return database.getEntriesByCitationKey(randomKey());
+    }
+
+    @Benchmark
+    public boolean isDuplicateCitationKeyExisting() {
+        return database.isDuplicateCitationKeyExisting(randomKey());
+    }
+
+    @Benchmark
+    public long changeCitationKey() {
+        BibEntry entry = database.getEntries().get(randomizer.nextInt(numberOfEntries));
+        String oldKey = entry.getCitationKey().orElseThrow();
+        entry.setCitationKey(oldKey + "changed");
+        entry.setCitationKey(oldKey);
+        return database.getNumberOfCitationKeyOccurrences(oldKey);
+    }
+}
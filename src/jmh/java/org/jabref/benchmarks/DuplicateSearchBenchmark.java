@@ -0,0 +1,84 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.database.BlockedDuplicateSearch;
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the pairwise duplicate search with the blocked one on synthetic libraries.
+ * Every 20th entry is a slightly modified copy of a previous entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class DuplicateSearchBenchmark {
+
+    @Param({"10000", "50000", "100000"})
+    private int numberOfEntries;
+
+    private final List<BibEntry> entries = new ArrayList<>();
+    private DuplicateCheck duplicateCheck;
+
+    @Setup
+    public void init() {
+        duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+
+        Random randomizer = new Random(42);
+        for (int i = 0; i < numberOfEntries; i++) {
+            if ((i > 0) && ((i % 20) == 0)) {
+                BibEntry original = entries.get(randomizer.nextInt(i));
+                BibEntry copy = (BibEntry) original.clone();
+                copy.setField(StandardField.PAGES, "1--" + randomizer.nextInt(100));
+                entries.add(copy);
+                continue;
+            }
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + randomizer.nextInt(2000) + " and Other Author")
+                    .withField(StandardField.TITLE, "Title " + Integer.toHexString(randomizer.nextInt()) + " on topic " + i)
+                    .withField(StandardField.JOURNAL, "Journal " + randomizer.nextInt(500))
+                    .withField(StandardField.YEAR, String.valueOf(1950 + randomizer.nextInt(75))));
+        }
+    }
+
+    @Benchmark
+    public int pairwiseSearch() {
+        int duplicates = 0;
+        for (int i = 0; i < (entries.size() - 1); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    duplicates++;
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    public int blockedSearch() {
+        return new BlockedDuplicateSearch(duplicateCheck, BibDatabaseMode.BIBTEX).search(entries).size();
+    }
+}
@@ -0,0 +1,213 @@
+package org.jabref.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.jabref.http.dto.GsonFactory;
+import org.jabref.http.server.LibraryResource;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.logic.util.io.FileHistory;
+import org.jabref.preferences.BibEntryPreferences;
+import org.jabref.preferences.GuiPreferences;
+import org.jabref.preferences.PreferencesService;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Load test of the http server: several clients request pages of the entries of a large library from an embedded
+ * Grizzly server. For comparison, the whole library is requested as JSON, too.
+ * <p>
+ * The sampled response times are reported with their percentiles (including p0.99). The peak heap usage during an
+ * iteration is reported as secondary result {@code peakHeapMegabytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class HttpServerBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private Path bibFile;
+    private HttpServer server;
+    private HttpClient client;
+    private URI entriesUri;
+    private URI libraryUri;
+    private String libraryVersion;
+
+    @Setup
+    public void init() throws IOException {
+        bibFile = Files.createTempFile("jabref-benchmark", ".bib");
+        try (BufferedWriter writer = Files.newBufferedWriter(bibFile, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < numberOfEntries; i++) {
+                writer.write("@Article{key" + i + ",\n"
+                        + "  author   = {Müller, Jürgen and Lastname" + i + ", Firstname},\n"
+                        + "  title    = {A {Title} on the topic number " + i + "},\n"
+                        + "  journal  = {Journal of Benchmarks},\n"
+                        + "  year     = {" + (1950 + (i % 75)) + "},\n"
+                        + "}\n\n");
+            }
+        }
+
+        // The server serves the last opened files (see org.jabref.http.server.Server.main). The preferences of the user
+        // are not touched, instead the server gets preferences containing the benchmark library only.
+        PreferencesService preferences = createPreferences(bibFile);
+
+        ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class);
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(preferences).to(PreferencesService.class).ranked(2);
+                bind(new GsonFactory().provide()).to(Gson.class).ranked(2);
+            }
+        });
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = GrizzlyHttpServerFactory.createHttpServer(URI.create("http://localhost:" + port + "/"), resourceConfig);
+
+        client = HttpClient.newHttpClient();
+        String id = bibFile.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(bibFile);
+        libraryUri = URI.create("http://localhost:" + port + "/libraries/" + id);
+        entriesUri = URI.create(libraryUri + "/entries");
+
+        // The cursors contain the version of the library, which is taken from the cursor of the first page
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(entriesUri + "?limit=1")).build();
+            String cursor = JsonParser.parseString(client.send(request, HttpResponse.BodyHandlers.ofString()).body())
+                                      .getAsJsonObject().get("next").getAsString();
+            libraryVersion = cursor.substring(0, cursor.lastIndexOf(':'));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Could not request the first page", e);
+        }
+    }
+
+    private static PreferencesService createPreferences(Path bibFile) {
+        // Stub only, so that the calls of the requests are not recorded
+        PreferencesService preferences = mock(PreferencesService.class, withSettings().stubOnly());
+        FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(), List.of());
+        when(preferences.getFieldPreferences()).thenReturn(fieldPreferences);
+        when(preferences.getImportFormatPreferences()).thenReturn(new ImportFormatPreferences(
+                new BibEntryPreferences(','),
+                null,
+                fieldPreferences,
+                null,
+                null,
+                null));
+        when(preferences.getGuiPreferences()).thenReturn(new GuiPreferences(0, 0, 0, 0, false, false,
+                List.of(bibFile), null, FileHistory.of(List.of()), "", 0));
+        return preferences;
+    }
+
+    @TearDown
+    public void shutdown() throws IOException {
+        server.shutdownNow();
+        Files.deleteIfExists(bibFile);
+    }
+
+    @Benchmark
+    public int pageAtRandomCursor(HeapUsage heapUsage) throws IOException, InterruptedException {
+        int position = ThreadLocalRandom.current().nextInt(numberOfEntries);
+        return get(URI.create(entriesUri + "?limit=100&cursor=" + libraryVersion + ":" + position));
+    }
+
+    @Benchmark
+    public int pageWithProjectedFields(HeapUsage heapUsage) throws IOException, InterruptedException {
+        int position = ThreadLocalRandom.current().nextInt(numberOfEntries);
+        return get(URI.create(entriesUri + "?limit=100&fields=author,title&cursor=" + libraryVersion + ":" + position));
+    }
+
+    @Benchmark
+    public int searchedPage(HeapUsage heapUsage) throws IOException, InterruptedException {
+        return get(URI.create(entriesUri + "?limit=100&q=year%3D1999"));
+    }
+
+    @Benchmark
+    public int wholeLibrary(HeapUsage heapUsage) throws IOException, InterruptedException {
+        return get(libraryUri);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Accept", "application/json").build();
+        // The response is not kept, so that the heap usage is the one of the server
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Request " + uri + " failed with status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        public long peakHeapMegabytes;
+
+        private int threads;
+
+        private static Stream<MemoryPoolMXBean> heapPools() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP);
+        }
+
+        @Setup(Level.Iteration)
+        public void resetPeak(BenchmarkParams params) {
+            threads = params.getThreads();
+            heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        @TearDown(Level.Iteration)
+        public void recordPeak() {
+            // the sum of the peaks of the pools is an upper bound of the peak of the whole heap
+            // JMH sums the counters of all threads, thus each thread reports its share
+            peakHeapMegabytes = heapPools().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() / (1024 * 1024) / threads;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.journals.predatory.PredatoryJournalListLoader;
+import org.jabref.logic.journals.predatory.PredatoryJournalRepository;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.preferences.FilePreferences;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares a first check of a library with a check of the unchanged library. The second one only runs the checkers
+ * which depend on other entries or the file system, as the results of all other checkers are cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IntegrityCheckBenchmark {
+
+    @Param({"10000", "50000"})
+    private int numberOfEntries;
+
+    private BibDatabaseContext databaseContext;
+    private FilePreferences filePreferences;
+    private CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private JournalAbbreviationRepository journalAbbreviationRepository;
+    private PredatoryJournalRepository predatoryJournalRepository;
+    private IntegrityCheck cachedIntegrityCheck;
+
+    @Setup
+    public void init() {
+        Random randomizer = new Random(42);
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("Lastname" + i + "2000")
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + randomizer.nextInt(2000) + " and Other Author")
+                    .withField(StandardField.TITLE, "Title " + Integer.toHexString(randomizer.nextInt()) + " on topic " + i)
+                    .withField(StandardField.JOURNAL, "Journal " + randomizer.nextInt(500))
+                    .withField(StandardField.YEAR, String.valueOf(1950 + randomizer.nextInt(75))));
+        }
+        databaseContext = new BibDatabaseContext(database);
+
+        filePreferences = mock(FilePreferences.class);
+        citationKeyPatternPreferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                GlobalCitationKeyPattern.fromPattern("[auth][year]"),
+                "",
+                ',');
+        journalAbbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        predatoryJournalRepository = PredatoryJournalListLoader.loadRepository();
+
+        cachedIntegrityCheck = createIntegrityCheck();
+        cachedIntegrityCheck.check();
+    }
+
+    @TearDown
+    public void close() throws Exception {
+        predatoryJournalRepository.close();
+    }
+
+    private IntegrityCheck createIntegrityCheck() {
+        return new IntegrityCheck(databaseContext,
+                filePreferences,
+                citationKeyPatternPreferences,
+                journalAbbreviationRepository,
+                predatoryJournalRepository,
+                false);
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> firstCheck() {
+        return createIntegrityCheck().check();
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkOfUnchangedLibrary() {
+        return cachedIntegrityCheck.check();
+    }
+}
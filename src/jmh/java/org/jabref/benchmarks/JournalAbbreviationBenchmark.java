@@ -0,0 +1,179 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures abbreviating and unabbreviating the journal names of a large library using the journal list read into
+ * memory compared to the memory-mapped journal list, and the lookup of custom abbreviations.
+ * <p>
+ * The list built by the {@code generateJournalListMV} task is used. If it was not built, a generated list of a
+ * similar size is used.
+ */
+@State(Scope.Benchmark)
+public class JournalAbbreviationBenchmark {
+
+    private static final int GENERATED_LIST_SIZE = 50_000;
+    private static final int NUMBER_OF_NAMES = 50_000;
+    private static final int NUMBER_OF_CUSTOM_ABBREVIATIONS = 1_000;
+    private static final List<String> WORDS = List.of("International", "Journal", "of", "Advanced", "Research",
+            "Science", "Technology", "Engineering", "Medical", "Studies", "Applied", "Physics", "Chemistry", "Review",
+            "Letters", "Annals", "Proceedings", "Computer", "Biology", "Materials", "Transactions", "Society");
+
+    private final Random randomizer = new Random(42);
+    private final List<String> fullNames = new ArrayList<>(NUMBER_OF_NAMES);
+    private final List<String> abbreviatedNames = new ArrayList<>(NUMBER_OF_NAMES);
+    private Path tempDir;
+    private JournalAbbreviationRepository inMemoryRepository;
+    private JournalAbbreviationRepository memoryMappedRepository;
+
+    @Setup
+    public void init() throws IOException {
+        tempDir = Files.createTempDirectory("jabref-benchmark");
+        Path journalList = tempDir.resolve("journal-list.mv");
+        copyOrGenerateJournalList(journalList);
+
+        inMemoryRepository = new JournalAbbreviationRepository(journalList);
+        memoryMappedRepository = new JournalAbbreviationRepository(journalList, true);
+
+        List<Abbreviation> abbreviations = new ArrayList<>(inMemoryRepository.getAllLoaded());
+        List<Abbreviation> customAbbreviations = new ArrayList<>(NUMBER_OF_CUSTOM_ABBREVIATIONS);
+        for (int i = 0; i < NUMBER_OF_CUSTOM_ABBREVIATIONS; i++) {
+            customAbbreviations.add(new Abbreviation("Custom Journal " + i, "Cust. J. " + i));
+        }
+        inMemoryRepository.addCustomAbbreviations(customAbbreviations);
+        memoryMappedRepository.addCustomAbbreviations(customAbbreviations);
+
+        // Like the journal fields of a large library: mostly names of the list, some custom and some unknown names
+        for (int i = 0; i < NUMBER_OF_NAMES; i++) {
+            int kind = randomizer.nextInt(10);
+            if (kind == 0) {
+                int custom = randomizer.nextInt(NUMBER_OF_CUSTOM_ABBREVIATIONS);
+                fullNames.add("Custom Journal " + custom);
+                abbreviatedNames.add("Cust. J. " + custom);
+            } else if (kind == 1) {
+                fullNames.add(generateName());
+                abbreviatedNames.add(generateName());
+            } else {
+                Abbreviation abbreviation = abbreviations.get(randomizer.nextInt(abbreviations.size()));
+                fullNames.add(abbreviation.getName());
+                abbreviatedNames.add(abbreviation.getAbbreviation());
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        inMemoryRepository.close();
+        memoryMappedRepository.close();
+        try (var files = Files.walk(tempDir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long abbreviateUsingListInMemory() {
+        return abbreviate(inMemoryRepository);
+    }
+
+    @Benchmark
+    public long abbreviateUsingMemoryMappedList() {
+        return abbreviate(memoryMappedRepository);
+    }
+
+    @Benchmark
+    public long unabbreviateUsingListInMemory() {
+        return unabbreviate(inMemoryRepository);
+    }
+
+    @Benchmark
+    public long unabbreviateUsingMemoryMappedList() {
+        return unabbreviate(memoryMappedRepository);
+    }
+
+    @Benchmark
+    public long abbreviateInParallelUsingMemoryMappedList() {
+        return fullNames.parallelStream()
+                        .map(memoryMappedRepository::getDefaultAbbreviation)
+                        .filter(Optional::isPresent)
+                        .count();
+    }
+
+    private long abbreviate(JournalAbbreviationRepository repository) {
+        long abbreviated = 0;
+        for (String name : fullNames) {
+            if (repository.getDefaultAbbreviation(name).isPresent()) {
+                abbreviated++;
+            }
+        }
+        return abbreviated;
+    }
+
+    private long unabbreviate(JournalAbbreviationRepository repository) {
+        long unabbreviated = 0;
+        for (String name : abbreviatedNames) {
+            if (repository.isAbbreviatedName(name) && repository.get(name).isPresent()) {
+                unabbreviated++;
+            }
+        }
+        return unabbreviated;
+    }
+
+    private void copyOrGenerateJournalList(Path journalList) throws IOException {
+        try (InputStream resource = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+            if (resource != null) {
+                Files.copy(resource, journalList, StandardCopyOption.REPLACE_EXISTING);
+                return;
+            }
+        }
+
+        Set<String> generatedNames = new LinkedHashSet<>(GENERATED_LIST_SIZE);
+        while (generatedNames.size() < GENERATED_LIST_SIZE) {
+            generatedNames.add(generateName());
+        }
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap("FullToAbbreviation");
+            for (String name : generatedNames) {
+                fullToAbbreviation.put(name, new Abbreviation(name, abbreviate(name)));
+            }
+            JournalAbbreviationRepository.writeLookupMaps(store);
+        }
+    }
+
+    private static String abbreviate(String name) {
+        List<String> abbreviatedWords = new ArrayList<>();
+        for (String word : name.split(" ")) {
+            abbreviatedWords.add(word.length() > 4 ? word.substring(0, 4) + "." : word);
+        }
+        return String.join(" ", abbreviatedWords);
+    }
+
+    private String generateName() {
+        int numberOfWords = 3 + randomizer.nextInt(5);
+        List<String> words = new ArrayList<>(numberOfWords);
+        for (int i = 0; i < numberOfWords; i++) {
+            words.add(WORDS.get(randomizer.nextInt(WORDS.size())));
+        }
+        return String.join(" ", words);
+    }
+}
@@ -0,0 +1,156 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.pdf.search.PdfIndexer;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.preferences.FilePreferences;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Indexes a generated corpus of PDF files into an empty fulltext index with different numbers of extraction workers.
+ * <p>
+ * The throughput of the indexer is reported as secondary results {@code filesPerSecond} and {@code pagesPerSecond}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class PdfIndexingBenchmark {
+
+    private static final int PAGES_PER_FILE = 10;
+    private static final List<String> WORDS = List.of("lorem", "ipsum", "dolor", "sit", "amet", "consectetur",
+            "adipiscing", "elit", "bibliography", "reference", "citation", "library", "index", "search", "entry");
+
+    @Param({"500"})
+    private int numberOfFiles;
+
+    @Param({"1", "4", "16"})
+    private int extractionWorkers;
+
+    private Path corpusDirectory;
+    private Path indexDirectory;
+    private BibDatabaseContext databaseContext;
+    private FilePreferences filePreferences;
+    private PdfIndexer indexer;
+
+    @Setup
+    public void createCorpus() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+        filePreferences = Globals.prefs.getFilePreferences();
+
+        corpusDirectory = Files.createTempDirectory("jabref-pdf-corpus");
+        Random randomizer = new Random(42);
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfFiles; i++) {
+            Path pdf = corpusDirectory.resolve("file" + i + ".pdf");
+            writePdf(pdf, randomizer);
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withFiles(List.of(new LinkedFile("", pdf.toAbsolutePath().toString(), StandardFileType.PDF.getName()))));
+        }
+        databaseContext = new BibDatabaseContext(database);
+    }
+
+    private static void writePdf(Path file, Random randomizer) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int pageNumber = 0; pageNumber < PAGES_PER_FILE; pageNumber++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.setLeading(12);
+                    content.newLineAtOffset(50, 740);
+                    for (int line = 0; line < 55; line++) {
+                        StringBuilder text = new StringBuilder();
+                        for (int word = 0; word < 12; word++) {
+                            text.append(WORDS.get(randomizer.nextInt(WORDS.size()))).append(' ');
+                        }
+                        content.showText(text.toString());
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(file.toFile());
+        }
+    }
+
+    @TearDown
+    public void removeCorpus() throws IOException {
+        deleteDirectory(corpusDirectory);
+    }
+
+    @Setup(Level.Invocation)
+    public void createIndexer() throws IOException {
+        indexDirectory = Files.createTempDirectory("jabref-pdf-index");
+        indexer = PdfIndexer.of(databaseContext, indexDirectory, filePreferences, extractionWorkers);
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeIndex() throws IOException {
+        indexer.close();
+        deleteDirectory(indexDirectory);
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void rebuildIndex(Throughput throughput) {
+        indexer.getMetrics().reset();
+        indexer.rebuildIndex();
+        throughput.filesPerSecond = indexer.getMetrics().getFilesPerSecond();
+        throughput.pagesPerSecond = indexer.getMetrics().getPagesPerSecond();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Throughput {
+
+        public double filesPerSecond;
+        public double pagesPerSecond;
+    }
+}
@@ -0,0 +1,126 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import org.jabref.logic.journals.predatory.PredatoryJournalInformation;
+import org.jabref.logic.journals.predatory.PredatoryJournalRepository;
+import org.jabref.logic.journals.predatory.TrigramIndex;
+import org.jabref.logic.util.strings.StringSimilarity;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the fuzzy lookup of {@link PredatoryJournalRepository#isKnownName(String)} using the trigram index compared
+ * to comparing the name with every name of the list.
+ * <p>
+ * The list built by the {@code generatePredatoryJournalListMV} task is used. If it was not built, a generated list of a
+ * similar size is used.
+ */
+@State(Scope.Benchmark)
+public class PredatoryJournalLookupBenchmark {
+
+    private static final int GENERATED_LIST_SIZE = 5_000;
+    private static final List<String> WORDS = List.of("International", "Journal", "of", "Advanced", "Research",
+            "Science", "Technology", "Engineering", "Medical", "Studies", "Applied", "Global", "Management", "Education",
+            "American", "European", "Asian", "Modern", "Social", "Sciences", "Innovative", "Current", "Reviews");
+
+    private final Random randomizer = new Random(42);
+    private final StringSimilarity similarity = new StringSimilarity();
+    private final List<String> queries = new ArrayList<>();
+    private List<String> names;
+    private Path tempDir;
+    private PredatoryJournalRepository repository;
+
+    @Setup
+    public void init() throws IOException {
+        names = loadNames();
+
+        tempDir = Files.createTempDirectory("jabref-benchmark");
+        Path mvFile = tempDir.resolve("predatory-journals.mv");
+        try (MVStore store = new MVStore.Builder().fileName(mvFile.toString()).open()) {
+            MVMap<String, PredatoryJournalInformation> journals = store.openMap("PredatoryJournals");
+            names.forEach(name -> journals.put(name, new PredatoryJournalInformation(name, "", "")));
+            TrigramIndex.write(store, names);
+        }
+        repository = new PredatoryJournalRepository(mvFile);
+
+        // Like the fields of a library: a few names of the list with typos, mostly other names
+        for (int i = 0; i < 1_000; i++) {
+            if (i % 10 == 0) {
+                String name = names.get(randomizer.nextInt(names.size()));
+                queries.add(name.substring(0, name.length() / 2) + "x" + name.substring(name.length() / 2 + 1));
+            } else {
+                queries.add(generateName() + " Letters");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        repository.close();
+        try (var files = Files.walk(tempDir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public boolean isKnownNameUsingIndex() {
+        return repository.isKnownName(randomQuery());
+    }
+
+    @Benchmark
+    public boolean isKnownNameComparingAllNames() {
+        String query = randomQuery().toLowerCase(Locale.ROOT);
+        return names.stream().anyMatch(name -> similarity.isSimilar(query, name.toLowerCase(Locale.ROOT)));
+    }
+
+    private String randomQuery() {
+        return queries.get(randomizer.nextInt(queries.size()));
+    }
+
+    private List<String> loadNames() throws IOException {
+        try (InputStream resource = PredatoryJournalRepository.class.getResourceAsStream("/journals/predatory-journals.mv")) {
+            if (resource != null) {
+                Path tempFile = Files.createTempFile("predatory-journals", ".mv");
+                Files.copy(resource, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                try (MVStore store = new MVStore.Builder().readOnly().fileName(tempFile.toString()).open()) {
+                    MVMap<String, PredatoryJournalInformation> journals = store.openMap("PredatoryJournals");
+                    return new ArrayList<>(journals.keySet());
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            }
+        }
+
+        Set<String> generatedNames = new LinkedHashSet<>(GENERATED_LIST_SIZE);
+        while (generatedNames.size() < GENERATED_LIST_SIZE) {
+            generatedNames.add(generateName());
+        }
+        return new ArrayList<>(generatedNames);
+    }
+
+    private String generateName() {
+        int numberOfWords = 3 + randomizer.nextInt(5);
+        List<String> words = new ArrayList<>(numberOfWords);
+        for (int i = 0; i < numberOfWords; i++) {
+            words.add(WORDS.get(randomizer.nextInt(WORDS.size())));
+        }
+        return String.join(" ", words);
+    }
+}
@@ -0,0 +1,179 @@
+package org.jabref.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.shared.DBMSConnectionProperties;
+import org.jabref.logic.shared.DBMSConnectionPropertiesBuilder;
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.logic.shared.DBMSType;
+import org.jabref.logic.shared.DatabaseConnection;
+import org.jabref.logic.shared.PostgreSQLProcessor;
+import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many entries per second are inserted into and updated on a shared database.
+ * <p>
+ * An embedded H2 database in PostgreSQL compatibility mode is used, thus no database server is required. The numbers
+ * do not include network latency, which is saved by the batched statements as well.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(SharedDatabaseWriteBenchmark.NUMBER_OF_ENTRIES)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class SharedDatabaseWriteBenchmark {
+
+    static final int NUMBER_OF_ENTRIES = 10_000;
+
+    @Benchmark
+    public List<BibEntry> insertEntries(InsertState state) {
+        state.processor.insertEntries(state.entries);
+        return state.entries;
+    }
+
+    @Benchmark
+    public List<OfflineLockException> updateEntries(UpdateState state) throws SQLException {
+        return state.processor.updateEntries(state.entries);
+    }
+
+    private static List<BibEntry> createEntries() {
+        List<BibEntry> entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Lastname" + i + ", Firstname and Other, Author")
+                    .withField(StandardField.TITLE, "A title on the topic number " + i)
+                    .withField(StandardField.JOURNAL, "Journal of Benchmarks " + (i % 50))
+                    .withField(StandardField.YEAR, Integer.toString(1950 + (i % 75)))
+                    .withField(StandardField.VOLUME, Integer.toString(i % 30))
+                    .withField(StandardField.PAGES, (i % 100) + "--" + ((i % 100) + 10))
+                    .withField(StandardField.ABSTRACT, "Lorem ipsum dolor sit amet. ".repeat(4) + i));
+        }
+        return entries;
+    }
+
+    /**
+     * Each state uses its own private in-memory database, which is dropped when the connection is closed
+     */
+    private static EmbeddedDatabase openDatabase() throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:;MODE=PostgreSQL");
+        DBMSConnectionProperties properties = new DBMSConnectionPropertiesBuilder()
+                .setType(DBMSType.POSTGRESQL)
+                .createDBMSConnectionProperties();
+        DBMSProcessor processor = new EmbeddedPostgreSQLProcessor(new DatabaseConnection() {
+            @Override
+            public DBMSConnectionProperties getProperties() {
+                return properties;
+            }
+
+            @Override
+            public Connection getConnection() {
+                return connection;
+            }
+        });
+        processor.setupSharedDatabase();
+        return new EmbeddedDatabase(connection, processor);
+    }
+
+    @State(Scope.Thread)
+    public static class InsertState {
+
+        private EmbeddedDatabase database;
+        private DBMSProcessor processor;
+        private List<BibEntry> entries;
+
+        @Setup(Level.Invocation)
+        public void setUp() throws SQLException {
+            database = openDatabase();
+            processor = database.processor();
+            entries = createEntries();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() throws SQLException {
+            database.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class UpdateState {
+
+        private EmbeddedDatabase database;
+        private DBMSProcessor processor;
+        private List<BibEntry> entries;
+        private int run;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            database = openDatabase();
+            processor = database.processor();
+            entries = createEntries();
+            processor.insertEntries(entries);
+        }
+
+        /**
+         * Changes two fields of each entry. The local versions are advanced by each update, thus all updates are
+         * accepted.
+         */
+        @Setup(Level.Invocation)
+        public void changeEntries() {
+            run++;
+            for (BibEntry entry : entries) {
+                entry.setField(StandardField.TITLE, "A title changed in run " + run);
+                entry.setField(StandardField.NOTE, "Note of run " + run);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            database.close();
+        }
+    }
+
+    private record EmbeddedDatabase(Connection connection, DBMSProcessor processor) implements AutoCloseable {
+
+        @Override
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    /**
+     * H2 does not support PostgreSQL's notifications
+     */
+    private static class EmbeddedPostgreSQLProcessor extends PostgreSQLProcessor {
+
+        EmbeddedPostgreSQLProcessor(DatabaseConnection connection) {
+            super(connection);
+        }
+
+        @Override
+        protected void notifyClientsAboutEntryChanges(Collection<Integer> sharedIDs) {
+            // nothing to do
+        }
+    }
+}
@@ -14,6 +14,8 @@ import java.util.prefs.BackingStoreException;
 
 import org.jabref.gui.Globals;
 import org.jabref.gui.externalfiles.AutoSetFileLinksUtil;
+import org.jabref.gui.journals.AbbreviationType;
+import org.jabref.gui.journals.UndoableBulkAbbreviator;
 import org.jabref.gui.undo.NamedCompound;
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -233,6 +235,14 @@ public class ArgumentProcessor {
             regenerateCitationKeys(loaded);
         }
 
+        if (cli.isAbbreviateJournals()) {
+            abbreviateJournals(loaded, cli.getAbbreviationType());
+        }
+
+        if (cli.isUnabbreviateJournals()) {
+            unabbreviateJournals(loaded);
+        }
+
         if (cli.isAutomaticallySetFileLinks()) {
             automaticallySetFileLinks(loaded);
         }
@@ -709,6 +719,35 @@ public class ArgumentProcessor {
         }
     }
 
+    private void abbreviateJournals(List<ParserResult> loaded, String abbreviationTypeName) {
+        AbbreviationType abbreviationType;
+        try {
+            abbreviationType = AbbreviationType.valueOf(abbreviationTypeName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println(Localization.lang("Unknown abbreviation type '%0'.", abbreviationTypeName));
+            return;
+        }
+
+        UndoableBulkAbbreviator abbreviator = new UndoableBulkAbbreviator(Globals.journalAbbreviationRepository);
+        for (ParserResult parserResult : loaded) {
+            int count = abbreviator.abbreviate(
+                    parserResult.getDatabase(),
+                    parserResult.getDatabase().getEntries(),
+                    abbreviationType,
+                    preferencesService.getJournalAbbreviationPreferences().shouldUseFJournalField(),
+                    new NamedCompound(""));
+            System.out.println(Localization.lang("Abbreviated %0 journal names.", String.valueOf(count)));
+        }
+    }
+
+    private void unabbreviateJournals(List<ParserResult> loaded) {
+        UndoableBulkAbbreviator abbreviator = new UndoableBulkAbbreviator(Globals.journalAbbreviationRepository);
+        for (ParserResult parserResult : loaded) {
+            int count = abbreviator.unabbreviate(parserResult.getDatabase(), parserResult.getDatabase().getEntries(), new NamedCompound(""));
+            System.out.println(Localization.lang("Unabbreviated %0 journal names.", String.valueOf(count)));
+        }
+    }
+
     private void regenerateCitationKeys(List<ParserResult> loaded) {
         for (ParserResult parserResult : loaded) {
             BibDatabase database = parserResult.getDatabase();
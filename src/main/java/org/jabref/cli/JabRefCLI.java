@@ -151,6 +151,18 @@ public class JabRefCLI {
         return cl.hasOption("automaticallySetFileLinks");
     }
 
+    public boolean isAbbreviateJournals() {
+        return cl.hasOption("abbreviateJournals");
+    }
+
+    public String getAbbreviationType() {
+        return cl.getOptionValue("abbreviationType", "default");
+    }
+
+    public boolean isUnabbreviateJournals() {
+        return cl.hasOption("unabbreviateJournals");
+    }
+
     public boolean isWriteXMPtoPdf() {
         return cl.hasOption("writeXMPtoPdf");
     }
@@ -177,6 +189,8 @@ public class JabRefCLI {
         options.addOption("n", "nogui", false, Localization.lang("No GUI. Only process command line options"));
         options.addOption("asfl", "automaticallySetFileLinks", false, Localization.lang("Automatically set file links"));
         options.addOption("g", "generateCitationKeys", false, Localization.lang("Regenerate all keys for the entries in a BibTeX file"));
+        options.addOption(null, "abbreviateJournals", false, Localization.lang("Abbreviate journal names"));
+        options.addOption(null, "unabbreviateJournals", false, Localization.lang("Unabbreviate journal names"));
         options.addOption("b", "blank", false, Localization.lang("Do not open any files at startup"));
         options.addOption("v", "version", false, Localization.lang("Display version"));
         options.addOption(null, "debug", false, Localization.lang("Show debug level messages"));
@@ -232,6 +246,14 @@ public class JabRefCLI {
                 .argName("FETCHER:QUERY")
                 .build());
 
+        options.addOption(Option
+                .builder()
+                .longOpt("abbreviationType")
+                .desc("%s: '%s'".formatted(Localization.lang("Abbreviation type used by --abbreviateJournals"), "-i library.bib --abbreviateJournals --abbreviationType dotless -o library.bib"))
+                .hasArg()
+                .argName("default | dotless | shortest_unique")
+                .build());
+
         options.addOption(Option
                 .builder("a")
                 .longOpt("aux")
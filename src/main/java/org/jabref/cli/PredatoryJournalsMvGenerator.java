@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.predatory.PredatoryJournalInformation;
 import org.jabref.logic.journals.predatory.PredatoryJournalListCrawler;
+import org.jabref.logic.journals.predatory.TrigramIndex;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
@@ -42,6 +43,7 @@ public class PredatoryJournalsMvGenerator {
                     }));
 
             predatoryJournalsMap.putAll(resultMap);
+            TrigramIndex.write(store, resultMap.keySet());
         }
     }
 }
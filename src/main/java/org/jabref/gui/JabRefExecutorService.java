@@ -14,6 +14,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.pdf.search.PdfIndexerManager;
+import org.jabref.logic.util.io.FileCatalogManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -149,6 +150,7 @@ public class JabRefExecutorService {
         gracefullyShutdown(this.lowPriorityExecutorService);
 
         PdfIndexerManager.shutdownAllIndexers();
+        FileCatalogManager.shutdownAllCatalogs();
 
         timer.cancel();
     }
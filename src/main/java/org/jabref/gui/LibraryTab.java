@@ -55,6 +55,8 @@ import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.util.FileFieldParser;
+import org.jabref.logic.integrity.BackgroundIntegrityCheck;
+import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.pdf.FileAnnotationCache;
 import org.jabref.logic.pdf.search.IndexingTaskManager;
@@ -63,6 +65,7 @@ import org.jabref.logic.pdf.search.PdfIndexerManager;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.util.UpdateField;
+import org.jabref.logic.util.io.FileCatalogManager;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
@@ -76,6 +79,7 @@ import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
@@ -103,6 +107,7 @@ public class LibraryTab extends Tab {
     private enum PanelMode { MAIN_TABLE, MAIN_TABLE_AND_ENTRY_EDITOR }
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
+    private static final long BACKGROUND_INTEGRITY_CHECK_DELAY_MILLIS = 1000;
     private final LibraryTabContainer tabContainer;
     private final CountingUndoManager undoManager;
     private final DialogService dialogService;
@@ -138,6 +143,9 @@ public class LibraryTab extends Tab {
 
     private Optional<DatabaseChangeMonitor> changeMonitor = Optional.empty();
 
+    private Optional<BackgroundIntegrityCheck> backgroundIntegrityCheck = Optional.empty();
+    private Subscription backgroundIntegrityCheckSubscription;
+
     private BackgroundTask<ParserResult> dataLoadingTask;
 
     private final IndexingTaskManager indexingTaskManager;
@@ -182,7 +190,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService, this.getDatabase()));
 
         this.entryEditor = new EntryEditor(this);
 
@@ -196,6 +204,10 @@ public class LibraryTab extends Tab {
                     updateTabTitle(changedProperty.getValue()));
         });
 
+        backgroundIntegrityCheckSubscription = EasyBind.listen(preferencesService.getEntryEditorPreferences().checkIntegrityInBackgroundProperty(),
+                (obs, oldValue, newValue) -> updateBackgroundIntegrityCheck());
+        updateBackgroundIntegrityCheck();
+
         setOnCloseRequest(this::onCloseRequest);
         setOnClosed(this::onClosed);
     }
@@ -293,7 +305,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService, this.getDatabase()));
 
         this.entryEditor = new EntryEditor(this);
 
@@ -304,6 +316,7 @@ public class LibraryTab extends Tab {
         });
 
         installAutosaveManagerAndBackupManager();
+        updateBackgroundIntegrityCheck();
     }
 
     public void installAutosaveManagerAndBackupManager() {
@@ -316,6 +329,33 @@ public class LibraryTab extends Tab {
         }
     }
 
+    /**
+     * Starts or stops checking the changed entries in the background, depending on the preferences. A running check is
+     * restarted, e.g., because the library was loaded.
+     */
+    private void updateBackgroundIntegrityCheck() {
+        backgroundIntegrityCheck.ifPresent(BackgroundIntegrityCheck::shutdown);
+        backgroundIntegrityCheck = Optional.empty();
+        if (!preferencesService.getEntryEditorPreferences().shouldCheckIntegrityInBackground()) {
+            return;
+        }
+
+        IntegrityCheck integrityCheck = new IntegrityCheck(bibDatabaseContext,
+                preferencesService.getFilePreferences(),
+                preferencesService.getCitationKeyPatternPreferences(),
+                Globals.journalAbbreviationRepository,
+                Globals.predatoryJournalRepository,
+                preferencesService.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+        backgroundIntegrityCheck = Optional.of(new BackgroundIntegrityCheck(integrityCheck, bibDatabaseContext.getDatabase(), BACKGROUND_INTEGRITY_CHECK_DELAY_MILLIS));
+    }
+
+    /**
+     * Returns the integrity check running in the background if it is enabled in the preferences
+     */
+    public Optional<BackgroundIntegrityCheck> getBackgroundIntegrityCheck() {
+        return backgroundIntegrityCheck;
+    }
+
     private boolean isDatabaseReadyForAutoSave(BibDatabaseContext context) {
         return ((context.getLocation() == DatabaseLocation.SHARED)
                 || ((context.getLocation() == DatabaseLocation.LOCAL)
@@ -567,6 +607,8 @@ public class LibraryTab extends Tab {
      * Set up autocompletion for this database
      */
     private void setupAutoCompletion() {
+        // The indexes of the former providers listen to the former library
+        shutdownAutoCompletion();
         AutoCompletePreferences autoCompletePreferences = preferencesService.getAutoCompletePreferences();
         if (autoCompletePreferences.shouldAutoComplete()) {
             suggestionProviders = new SuggestionProviders(getDatabase(), Globals.journalAbbreviationRepository, autoCompletePreferences);
@@ -577,6 +619,15 @@ public class LibraryTab extends Tab {
         searchAutoCompleter = new PersonNameSuggestionProvider(FieldFactory.getPersonNameFields(), getDatabase());
     }
 
+    private void shutdownAutoCompletion() {
+        if (suggestionProviders != null) {
+            suggestionProviders.shutdown();
+        }
+        if (searchAutoCompleter != null) {
+            searchAutoCompleter.shutdown();
+        }
+    }
+
     public SuggestionProvider<Author> getAutoCompleter() {
         return searchAutoCompleter;
     }
@@ -789,6 +840,10 @@ public class LibraryTab extends Tab {
     private void onClosed(Event event) {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         PdfIndexerManager.shutdownIndexer(bibDatabaseContext);
+        FileCatalogManager.shutdownCatalog(bibDatabaseContext);
+        backgroundIntegrityCheckSubscription.unsubscribe();
+        backgroundIntegrityCheck.ifPresent(BackgroundIntegrityCheck::shutdown);
+        shutdownAutoCompletion();
         AutosaveManager.shutdown(bibDatabaseContext);
         BackupManager.shutdown(bibDatabaseContext,
                 preferencesService.getFilePreferences().getBackupDirectory(),
@@ -1002,6 +1057,11 @@ public class LibraryTab extends Tab {
             }
         }
 
+        @Subscribe
+        public void listen(FieldsChangedBatchEvent batchEvent) {
+            batchEvent.getFieldChangedEvents().forEach(this::listen);
+        }
+
         @Subscribe
         public void listen(FieldChangedEvent fieldChangedEvent) {
             if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
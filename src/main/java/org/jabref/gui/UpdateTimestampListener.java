@@ -1,7 +1,15 @@
 package org.jabref.gui;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.PreferencesService;
 
@@ -12,9 +20,11 @@ import com.google.common.eventbus.Subscribe;
  */
 class UpdateTimestampListener {
     private final PreferencesService preferencesService;
+    private final BibDatabase database;
 
-    UpdateTimestampListener(PreferencesService preferencesService) {
+    UpdateTimestampListener(PreferencesService preferencesService, BibDatabase database) {
         this.preferencesService = preferencesService;
+        this.database = database;
     }
 
     @Subscribe
@@ -26,4 +36,24 @@ class UpdateTimestampListener {
                     preferencesService.getTimestampPreferences().now());
         }
     }
+
+    @Subscribe
+    public void listen(FieldsChangedBatchEvent event) {
+        if (!preferencesService.getTimestampPreferences().shouldAddModificationDate()) {
+            return;
+        }
+        Set<BibEntry> changedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldChangedEvent change : event.getFieldChangedEvents()) {
+            // The modification dates set below come back as a batch, which must not cause another update
+            if ((change.getEntriesEventSource() != EntriesEventSource.CLEANUP_TIMESTAMP) && (change.getField() != StandardField.MODIFICATIONDATE)) {
+                changedEntries.add(change.getBibEntry());
+            }
+        }
+        if (changedEntries.isEmpty()) {
+            return;
+        }
+        // One batch for all timestamps, so that the listeners get a single event as for the changes themselves
+        String now = preferencesService.getTimestampPreferences().now();
+        database.performBatchUpdate(() -> changedEntries.forEach(entry -> entry.setField(StandardField.MODIFICATIONDATE, now)));
+    }
 }
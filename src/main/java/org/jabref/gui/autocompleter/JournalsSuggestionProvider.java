@@ -7,6 +7,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
 import com.google.common.collect.Streams;
+import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
 
@@ -18,6 +19,20 @@ public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
         this.repository = repository;
     }
 
+    JournalsSuggestionProvider(SuggestionIndex<String> index, JournalAbbreviationRepository repository) {
+        super(index);
+
+        this.repository = repository;
+    }
+
+    @Override
+    protected Stream<String> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        // The journal list is only searched if the library does not contain enough matching values
+        return Streams.concat(
+                super.getMatches(request),
+                Stream.of(repository).flatMap(journalList -> journalList.getFullNames().stream().filter(candidate -> isMatch(candidate, request))));
+    }
+
     @Override
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
@@ -23,20 +23,33 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
 public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
-    private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
         this(Collections.singletonList(Objects.requireNonNull(field)), database);
     }
 
     public PersonNameSuggestionProvider(Collection<Field> fields, BibDatabase database) {
+        this(fields, createIndex(fields, database));
+    }
+
+    PersonNameSuggestionProvider(Collection<Field> fields, SuggestionIndex<Author> index) {
         super();
 
         this.fields = Objects.requireNonNull(fields);
-        this.database = database;
+        this.index = index;
+    }
+
+    static SuggestionIndex<Author> createIndex(Collection<Field> fields, BibDatabase database) {
+        Objects.requireNonNull(fields);
+        return new SuggestionIndex<>(database, fields, entry -> getAuthors(entry, fields), author -> author.getLastFirst(false));
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
+        return getAuthors(entry, fields);
+    }
+
+    private static Stream<Author> getAuthors(BibEntry entry, Collection<Field> fields) {
         return entry.getFieldMap()
                     .entrySet()
                     .stream()
@@ -61,10 +74,21 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getLastFirst(false), request.getUserText());
     }
 
+    @Override
+    protected Stream<Author> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.getMatches(request.getUserText(), candidate -> isMatch(candidate, request));
+    }
+
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return index.getCandidates().stream();
+    }
+
+    /**
+     * Stops updating the suggestions from the library. Only to be called for a provider having its own index, i.e.,
+     * one not created by {@link SuggestionProviders}.
+     */
+    public void shutdown() {
+        index.shutdown();
     }
 }
@@ -0,0 +1,240 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.collect.Ordering;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * An index of the suggestions for some fields of a library. It is built when it is used for the first time and then
+ * kept up to date by listening to the changes of the library until it is shut down. One index is shared by all
+ * {@link SuggestionProvider}s of the same fields (see {@link SuggestionProviders}).
+ * <p>
+ * Each candidate is indexed by the lower case rest of its text starting at each word, e.g., "Kostakos, Vassilis" by
+ * "kostakos, vassilis" and "vassilis". Thus, the candidates having a word starting with the typed text are found by a
+ * range query on the sorted keys. Of these, the most frequent ones are suggested. They are kept for each typed text
+ * until a candidate starting with the text changes, so typing a character costs a lookup of the typed text in most
+ * cases.
+ * <p>
+ * Candidates containing the typed text inside a word are found by looking at all (distinct) candidates, but only if
+ * there are not enough candidates having a word starting with the typed text.
+ *
+ * @param <T> Type of suggestions
+ */
+class SuggestionIndex<T> {
+
+    static final int MAX_SUGGESTIONS = 10;
+
+    /**
+     * The maximal number of typed texts whose top candidates are kept. The texts typed in one session are usually far
+     * less.
+     */
+    private static final int MAX_CACHED_PREFIXES = 1_000;
+
+    private final BibDatabase database;
+    private final Set<Field> fields;
+    private final Function<BibEntry, Stream<T>> candidatesOfEntry;
+    private final Function<T, String> textOfCandidate;
+    private final Comparator<T> byFrequency;
+
+    /**
+     * The candidates of each entry, so that an entry can be indexed again without knowing its former content
+     */
+    private final Map<BibEntry, List<T>> candidatesByEntry = new IdentityHashMap<>();
+
+    /**
+     * The number of occurrences of each candidate in the library
+     */
+    private final Map<T, Integer> frequencies = new HashMap<>();
+    private final NavigableMap<String, Set<T>> candidatesByKey = new TreeMap<>();
+    private final Map<String, List<T>> topCandidatesByPrefix = new HashMap<>();
+    private boolean isBuilt;
+
+    /**
+     * @param fields            the fields the candidates are taken from; changes of other fields are ignored
+     * @param candidatesOfEntry returns the candidates of an entry
+     * @param textOfCandidate   returns the text the typed text is matched against
+     */
+    SuggestionIndex(BibDatabase database, Collection<Field> fields, Function<BibEntry, Stream<T>> candidatesOfEntry, Function<T, String> textOfCandidate) {
+        this.database = database;
+        this.fields = Set.copyOf(fields);
+        this.candidatesOfEntry = candidatesOfEntry;
+        this.textOfCandidate = textOfCandidate;
+        this.byFrequency = Comparator.<T, Integer>comparing(frequencies::get).reversed()
+                                     .thenComparing(textOfCandidate);
+
+        database.registerListener(this);
+    }
+
+    /**
+     * Returns the candidates matching the given text, the best ones first: the most frequent candidates having a word
+     * starting with the text, and then all candidates accepted by the given predicate. The latter are only looked at if
+     * the stream is consumed further.
+     */
+    Stream<T> getMatches(String text, Predicate<T> isMatch) {
+        return Stream.concat(
+                getTopCandidates(text).stream(),
+                Stream.of(text).flatMap(ignored -> getCandidates().stream().filter(isMatch)));
+    }
+
+    /**
+     * Returns the most frequent candidates having a word starting with the given text (ignoring case)
+     */
+    synchronized List<T> getTopCandidates(String text) {
+        build();
+        String prefix = text.toLowerCase(Locale.ROOT);
+        if (topCandidatesByPrefix.size() >= MAX_CACHED_PREFIXES) {
+            topCandidatesByPrefix.clear();
+        }
+        return topCandidatesByPrefix.computeIfAbsent(prefix, this::findTopCandidates);
+    }
+
+    /**
+     * Returns all distinct candidates
+     */
+    synchronized List<T> getCandidates() {
+        build();
+        return List.copyOf(frequencies.keySet());
+    }
+
+    private List<T> findTopCandidates(String prefix) {
+        Set<T> candidates = new HashSet<>();
+        for (Set<T> candidatesWithKey : candidatesByKey.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+            candidates.addAll(candidatesWithKey);
+        }
+        return List.copyOf(Ordering.from(byFrequency).leastOf(candidates, MAX_SUGGESTIONS));
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        for (BibEntry entry : database.getEntries()) {
+            index(entry);
+        }
+        isBuilt = true;
+    }
+
+    /**
+     * Stops listening to the changes of the library and drops the candidates. Afterwards, nothing is suggested.
+     */
+    void shutdown() {
+        database.unregisterListener(this);
+        synchronized (this) {
+            candidatesByEntry.clear();
+            frequencies.clear();
+            candidatesByKey.clear();
+            topCandidatesByPrefix.clear();
+            // The index is not built from the library again
+            isBuilt = true;
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesEvent event) {
+        synchronized (this) {
+            // Changes before the first use are read when building the index
+            if (!isBuilt) {
+                return;
+            }
+            if (event instanceof EntriesRemovedEvent) {
+                event.getBibEntries().forEach(this::remove);
+            } else if (event instanceof FieldChangedEvent fieldChangedEvent) {
+                if (fields.contains(fieldChangedEvent.getField())) {
+                    index(fieldChangedEvent.getBibEntry());
+                }
+            } else if (event instanceof FieldsChangedBatchEvent batchEvent) {
+                batchEvent.getFieldChangedEvents().stream()
+                          .filter(fieldChangedEvent -> fields.contains(fieldChangedEvent.getField()))
+                          .map(FieldChangedEvent::getBibEntry)
+                          .forEach(this::index);
+            } else {
+                event.getBibEntries().forEach(this::index);
+            }
+        }
+    }
+
+    /**
+     * Replaces the candidates of the given entry by its current ones
+     */
+    private void index(BibEntry entry) {
+        remove(entry);
+        List<T> candidates = candidatesOfEntry.apply(entry).toList();
+        if (!candidates.isEmpty()) {
+            candidatesByEntry.put(entry, candidates);
+            for (T candidate : candidates) {
+                if (frequencies.merge(candidate, 1, Integer::sum) == 1) {
+                    getKeys(candidate).forEach(key -> candidatesByKey.computeIfAbsent(key, k -> new HashSet<>()).add(candidate));
+                }
+                forgetTopCandidates(candidate);
+            }
+        }
+    }
+
+    private void remove(BibEntry entry) {
+        List<T> candidates = candidatesByEntry.remove(entry);
+        if (candidates == null) {
+            return;
+        }
+        for (T candidate : candidates) {
+            if (frequencies.merge(candidate, -1, Integer::sum) == 0) {
+                frequencies.remove(candidate);
+                for (String key : getKeys(candidate)) {
+                    Set<T> candidatesWithKey = candidatesByKey.get(key);
+                    candidatesWithKey.remove(candidate);
+                    if (candidatesWithKey.isEmpty()) {
+                        candidatesByKey.remove(key);
+                    }
+                }
+            }
+            forgetTopCandidates(candidate);
+        }
+    }
+
+    /**
+     * The frequency of the candidate changed, thus the top candidates of all texts it matches need to be found again
+     */
+    private void forgetTopCandidates(T candidate) {
+        if (topCandidatesByPrefix.isEmpty()) {
+            return;
+        }
+        Set<String> keys = getKeys(candidate);
+        topCandidatesByPrefix.keySet().removeIf(prefix -> keys.stream().anyMatch(key -> key.startsWith(prefix)));
+    }
+
+    /**
+     * Returns the lower case text of the candidate starting at each word
+     */
+    private Set<String> getKeys(T candidate) {
+        String text = textOfCandidate.apply(candidate).toLowerCase(Locale.ROOT);
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            boolean isWordStart = (i == 0) || !Character.isLetterOrDigit(text.charAt(i - 1));
+            if (isWordStart && !Character.isWhitespace(text.charAt(i))) {
+                keys.add(text.substring(i));
+            }
+        }
+        return keys;
+    }
+}
@@ -46,7 +46,7 @@ public abstract class SuggestionProvider<T> {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
+            return getMatches(request)
                               .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
                               .distinct()
                               .limit(10)
@@ -60,6 +60,14 @@ public abstract class SuggestionProvider<T> {
 
     protected abstract Equivalence<T> getEquivalence();
 
+    /**
+     * Returns the candidates matching the request. The best matches should come first, as only the first matches are
+     * suggested.
+     */
+    protected Stream<T> getMatches(ISuggestionRequest request) {
+        return getSource().filter(candidate -> isMatch(candidate, request));
+    }
+
     public Collection<T> getPossibleSuggestions() {
         Comparator<T> comparator = getComparator().reversed();
         Equivalence<T> equivalence = getEquivalence();
@@ -1,28 +1,42 @@
 package org.jabref.gui.autocompleter;
 
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import org.controlsfx.control.textfield.AutoCompletionBinding;
+
 /**
  * Stores all words in the given field.
  */
 public class WordSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     public WordSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        this(createIndex(field, database));
+    }
+
+    WordSuggestionProvider(SuggestionIndex<String> index) {
+        this.index = index;
+    }
+
+    static SuggestionIndex<String> createIndex(Field field, BibDatabase database) {
+        Objects.requireNonNull(field);
+        return new SuggestionIndex<>(database, Set.of(field), entry -> entry.getFieldAsWords(field).stream(), Function.identity());
+    }
+
+    @Override
+    protected Stream<String> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.getMatches(request.getUserText(), candidate -> isMatch(candidate, request));
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(entry -> entry.getFieldAsWords(field).stream());
+        return index.getCandidates().stream();
     }
 }
@@ -19,6 +19,7 @@ import org.slf4j.LoggerFactory;
  * Saves the given {@link BibDatabaseContext} on every {@link BibDatabaseContextChangedEvent} by posting a new {@link AutosaveEvent}.
  * An intelligent {@link ScheduledThreadPoolExecutor} prevents a high load while saving and rejects all redundant save tasks.
  * The scheduled action is stored and canceled if a newer save action is proposed.
+ * A bulk operation is reported as one {@link org.jabref.model.entry.event.FieldsChangedBatchEvent} and thus counts as a single change.
  */
 public class AutosaveManager {
 
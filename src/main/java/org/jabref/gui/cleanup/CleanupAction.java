@@ -138,17 +138,20 @@ public class CleanupAction extends SimpleCommand {
     }
 
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreferences cleanupPreferences) {
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
-
-            doCleanup(databaseContext, cleanupPreferences, entry, ce);
-
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                undoManager.addEdit(ce);
+        // listeners of the library are notified once after all entries are cleaned up
+        databaseContext.getDatabase().performBatchUpdate(() -> {
+            for (BibEntry entry : stateManager.getSelectedEntries()) {
+                // undo granularity is on entry level
+                NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+
+                doCleanup(databaseContext, cleanupPreferences, entry, ce);
+
+                ce.end();
+                if (ce.hasEdits()) {
+                    modifiedEntriesCount++;
+                    undoManager.addEdit(ce);
+                }
             }
-        }
+        });
     }
 }
@@ -29,6 +29,7 @@ import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.database.BlockedDuplicateSearch;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -97,24 +98,20 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
-        }
+        Thread searchThread = Thread.currentThread();
+        new BlockedDuplicateSearch(new DuplicateCheck(entryTypesManager), databaseMode)
+                .search(entries, this::addPossibleDuplicate, searchThread::isInterrupted);
         libraryAnalyzed.set(true);
     }
 
+    /**
+     * Called concurrently by the workers of the duplicate search
+     */
+    private synchronized void addPossibleDuplicate(BibEntry first, BibEntry second) {
+        duplicates.add(Arrays.asList(first, second));
+        duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
+    }
+
     private DuplicateSearchResult verifyDuplicates() {
         DuplicateSearchResult result = new DuplicateSearchResult();
 
@@ -44,6 +44,7 @@ public class EntryEditorPreferences {
     private final BooleanProperty showSourceTabByDefault;
     private final BooleanProperty enableValidation;
     private final BooleanProperty allowIntegerEditionBibtex;
+    private final BooleanProperty checkIntegrityInBackground;
     private final DoubleProperty dividerPosition;
     private final BooleanProperty autoLinkFiles;
     private final ObjectProperty<JournalPopupEnabled> enablementStatus;
@@ -58,6 +59,7 @@ public class EntryEditorPreferences {
                                   boolean showSourceTabByDefault,
                                   boolean enableValidation,
                                   boolean allowIntegerEditionBibtex,
+                                  boolean checkIntegrityInBackground,
                                   double dividerPosition,
                                   boolean autolinkFilesEnabled,
                                   JournalPopupEnabled journalPopupEnabled,
@@ -72,6 +74,7 @@ public class EntryEditorPreferences {
         this.showSourceTabByDefault = new SimpleBooleanProperty(showSourceTabByDefault);
         this.enableValidation = new SimpleBooleanProperty(enableValidation);
         this.allowIntegerEditionBibtex = new SimpleBooleanProperty(allowIntegerEditionBibtex);
+        this.checkIntegrityInBackground = new SimpleBooleanProperty(checkIntegrityInBackground);
         this.dividerPosition = new SimpleDoubleProperty(dividerPosition);
         this.autoLinkFiles = new SimpleBooleanProperty(autolinkFilesEnabled);
         this.enablementStatus = new SimpleObjectProperty<>(journalPopupEnabled);
@@ -167,6 +170,18 @@ public class EntryEditorPreferences {
         this.allowIntegerEditionBibtex.set(allowIntegerEditionBibtex);
     }
 
+    public boolean shouldCheckIntegrityInBackground() {
+        return checkIntegrityInBackground.get();
+    }
+
+    public BooleanProperty checkIntegrityInBackgroundProperty() {
+        return checkIntegrityInBackground;
+    }
+
+    public void setCheckIntegrityInBackground(boolean checkIntegrityInBackground) {
+        this.checkIntegrityInBackground.set(checkIntegrityInBackground);
+    }
+
     public double getDividerPosition() {
         return dividerPosition.get();
     }
@@ -7,12 +7,14 @@ import javax.swing.undo.UndoManager;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
+import org.jabref.gui.Globals;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.util.BindingsHelper;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.io.FileCatalogManager;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.PreferencesService;
@@ -56,6 +58,8 @@ public class AutoLinkFilesAction extends SimpleCommand {
         Task<AutoSetFileLinksUtil.LinkFilesResult> linkFilesTask = new Task<>() {
             @Override
             protected AutoSetFileLinksUtil.LinkFilesResult call() {
+                // Builds the catalog of the file directories if not done before, later runs are answered from the catalog
+                FileCatalogManager.getCatalog(database, preferences.getFilePreferences(), Globals.getFileUpdateMonitor());
                 return util.linkAssociatedFiles(entries, nc);
             }
 
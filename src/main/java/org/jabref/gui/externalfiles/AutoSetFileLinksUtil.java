@@ -16,6 +16,9 @@ import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.bibtex.FileFieldWriter;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.DirectoryIndex;
+import org.jabref.logic.util.io.FileCatalog;
+import org.jabref.logic.util.io.FileCatalogManager;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -52,15 +55,17 @@ public class AutoSetFileLinksUtil {
     }
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AutoSetFileLinksUtil.class);
+    private final BibDatabaseContext databaseContext;
     private final List<Path> directories;
     private final AutoLinkPreferences autoLinkPreferences;
     private final FilePreferences filePreferences;
 
     public AutoSetFileLinksUtil(BibDatabaseContext databaseContext, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences) {
-        this(databaseContext.getFileDirectories(filePreferences), filePreferences, autoLinkPreferences);
+        this(databaseContext, databaseContext.getFileDirectories(filePreferences), filePreferences, autoLinkPreferences);
     }
 
-    private AutoSetFileLinksUtil(List<Path> directories, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences) {
+    private AutoSetFileLinksUtil(BibDatabaseContext databaseContext, List<Path> directories, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences) {
+        this.databaseContext = databaseContext;
         this.directories = directories;
         this.autoLinkPreferences = autoLinkPreferences;
         this.filePreferences = filePreferences;
@@ -68,12 +73,14 @@ public class AutoSetFileLinksUtil {
 
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, NamedCompound ce) {
         LinkFilesResult result = new LinkFilesResult();
+        // The directories are read once for all entries
+        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences, createDirectoryIndex());
 
         for (BibEntry entry : entries) {
             List<LinkedFile> linkedFiles = new ArrayList<>();
 
             try {
-                linkedFiles = findAssociatedNotLinkedFiles(entry);
+                linkedFiles = findAssociatedNotLinkedFiles(entry, fileFinder);
             } catch (IOException e) {
                 result.addFileException(e);
                 LOGGER.error("Problem finding files", e);
@@ -104,12 +111,29 @@ public class AutoSetFileLinksUtil {
     }
 
     public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
+        Optional<FileCatalog> fileCatalog = FileCatalogManager.getOpenCatalog(databaseContext);
+        if (fileCatalog.isPresent()) {
+            return findAssociatedNotLinkedFiles(entry, FileFinders.constructFromConfiguration(autoLinkPreferences, new DirectoryIndex(fileCatalog.get())));
+        }
+        return findAssociatedNotLinkedFiles(entry, FileFinders.constructFromConfiguration(autoLinkPreferences));
+    }
+
+    /**
+     * Returns an index of the file directories, which takes the directories from the file catalog of the library if the
+     * catalog was built already
+     */
+    private DirectoryIndex createDirectoryIndex() {
+        return FileCatalogManager.getOpenCatalog(databaseContext)
+                                 .map(DirectoryIndex::new)
+                                 .orElseGet(DirectoryIndex::new);
+    }
+
+    private List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry, FileFinder fileFinder) throws IOException {
         List<LinkedFile> linkedFiles = new ArrayList<>();
 
         List<String> extensions = filePreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).collect(Collectors.toList());
 
         // Run the search operation
-        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
         List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
 
         // Collect the found files that are not yet linked
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -63,8 +64,12 @@ public class FileFilterUtils {
 
     /* Returns true if a file is edited in the time margin specified by the given filter. */
     public static boolean filterByDate(Path path, DateRange filter) {
+        return filterByDate(FileFilterUtils.getFileTime(path), filter);
+    }
+
+    /* Returns true if the given last edited time is in the time margin specified by the given filter. */
+    public static boolean filterByDate(LocalDateTime fileTime, DateRange filter) {
         FileFilterUtils fileFilter = new FileFilterUtils();
-        LocalDateTime fileTime = FileFilterUtils.getFileTime(path);
         boolean isInDateRange = switch (filter) {
             case DAY -> fileFilter.isDuringLastDay(fileTime);
             case WEEK -> fileFilter.isDuringLastWeek(fileTime);
@@ -80,8 +85,12 @@ public class FileFilterUtils {
      * of their corresponding files, from newest to oldest.
      */
     public List<Path> sortByDateAscending(List<Path> files) {
+        return sortByDateAscending(files, FileFilterUtils::getFileTime);
+    }
+
+    private List<Path> sortByDateAscending(List<Path> files, Function<Path, LocalDateTime> fileTime) {
         return files.stream()
-                .sorted(Comparator.comparingLong(file -> FileFilterUtils.getFileTime(file)
+                .sorted(Comparator.comparingLong(file -> fileTime.apply(file)
                         .atZone(ZoneId.systemDefault())
                         .toInstant()
                         .toEpochMilli()))
@@ -93,8 +102,12 @@ public class FileFilterUtils {
      * of their corresponding files, from oldest to newest.
      */
     public List<Path> sortByDateDescending(List<Path> files) {
+        return sortByDateDescending(files, FileFilterUtils::getFileTime);
+    }
+
+    private List<Path> sortByDateDescending(List<Path> files, Function<Path, LocalDateTime> fileTime) {
         return files.stream()
-                .sorted(Comparator.comparingLong(file -> -FileFilterUtils.getFileTime(file)
+                .sorted(Comparator.comparingLong(file -> -fileTime.apply(file)
                         .atZone(ZoneId.systemDefault())
                         .toInstant()
                         .toEpochMilli()))
@@ -106,11 +119,19 @@ public class FileFilterUtils {
      * the order depends on the specified sorter type.
      */
     public static List<Path> sortByDate(List<Path> files, ExternalFileSorter sortType) {
+        return sortByDate(files, sortType, FileFilterUtils::getFileTime);
+    }
+
+    /**
+     * Sorts a list of Path objects according to the given last edited dates
+     * the order depends on the specified sorter type.
+     */
+    public static List<Path> sortByDate(List<Path> files, ExternalFileSorter sortType, Function<Path, LocalDateTime> fileTime) {
         FileFilterUtils fileFilter = new FileFilterUtils();
         List<Path> sortedFiles = switch (sortType) {
             case DEFAULT -> files;
-            case DATE_ASCENDING -> fileFilter.sortByDateDescending(files);
-            case DATE_DESCENDING -> fileFilter.sortByDateAscending(files);
+            case DATE_ASCENDING -> fileFilter.sortByDateDescending(files, fileTime);
+            case DATE_DESCENDING -> fileFilter.sortByDateAscending(files, fileTime);
         };
         return sortedFiles;
     }
@@ -5,9 +5,13 @@ import java.io.IOException;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -16,8 +20,11 @@ import javafx.scene.control.CheckBoxTreeItem;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.FileNodeViewModel;
+import org.jabref.logic.util.io.FileCatalog;
+import org.jabref.logic.util.io.FileCatalogManager;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.FilePreferences;
 
 import org.slf4j.Logger;
@@ -36,20 +43,40 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
     private final ExternalFileSorter sorter;
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
+    private final FileUpdateMonitor fileUpdateMonitor;
 
-    public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, DateRange dateFilter, ExternalFileSorter sorter, BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+    public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, DateRange dateFilter, ExternalFileSorter sorter, BibDatabaseContext databaseContext, FilePreferences filePreferences, FileUpdateMonitor fileUpdateMonitor) {
         this.directory = directory;
         this.fileFilter = fileFilter;
         this.dateFilter = dateFilter;
         this.sorter = sorter;
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
+        this.fileUpdateMonitor = fileUpdateMonitor;
     }
 
     @Override
     protected FileNodeViewModel call() throws IOException {
         UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, databaseContext, filePreferences);
-        return searchDirectory(directory, unlinkedPDFFileFilter);
+        return searchDirectory(directory, unlinkedPDFFileFilter, getFileCatalog());
+    }
+
+    /**
+     * Returns the catalog of the file directories of the library if the searched directory is inside one of them. Other
+     * directories are read from the file system.
+     */
+    private Optional<FileCatalog> getFileCatalog() {
+        Path absoluteDirectory = directory.toAbsolutePath();
+        boolean isInFileDirectory = databaseContext.getFileDirectories(filePreferences).stream()
+                                                   .anyMatch(fileDirectory -> absoluteDirectory.startsWith(fileDirectory.toAbsolutePath()));
+        if (!isInFileDirectory) {
+            return Optional.empty();
+        }
+        return Optional.of(FileCatalogManager.getCatalog(databaseContext, filePreferences, fileUpdateMonitor));
+    }
+
+    FileNodeViewModel searchDirectory(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter) throws IOException {
+        return searchDirectory(directory, unlinkedPDFFileFilter, Optional.empty());
     }
 
     /**
@@ -69,12 +96,18 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
      * The files are filtered according to the {@link DateRange} filter value
      * and then sorted according to the {@link ExternalFileSorter} value.
      *
+     * If a {@link FileCatalog} is given, the directories it contains are taken from the catalog instead of reading them.
+     *
      * @param unlinkedPDFFileFilter contains a BibDatabaseContext which is used to determine whether the file is linked
      *
      * @return FileNodeViewModel containing the data of the current directory and all subdirectories
      * @throws IOException if directory is not a directory or empty
      */
-    FileNodeViewModel searchDirectory(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter) throws IOException {
+    FileNodeViewModel searchDirectory(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter, Optional<FileCatalog> fileCatalog) throws IOException {
+        if ((directory != null) && fileCatalog.isPresent() && fileCatalog.get().isCataloged(directory)) {
+            return searchCatalogedDirectory(directory, unlinkedPDFFileFilter, fileCatalog.get());
+        }
+
         // Return null if the directory is not valid.
         if ((directory == null) || !Files.isDirectory(directory)) {
             throw new IOException("Invalid directory for searching: %s".formatted(directory));
@@ -99,13 +132,45 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
         List<Path> files = directoryAndFilePartition.get(false);
 
         // at this point, only unlinked PDFs AND unignored files are contained
+        return collectResults(fileNodeViewModelForCurrentDirectory, subDirectories, files, unlinkedPDFFileFilter, fileCatalog, FileFilterUtils::getFileTime);
+    }
+
+    /**
+     * Searches the given directory like {@link #searchDirectory(Path, UnlinkedPDFFileFilter, Optional)}, but takes the
+     * content of the directory and the last edited dates of the files from the given catalog.
+     */
+    private FileNodeViewModel searchCatalogedDirectory(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter, FileCatalog fileCatalog) throws IOException {
+        FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
+        GitIgnoreFileFilter gitIgnoreFileFilter = new GitIgnoreFileFilter(directory);
+
+        List<Path> subDirectories = new ArrayList<>();
+        for (Path subDirectory : fileCatalog.getSubdirectories(directory)) {
+            Path path = directory.resolve(subDirectory.getFileName());
+            if (gitIgnoreFileFilter.accept(path)) {
+                subDirectories.add(path);
+            }
+        }
+        List<Path> files = new ArrayList<>();
+        for (Path file : fileCatalog.getFiles(directory)) {
+            Path path = directory.resolve(file.getFileName());
+            if (gitIgnoreFileFilter.accept(path) && unlinkedPDFFileFilter.acceptFile(path)) {
+                files.add(path);
+            }
+        }
+
+        Function<Path, LocalDateTime> fileTime = file -> fileCatalog.getLastModifiedTime(file)
+                                                                    .map(time -> LocalDateTime.ofInstant(time.toInstant(), ZoneId.systemDefault()))
+                                                                    .orElseGet(() -> FileFilterUtils.getFileTime(file));
+        return collectResults(fileNodeViewModelForCurrentDirectory, subDirectories, files, unlinkedPDFFileFilter, Optional.of(fileCatalog), fileTime);
+    }
 
+    private FileNodeViewModel collectResults(FileNodeViewModel fileNodeViewModelForCurrentDirectory, List<Path> subDirectories, List<Path> files, UnlinkedPDFFileFilter unlinkedPDFFileFilter, Optional<FileCatalog> fileCatalog, Function<Path, LocalDateTime> fileTime) throws IOException {
         // initially, we find no files at all
         int fileCountOfSubdirectories = 0;
 
         // now we crawl into the found subdirectories first (!)
         for (Path subDirectory : subDirectories) {
-            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter);
+            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter, fileCatalog);
             if (!subRoot.getChildren().isEmpty()) {
                 fileCountOfSubdirectories += subRoot.getFileCount();
                 fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
@@ -120,13 +185,13 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
         // Note that we do not use the "StreamSupport.stream" filtering functionality, because refactoring the code to that would lead to more code
         List<Path> resultingFiles = new ArrayList<>();
         for (Path path : files) {
-            if (FileFilterUtils.filterByDate(path, dateFilter)) {
+            if (FileFilterUtils.filterByDate(fileTime.apply(path), dateFilter)) {
                 resultingFiles.add(path);
             }
         }
 
         // sort files according to last edited date.
-        resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
+        resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter, fileTime);
 
         // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
         fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
@@ -76,6 +76,7 @@ public class UnlinkedFilesDialogViewModel {
 
     private final BibDatabaseContext bibDatabase;
     private final TaskExecutor taskExecutor;
+    private final FileUpdateMonitor fileUpdateMonitor;
 
     private final FunctionBasedValidator<String> scanDirectoryValidator;
 
@@ -88,6 +89,7 @@ public class UnlinkedFilesDialogViewModel {
         this.preferences = preferences;
         this.dialogService = dialogService;
         this.taskExecutor = taskExecutor;
+        this.fileUpdateMonitor = fileUpdateMonitor;
         this.bibDatabase = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
         importHandler = new ImportHandler(
                 bibDatabase,
@@ -123,7 +125,7 @@ public class UnlinkedFilesDialogViewModel {
         progressValueProperty.unbind();
         progressTextProperty.unbind();
 
-        findUnlinkedFilesTask = new UnlinkedFilesCrawler(directory, selectedFileFilter, selectedDateFilter, selectedSortFilter, bibDatabase, preferences.getFilePreferences())
+        findUnlinkedFilesTask = new UnlinkedFilesCrawler(directory, selectedFileFilter, selectedDateFilter, selectedSortFilter, bibDatabase, preferences.getFilePreferences(), fileUpdateMonitor)
                 .onRunning(() -> {
                     progressValueProperty.set(ProgressIndicator.INDETERMINATE_PROGRESS);
                     progressTextProperty.setValue(Localization.lang("Searching file system..."));
@@ -35,7 +35,15 @@ public class UnlinkedPDFFileFilter implements DirectoryStream.Filter<Path> {
         if (Files.isDirectory(pathname)) {
             return true;
         } else {
-            return fileFilter.accept(pathname) && !lookup.lookupDatabase(pathname) && !lookup.getPathOfDatabase().equals(pathname);
+            return acceptFile(pathname);
         }
     }
+
+    /**
+     * Like {@link #accept(Path)}, but for a path known to be a file. Thus, the file system is not asked whether the path is
+     * a directory.
+     */
+    boolean acceptFile(Path file) throws IOException {
+        return fileFilter.accept(file) && !lookup.lookupDatabase(file) && !lookup.getPathOfDatabase().equals(file);
+    }
 }
@@ -3,16 +3,17 @@ package org.jabref.gui.groups;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
-import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.ObservableList;
 import javafx.scene.input.Dragboard;
 import javafx.scene.paint.Color;
@@ -34,10 +35,12 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AllEntriesGroup;
 import org.jabref.model.groups.AutomaticGroup;
+import org.jabref.model.groups.AutomaticGroupIndex;
 import org.jabref.model.groups.AutomaticKeywordGroup;
 import org.jabref.model.groups.AutomaticPersonsGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupEntryChanger;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.LastNameGroup;
@@ -58,34 +61,49 @@ public class GroupNodeViewModel {
     private final BibDatabaseContext databaseContext;
     private final StateManager stateManager;
     private final GroupTreeNode groupNode;
-    private final ObservableList<BibEntry> matchedEntries = FXCollections.observableArrayList();
+    private final GroupMembershipIndex membershipIndex;
+    /**
+     * The index maintaining this group, if it is a subgroup of an automatic group
+     */
+    private final Optional<AutomaticGroupIndex> automaticGroupIndex;
+    /**
+     * The index maintaining the children of this group, if it is an automatic group or one of its subgroups
+     */
+    private final Optional<AutomaticGroupIndex> subgroupIndex;
+    private final IntegerProperty hits = new SimpleIntegerProperty();
     private final SimpleBooleanProperty hasChildren;
     private final SimpleBooleanProperty expandedProperty = new SimpleBooleanProperty();
     private final BooleanBinding anySelectedEntriesMatched;
     private final BooleanBinding allSelectedEntriesMatched;
     private final TaskExecutor taskExecutor;
     private final CustomLocalDragboard localDragBoard;
-    private final ObservableList<BibEntry> entriesList;
     private final PreferencesService preferencesService;
     private final InvalidationListener onInvalidatedGroup = listener -> refreshGroup();
+    private final Consumer<Set<GroupTreeNode>> onGroupMembershipChanged = this::onGroupMembershipChanged;
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard, PreferencesService preferencesService) {
+        this(databaseContext, stateManager, taskExecutor, groupNode, localDragBoard, preferencesService, Optional.empty());
+    }
+
+    private GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard, PreferencesService preferencesService, Optional<AutomaticGroupIndex> automaticGroupIndex) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
         this.taskExecutor = Objects.requireNonNull(taskExecutor);
         this.stateManager = Objects.requireNonNull(stateManager);
         this.groupNode = Objects.requireNonNull(groupNode);
         this.localDragBoard = Objects.requireNonNull(localDragBoard);
         this.preferencesService = preferencesService;
+        this.membershipIndex = databaseContext.getGroupMembershipIndex();
+        this.automaticGroupIndex = automaticGroupIndex;
 
         displayName = new LatexToUnicodeFormatter().format(groupNode.getName());
         isRoot = groupNode.isRoot();
         if (groupNode.getGroup() instanceof AutomaticGroup automaticGroup) {
-            children = automaticGroup.createSubgroups(this.databaseContext.getDatabase().getEntries())
-                                     .stream()
-                                     .map(this::toViewModel)
-                                     .sorted((group1, group2) -> group1.getDisplayName().compareToIgnoreCase(group2.getDisplayName()))
-                                     .collect(Collectors.toCollection(FXCollections::observableArrayList));
+            // The subgroups are updated incrementally when entries change
+            subgroupIndex = Optional.of(new AutomaticGroupIndex(automaticGroup, databaseContext.getDatabase(), DefaultTaskExecutor::runInJavaFXThread));
+            children = EasyBind.mapBacked(subgroupIndex.get().getSubgroups(), this::toViewModel)
+                               .sorted((group1, group2) -> group1.getDisplayName().compareToIgnoreCase(group2.getDisplayName()));
         } else {
+            subgroupIndex = automaticGroupIndex;
             children = EasyBind.mapBacked(groupNode.getChildren(), this::toViewModel);
         }
         if (groupNode.getGroup() instanceof TexGroup) {
@@ -97,15 +115,14 @@ public class GroupNodeViewModel {
         expandedProperty.set(groupNode.getGroup().isExpanded());
         expandedProperty.addListener((observable, oldValue, newValue) -> groupNode.getGroup().setExpanded(newValue));
 
-        // Register listener
-        // The wrapper created by the FXCollections will set a weak listener on the wrapped list. This weak listener gets garbage collected. Hence, we need to maintain a reference to this list.
-        entriesList = databaseContext.getDatabase().getEntries();
-        entriesList.addListener(this::onDatabaseChanged);
-
-        EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), groupNode::matches);
+        EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), entry -> membershipIndex.matches(groupNode, entry));
         anySelectedEntriesMatched = selectedEntriesMatchStatus.anyMatch(matched -> matched);
         // 'all' returns 'true' for empty streams, so this has to be checked explicitly
         allSelectedEntriesMatched = selectedEntriesMatchStatus.isEmptyBinding().not().and(selectedEntriesMatchStatus.allMatch(matched -> matched));
+
+        // The indexes reference the listener weakly, hence we need to maintain a reference to it
+        membershipIndex.addListener(onGroupMembershipChanged);
+        automaticGroupIndex.ifPresent(index -> index.addListener(onGroupMembershipChanged));
     }
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, AbstractGroup group, CustomLocalDragboard localDragboard, PreferencesService preferencesService) {
@@ -117,7 +134,7 @@ public class GroupNodeViewModel {
     }
 
     private GroupNodeViewModel toViewModel(GroupTreeNode child) {
-        return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, child, localDragBoard, preferencesService);
+        return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, child, localDragBoard, preferencesService, subgroupIndex);
     }
 
     public List<FieldChange> addEntriesToGroup(List<BibEntry> entries) {
@@ -167,8 +184,8 @@ public class GroupNodeViewModel {
         return groupNode.getGroup().getDescription().orElse("");
     }
 
-    public IntegerBinding getHits() {
-        return Bindings.size(matchedEntries);
+    public ReadOnlyIntegerProperty getHits() {
+        return hits;
     }
 
     @Override
@@ -194,7 +211,7 @@ public class GroupNodeViewModel {
                 ", children=" + children +
                 ", databaseContext=" + databaseContext +
                 ", groupNode=" + groupNode +
-                ", matchedEntries=" + matchedEntries +
+                ", hits=" + hits.get() +
                 '}';
     }
 
@@ -227,40 +244,21 @@ public class GroupNodeViewModel {
     }
 
     /**
-     * Gets invoked if an entry in the current database changes.
+     * Gets invoked if the entries matched by some groups of the current database changed
      */
-    private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
-        while (change.next()) {
-            if (change.wasPermutated()) {
-                // Nothing to do, as permutation doesn't change matched entries
-            } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        if (!matchedEntries.contains(changedEntry)) {
-                            matchedEntries.add(changedEntry);
-                        }
-                    } else {
-                        matchedEntries.remove(changedEntry);
-                    }
-                }
-            } else {
-                for (BibEntry removedEntry : change.getRemoved()) {
-                    matchedEntries.remove(removedEntry);
-                }
-                for (BibEntry addedEntry : change.getAddedSubList()) {
-                    if (groupNode.matches(addedEntry)) {
-                        if (!matchedEntries.contains(addedEntry)) {
-                            matchedEntries.add(addedEntry);
-                        }
-                    }
-                }
-            }
+    private void onGroupMembershipChanged(Set<GroupTreeNode> changedGroups) {
+        if (changedGroups.contains(groupNode)) {
+            DefaultTaskExecutor.runInJavaFXThread(() -> {
+                updateMatchedEntries();
+                anySelectedEntriesMatched.invalidate();
+                allSelectedEntriesMatched.invalidate();
+            });
         }
     }
 
     private void refreshGroup() {
         DefaultTaskExecutor.runInJavaFXThread(() -> {
-            updateMatchedEntries(); // Update the entries matched by the group
+            membershipIndex.invalidate(groupNode); // Update the entries matched by the group
             // "Re-add" to the selected groups if it were selected, this refreshes the entries the user views
             ObservableList<GroupTreeNode> selectedGroups = this.stateManager.getSelectedGroup(this.databaseContext);
             if (selectedGroups.remove(this.groupNode)) {
@@ -270,16 +268,13 @@ public class GroupNodeViewModel {
     }
 
     private void updateMatchedEntries() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The index only matches the changed entries against the group. Nevertheless, the first request of a group
+        // matches all entries, thus it is done in the background. Subgroups of automatic groups know their entries.
         if (preferencesService.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
-                    .onSuccess(entries -> {
-                        matchedEntries.clear();
-                        matchedEntries.addAll(entries);
-                    })
+                    .wrap(() -> automaticGroupIndex.map(index -> index.getHitCount(groupNode))
+                                                   .orElseGet(() -> membershipIndex.getHitCount(groupNode)))
+                    .onSuccess(hits::set)
                     .executeWith(taskExecutor);
         }
     }
@@ -1,10 +1,10 @@
 package org.jabref.gui.integrity;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -12,15 +12,18 @@ import org.jabref.gui.LibraryTab;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.integrity.BackgroundIntegrityCheck;
 import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityCheckCache;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.journals.predatory.PredatoryJournalRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.collect.MapMaker;
+
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class IntegrityCheckAction extends SimpleCommand {
@@ -33,6 +36,11 @@ public class IntegrityCheckAction extends SimpleCommand {
     private final JournalAbbreviationRepository abbreviationRepository;
     private final PredatoryJournalRepository predatoryJournalRepository;
 
+    /**
+     * The results of the previous checks of each library, so that only changed entries are checked again
+     */
+    private final Map<BibDatabaseContext, IntegrityCheckCache> caches = new MapMaker().weakKeys().makeMap();
+
     public IntegrityCheckAction(Supplier<LibraryTab> tabSupplier,
                                 PreferencesService preferencesService,
                                 DialogService dialogService,
@@ -54,29 +62,17 @@ public class IntegrityCheckAction extends SimpleCommand {
     @Override
     public void execute() {
         BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
-        IntegrityCheck check = new IntegrityCheck(database,
-                preferencesService.getFilePreferences(),
-                preferencesService.getCitationKeyPatternPreferences(),
-                abbreviationRepository,
-                predatoryJournalRepository,
-                preferencesService.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+        // If the library is checked in the background already, the cached results of the unchanged entries are reused
+        // and the messages of the background check are updated
+        Optional<BackgroundIntegrityCheck> backgroundCheck = Optional.ofNullable(tabSupplier.get())
+                                                                     .filter(tab -> tab.getBibDatabaseContext() == database)
+                                                                     .flatMap(LibraryTab::getBackgroundIntegrityCheck);
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-
-                return result;
+                return backgroundCheck.map(check -> check.checkAll(this::updateProgress, this::isCancelled))
+                                      .orElseGet(() -> createIntegrityCheck(database).check(this::updateProgress, this::isCancelled));
             }
         };
         task.setOnSucceeded(value -> {
@@ -95,4 +91,14 @@ public class IntegrityCheckAction extends SimpleCommand {
                 task);
         taskExecutor.execute(task);
     }
+
+    private IntegrityCheck createIntegrityCheck(BibDatabaseContext database) {
+        return new IntegrityCheck(database,
+                preferencesService.getFilePreferences(),
+                preferencesService.getCitationKeyPatternPreferences(),
+                abbreviationRepository,
+                predatoryJournalRepository,
+                preferencesService.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex(),
+                caches.computeIfAbsent(database, context -> new IntegrityCheckCache(context.getDatabase())));
+    }
 }
@@ -1,18 +1,11 @@
 package org.jabref.gui.journals;
 
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import javax.swing.undo.UndoManager;
 
 import org.jabref.gui.DialogService;
-import org.jabref.gui.Globals;
-import org.jabref.gui.JabRefExecutorService;
 import org.jabref.gui.LibraryTab;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.ActionHelper;
@@ -26,7 +19,6 @@ import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.field.FieldFactory;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -98,31 +90,13 @@ public class AbbreviateAction extends SimpleCommand {
     }
 
     private String abbreviate(BibDatabaseContext databaseContext, List<BibEntry> entries) {
-        UndoableAbbreviator undoableAbbreviator = new UndoableAbbreviator(
-                abbreviationRepository,
-                abbreviationType,
-                journalAbbreviationPreferences.shouldUseFJournalField());
-
         NamedCompound ce = new NamedCompound(Localization.lang("Abbreviate journal names"));
-
-        // Collect all callables to execute in one collection.
-        Set<Callable<Boolean>> tasks = entries.stream().<Callable<Boolean>>map(entry -> () ->
-                FieldFactory.getJournalNameFields().stream().anyMatch(journalField ->
-                        undoableAbbreviator.abbreviate(databaseContext.getDatabase(), entry, journalField, ce)))
-                .collect(Collectors.toSet());
-
-        // Execute the callables and wait for the results.
-        List<Future<Boolean>> futures = JabRefExecutorService.INSTANCE.executeAll(tasks);
-
-        // Evaluate the results of the callables.
-        long count = futures.stream().filter(future -> {
-            try {
-                return future.get();
-            } catch (InterruptedException | ExecutionException exception) {
-                LOGGER.error("Unable to retrieve value.", exception);
-                return false;
-            }
-        }).count();
+        int count = new UndoableBulkAbbreviator(abbreviationRepository).abbreviate(
+                databaseContext.getDatabase(),
+                entries,
+                abbreviationType,
+                journalAbbreviationPreferences.shouldUseFJournalField(),
+                ce);
 
         if (count == 0) {
             return Localization.lang("No journal names could be abbreviated.");
@@ -135,12 +109,8 @@ public class AbbreviateAction extends SimpleCommand {
     }
 
     private String unabbreviate(BibDatabaseContext databaseContext, List<BibEntry> entries) {
-        UndoableUnabbreviator undoableAbbreviator = new UndoableUnabbreviator(Globals.journalAbbreviationRepository);
-
         NamedCompound ce = new NamedCompound(Localization.lang("Unabbreviate journal names"));
-        int count = entries.stream().mapToInt(entry ->
-                (int) FieldFactory.getJournalNameFields().stream().filter(journalField ->
-                        undoableAbbreviator.unabbreviate(databaseContext.getDatabase(), entry, journalField, ce)).count()).sum();
+        int count = new UndoableBulkAbbreviator(abbreviationRepository).unabbreviate(databaseContext.getDatabase(), entries, ce);
         if (count == 0) {
             return Localization.lang("No journal names could be unabbreviated.");
         }
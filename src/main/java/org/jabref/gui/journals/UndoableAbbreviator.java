@@ -1,5 +1,7 @@
 package org.jabref.gui.journals;
 
+import java.util.Optional;
+
 import javax.swing.undo.CompoundEdit;
 
 import org.jabref.gui.undo.UndoableFieldChange;
@@ -33,22 +35,24 @@ public class UndoableAbbreviator {
      * @return true if the entry was changed, false otherwise.
      */
     public boolean abbreviate(BibDatabase database, BibEntry entry, Field fieldName, CompoundEdit ce) {
-        if (!entry.hasField(fieldName)) {
-            return false;
-        }
-
-        String text = entry.getField(fieldName).get();
-        String origText = text;
-        if (database != null) {
-            text = database.resolveForStrings(text);
-        }
+        Optional<Abbreviation> abbreviation = entry.getField(fieldName).flatMap(text -> findAbbreviation(database, text));
+        return abbreviate(entry, fieldName, abbreviation, ce);
+    }
 
-        if (!journalAbbreviationRepository.isKnownName(text)) {
+    /**
+     * Abbreviate the journal name of the given entry using an abbreviation found before, e.g., when abbreviating many
+     * entries sharing journal names.
+     *
+     * @param abbreviation The abbreviation found by {@link #findAbbreviation(BibDatabase, String)} for the journal name
+     * @return true if the entry was changed, false otherwise.
+     */
+    public boolean abbreviate(BibEntry entry, Field fieldName, Optional<Abbreviation> abbreviation, CompoundEdit ce) {
+        if (!entry.hasField(fieldName) || abbreviation.isEmpty()) {
             return false; // Unknown, cannot abbreviate anything.
         }
 
-        Abbreviation abbreviation = journalAbbreviationRepository.get(text).get();
-        String newText = getAbbreviatedName(abbreviation);
+        String origText = entry.getField(fieldName).get();
+        String newText = getAbbreviatedName(abbreviation.get());
 
         if (newText.equals(origText)) {
             return false;
@@ -56,8 +60,8 @@ public class UndoableAbbreviator {
 
         // Store full name into fjournal but only if it exists
         if (useFJournalField && (StandardField.JOURNAL == fieldName || StandardField.JOURNALTITLE == fieldName)) {
-            entry.setField(AMSField.FJOURNAL, abbreviation.getName());
-            ce.addEdit(new UndoableFieldChange(entry, AMSField.FJOURNAL, null, abbreviation.getName()));
+            entry.setField(AMSField.FJOURNAL, abbreviation.get().getName());
+            ce.addEdit(new UndoableFieldChange(entry, AMSField.FJOURNAL, null, abbreviation.get().getName()));
         }
 
         entry.setField(fieldName, newText);
@@ -65,6 +69,20 @@ public class UndoableAbbreviator {
         return true;
     }
 
+    /**
+     * Finds the abbreviation of the given journal name after resolving the strings of the database.
+     *
+     * @param database The database the journal name belongs to, or null if no database.
+     * @return the abbreviation, or an empty optional if the journal is unknown
+     */
+    public Optional<Abbreviation> findAbbreviation(BibDatabase database, String journalName) {
+        String text = database == null ? journalName : database.resolveForStrings(journalName);
+        if (!journalAbbreviationRepository.isKnownName(text)) {
+            return Optional.empty();
+        }
+        return journalAbbreviationRepository.get(text);
+    }
+
     private String getAbbreviatedName(Abbreviation text) {
         switch (abbreviationType) {
             case DEFAULT:
@@ -0,0 +1,118 @@
+package org.jabref.gui.journals;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.swing.undo.CompoundEdit;
+
+import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+
+/**
+ * Abbreviates or unabbreviates the journal names of many entries at once, e.g., of a whole library.
+ * <p>
+ * The journal names of the entries are collected first, so each distinct name is looked up only once. The lookups are
+ * done in parallel. Afterwards, the entries are changed on the calling thread as one batch update of the library, so
+ * that the listeners of the library are notified once. The changes are added to the given compound edit.
+ * <p>
+ * The entries are changed by {@link UndoableAbbreviator} and {@link UndoableUnabbreviator} using the abbreviations looked
+ * up before.
+ */
+public class UndoableBulkAbbreviator {
+
+    private final JournalAbbreviationRepository journalAbbreviationRepository;
+    private final Set<Field> journalNameFields = FieldFactory.getJournalNameFields();
+
+    public UndoableBulkAbbreviator(JournalAbbreviationRepository journalAbbreviationRepository) {
+        this.journalAbbreviationRepository = journalAbbreviationRepository;
+    }
+
+    /**
+     * Abbreviates the journal names of the given entries.
+     *
+     * @param database         The database the entries belong to, or null if no database.
+     * @param useFJournalField Whether to store the full name in the fjournal field
+     * @param ce               The changes are added to this compound.
+     * @return the number of changed journal names
+     */
+    public int abbreviate(BibDatabase database, Collection<BibEntry> entries, AbbreviationType abbreviationType, boolean useFJournalField, CompoundEdit ce) {
+        UndoableAbbreviator abbreviator = new UndoableAbbreviator(journalAbbreviationRepository, abbreviationType, useFJournalField);
+        Set<String> journalNames = new HashSet<>();
+        for (BibEntry entry : entries) {
+            for (Field field : journalNameFields) {
+                entry.getField(field).ifPresent(journalNames::add);
+            }
+        }
+        Map<String, Optional<Abbreviation>> abbreviations = lookUp(journalNames, journalName -> abbreviator.findAbbreviation(database, journalName));
+
+        AtomicInteger count = new AtomicInteger();
+        performUpdate(database, () -> {
+            for (BibEntry entry : entries) {
+                for (Field field : journalNameFields) {
+                    Optional<Abbreviation> abbreviation = entry.getField(field).flatMap(journalName -> abbreviations.getOrDefault(journalName, Optional.empty()));
+                    if (abbreviator.abbreviate(entry, field, abbreviation, ce)) {
+                        count.incrementAndGet();
+                    }
+                }
+            }
+        });
+        return count.get();
+    }
+
+    /**
+     * Unabbreviates the journal names of the given entries.
+     *
+     * @param database The database the entries belong to, or null if no database.
+     * @param ce       The changes are added to this compound.
+     * @return the number of changed journal names
+     */
+    public int unabbreviate(BibDatabase database, Collection<BibEntry> entries, CompoundEdit ce) {
+        UndoableUnabbreviator unabbreviator = new UndoableUnabbreviator(journalAbbreviationRepository);
+        Set<String> journalNames = new HashSet<>();
+        for (BibEntry entry : entries) {
+            for (Field field : journalNameFields) {
+                entry.getFieldLatexFree(field).ifPresent(journalNames::add);
+            }
+        }
+        Map<String, Optional<Abbreviation>> abbreviations = lookUp(journalNames, journalName -> unabbreviator.findAbbreviation(database, journalName));
+
+        AtomicInteger count = new AtomicInteger();
+        performUpdate(database, () -> {
+            for (BibEntry entry : entries) {
+                for (Field field : journalNameFields) {
+                    Optional<Abbreviation> abbreviation = entry.getFieldLatexFree(field).flatMap(journalName -> abbreviations.getOrDefault(journalName, Optional.empty()));
+                    if (unabbreviator.unabbreviate(entry, field, abbreviation, ce)) {
+                        count.incrementAndGet();
+                    }
+                }
+            }
+        });
+        return count.get();
+    }
+
+    /**
+     * Looks up each of the given journal names in parallel.
+     */
+    private static Map<String, Optional<Abbreviation>> lookUp(Set<String> journalNames, Function<String, Optional<Abbreviation>> lookup) {
+        return journalNames.parallelStream()
+                           .collect(Collectors.toConcurrentMap(Function.identity(), lookup));
+    }
+
+    private static void performUpdate(BibDatabase database, Runnable update) {
+        if (database == null) {
+            update.run();
+        } else {
+            database.performBatchUpdate(update);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.jabref.gui.journals;
 
+import java.util.Optional;
+
 import javax.swing.undo.CompoundEdit;
 
 import org.jabref.gui.undo.UndoableFieldChange;
@@ -28,6 +30,19 @@ public class UndoableUnabbreviator {
      * @return true if the entry was changed, false otherwise.
      */
     public boolean unabbreviate(BibDatabase database, BibEntry entry, Field field, CompoundEdit ce) {
+        Optional<Abbreviation> abbreviation = entry.getFieldLatexFree(field).flatMap(text -> findAbbreviation(database, text));
+        return unabbreviate(entry, field, abbreviation, ce);
+    }
+
+    /**
+     * Unabbreviate the journal name of the given entry using an abbreviation found before, e.g., when unabbreviating
+     * many entries sharing journal names. A full name stored in the fjournal field takes precedence.
+     *
+     * @param abbreviation The abbreviation found by {@link #findAbbreviation(BibDatabase, String)} for the latex-free
+     *                     journal name
+     * @return true if the entry was changed, false otherwise.
+     */
+    public boolean unabbreviate(BibEntry entry, Field field, Optional<Abbreviation> abbreviation, CompoundEdit ce) {
         if (!entry.hasField(field)) {
             return false;
         }
@@ -36,25 +51,34 @@ public class UndoableUnabbreviator {
             return true;
         }
 
-        String text = entry.getFieldLatexFree(field).get();
-        String origText = text;
-        if (database != null) {
-            text = database.resolveForStrings(text);
+        if (abbreviation.isEmpty()) {
+            return false; // Cannot do anything if it is not known or not abbreviated.
         }
 
+        String origText = entry.getFieldLatexFree(field).get();
+        String newText = abbreviation.get().getName();
+        entry.setField(field, newText);
+        ce.addEdit(new UndoableFieldChange(entry, field, origText, newText));
+        return true;
+    }
+
+    /**
+     * Finds the abbreviation of the given abbreviated journal name after resolving the strings of the database.
+     *
+     * @param database The database the journal name belongs to, or null if no database.
+     * @return the abbreviation, or an empty optional if the journal is unknown or the name is not abbreviated
+     */
+    public Optional<Abbreviation> findAbbreviation(BibDatabase database, String journalName) {
+        String text = database == null ? journalName : database.resolveForStrings(journalName);
         if (!journalAbbreviationRepository.isKnownName(text)) {
-            return false; // Cannot do anything if it is not known.
+            return Optional.empty(); // Cannot do anything if it is not known.
         }
 
         if (!journalAbbreviationRepository.isAbbreviatedName(text)) {
-            return false; // Cannot unabbreviate unabbreviated name.
+            return Optional.empty(); // Cannot unabbreviate unabbreviated name.
         }
 
-        Abbreviation abbreviation = journalAbbreviationRepository.get(text).get();
-        String newText = abbreviation.getName();
-        entry.setField(field, newText);
-        ce.addEdit(new UndoableFieldChange(entry, field, origText, newText));
-        return true;
+        return journalAbbreviationRepository.get(text);
     }
 
     public boolean restoreFromFJournal(BibEntry entry, Field field, CompoundEdit ce) {
@@ -2,6 +2,9 @@ package org.jabref.gui.maintable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -16,12 +19,13 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.groups.GroupsPreferences;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.DefaultTaskExecutor;
+import org.jabref.logic.search.InvertedFieldIndex;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
-import org.jabref.model.search.matchers.MatcherSet;
-import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
@@ -33,11 +37,22 @@ public class MainTableDataModel {
     private final GroupsPreferences groupsPreferences;
     private final NameDisplayPreferences nameDisplayPreferences;
     private final BibDatabaseContext bibDatabaseContext;
+    private final InvertedFieldIndex fieldIndex;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final ObservableList<GroupTreeNode> activeGroups;
+    /**
+     * Incremented if the entries matched by an active group changed, to filter the table again
+     */
+    private final IntegerProperty activeGroupsMembershipChanges = new SimpleIntegerProperty();
+    private final Consumer<Set<GroupTreeNode>> onGroupMembershipChanged = this::onGroupMembershipChanged;
 
     public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager) {
         this.groupsPreferences = preferencesService.getGroupsPreferences();
         this.nameDisplayPreferences = preferencesService.getNameDisplayPreferences();
         this.bibDatabaseContext = context;
+        this.fieldIndex = new InvertedFieldIndex(context.getDatabase());
+        this.groupMembershipIndex = context.getGroupMembershipIndex();
+        this.activeGroups = stateManager.activeGroupProperty();
 
         resetFieldFormatter();
 
@@ -46,12 +61,14 @@ public class MainTableDataModel {
                 new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
 
         entriesFiltered = new FilteredList<>(entriesViewModel);
-        entriesFiltered.predicateProperty().bind(
-                EasyBind.combine(stateManager.activeGroupProperty(),
-                        stateManager.activeSearchQueryProperty(),
-                        groupsPreferences.groupViewModeProperty(),
-                        (groups, query, groupViewMode) -> entry -> isMatched(groups, query, entry))
-        );
+        entriesFiltered.predicateProperty().bind(Bindings.createObjectBinding(
+                () -> createFilter(activeGroups, stateManager.activeSearchQueryProperty().getValue(), groupsPreferences.getGroupViewMode()),
+                activeGroups,
+                stateManager.activeSearchQueryProperty(),
+                groupsPreferences.groupViewModeProperty(),
+                activeGroupsMembershipChanges));
+        // The index references the listener weakly, hence we need to maintain a reference to it
+        groupMembershipIndex.addListener(onGroupMembershipChanged);
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
         resultSize.bind(Bindings.size(entriesFiltered));
@@ -60,36 +77,50 @@ public class MainTableDataModel {
         entriesFilteredAndSorted = new SortedList<>(entriesFiltered);
     }
 
-    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
+    /**
+     * Creates the filter of the table. The group matcher and the search candidates are computed once per change of
+     * the selected groups or the query and not for every row. The groups are matched using the
+     * {@link GroupMembershipIndex}, thus each row only requires a lookup per selected group.
+     */
+    private Predicate<BibEntryTableViewModel> createFilter(List<GroupTreeNode> groups, Optional<SearchQuery> query, GroupViewMode groupViewMode) {
+        Optional<Predicate<BibEntry>> groupMatcher = createGroupMatcher(groups, groupViewMode);
+        Optional<Predicate<BibEntry>> searchMatcher = query.map(searchQuery -> fieldIndex.getCandidateFilter(searchQuery).and(searchQuery::isMatch));
+        return entry -> isMatchedByGroup(groupMatcher, entry) && isMatchedBySearch(searchMatcher, entry);
     }
 
-    private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return query.map(matcher -> matcher.isMatch(entry.getEntry()))
-                    .orElse(true);
+    private boolean isMatchedBySearch(Optional<Predicate<BibEntry>> searchMatcher, BibEntryTableViewModel entry) {
+        return searchMatcher.map(matcher -> matcher.test(entry.getEntry()))
+                            .orElse(true);
     }
 
-    private boolean isMatchedByGroup(ObservableList<GroupTreeNode> groups, BibEntryTableViewModel entry) {
-        return createGroupMatcher(groups)
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
+    private boolean isMatchedByGroup(Optional<Predicate<BibEntry>> groupMatcher, BibEntryTableViewModel entry) {
+        return groupMatcher.map(matcher -> matcher.test(entry.getEntry()))
+                           .orElse(true);
     }
 
-    private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
+    private Optional<Predicate<BibEntry>> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupViewMode groupViewMode) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(
-                groupsPreferences.getGroupViewMode() == GroupViewMode.INTERSECTION
-                        ? MatcherSets.MatcherType.AND
-                        : MatcherSets.MatcherType.OR);
-
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
+        List<GroupTreeNode> groups = List.copyOf(selectedGroups);
+        if (groupViewMode == GroupViewMode.INTERSECTION) {
+            return Optional.of(entry -> groupMembershipIndex.matchesAll(groups, entry));
         }
-        return Optional.of(searchRules);
+        return Optional.of(entry -> groupMembershipIndex.matchesAny(groups, entry));
+    }
+
+    /**
+     * The filter reads the membership from the index when a row changes. The index may be updated after the row, thus
+     * the table is filtered again if the entries of an active group changed.
+     */
+    private void onGroupMembershipChanged(Set<GroupTreeNode> changedGroups) {
+        DefaultTaskExecutor.runInJavaFXThread(() -> {
+            if (activeGroups.stream().anyMatch(changedGroups::contains)) {
+                activeGroupsMembershipChanges.set(activeGroupsMembershipChanges.get() + 1);
+            }
+        });
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -26,6 +26,7 @@ public class EntryEditorTab extends AbstractPreferenceTabView<EntryEditorTabView
     @FXML private CheckBox enableLatexCitationsTab;
     @FXML private CheckBox enableValidation;
     @FXML private CheckBox allowIntegerEdition;
+    @FXML private CheckBox checkIntegrityInBackground;
     @FXML private CheckBox journalPopupEnabled;
     @FXML private CheckBox autoLinkFilesEnabled;
     @FXML private CheckBox enableSciteTab;
@@ -57,6 +58,7 @@ public class EntryEditorTab extends AbstractPreferenceTabView<EntryEditorTabView
         enableLatexCitationsTab.selectedProperty().bindBidirectional(viewModel.enableLatexCitationsTabProperty());
         enableValidation.selectedProperty().bindBidirectional(viewModel.enableValidationProperty());
         allowIntegerEdition.selectedProperty().bindBidirectional(viewModel.allowIntegerEditionProperty());
+        checkIntegrityInBackground.selectedProperty().bindBidirectional(viewModel.checkIntegrityInBackgroundProperty());
         journalPopupEnabled.selectedProperty().bindBidirectional(viewModel.journalPopupProperty());
         autoLinkFilesEnabled.selectedProperty().bindBidirectional(viewModel.autoLinkFilesEnabledProperty());
         enableSciteTab.selectedProperty().bindBidirectional(viewModel.enableSciteTabProperty());
@@ -28,6 +28,7 @@ public class EntryEditorTabViewModel implements PreferenceTabViewModel {
     private final BooleanProperty enableLatexCitationsTabProperty = new SimpleBooleanProperty();
     private final BooleanProperty enableValidationProperty = new SimpleBooleanProperty();
     private final BooleanProperty allowIntegerEditionProperty = new SimpleBooleanProperty();
+    private final BooleanProperty checkIntegrityInBackgroundProperty = new SimpleBooleanProperty();
     private final BooleanProperty journalPopupProperty = new SimpleBooleanProperty();
     private final BooleanProperty autoLinkEnabledProperty = new SimpleBooleanProperty();
     private final BooleanProperty enableSciteTabProperty = new SimpleBooleanProperty();
@@ -60,6 +61,7 @@ public class EntryEditorTabViewModel implements PreferenceTabViewModel {
         enableLatexCitationsTabProperty.setValue(entryEditorPreferences.shouldShowLatexCitationsTab());
         enableValidationProperty.setValue(entryEditorPreferences.shouldEnableValidation());
         allowIntegerEditionProperty.setValue(entryEditorPreferences.shouldAllowIntegerEditionBibtex());
+        checkIntegrityInBackgroundProperty.setValue(entryEditorPreferences.shouldCheckIntegrityInBackground());
         journalPopupProperty.setValue(entryEditorPreferences.shouldEnableJournalPopup() == EntryEditorPreferences.JournalPopupEnabled.ENABLED);
         autoLinkEnabledProperty.setValue(entryEditorPreferences.autoLinkFilesEnabled());
         enableSciteTabProperty.setValue(entryEditorPreferences.shouldShowSciteTab());
@@ -95,6 +97,7 @@ public class EntryEditorTabViewModel implements PreferenceTabViewModel {
         entryEditorPreferences.setShowSourceTabByDefault(defaultSourceProperty.getValue());
         entryEditorPreferences.setEnableValidation(enableValidationProperty.getValue());
         entryEditorPreferences.setAllowIntegerEditionBibtex(allowIntegerEditionProperty.getValue());
+        entryEditorPreferences.setCheckIntegrityInBackground(checkIntegrityInBackgroundProperty.getValue());
         entryEditorPreferences.setEnableJournalPopup(journalPopupProperty.getValue()
                 ? EntryEditorPreferences.JournalPopupEnabled.ENABLED
                 : EntryEditorPreferences.JournalPopupEnabled.DISABLED);
@@ -162,6 +165,10 @@ public class EntryEditorTabViewModel implements PreferenceTabViewModel {
         return this.allowIntegerEditionProperty;
     }
 
+    public BooleanProperty checkIntegrityInBackgroundProperty() {
+        return this.checkIntegrityInBackgroundProperty;
+    }
+
     public BooleanProperty journalPopupProperty() {
         return journalPopupProperty;
     }
@@ -19,6 +19,7 @@ import org.jabref.gui.exporter.SaveDatabaseAction;
 import org.jabref.gui.mergeentries.EntriesMergeResult;
 import org.jabref.gui.mergeentries.MergeEntriesDialog;
 import org.jabref.gui.undo.UndoableRemoveEntries;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
@@ -162,7 +163,8 @@ public class SharedDatabaseUIManager {
                 bibDatabaseContext,
                 preferencesService.getBibEntryPreferences().getKeywordSeparator(),
                 preferencesService.getCitationKeyPatternPreferences().getKeyPattern(),
-                fileUpdateMonitor);
+                fileUpdateMonitor,
+                DefaultTaskExecutor::runInJavaFXThread);
         bibDatabaseContext.convertToSharedDatabase(synchronizer);
 
         dbmsSynchronizer = bibDatabaseContext.getDBMSSynchronizer();
@@ -203,7 +205,8 @@ public class SharedDatabaseUIManager {
                 bibDatabaseContext,
                 preferencesService.getBibEntryPreferences().getKeywordSeparator(),
                 preferencesService.getCitationKeyPatternPreferences().getKeyPattern(),
-                fileUpdateMonitor);
+                fileUpdateMonitor,
+                DefaultTaskExecutor::runInJavaFXThread);
         bibDatabaseContext.convertToSharedDatabase(synchronizer);
 
         bibDatabaseContext.getDatabase().setSharedDatabaseID(sharedDatabaseID);
@@ -8,17 +8,22 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.WatchServiceUnavailableException;
+import org.jabref.model.util.DirectoryUpdateListener;
 import org.jabref.model.util.FileUpdateListener;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +38,8 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileUpdateMonitor.class);
 
     private final Multimap<Path, FileUpdateListener> listeners = ArrayListMultimap.create(20, 4);
+    private final Multimap<Path, DirectoryUpdateListener> directoryListeners = Multimaps.synchronizedMultimap(ArrayListMultimap.create());
+    private final Map<Path, WatchKey> watchKeys = new ConcurrentHashMap<>();
     private volatile WatchService watcher;
     private final AtomicBoolean notShutdown = new AtomicBoolean(true);
     private final AtomicReference<Optional<JabRefException>> filesystemMonitorFailure = new AtomicReference<>(Optional.empty());
@@ -54,15 +61,23 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
                 for (WatchEvent<?> event : key.pollEvents()) {
                     WatchEvent.Kind<?> kind = event.kind();
 
+                    Path directory = (Path) key.watchable();
                     if (kind == StandardWatchEventKinds.OVERFLOW) {
+                        // Changes were lost, thus the whole directory may have changed
+                        notifyAboutDirectoryChange(directory, directory);
                         Thread.yield();
                         continue;
                     } else if (kind == StandardWatchEventKinds.ENTRY_CREATE || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
                         // We only handle "ENTRY_CREATE" and "ENTRY_MODIFY" here, so the context is always a Path
                         @SuppressWarnings("unchecked")
                         WatchEvent<Path> ev = (WatchEvent<Path>) event;
-                        Path path = ((Path) key.watchable()).resolve(ev.context());
+                        Path path = directory.resolve(ev.context());
                         notifyAboutChange(path);
+                        notifyAboutDirectoryChange(directory, path);
+                    } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                        @SuppressWarnings("unchecked")
+                        WatchEvent<Path> ev = (WatchEvent<Path>) event;
+                        notifyAboutDirectoryChange(directory, directory.resolve(ev.context()));
                     }
                     key.reset();
                 }
@@ -85,13 +100,29 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         listeners.get(path).forEach(FileUpdateListener::fileUpdated);
     }
 
+    private void notifyAboutDirectoryChange(Path directory, Path changedPath) {
+        List<DirectoryUpdateListener> listenersOfDirectory;
+        synchronized (directoryListeners) {
+            listenersOfDirectory = List.copyOf(directoryListeners.get(directory));
+        }
+        for (DirectoryUpdateListener listener : listenersOfDirectory) {
+            try {
+                listener.directoryUpdated(changedPath);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Listener {} could not handle the change of {}", listener, changedPath, e);
+            }
+        }
+    }
+
     @Override
     public void addListenerForFile(Path file, FileUpdateListener listener) throws IOException {
         if (isActive()) {
             // We can't watch files directly, so monitor their parent directory for updates
             Path directory = file.toAbsolutePath().getParent();
-            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
-            listeners.put(file, listener);
+            synchronized (directoryListeners) {
+                register(directory);
+                listeners.put(file, listener);
+            }
         } else {
             LOGGER.warn("Not adding listener {} to file {} because the file update monitor isn't active", listener, file);
         }
@@ -102,6 +133,41 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         listeners.remove(path, listener);
     }
 
+    @Override
+    public void addListenerForDirectory(Path directory, DirectoryUpdateListener listener) throws IOException {
+        // The listener relies on the changes being reported, thus it has to know if the directory is not watched
+        if (!isActive() || (watcher == null)) {
+            throw new IOException("Cannot watch " + directory + " because the file update monitor isn't active");
+        }
+        Path absoluteDirectory = directory.toAbsolutePath();
+        synchronized (directoryListeners) {
+            register(absoluteDirectory);
+            directoryListeners.put(absoluteDirectory, listener);
+        }
+    }
+
+    @Override
+    public void removeListenerForDirectory(Path directory, DirectoryUpdateListener listener) {
+        Path absoluteDirectory = directory.toAbsolutePath();
+        synchronized (directoryListeners) {
+            directoryListeners.remove(absoluteDirectory, listener);
+            // The operating system limits the number of watches, thus the directory is not watched any longer if no one listens
+            if (!directoryListeners.containsKey(absoluteDirectory)
+                    && listeners.keySet().stream().noneMatch(file -> absoluteDirectory.equals(file.toAbsolutePath().getParent()))) {
+                Optional.ofNullable(watchKeys.remove(absoluteDirectory)).ifPresent(WatchKey::cancel);
+            }
+        }
+    }
+
+    /**
+     * Watches the given directory. All kinds of changes are registered, as registering a directory again replaces the
+     * kinds registered before.
+     */
+    private void register(Path directory) throws IOException {
+        WatchKey key = directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        watchKeys.put(directory, key);
+    }
+
     @Override
     public void shutdown() {
         try {
@@ -2,7 +2,6 @@ package org.jabref.http.server;
 
 import java.util.List;
 
-import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.gson.Gson;
@@ -21,7 +20,7 @@ public class LibrariesResource {
     @Produces(MediaType.APPLICATION_JSON)
     public String get() {
         List<String> fileNamesWithUniqueSuffix = preferences.getGuiPreferences().getLastFilesOpened().stream()
-                                                            .map(p -> p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p))
+                                                            .map(ServedLibraries::getId)
                                                             .toList();
         return new Gson().toJson(fileNamesWithUniqueSuffix);
     }
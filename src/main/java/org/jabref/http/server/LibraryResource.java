@@ -1,97 +1,340 @@
 package org.jabref.http.server;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.jabref.gui.Globals;
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
-import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
-import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.search.rules.SearchRules;
+import org.jabref.model.strings.StringUtil;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Serves one library in different formats. The libraries are parsed once (see {@link ServedLibraries}).
+ * <p>
+ * Each response carries an entity tag derived from the version of the library file. If a client sends it back in
+ * <code>If-None-Match</code> and the file did not change, the server responds with <code>304 Not Modified</code>
+ * without serializing the library.
+ * <p>
+ * The entries of large libraries can be fetched page by page at <code>libraries/{id}/entries</code>. The pages are
+ * written to the response while the entries are read, so that the response is never kept in memory as a whole. The
+ * entries of the pages have the same form as the entries of the whole library ({@link BibEntryDTO}).
+ */
 @Path("libraries/{id}")
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    static final int MAX_PAGE_SIZE = 1_000;
+
     @Inject
     PreferencesService preferences;
 
     @Inject
     Gson gson;
 
+    @Context
+    Request request;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+    public Response getJson(@PathParam("id") String id) {
+        ServedLibrary library = getLibrary(id);
+        return respond(library.getVersion(), "json", () -> (StreamingOutput) output -> {
+            JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.beginArray();
+            for (BibEntry entry : library.getEntries()) {
+                writeEntry(writer, library, entry, Optional.empty());
+            }
+            writer.endArray();
+            writer.flush();
+        });
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+    public Response getClsItemJson(@PathParam("id") String id) {
+        ServedLibrary library = getLibrary(id);
+        return respond(library.getVersion(), "csl", () -> {
+            JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+            jabRefItemDataProvider.setData(library.getDatabaseContext(), new BibEntryTypesManager());
+            return library.getEntries().stream()
+                          .map(entry -> library.getCslJson(entry, jabRefItemDataProvider::toJson))
+                          .collect(Collectors.joining(",", "[", "]"));
+        });
     }
 
-    private ParserResult getParserResult(String id) {
+    @GET
+    @Produces(JabrefMediaType.BIBTEX)
+    public Response getBibtex(@PathParam("id") String id) {
         java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
+        String version;
         try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+            version = ServedLibraries.getVersion(library);
         } catch (IOException e) {
-            LOGGER.warn("Could not find open library file {}", library, e);
-            throw new InternalServerErrorException("Could not parse library", e);
+            LOGGER.error("Could not read library {}", library, e);
+            throw new InternalServerErrorException("Could not read library " + library, e);
         }
-        return parserResult;
+        return respond(version, "bibtex", () -> {
+            try {
+                return Files.readString(library);
+            } catch (IOException e) {
+                LOGGER.error("Could not read library {}", library, e);
+                throw new InternalServerErrorException("Could not read library " + library, e);
+            }
+        });
     }
 
+    /**
+     * Returns one page of the entries of the library. The page is a JSON object with the entries in <code>entries</code>
+     * and the cursor of the next page in <code>next</code>. The last page has no <code>next</code>. Only the last page
+     * contains fewer entries than requested. If a search query is given, the last page might contain no entries, as the
+     * entries after the previous page are only known to not match once they are read.
+     * <p>
+     * The cursor consists of the version of the library and the position of the next entry in the library. If the
+     * library changes while it is paged through, the positions do not fit anymore. Then, the request of the next page
+     * fails with <code>410 Gone</code>, and the client has to start with the first page again.
+     *
+     * @param cursor the cursor returned with the previous page, none for the first page
+     * @param limit  the maximal number of entries of the page
+     * @param fields the names of the fields to return, separated by commas. If none are given, all fields are returned.
+     * @param query  a search query in the syntax of the search bar (see {@link SearchQuery}). If it is given, only the
+     *               matching entries are returned.
+     */
     @GET
-    @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
+    @Path("entries")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntries(@PathParam("id") String id,
+                               @QueryParam("cursor") String cursor,
+                               @QueryParam("limit") @DefaultValue("100") int limit,
+                               @QueryParam("fields") String fields,
+                               @QueryParam("q") String query) {
+        // The parameters are checked before responding, as errors cannot be reported once the response is written
+        Optional<Cursor> parsedCursor = parseCursor(cursor);
+        if ((limit < 1) || (limit > MAX_PAGE_SIZE)) {
+            throw new BadRequestException("The limit has to be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Optional<Set<Field>> projection = parseFields(fields);
+        Optional<SearchQuery> searchQuery = parseQuery(query);
+
+        ServedLibrary library = getLibrary(id);
+        if (parsedCursor.isPresent() && !parsedCursor.get().version().equals(library.getVersion())) {
+            throw new ClientErrorException("The library changed, request the first page again", Response.Status.GONE);
+        }
+        int start = parsedCursor.map(Cursor::position).orElse(0);
+        return respond(library.getVersion(), "entries-" + getParametersHash(projection, start, limit, query), () -> (StreamingOutput) output -> {
+            List<BibEntry> entries = library.getEntries();
+            JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.beginObject();
+            writer.name("entries").beginArray();
+            int next = start;
+            int count = 0;
+            while ((next < entries.size()) && (count < limit)) {
+                BibEntry entry = entries.get(next++);
+                if (searchQuery.map(matcher -> matcher.isMatch(entry)).orElse(true)) {
+                    writeEntry(writer, library, entry, projection);
+                    count++;
+                }
+            }
+            writer.endArray();
+            if (next < entries.size()) {
+                writer.name("next").value(new Cursor(library.getVersion(), next).toString());
+            }
+            writer.endObject();
+            writer.flush();
+        });
+    }
+
+    /**
+     * Returns the entry having the given citation key
+     *
+     * @param fields the names of the fields to return, separated by commas. If none are given, all fields are returned.
+     */
+    @GET
+    @Path("entries/{citationKey}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntry(@PathParam("id") String id,
+                             @PathParam("citationKey") String citationKey,
+                             @QueryParam("fields") String fields) {
+        Optional<Set<Field>> projection = parseFields(fields);
+
+        ServedLibrary library = getLibrary(id);
+        BibEntry entry = library.getEntryByCitationKey(citationKey).orElseThrow(NotFoundException::new);
+        return respond(library.getVersion(), "entry-" + getParametersHash(projection, citationKey), () -> (StreamingOutput) output -> {
+            JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writeEntry(writer, library, entry, projection);
+            writer.flush();
+        });
+    }
+
+    /**
+     * Writes the entry as {@link BibEntryDTO}, which is the same for all JSON responses. The JSON of a complete entry is
+     * kept by the library and written as it is.
+     *
+     * @param projection the fields to write. If none are given, all fields are written.
+     */
+    private void writeEntry(JsonWriter writer, ServedLibrary library, BibEntry entry, Optional<Set<Field>> projection) throws IOException {
+        if (projection.isEmpty()) {
+            writer.jsonValue(library.getJson(entry, bibEntry -> toJson(library, bibEntry, bibEntry)));
+        } else {
+            writer.jsonValue(toJson(library, entry, project(entry, projection.get())));
+        }
+    }
+
+    /**
+     * @param entry           the entry of the library, which determines the shared id
+     * @param serializedEntry the entry or its projection
+     */
+    private String toJson(ServedLibrary library, BibEntry entry, BibEntry serializedEntry) {
+        serializedEntry.getSharedBibEntryData().setSharedID(Objects.hash(entry));
+        return gson.toJson(new BibEntryDTO(serializedEntry, library.getDatabaseContext().getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager));
+    }
+
+    /**
+     * Returns a copy of the entry containing the citation key and the given fields only
+     */
+    private static BibEntry project(BibEntry entry, Set<Field> fields) {
+        BibEntry projectedEntry = new BibEntry(entry.getType()).withUserComments(entry.getUserComments());
+        entry.getFieldMap().forEach((field, value) -> {
+            if ((field == InternalField.KEY_FIELD) || fields.contains(field)) {
+                projectedEntry.setField(field, value);
+            }
+        });
+        return projectedEntry;
+    }
+
+    /**
+     * Returns a hash of the request parameters, so that the responses to different parameters have different entity
+     * tags. The hash does not depend on the order of the given fields.
+     */
+    private static String getParametersHash(Optional<Set<Field>> projection, Object... otherParameters) {
+        List<String> fieldNames = projection.map(fields -> fields.stream().map(Field::getName).sorted().toList()).orElse(List.of());
+        return Integer.toHexString(Objects.hash(fieldNames, Arrays.hashCode(otherParameters)));
+    }
+
+    private static Optional<Cursor> parseCursor(String cursor) {
+        if (StringUtil.isBlank(cursor)) {
+            return Optional.empty();
+        }
+        int separator = cursor.lastIndexOf(':');
+        if (separator > 0) {
+            try {
+                int position = Integer.parseInt(cursor.substring(separator + 1));
+                if (position >= 0) {
+                    return Optional.of(new Cursor(cursor.substring(0, separator), position));
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        throw new BadRequestException("Invalid cursor " + cursor);
+    }
+
+    private static Optional<Set<Field>> parseFields(String fields) {
+        if (StringUtil.isBlank(fields)) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.stream(fields.split(","))
+                                 .filter(StringUtil::isNotBlank)
+                                 .map(String::trim)
+                                 .map(FieldFactory::parseField)
+                                 .collect(Collectors.toSet()));
+    }
+
+    private static Optional<SearchQuery> parseQuery(String query) {
+        if (StringUtil.isBlank(query)) {
+            return Optional.empty();
+        }
+        // The server has no fulltext index, thus only the fields are searched
+        SearchQuery searchQuery = new SearchQuery(query, EnumSet.noneOf(SearchRules.SearchFlags.class));
+        if (!searchQuery.isValid()) {
+            throw new BadRequestException("Invalid search query " + query);
+        }
+        return Optional.of(searchQuery);
+    }
+
+    /**
+     * Responds with <code>304 Not Modified</code> if the client has the given version of the library already.
+     * Otherwise, responds with the library serialized by the given supplier (a string or a {@link StreamingOutput}).
+     *
+     * @param format distinguishes the entity tags of the formats and of the parts of the library (e.g., pages), as they
+     *               are different representations of the library
+     */
+    private Response respond(String version, String format, Supplier<Object> serializer) {
+        EntityTag entityTag = new EntityTag(version + "-" + format);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok()
+                       .entity(serializer.get())
+                       .tag(entityTag)
+                       .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                       .build();
+    }
+
+    /**
+     * The position of the next entry of a page in the given version of the library
+     */
+    private record Cursor(String version, int position) {
+        @Override
+        public String toString() {
+            return version + ":" + position;
+        }
+    }
+
+    private ServedLibrary getLibrary(String id) {
         java.nio.file.Path library = getLibraryPath(id);
-        String libraryAsString;
         try {
-            libraryAsString = Files.readString(library);
+            return ServedLibraries.getLibrary(library, preferences.getImportFormatPreferences(), preferences.getFieldPreferences());
         } catch (IOException e) {
-            LOGGER.error("Could not read library {}", library, e);
-            throw new InternalServerErrorException("Could not read library " + library, e);
+            LOGGER.warn("Could not find open library file {}", library, e);
+            throw new InternalServerErrorException("Could not parse library", e);
         }
-        return Response.ok()
-                .entity(libraryAsString)
-                .build();
     }
 
     private java.nio.file.Path getLibraryPath(String id) {
-        return preferences.getGuiPreferences().getLastFilesOpened()
-                          .stream()
-                          .filter(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id))
-                          .findAny()
-                          .orElseThrow(NotFoundException::new);
+        return ServedLibraries.getPath(preferences.getGuiPreferences().getLastFilesOpened(), id)
+                              .orElseThrow(NotFoundException::new);
     }
 }
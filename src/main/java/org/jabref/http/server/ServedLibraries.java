@@ -0,0 +1,212 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the libraries served by the server parsed, so that a request does not need to parse the library again.
+ * <p>
+ * The server also runs without JabRef (see {@link Server}), thus there is no file monitor to report changes of the
+ * libraries. Instead, the modification time and size of the file are compared at each request, which is a single
+ * file system call. If they differ, the library is parsed again.
+ * <p>
+ * A file saved twice within the granularity of its modification time might keep its modification time and size. Thus,
+ * the checksum of the content of a file read shortly after the modification is compared, too. The checksum is part of
+ * the version of such a file until the file changes, so that the version does not change once the modification is long
+ * enough ago. The libraries are also parsed again if the preferences used for parsing or serializing them change.
+ */
+class ServedLibraries {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServedLibraries.class);
+
+    /**
+     * The coarsest granularity of modification times of common file systems (FAT)
+     */
+    static final Duration MODIFICATION_TIME_GRANULARITY = Duration.ofSeconds(2);
+
+    private static final Map<Path, String> ids = new ConcurrentHashMap<>();
+    private static final Map<Path, FileVersion> fileVersions = new ConcurrentHashMap<>();
+    private static final Map<Path, ServedLibrary> libraries = new ConcurrentHashMap<>();
+
+    private ServedLibraries() {
+    }
+
+    /**
+     * Returns the id of the library used in the URL, which is the file name and a hash of the path
+     */
+    static String getId(Path library) {
+        return ids.computeIfAbsent(library, path -> path.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(path));
+    }
+
+    /**
+     * Returns the path of the library having the given id. The parsed libraries not being served anymore are dropped.
+     */
+    static Optional<Path> getPath(List<Path> servedLibraries, String id) {
+        libraries.keySet().retainAll(servedLibraries);
+        fileVersions.keySet().retainAll(servedLibraries);
+        ids.keySet().retainAll(servedLibraries);
+        return servedLibraries.stream()
+                              .filter(path -> getId(path).equals(id))
+                              .findAny();
+    }
+
+    /**
+     * Returns the version of the library file, which changes whenever the file changes
+     */
+    static String getVersion(Path library) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+        String attributesVersion = getVersion(attributes);
+        boolean isRecentlyModified = isRecentlyModified(attributes);
+        try {
+            return fileVersions.compute(library, (path, fileVersion) -> {
+                try {
+                    if ((fileVersion != null) && fileVersion.getAttributesVersion().equals(attributesVersion) && isUnchanged(fileVersion, path, isRecentlyModified)) {
+                        return fileVersion;
+                    }
+                    return new FileVersion(attributesVersion, isRecentlyModified ? getChecksum(path) : null);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).getVersion();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String getVersion(BasicFileAttributes attributes) {
+        return Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + Long.toHexString(attributes.size());
+    }
+
+    /**
+     * Indicates whether the file might be changed again without changing its modification time
+     */
+    private static boolean isRecentlyModified(BasicFileAttributes attributes) {
+        return System.currentTimeMillis() - attributes.lastModifiedTime().toMillis() < MODIFICATION_TIME_GRANULARITY.toMillis();
+    }
+
+    /**
+     * Compares the checksum of a file read shortly after its modification. Once the modification is long enough ago, the
+     * checksum is compared a last time, as the file cannot change without changing its modification time anymore.
+     */
+    private static boolean isUnchanged(FileVersion fileVersion, Path library, boolean isRecentlyModified) throws IOException {
+        if (!fileVersion.needsChecksumComparison()) {
+            return true;
+        }
+        boolean isUnchanged = fileVersion.getChecksum().equals(getChecksum(library));
+        if (isUnchanged && !isRecentlyModified) {
+            fileVersion.setChecksumCompared();
+        }
+        return isUnchanged;
+    }
+
+    private static String getChecksum(Path library) throws IOException {
+        return MoreFiles.asByteSource(library).hash(Hashing.crc32()).toString();
+    }
+
+    /**
+     * Returns a hash of the preferences the library is parsed and serialized with
+     */
+    private static String getPreferencesHash(ImportFormatPreferences importFormatPreferences, FieldPreferences fieldPreferences) {
+        return Integer.toHexString(Objects.hash(importFormatPreferences.bibEntryPreferences().getKeywordSeparator(),
+                getHash(importFormatPreferences.fieldPreferences()),
+                getHash(fieldPreferences)));
+    }
+
+    private static int getHash(FieldPreferences fieldPreferences) {
+        return Objects.hash(fieldPreferences.shouldResolveStrings(),
+                List.copyOf(fieldPreferences.getResolvableFields()),
+                List.copyOf(fieldPreferences.getNonWrappableFields()));
+    }
+
+    /**
+     * Returns the parsed library. The library is only parsed if it was not parsed before or its file or the
+     * preferences changed since.
+     *
+     * @param fieldPreferences the preferences used to serialize the entries, which are cached by the library
+     */
+    static ServedLibrary getLibrary(Path library, ImportFormatPreferences importFormatPreferences, FieldPreferences fieldPreferences) throws IOException {
+        // Determined before parsing, so that a change during parsing is found by the next request
+        String version = getVersion(library) + "-" + getPreferencesHash(importFormatPreferences, fieldPreferences);
+        try {
+            return libraries.compute(library, (path, servedLibrary) -> {
+                if ((servedLibrary != null) && servedLibrary.getVersion().equals(version)) {
+                    return servedLibrary;
+                }
+                try {
+                    LOGGER.debug("Parsing library {} of version {}", path, version);
+                    ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(path);
+                    return new ServedLibrary(version, parserResult);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The version of a library file
+     */
+    private static class FileVersion {
+
+        private final String attributesVersion;
+        private final String checksum;
+        private boolean needsChecksumComparison;
+
+        /**
+         * @param attributesVersion the version of the modification time and the size of the file
+         * @param checksum          the checksum of the file if it might change without changing its modification time,
+         *                          null otherwise
+         */
+        FileVersion(String attributesVersion, String checksum) {
+            this.attributesVersion = attributesVersion;
+            this.checksum = checksum;
+            this.needsChecksumComparison = checksum != null;
+        }
+
+        String getVersion() {
+            return checksum == null ? attributesVersion : attributesVersion + "-" + checksum;
+        }
+
+        String getAttributesVersion() {
+            return attributesVersion;
+        }
+
+        String getChecksum() {
+            return checksum;
+        }
+
+        /**
+         * Indicates whether the file might have changed although its modification time and size did not change
+         */
+        synchronized boolean needsChecksumComparison() {
+            return needsChecksumComparison;
+        }
+
+        synchronized void setChecksumCompared() {
+            needsChecksumComparison = false;
+        }
+    }
+}
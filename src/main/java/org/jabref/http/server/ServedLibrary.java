@@ -0,0 +1,68 @@
+package org.jabref.http.server;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * A library parsed once and kept by the server as long as its file does not change (see {@link ServedLibraries}).
+ * <p>
+ * As the library does not change, the serialization of its entries is kept, too. Thus, serving the library again only
+ * joins the already serialized entries.
+ */
+class ServedLibrary {
+
+    private final String version;
+    private final ParserResult parserResult;
+
+    // The entries of the library, not equal ones (two entries might have equal content)
+    private final Map<BibEntry, String> jsonByEntry = new IdentityHashMap<>();
+    private final Map<BibEntry, String> cslJsonByEntry = new IdentityHashMap<>();
+
+    /**
+     * @param version the version of the file and of the preferences the library was parsed and serialized with
+     */
+    ServedLibrary(String version, ParserResult parserResult) {
+        this.version = version;
+        this.parserResult = parserResult;
+    }
+
+    /**
+     * Returns the version of the library, which differs for each content of the file and each preferences
+     */
+    String getVersion() {
+        return version;
+    }
+
+    BibDatabaseContext getDatabaseContext() {
+        return parserResult.getDatabaseContext();
+    }
+
+    List<BibEntry> getEntries() {
+        return parserResult.getDatabase().getEntries();
+    }
+
+    Optional<BibEntry> getEntryByCitationKey(String citationKey) {
+        return parserResult.getDatabase().getEntryByCitationKey(citationKey);
+    }
+
+    /**
+     * Returns the JSON of the given entry. The entry is serialized by the given function once.
+     */
+    synchronized String getJson(BibEntry entry, Function<BibEntry, String> serializer) {
+        return jsonByEntry.computeIfAbsent(entry, serializer);
+    }
+
+    /**
+     * Returns the CSL JSON of the given entry. The entry is serialized by the given function once.
+     */
+    synchronized String getCslJson(BibEntry entry, Function<BibEntry, String> serializer) {
+        return cslJsonByEntry.computeIfAbsent(entry, serializer);
+    }
+}
@@ -7,6 +7,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
@@ -62,6 +63,14 @@ public class CitationStyleCache {
             citationStyleCache.invalidate(entryChangedEvent.getBibEntry());
         }
 
+        /**
+         * removes the outdated citations of the entries changed by a bulk operation
+         */
+        @Subscribe
+        public void listen(FieldsChangedBatchEvent fieldsChangedBatchEvent) {
+            citationStyleCache.invalidateAll(fieldsChangedBatchEvent.getBibEntries());
+        }
+
         /**
          * removes the citation of the removed entries as they are not needed anymore
          */
@@ -0,0 +1,219 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
+
+/**
+ * Searches a list of entries for duplicates without comparing every pair of entries.
+ * <p>
+ * Entries are first grouped into blocks using cheap keys (identifiers, a normalized title prefix and first author plus year).
+ * {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)} is then only called for pairs sharing at least one block.
+ * Entries without any key are compared with each other, so that no entry is dropped from the search.
+ * The comparisons run in parallel on a {@link ForkJoinPool}.
+ */
+public class BlockedDuplicateSearch {
+
+    /**
+     * Number of normalized title characters used as blocking key
+     */
+    private static final int TITLE_PREFIX_LENGTH = 10;
+
+    /**
+     * Number of comparison rows handled by a single task before it is not split further
+     */
+    private static final int ROWS_PER_TASK = 64;
+
+    private static final String NO_KEY_BLOCK = "none:";
+
+    private final DuplicateCheck duplicateCheck;
+    private final BibDatabaseMode databaseMode;
+    private final ForkJoinPool pool;
+
+    public BlockedDuplicateSearch(DuplicateCheck duplicateCheck, BibDatabaseMode databaseMode) {
+        this(duplicateCheck, databaseMode, ForkJoinPool.commonPool());
+    }
+
+    public BlockedDuplicateSearch(DuplicateCheck duplicateCheck, BibDatabaseMode databaseMode, ForkJoinPool pool) {
+        this.duplicateCheck = duplicateCheck;
+        this.databaseMode = databaseMode;
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the blocking keys of an entry. Two entries are only compared if they share at least one key.
+     */
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+        entry.getDOI().ifPresent(doi -> keys.add("doi:" + doi.getDOI().toLowerCase(Locale.ROOT)));
+        entry.getISBN().ifPresent(isbn -> keys.add("isbn:" + isbn.getNormalized()));
+        entry.getField(StandardField.EPRINT)
+             .filter(StringUtil::isNotBlank)
+             .ifPresent(eprint -> keys.add("eprint:" + eprint.trim().toLowerCase(Locale.ROOT)));
+        entry.getField(StandardField.PMID)
+             .filter(StringUtil::isNotBlank)
+             .ifPresent(pmid -> keys.add("pmid:" + pmid.trim()));
+
+        entry.getFieldLatexFree(StandardField.TITLE)
+             .map(BlockedDuplicateSearch::normalize)
+             .filter(title -> !title.isEmpty())
+             .ifPresent(title -> keys.add("title:" + title.substring(0, Math.min(TITLE_PREFIX_LENGTH, title.length()))));
+
+        Optional<String> year = entry.getField(StandardField.YEAR).map(String::trim).filter(StringUtil::isNotBlank);
+        Optional<String> firstAuthor = entry.getFieldLatexFree(StandardField.AUTHOR)
+                                            .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                                            .map(AuthorList::parse)
+                                            .filter(authors -> !authors.isEmpty())
+                                            .map(authors -> normalize(authors.getAuthor(0).getLastOnly()))
+                                            .filter(lastName -> !lastName.isEmpty());
+        if (year.isPresent() && firstAuthor.isPresent()) {
+            keys.add("author:" + firstAuthor.get() + ":" + year.get());
+        }
+
+        if (keys.isEmpty()) {
+            keys.add(NO_KEY_BLOCK);
+        }
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        value.toLowerCase(Locale.ROOT).codePoints()
+             .filter(Character::isLetterOrDigit)
+             .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    /**
+     * Searches for duplicates and reports every duplicate pair to the given consumer as soon as it is found.
+     * The consumer is called from worker threads and thus must be thread-safe.
+     *
+     * @param entries     the entries to search
+     * @param onDuplicate receives each duplicate pair, the entry appearing first in {@code entries} being the first argument
+     * @param isCancelled polled regularly, the search stops as soon as it returns {@code true}
+     */
+    public void search(List<BibEntry> entries, BiConsumer<BibEntry, BibEntry> onDuplicate, BooleanSupplier isCancelled) {
+        List<Set<String>> keysOfEntries = entries.parallelStream()
+                                                 .map(BlockedDuplicateSearch::getBlockingKeys)
+                                                 .toList();
+
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (String key : keysOfEntries.get(i)) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<BlockRow> rows = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> block : blocks.entrySet()) {
+            List<Integer> members = block.getValue();
+            for (int row = 0; row < (members.size() - 1); row++) {
+                rows.add(new BlockRow(block.getKey(), members, row));
+            }
+        }
+
+        pool.invoke(new CompareRowsTask(entries, keysOfEntries, rows, 0, rows.size(), onDuplicate, isCancelled));
+    }
+
+    /**
+     * Searches for duplicates and returns all duplicate pairs found.
+     */
+    public List<List<BibEntry>> search(List<BibEntry> entries) {
+        ConcurrentLinkedQueue<List<BibEntry>> duplicates = new ConcurrentLinkedQueue<>();
+        search(entries, (first, second) -> duplicates.add(List.of(first, second)), () -> false);
+        return new ArrayList<>(duplicates);
+    }
+
+    /**
+     * A single entry of a block which has to be compared to all following entries of the same block
+     */
+    private record BlockRow(String key, List<Integer> members, int row) {
+    }
+
+    private class CompareRowsTask extends RecursiveAction {
+
+        private final List<BibEntry> entries;
+        private final List<Set<String>> keysOfEntries;
+        private final List<BlockRow> rows;
+        private final int from;
+        private final int to;
+        private final BiConsumer<BibEntry, BibEntry> onDuplicate;
+        private final BooleanSupplier isCancelled;
+
+        CompareRowsTask(List<BibEntry> entries,
+                        List<Set<String>> keysOfEntries,
+                        List<BlockRow> rows,
+                        int from,
+                        int to,
+                        BiConsumer<BibEntry, BibEntry> onDuplicate,
+                        BooleanSupplier isCancelled) {
+            this.entries = entries;
+            this.keysOfEntries = keysOfEntries;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.onDuplicate = onDuplicate;
+            this.isCancelled = isCancelled;
+        }
+
+        @Override
+        protected void compute() {
+            if ((to - from) > ROWS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CompareRowsTask(entries, keysOfEntries, rows, from, middle, onDuplicate, isCancelled),
+                        new CompareRowsTask(entries, keysOfEntries, rows, middle, to, onDuplicate, isCancelled));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                if (isCancelled.getAsBoolean()) {
+                    return;
+                }
+                compareRow(rows.get(i));
+            }
+        }
+
+        private void compareRow(BlockRow blockRow) {
+            List<Integer> members = blockRow.members();
+            int first = members.get(blockRow.row());
+            for (int j = blockRow.row() + 1; j < members.size(); j++) {
+                int second = members.get(j);
+                if (isComparedInEarlierBlock(blockRow.key(), first, second)) {
+                    continue;
+                }
+                if (duplicateCheck.isDuplicate(entries.get(first), entries.get(second), databaseMode)) {
+                    onDuplicate.accept(entries.get(first), entries.get(second));
+                }
+            }
+        }
+
+        /**
+         * A pair sharing several keys is only compared in the block with the smallest key
+         */
+        private boolean isComparedInEarlierBlock(String currentKey, int first, int second) {
+            Set<String> keysOfSecond = keysOfEntries.get(second);
+            for (String key : keysOfEntries.get(first)) {
+                if ((key.compareTo(currentKey) < 0) && keysOfSecond.contains(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
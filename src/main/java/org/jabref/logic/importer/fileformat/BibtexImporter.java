@@ -2,14 +2,18 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -17,7 +21,9 @@ import org.jabref.logic.exporter.SaveConfiguration;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.util.OS;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.logic.util.io.ByteBufferReader;
 import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.util.FileUpdateMonitor;
 
@@ -52,8 +58,32 @@ public class BibtexImporter extends Importer {
         return true;
     }
 
+    /**
+     * Reads the file without decoding it into a string first: The file is memory-mapped (read into a byte array on
+     * Windows, where a mapped file cannot be replaced while the mapping exists), the encoding is sniffed from the
+     * bytes, and the content is decoded chunk-wise while parsing. Files exceeding the size of a buffer are streamed.
+     */
     @Override
     public ParserResult importDatabase(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return importDatabaseFromStream(filePath);
+            }
+
+            ByteBuffer content;
+            if (OS.WINDOWS) {
+                content = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            } else {
+                content = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            EncodingResult result = getEncodingResult(content);
+            ParserResult parserResult = new ParallelBibtexParser(importFormatPreferences, fileMonitor).parse(content, result.encoding());
+            return completeParserResult(parserResult, filePath, result);
+        }
+    }
+
+    private ParserResult importDatabaseFromStream(Path filePath) throws IOException {
         EncodingResult result = getEncodingResult(filePath);
 
         // We replace unreadable characters
@@ -64,17 +94,21 @@ public class BibtexImporter extends Importer {
 
         try (InputStreamReader inputStreamReader = new InputStreamReader(Files.newInputStream(filePath), decoder);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            ParserResult parserResult = this.importDatabase(reader);
-            parserResult.getMetaData().setEncoding(result.encoding());
-            parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
-            parserResult.setPath(filePath);
-            if (parserResult.getMetaData().getMode().isEmpty()) {
-                parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
-            }
-            return parserResult;
+            ParserResult parserResult = new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+            return completeParserResult(parserResult, filePath, result);
         }
     }
 
+    private static ParserResult completeParserResult(ParserResult parserResult, Path filePath, EncodingResult result) {
+        parserResult.getMetaData().setEncoding(result.encoding());
+        parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
+        parserResult.setPath(filePath);
+        if (parserResult.getMetaData().getMode().isEmpty()) {
+            parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
+        }
+        return parserResult;
+    }
+
     public static Charset getEncoding(Path filePath) throws IOException {
         return getEncodingResult(filePath).encoding();
     }
@@ -100,19 +134,32 @@ public class BibtexImporter extends Importer {
             LOGGER.debug("Detected charset: {}", detectedCharset.name());
         }
 
-        Charset encoding;
-        boolean encodingExplicitlySupplied;
         try (BufferedReader reader = Files.newBufferedReader(filePath, detectedCharset)) {
-            Optional<Charset> suppliedEncoding = getSuppliedEncoding(reader);
-            LOGGER.debug("Supplied encoding: {}", suppliedEncoding);
-            encodingExplicitlySupplied = suppliedEncoding.isPresent();
+            return getEncodingResult(detectedCharset, getSuppliedEncoding(reader));
+        }
+    }
 
-            // in case no encoding information is present, use the detected one
-            encoding = suppliedEncoding.orElse(detectedCharset);
-            LOGGER.debug("Encoding used to read the file: {}", encoding);
+    /**
+     * Determines the encoding of the supplied BibTeX file content the same way as {@link #getEncodingResult(Path)} does.
+     */
+    private static EncodingResult getEncodingResult(ByteBuffer content) throws IOException {
+        byte[] head = new byte[Math.min(content.remaining(), 8192)];
+        content.duplicate().get(head);
+        Charset detectedCharset = getCharset(new BufferedInputStream(new ByteArrayInputStream(head)));
+        LOGGER.debug("Detected charset: {}", detectedCharset.name());
+
+        try (BufferedReader reader = new BufferedReader(new ByteBufferReader(content, detectedCharset.newDecoder()))) {
+            return getEncodingResult(detectedCharset, getSuppliedEncoding(reader));
         }
-        EncodingResult result = new EncodingResult(encoding, encodingExplicitlySupplied);
-        return result;
+    }
+
+    private static EncodingResult getEncodingResult(Charset detectedCharset, Optional<Charset> suppliedEncoding) {
+        LOGGER.debug("Supplied encoding: {}", suppliedEncoding);
+
+        // in case no encoding information is present, use the detected one
+        Charset encoding = suppliedEncoding.orElse(detectedCharset);
+        LOGGER.debug("Encoding used to read the file: {}", encoding);
+        return new EncodingResult(encoding, suppliedEncoding.isPresent());
     }
 
     private record EncodingResult(Charset encoding, boolean encodingExplicitlySupplied) {
@@ -124,7 +171,7 @@ public class BibtexImporter extends Importer {
      */
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        return new ParallelBibtexParser(importFormatPreferences, fileMonitor).parse(reader);
     }
 
     @Override
@@ -6,10 +6,8 @@ import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -71,16 +69,22 @@ public class BibtexParser implements Parser {
 
     private static final Integer LOOKAHEAD = 1024;
     private final FieldContentFormatter fieldContentFormatter;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
     private PushbackReader pushbackReader;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
+    private String remainingContent = "";
     private ParserResult parserResult;
     private final MetaDataParser metaDataParser;
 
+    /**
+     * The entries of a library share the instances of their fields
+     */
+    private final Map<String, Field> parsedFields = new HashMap<>();
+
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         this.fieldContentFormatter = new FieldContentFormatter(importFormatPreferences.fieldPreferences());
@@ -251,7 +255,16 @@ public class BibtexParser implements Parser {
     }
 
     private void parseRemainingContent() {
-        database.setEpilog(dumpTextReadSoFarToString().trim());
+        remainingContent = dumpTextReadSoFarToString();
+        database.setEpilog(remainingContent.trim());
+    }
+
+    /**
+     * Returns the text following the last parsed item, i.e., the epilog before it is trimmed.
+     * Used by {@link ParallelBibtexParser} to check whether a chunk ends directly after an entry.
+     */
+    String getRemainingContent() {
+        return remainingContent;
     }
 
     private void parseAndAddEntry(String type) {
@@ -394,12 +407,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String entry = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return entry;
     }
 
     /**
@@ -514,7 +524,7 @@ public class BibtexParser implements Parser {
         int character = pushbackReader.read();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -527,8 +537,9 @@ public class BibtexParser implements Parser {
             line--;
         }
         pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        int lastIndex = pureTextFromFile.length() - 1;
+        if ((lastIndex >= 0) && (pureTextFromFile.charAt(lastIndex) == character)) {
+            pureTextFromFile.setLength(lastIndex);
         }
     }
 
@@ -601,7 +612,7 @@ public class BibtexParser implements Parser {
     }
 
     private void parseField(BibEntry entry) throws IOException {
-        Field field = FieldFactory.parseField(parseTextToken().toLowerCase(Locale.ROOT));
+        Field field = parsedFields.computeIfAbsent(parseTextToken().toLowerCase(Locale.ROOT), FieldFactory::parseField);
 
         skipWhitespace();
         consume('=');
@@ -0,0 +1,446 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.Parser;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.util.io.ByteBufferReader;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.KeyCollisionException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.io.CharSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses large BibTeX files using several {@link BibtexParser}s in parallel.
+ * <p>
+ * The input is split into chunks at top-level boundaries, i.e., in front of an <code>@</code> at the beginning of a
+ * line following a closing brace or parenthesis. The chunks are parsed independently and the results are merged in
+ * the order of the input. All JabRef metadata is kept in the last chunk.
+ * <p>
+ * The result is the same as the one of {@link BibtexParser}: if any chunk reports a problem, which might be caused by
+ * a split inside an entry, if a chunk does not end with an entry, or if the chunks cannot be merged without changing the result (e.g., multiple preambles
+ * or duplicate string names), the whole input is parsed again serially. Small inputs are always parsed serially.
+ * <p>
+ * The chunks are created with the minimum chunk size and processed by the worker pool, so that only the chunks
+ * currently parsed need to be held as strings if the input is given as {@link ByteBuffer} or {@link Reader}.
+ */
+public class ParallelBibtexParser implements Parser {
+
+    public static final int DEFAULT_MINIMUM_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelBibtexParser.class);
+
+    /**
+     * {@link BibtexParser} treats this character as the end of the input
+     */
+    private static final char EOF_CHARACTER = (char) 65535;
+    private static final Pattern PREAMBLE = Pattern.compile("@\\s*preamble", Pattern.CASE_INSENSITIVE);
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final FileUpdateMonitor fileMonitor;
+    private final int minimumChunkSize;
+    private final ForkJoinPool pool;
+
+    public ParallelBibtexParser(ImportFormatPreferences importFormatPreferences) {
+        this(importFormatPreferences, new DummyFileUpdateMonitor());
+    }
+
+    public ParallelBibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, DEFAULT_MINIMUM_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param minimumChunkSize the minimal number of characters (or bytes) a chunk has; inputs smaller than twice this size are parsed serially
+     */
+    public ParallelBibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, int minimumChunkSize, ForkJoinPool pool) {
+        this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.fileMonitor = Objects.requireNonNull(fileMonitor);
+        this.minimumChunkSize = Math.max(1, minimumChunkSize);
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    @Override
+    public List<BibEntry> parseEntries(InputStream inputStream) throws ParseException {
+        try {
+            return parse(Importer.getReader(inputStream)).getDatabase().getEntries();
+        } catch (IOException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    /**
+     * Parses BibTeX data found when reading from reader. The reader will be consumed completely before parsing starts.
+     * The content is kept in blocks of characters instead of a single string, so that it is not copied as a whole;
+     * only the chunks currently parsed are held as strings in addition.
+     */
+    public ParserResult parse(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        CharBlocks content = CharBlocks.read(in);
+        return parse(content, content::substring, () -> CharSource.wrap(content).openStream());
+    }
+
+    public ParserResult parse(String content) throws IOException {
+        Objects.requireNonNull(content);
+        return parse(content, content::substring, () -> new StringReader(content));
+    }
+
+    /**
+     * Parses BibTeX data encoded in the given buffer, e.g., a memory-mapped file. Each chunk is decoded right before it
+     * is parsed, thus the whole content is never held in memory as string. Malformed input is replaced.
+     * <p>
+     * Splitting is only possible for encodings in which the characters marking a boundary cannot be part of a multibyte
+     * sequence, i.e., UTF-8 and encodings using a single byte per character. Other encodings are parsed serially.
+     *
+     * @param content the bytes between the position and the limit of the buffer are parsed; the buffer itself is not modified
+     */
+    public ParserResult parse(ByteBuffer content, Charset charset) throws IOException {
+        ByteBuffer bytes = content.slice();
+        if (!isSplittable(charset)) {
+            return parseSerially(new ByteBufferReader(bytes, newDecoder(charset)));
+        }
+        return parse(
+                new SingleByteView(bytes),
+                (start, end) -> newDecoder(charset).decode(bytes.slice(start, end - start)).toString(),
+                () -> new ByteBufferReader(bytes, newDecoder(charset)));
+    }
+
+    private ParserResult parse(CharSequence content, ChunkDecoder chunkDecoder, Supplier<Reader> contentReader) throws IOException {
+        List<Integer> boundaries = getBoundaries(content);
+        if (boundaries.size() < 3) {
+            return parseSerially(contentReader.get());
+        }
+
+        List<ForkJoinTask<ChunkResult>> tasks = new ArrayList<>(boundaries.size() - 1);
+        for (int i = 0; i < (boundaries.size() - 1); i++) {
+            int start = boundaries.get(i);
+            int end = boundaries.get(i + 1);
+            // the chunk is decoded by the task, so that only the chunks currently parsed are held as string
+            tasks.add(pool.submit(() -> parseChunk(chunkDecoder.decode(start, end))));
+        }
+
+        List<ChunkResult> results = new ArrayList<>(tasks.size());
+        try {
+            for (ForkJoinTask<ChunkResult> task : tasks) {
+                results.add(task.get());
+            }
+        } catch (InterruptedException e) {
+            tasks.forEach(task -> task.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Parsing was interrupted");
+        } catch (ExecutionException e) {
+            LOGGER.debug("Could not parse chunk, parsing serially", e.getCause());
+            return parseSerially(contentReader.get());
+        }
+
+        Optional<ParserResult> mergedResult = merge(results);
+        if (mergedResult.isEmpty()) {
+            LOGGER.debug("Could not merge chunks, parsing serially");
+            return parseSerially(contentReader.get());
+        }
+        return mergedResult.get();
+    }
+
+    /**
+     * Determines the positions at which the content is split into chunks of at least the minimum chunk size.
+     * Only the content in front of the first JabRef metadata block is split, so that all metadata is parsed at once.
+     *
+     * @return the start positions of the chunks followed by the length of the content
+     */
+    List<Integer> getBoundaries(CharSequence content) {
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+
+        int limit = content.length();
+        for (String flag : List.of(MetaData.META_FLAG, MetaData.ENTRYTYPE_FLAG)) {
+            int index = indexOf(content, flag);
+            if (index >= 0) {
+                limit = Math.min(limit, index);
+            }
+        }
+
+        int start = 0;
+        while ((content.length() - start) >= (2L * minimumChunkSize)) {
+            int boundary = findBoundary(content, start, start + minimumChunkSize, limit);
+            if (boundary < 0) {
+                break;
+            }
+            boundaries.add(boundary);
+            start = boundary;
+        }
+
+        boundaries.add(content.length());
+        return boundaries;
+    }
+
+    /**
+     * Finds the next position in front of an <code>@</code> at the beginning of a line, where the preceding
+     * non-whitespace character is a closing brace or parenthesis. The position is placed behind the line break
+     * consumed by {@link BibtexParser} after an entry, so that the parsed serialization of the entries does not depend
+     * on where parsing started. Whether the closing character actually ends a top-level item is checked after parsing.
+     *
+     * @return the position, or -1 if there is none in front of the limit
+     */
+    private static int findBoundary(CharSequence content, int start, int from, int limit) {
+        for (int index = from; (index + 1) < limit; index++) {
+            if ((content.charAt(index) != '\n') || (content.charAt(index + 1) != '@')) {
+                continue;
+            }
+            int closing = index;
+            while ((closing > start) && Character.isWhitespace(content.charAt(closing - 1))) {
+                closing--;
+            }
+            if ((closing > start) && ((content.charAt(closing - 1) == '}') || (content.charAt(closing - 1) == ')'))) {
+                return skipOneNewline(content, closing);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips spaces and one line break the same way {@link BibtexParser} does after having parsed an entry
+     */
+    private static int skipOneNewline(CharSequence content, int position) {
+        while (content.charAt(position) == ' ') {
+            position++;
+        }
+        if (content.charAt(position) == '\r') {
+            position++;
+        }
+        if (content.charAt(position) == '\n') {
+            position++;
+        }
+        return position;
+    }
+
+    private static int indexOf(CharSequence content, String text) {
+        if (content instanceof String string) {
+            return string.indexOf(text);
+        }
+        for (int index = 0; index <= (content.length() - text.length()); index++) {
+            int matched = 0;
+            while ((matched < text.length()) && (content.charAt(index + matched) == text.charAt(matched))) {
+                matched++;
+            }
+            if (matched == text.length()) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSplittable(Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return true;
+        }
+        // single byte encodings have to map the ASCII characters searched for to their ASCII codes
+        String boundaryCharacters = "@{}()\r\n\t " + MetaData.META_FLAG + MetaData.ENTRYTYPE_FLAG;
+        return charset.canEncode()
+                && (charset.newEncoder().maxBytesPerChar() == 1.0f)
+                && Arrays.equals(boundaryCharacters.getBytes(charset), boundaryCharacters.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static CharsetDecoder newDecoder(Charset charset) {
+        return charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE);
+    }
+
+    private ChunkResult parseChunk(String chunk) throws IOException {
+        BibtexParser parser = new BibtexParser(importFormatPreferences, fileMonitor);
+        ParserResult result = parser.parse(new StringReader(chunk));
+        return new ChunkResult(
+                result,
+                !parser.getRemainingContent().isEmpty(),
+                PREAMBLE.matcher(chunk).find(),
+                chunk.indexOf(EOF_CHARACTER) >= 0);
+    }
+
+    /**
+     * Merges the results of the chunks into the result of the first chunk.
+     *
+     * @return the merged result, or an empty optional if the merged result could differ from the one of a serial parse
+     */
+    private Optional<ParserResult> merge(List<ChunkResult> results) {
+        List<ChunkResult> leadingChunks = results.subList(0, results.size() - 1);
+        if (results.stream().anyMatch(chunk -> chunk.result().hasWarnings() || chunk.containsEndOfInput())
+                // text after the last item of a chunk belongs to the first entry of the next chunk in a serial parse
+                || leadingChunks.stream().anyMatch(ChunkResult::hasRemainingContent)
+                // metadata has to be parsed at once
+                || leadingChunks.stream().anyMatch(chunk -> !chunk.result().getMetaData().isEmpty() || !chunk.result().getEntryTypes().isEmpty())
+                || (results.stream().filter(ChunkResult::containsPreamble).count() > 1)) {
+            return Optional.empty();
+        }
+
+        ParserResult mergedResult = results.getFirst().result();
+        BibDatabase database = mergedResult.getDatabase();
+        for (ChunkResult chunk : results.subList(1, results.size())) {
+            BibDatabase chunkDatabase = chunk.result().getDatabase();
+            List<BibEntry> entries = new ArrayList<>(chunkDatabase.getEntries());
+            // the entries are moved to the merged database and must not notify the database of the chunk anymore
+            entries.forEach(chunkDatabase::detachEntry);
+            database.insertEntries(entries);
+
+            for (BibtexString string : chunkDatabase.getStringValues()) {
+                try {
+                    database.addString(string);
+                } catch (KeyCollisionException e) {
+                    // the serial parser reports duplicate string names as a warning
+                    return Optional.empty();
+                }
+            }
+
+            if (chunk.containsPreamble()) {
+                database.setPreamble(chunkDatabase.getPreamble().orElse(""));
+            }
+        }
+
+        ParserResult lastResult = results.getLast().result();
+        database.setEpilog(lastResult.getDatabase().getEpilog());
+        mergedResult.setMetaData(lastResult.getMetaData());
+        mergedResult.getEntryTypes().addAll(lastResult.getEntryTypes());
+        return Optional.of(mergedResult);
+    }
+
+    private ParserResult parseSerially(Reader reader) throws IOException {
+        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+    }
+
+    @FunctionalInterface
+    private interface ChunkDecoder {
+        String decode(int start, int end) throws IOException;
+    }
+
+    /**
+     * @param containsEndOfInput whether the chunk contains the character {@link BibtexParser} treats as end of the input
+     */
+    private record ChunkResult(ParserResult result, boolean hasRemainingContent, boolean containsPreamble, boolean containsEndOfInput) {
+    }
+
+    /**
+     * Characters read from a {@link Reader}, stored in blocks of fixed size to avoid copying when the content grows
+     */
+    private static final class CharBlocks implements CharSequence {
+
+        private static final int BLOCK_SHIFT = 16;
+        private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+        private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+        private final List<char[]> blocks;
+        private final int length;
+
+        private CharBlocks(List<char[]> blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+        }
+
+        static CharBlocks read(Reader in) throws IOException {
+            List<char[]> blocks = new ArrayList<>();
+            long length = 0;
+            char[] block = new char[BLOCK_SIZE];
+            int filled = 0;
+            int read;
+            while ((read = in.read(block, filled, BLOCK_SIZE - filled)) != -1) {
+                filled += read;
+                length += read;
+                if (length > Integer.MAX_VALUE) {
+                    throw new IOException("Input is too large to be parsed");
+                }
+                if (filled == BLOCK_SIZE) {
+                    blocks.add(block);
+                    block = new char[BLOCK_SIZE];
+                    filled = 0;
+                }
+            }
+            if (filled > 0) {
+                blocks.add(Arrays.copyOf(block, filled));
+            }
+            return new CharBlocks(blocks, (int) length);
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return blocks.get(index >>> BLOCK_SHIFT)[index & BLOCK_MASK];
+        }
+
+        String substring(int start, int end) {
+            StringBuilder builder = new StringBuilder(end - start);
+            int position = start;
+            while (position < end) {
+                int offset = position & BLOCK_MASK;
+                int count = Math.min(end - position, BLOCK_SIZE - offset);
+                builder.append(blocks.get(position >>> BLOCK_SHIFT), offset, count);
+                position += count;
+            }
+            return builder.toString();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return substring(0, length);
+        }
+    }
+
+    /**
+     * Character view on encoded bytes, mapping each byte to one character. Used to find chunk boundaries without
+     * decoding the content, which works for ASCII characters in all encodings accepted by {@link #isSplittable(Charset)}.
+     */
+    private record SingleByteView(ByteBuffer bytes) implements CharSequence {
+
+        @Override
+        public int length() {
+            return bytes.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new SingleByteView(bytes.slice(start, end - start));
+        }
+
+        @Override
+        public String toString() {
+            return StandardCharsets.ISO_8859_1.decode(bytes.duplicate()).toString();
+        }
+    }
+}
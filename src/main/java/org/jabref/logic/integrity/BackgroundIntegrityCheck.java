@@ -0,0 +1,255 @@
+package org.jabref.logic.integrity;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.EntryIndexes;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
+import org.jabref.model.entry.field.InternalField;
+
+import com.google.common.eventbus.Subscribe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the integrity messages of a library up to date while its entries are edited.
+ * <p>
+ * Added and changed entries are collected and checked using {@link IntegrityCheck#checkEntry(BibEntry)} as soon as
+ * the changes pause for the given delay. The entries are checked on a single thread with low priority, thus editing is
+ * not slowed down. When the check is started, all entries are checked once.
+ * <p>
+ * If the citation key of an entry changes, the entries having the old or the new key are checked again as well, as
+ * their duplicate key messages may change. Entries linking to the changed key are not checked again.
+ * <p>
+ * The messages of all entries form the current problem set of the library, which is available through
+ * {@link #getMessages()} without checking the library again. As unchanged entries are not checked again, messages
+ * depending on the file system or on other entries may be outdated until {@link #checkAll} is called.
+ */
+public class BackgroundIntegrityCheck {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackgroundIntegrityCheck.class);
+
+    private final IntegrityCheck integrityCheck;
+    private final BibDatabase database;
+    private final long delayMillis;
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * Only one thread checks the pending entries at a time
+     */
+    private final Object checkLock = new Object();
+
+    /**
+     * The entries of the library
+     */
+    private final Set<BibEntry> entries = EntryIndexes.newIdentitySet();
+    private final Set<BibEntry> pendingEntries = EntryIndexes.newIdentitySet();
+    private final Map<BibEntry, List<IntegrityMessage>> messagesByEntry = new IdentityHashMap<>();
+    private List<IntegrityMessage> databaseMessages = List.of();
+    private ScheduledFuture<?> scheduledCheck;
+
+    /**
+     * @param delayMillis the time to wait for further changes before checking the changed entries
+     */
+    public BackgroundIntegrityCheck(IntegrityCheck integrityCheck, BibDatabase database, long delayMillis) {
+        this.integrityCheck = integrityCheck;
+        this.database = database;
+        this.delayMillis = delayMillis;
+
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "JabRef background integrity check");
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+        database.registerListener(this);
+        synchronized (this) {
+            entries.addAll(database.getEntries());
+            pendingEntries.addAll(entries);
+            scheduleCheck(0);
+        }
+    }
+
+    /**
+     * Returns the current messages of the library in the order of the entries. Entries changed within the last moments
+     * may not be checked yet.
+     */
+    public List<IntegrityMessage> getMessages() {
+        List<BibEntry> entriesInOrder = List.copyOf(database.getEntries());
+        synchronized (this) {
+            List<IntegrityMessage> messages = new ArrayList<>();
+            for (BibEntry entry : entriesInOrder) {
+                messages.addAll(messagesByEntry.getOrDefault(entry, List.of()));
+            }
+            messages.addAll(databaseMessages);
+            return messages;
+        }
+    }
+
+    /**
+     * Checks the pending entries on the calling thread and returns the current messages of the library
+     */
+    public List<IntegrityMessage> getUpToDateMessages() {
+        checkPendingEntries(false, (checkedEntries, allEntries) -> {
+        }, () -> false);
+        return getMessages();
+    }
+
+    /**
+     * Checks all entries of the library in parallel on the calling thread and returns the current messages of the
+     * library. In contrast to {@link #getUpToDateMessages()}, the messages of unchanged entries are updated as well:
+     * the checkers depending on the file system or on other entries (e.g., a linked file was deleted or a crossref
+     * parent was changed) are run again, while the results of the other checkers are taken from the cache of the
+     * {@link IntegrityCheck}.
+     *
+     * @param progress    gets the number of checked entries and the number of entries to check after each entry
+     * @param isCancelled asked before each entry. Once it returns <code>true</code>, the remaining entries stay pending.
+     */
+    public List<IntegrityMessage> checkAll(BiConsumer<Integer, Integer> progress, BooleanSupplier isCancelled) {
+        synchronized (this) {
+            pendingEntries.addAll(entries);
+        }
+        checkPendingEntries(true, progress, isCancelled);
+        return getMessages();
+    }
+
+    /**
+     * Returns whether there are changed entries which are not checked yet
+     */
+    public synchronized boolean hasPendingEntries() {
+        return !pendingEntries.isEmpty();
+    }
+
+    public void shutdown() {
+        database.unregisterListener(this);
+        executor.shutdownNow();
+    }
+
+    @Subscribe
+    public void listen(EntriesEvent event) {
+        synchronized (this) {
+            if (event instanceof EntriesRemovedEvent) {
+                for (BibEntry entry : event.getBibEntries()) {
+                    entries.remove(entry);
+                    pendingEntries.remove(entry);
+                    messagesByEntry.remove(entry);
+                    entry.getCitationKey().ifPresent(this::addEntriesWithCitationKey);
+                }
+            } else {
+                for (BibEntry entry : event.getBibEntries()) {
+                    entries.add(entry);
+                    pendingEntries.add(entry);
+                }
+                addEntriesWithChangedCitationKeys(event);
+            }
+            scheduleCheck(delayMillis);
+        }
+    }
+
+    private void addEntriesWithChangedCitationKeys(EntriesEvent event) {
+        List<FieldChangedEvent> fieldChangedEvents = List.of();
+        if (event instanceof FieldChangedEvent fieldChangedEvent) {
+            fieldChangedEvents = List.of(fieldChangedEvent);
+        } else if (event instanceof FieldsChangedBatchEvent batchEvent) {
+            fieldChangedEvents = batchEvent.getFieldChangedEvents();
+        }
+        for (FieldChangedEvent fieldChangedEvent : fieldChangedEvents) {
+            if (InternalField.KEY_FIELD.equals(fieldChangedEvent.getField())) {
+                addEntriesWithCitationKey(fieldChangedEvent.getOldValue());
+                addEntriesWithCitationKey(fieldChangedEvent.getNewValue());
+            }
+        }
+    }
+
+    private void addEntriesWithCitationKey(String citationKey) {
+        if ((citationKey != null) && !citationKey.isEmpty()) {
+            pendingEntries.addAll(database.getEntriesByCitationKey(citationKey));
+        }
+    }
+
+    /**
+     * Schedules the check of the pending entries after the given delay, replacing a check scheduled before
+     */
+    private void scheduleCheck(long delay) {
+        if ((scheduledCheck != null) && !scheduledCheck.isDone()) {
+            scheduledCheck.cancel(false);
+        }
+        if (!executor.isShutdown()) {
+            scheduledCheck = executor.schedule(this::checkPendingEntriesInBackground, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void checkPendingEntriesInBackground() {
+        try {
+            checkPendingEntries(false, (checkedEntries, allEntries) -> {
+            }, () -> false);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not check the integrity of the changed entries", e);
+        }
+    }
+
+    private void checkPendingEntries(boolean inParallel, BiConsumer<Integer, Integer> progress, BooleanSupplier isCancelled) {
+        synchronized (checkLock) {
+            List<BibEntry> entriesToCheck;
+            synchronized (this) {
+                entriesToCheck = new ArrayList<>(pendingEntries);
+                pendingEntries.clear();
+            }
+
+            AtomicInteger checkedEntries = new AtomicInteger();
+            Stream<BibEntry> entryStream = inParallel ? entriesToCheck.parallelStream() : entriesToCheck.stream();
+            List<CheckResult> results = entryStream.map(entry -> {
+                if (isCancelled.getAsBoolean()) {
+                    return new CheckResult(entry, Optional.empty());
+                }
+                List<IntegrityMessage> messages = integrityCheck.checkEntry(entry);
+                progress.accept(checkedEntries.incrementAndGet(), entriesToCheck.size());
+                return new CheckResult(entry, Optional.of(messages));
+            }).toList();
+            List<IntegrityMessage> newDatabaseMessages = integrityCheck.checkDatabase(database);
+
+            synchronized (this) {
+                for (CheckResult result : results) {
+                    BibEntry entry = result.entry();
+                    // Removed entries are dropped, entries changed meanwhile are checked again anyway
+                    if (!entries.contains(entry) || pendingEntries.contains(entry)) {
+                        continue;
+                    }
+                    result.messages().ifPresentOrElse(messages -> {
+                        if (messages.isEmpty()) {
+                            messagesByEntry.remove(entry);
+                        } else {
+                            messagesByEntry.put(entry, List.copyOf(messages));
+                        }
+                    }, () -> pendingEntries.add(entry));
+                }
+                databaseMessages = newDatabaseMessages;
+            }
+        }
+    }
+
+    /**
+     * @param messages empty if the entry was skipped, as the check was cancelled
+     */
+    private record CheckResult(BibEntry entry, Optional<List<IntegrityMessage>> messages) {
+    }
+}
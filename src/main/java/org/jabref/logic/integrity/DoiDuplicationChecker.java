@@ -26,10 +26,18 @@ public class DoiDuplicationChecker implements DatabaseChecker {
                     duplicateMap.computeIfAbsent(doi, absentDoi -> new ArrayList<>()).add(bibEntry));
         }
 
-        return duplicateMap.inverse().keySet().stream()
-                           .filter(list -> list.size() > 1)
-                           .flatMap(list -> list.stream())
-                           .map(item -> new IntegrityMessage(Localization.lang("Same DOI used in multiple entries"), item, StandardField.DOI))
-                           .collect(Collectors.toList());
+        return toMessages(duplicateMap.inverse().keySet().stream()
+                                      .filter(list -> list.size() > 1)
+                                      .toList());
+    }
+
+    /**
+     * Creates the messages for the given groups of entries sharing a DOI, e.g., as maintained by an {@link IntegrityCheckCache}
+     */
+    static List<IntegrityMessage> toMessages(List<List<BibEntry>> entriesSharingDoi) {
+        return entriesSharingDoi.stream()
+                                .flatMap(list -> list.stream())
+                                .map(item -> new IntegrityMessage(Localization.lang("Same DOI used in multiple entries"), item, StandardField.DOI))
+                                .collect(Collectors.toList());
     }
 }
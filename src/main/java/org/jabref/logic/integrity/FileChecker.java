@@ -4,10 +4,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.io.FileCatalogManager;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.strings.StringUtil;
@@ -34,9 +36,13 @@ public class FileChecker implements ValueChecker {
                 .filter(file -> !file.isOnlineLink())
                 .collect(Collectors.toList());
 
+        // If the file directories are cataloged already, the files are looked up in the catalog instead of the file system
+        Predicate<Path> fileExists = FileCatalogManager.getOpenCatalog(context)
+                                                       .<Predicate<Path>>map(catalog -> catalog::exists)
+                                                       .orElse(Files::exists);
         for (LinkedFile file : linkedFiles) {
-            Optional<Path> linkedFile = file.findIn(context, filePreferences);
-            if ((!linkedFile.isPresent()) || !Files.exists(linkedFile.get())) {
+            Optional<Path> linkedFile = file.findIn(context.getFileDirectories(filePreferences), fileExists);
+            if ((!linkedFile.isPresent()) || !fileExists.test(linkedFile.get())) {
                 return Optional.of(Localization.lang("link should refer to a correct file path"));
             }
         }
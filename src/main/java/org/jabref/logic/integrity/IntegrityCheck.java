@@ -1,23 +1,59 @@
 package org.jabref.logic.integrity;
 
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.journals.predatory.PredatoryJournalRepository;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.FilePreferences;
 
+/**
+ * Checks the entries of a library using all field and entry checkers.
+ * <p>
+ * The results of the checkers which only look at the entry itself are kept in an {@link IntegrityCheckCache}. Thus,
+ * running the check again only checks the entries changed since. The checkers which depend on other entries (e.g.,
+ * the duplicated citation keys) or on the file system are run on each check, they use the indexes of the library. The
+ * entries are checked in parallel.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
-    private final List<EntryChecker> entryCheckers;
+    private final IntegrityCheckCache cache;
+    private final BibDatabaseMode mode;
+    private final Charset encoding;
+    private final boolean allowIntegerEdition;
+    private final JournalAbbreviationRepository journalAbbreviationRepository;
+    private final PredatoryJournalRepository predatoryJournalRepository;
+
+    /**
+     * The checkers whose results only depend on the entry itself and are thus cached
+     */
+    private final List<EntryChecker> entryCheckers = new ArrayList<>();
+
+    /**
+     * The checkers whose results depend on other entries or the file system. They are not cached:
+     * <ul>
+     *     <li>the linked files may be created or deleted at any time without the library noticing,</li>
+     *     <li>the entry link and duplicated key checkers only look up the citation keys in the index of the library,</li>
+     *     <li>the generated key depends on the crossref parent, the strings, the citation keys of all entries and the
+     *     key pattern preferences, which may change without an event of the library.</li>
+     * </ul>
+     * Their cost when checking an unchanged library is measured by {@code IntegrityCheckBenchmark}.
+     */
+    private final List<EntryChecker> contextCheckers = new ArrayList<>();
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -25,21 +61,57 @@ public class IntegrityCheck {
                           JournalAbbreviationRepository journalAbbreviationRepository,
                           PredatoryJournalRepository predatoryJournalRepository,
                           boolean allowIntegerEdition) {
+        this(bibDatabaseContext,
+                filePreferences,
+                citationKeyPatternPreferences,
+                journalAbbreviationRepository,
+                predatoryJournalRepository,
+                allowIntegerEdition,
+                new IntegrityCheckCache(bibDatabaseContext.getDatabase()));
+    }
+
+    /**
+     * @param cache the cache of the results of the given library, it may be shared by several integrity checks
+     */
+    public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
+                          FilePreferences filePreferences,
+                          CitationKeyPatternPreferences citationKeyPatternPreferences,
+                          JournalAbbreviationRepository journalAbbreviationRepository,
+                          PredatoryJournalRepository predatoryJournalRepository,
+                          boolean allowIntegerEdition,
+                          IntegrityCheckCache cache) {
         this.bibDatabaseContext = bibDatabaseContext;
+        this.cache = cache;
+
+        this.mode = bibDatabaseContext.getMode();
+        this.encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        this.allowIntegerEdition = allowIntegerEdition;
+        this.journalAbbreviationRepository = journalAbbreviationRepository;
+        this.predatoryJournalRepository = predatoryJournalRepository;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
+        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+            // The linked files may be created or deleted at any time
+            if (StandardField.FILE == fieldChecker.field) {
+                contextCheckers.add(fieldChecker);
+            } else {
+                entryCheckers.add(fieldChecker);
+            }
+        }
+
+        contextCheckers.addAll(List.of(
+                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
+                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase())));
 
-        entryCheckers = new ArrayList<>(List.of(
+        entryCheckers.addAll(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository),
@@ -47,7 +119,7 @@ public class IntegrityCheck {
                         List.of(StandardField.JOURNAL, StandardField.PUBLISHER, StandardField.BOOKTITLE))
                 ));
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
+            entryCheckers.add(new UTF8Checker(encoding));
         } else {
             entryCheckers.addAll(List.of(
                     new ASCIICharacterChecker(),
@@ -57,37 +129,97 @@ public class IntegrityCheck {
         }
     }
 
-    List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+    /**
+     * Checks all entries of the library in parallel. The messages are ordered by the entries of the library followed
+     * by the messages concerning the whole library.
+     */
+    public List<IntegrityMessage> check() {
+        return check((checkedEntries, allEntries) -> {
+        }, () -> false);
+    }
 
+    /**
+     * Checks all entries of the library in parallel and reports the progress.
+     *
+     * @param progress    gets the number of checked entries and the number of all entries after each entry
+     * @param isCancelled asked before each entry. Once it returns <code>true</code>, the remaining entries are skipped.
+     */
+    public List<IntegrityMessage> check(BiConsumer<Integer, Integer> progress, BooleanSupplier isCancelled) {
         BibDatabase database = bibDatabaseContext.getDatabase();
-
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        List<BibEntry> entries = List.copyOf(database.getEntries());
+        Configuration configuration = getConfiguration();
+        AtomicInteger checkedEntries = new AtomicInteger();
+
+        List<IntegrityMessage> result = entries.parallelStream()
+                                               .flatMap(entry -> {
+                                                   if (isCancelled.getAsBoolean()) {
+                                                       return Stream.empty();
+                                                   }
+                                                   List<IntegrityMessage> messages = checkEntry(entry, configuration);
+                                                   progress.accept(checkedEntries.incrementAndGet(), entries.size());
+                                                   return messages.stream();
+                                               })
+                                               .collect(Collectors.toCollection(ArrayList::new));
         result.addAll(checkDatabase(database));
 
         return result;
     }
 
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
+        return checkEntry(entry, getConfiguration());
+    }
+
+    private List<IntegrityMessage> checkEntry(BibEntry entry, Configuration configuration) {
         List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
-        }
+        result.addAll(cache.getOrCheck(entry, configuration, this::checkEntryItself));
 
-        for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+        for (EntryChecker contextChecker : contextCheckers) {
+            result.addAll(contextChecker.check(entry));
         }
 
         return result;
     }
 
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
+        if (database == bibDatabaseContext.getDatabase()) {
+            return DoiDuplicationChecker.toMessages(cache.getEntriesSharingDoi());
+        }
         return new DoiDuplicationChecker().check(database);
     }
+
+    private List<IntegrityMessage> checkEntryItself(BibEntry entry) {
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (EntryChecker entryChecker : entryCheckers) {
+            result.addAll(entryChecker.check(entry));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current configuration. The custom journal abbreviations may change at any time, thus the
+     * configuration is determined for each check.
+     */
+    private Configuration getConfiguration() {
+        return new Configuration(mode,
+                encoding,
+                allowIntegerEdition,
+                journalAbbreviationRepository,
+                journalAbbreviationRepository.getModificationCount(),
+                predatoryJournalRepository);
+    }
+
+    /**
+     * The settings the cached results depend on. Results computed with another configuration are not reused.
+     */
+    record Configuration(BibDatabaseMode mode,
+                         Charset encoding,
+                         boolean allowIntegerEdition,
+                         JournalAbbreviationRepository journalAbbreviationRepository,
+                         int journalAbbreviationsModificationCount,
+                         PredatoryJournalRepository predatoryJournalRepository) {
+    }
 }
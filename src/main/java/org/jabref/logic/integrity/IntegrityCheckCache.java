@@ -0,0 +1,137 @@
+package org.jabref.logic.integrity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.EntryIndexes;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.identifier.DOI;
+
+/**
+ * Keeps the results of the integrity checks of the entries of a library between two runs of the {@link IntegrityCheck}.
+ * <p>
+ * The messages of the checkers which only look at the entry itself are stored per entry together with a hash of the
+ * entry content and the configuration of the checkers. They are dropped when the entry is changed (announced by an
+ * {@link EntriesEvent}). If the content hash or the configuration differs nevertheless, the entry is checked again as
+ * well. Thus, a check after a few edits only checks the edited entries.
+ * <p>
+ * Additionally, the DOIs of the entries are indexed, so that entries sharing a DOI are known without parsing the DOIs
+ * of all entries again.
+ * <p>
+ * The cache listens to the database as long as it is referenced.
+ */
+public class IntegrityCheckCache {
+
+    private final Set<BibEntry> entries = EntryIndexes.newIdentitySet();
+    private final Map<BibEntry, CachedResult> results = new IdentityHashMap<>();
+    private final Map<BibEntry, DOI> doiByEntry = new IdentityHashMap<>();
+    private final Map<DOI, List<BibEntry>> entriesByDoi = new HashMap<>();
+    private final Set<DOI> sharedDois = new LinkedHashSet<>();
+
+    public IntegrityCheckCache(BibDatabase database) {
+        EntryIndexes.listenWhileReferenced(database, this, IntegrityCheckCache::listen);
+        synchronized (this) {
+            for (BibEntry entry : database.getEntries()) {
+                entries.add(entry);
+                indexDoi(entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached messages of the given entry if they are still valid. Otherwise, the entry is checked using the
+     * given checker and the result is cached.
+     * <p>
+     * The checker is run without holding the lock, thus several entries can be checked in parallel.
+     */
+    List<IntegrityMessage> getOrCheck(BibEntry entry, IntegrityCheck.Configuration configuration, Function<BibEntry, List<IntegrityMessage>> checker) {
+        // Computed before checking: if the entry changes while being checked, the hash does not match afterwards
+        int contentHash = entry.hashCode();
+        synchronized (this) {
+            CachedResult cachedResult = results.get(entry);
+            if ((cachedResult != null) && (cachedResult.contentHash() == contentHash) && cachedResult.configuration().equals(configuration)) {
+                return cachedResult.messages();
+            }
+        }
+
+        List<IntegrityMessage> messages = List.copyOf(checker.apply(entry));
+        synchronized (this) {
+            // Entries which are not (or no longer) part of the library are not cached, as no event would remove them
+            if (entries.contains(entry)) {
+                results.put(entry, new CachedResult(configuration, contentHash, messages));
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Returns the groups of entries having the same DOI. Each group contains at least two entries.
+     */
+    public synchronized List<List<BibEntry>> getEntriesSharingDoi() {
+        List<List<BibEntry>> entriesSharingDoi = new ArrayList<>(sharedDois.size());
+        for (DOI doi : sharedDois) {
+            entriesSharingDoi.add(List.copyOf(entriesByDoi.get(doi)));
+        }
+        return entriesSharingDoi;
+    }
+
+    /**
+     * Returns the number of entries whose check results are cached
+     */
+    public synchronized int size() {
+        return results.size();
+    }
+
+    private synchronized void listen(EntriesEvent event) {
+        boolean areRemovedEntries = event instanceof EntriesRemovedEvent;
+        for (BibEntry entry : event.getBibEntries()) {
+            results.remove(entry);
+            if (areRemovedEntries) {
+                entries.remove(entry);
+                unindexDoi(entry);
+            } else {
+                entries.add(entry);
+                indexDoi(entry);
+            }
+        }
+    }
+
+    private void indexDoi(BibEntry entry) {
+        unindexDoi(entry);
+        entry.getDOI().ifPresent(doi -> {
+            doiByEntry.put(entry, doi);
+            List<BibEntry> entriesWithDoi = entriesByDoi.computeIfAbsent(doi, key -> new ArrayList<>(1));
+            entriesWithDoi.add(entry);
+            if (entriesWithDoi.size() > 1) {
+                sharedDois.add(doi);
+            }
+        });
+    }
+
+    private void unindexDoi(BibEntry entry) {
+        DOI doi = doiByEntry.remove(entry);
+        if (doi == null) {
+            return;
+        }
+        List<BibEntry> entriesWithDoi = entriesByDoi.get(doi);
+        entriesWithDoi.removeIf(entryWithDoi -> entryWithDoi == entry);
+        if (entriesWithDoi.size() < 2) {
+            sharedDois.remove(doi);
+        }
+        if (entriesWithDoi.isEmpty()) {
+            entriesByDoi.remove(doi);
+        }
+    }
+
+    private record CachedResult(IntegrityCheck.Configuration configuration, int contentHash, List<IntegrityMessage> messages) {
+    }
+}
@@ -43,7 +43,8 @@ public class JournalAbbreviationLoader {
                 Path tempDir = Files.createTempDirectory("jabref-journal");
                 Path tempJournalList = tempDir.resolve("journal-list.mv");
                 Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList);
+                // The copy stays open for lookups, thus the built-in list is not read into memory
+                repository = new JournalAbbreviationRepository(tempJournalList, true);
                 tempDir.toFile().deleteOnExit();
                 tempJournalList.toFile().deleteOnExit();
             }
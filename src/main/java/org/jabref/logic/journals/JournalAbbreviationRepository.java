@@ -1,50 +1,114 @@
 package org.jabref.logic.journals;
 
 import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in journal list is either read into memory or, if the list is opened memory-mapped, looked up in the MV
+ * file on each request. The latter requires the lookup maps written by {@link #writeLookupMaps(MVStore)}. Reads of an
+ * MV file do not lock, thus lookups can be done in parallel in both modes.
+ * <p>
+ * Custom abbreviations are indexed by the lower-case variants of their names, so that they are found without comparing
+ * the name with each custom abbreviation. Adding custom abbreviations publishes a new immutable index, thus they may
+ * be added while other threads look up names.
  */
-public class JournalAbbreviationRepository {
+public class JournalAbbreviationRepository implements AutoCloseable {
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
-    private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationRepository.class);
+
+    private static final String FULL_TO_ABBREVIATION_MAP = "FullToAbbreviation";
+    private static final String ABBREVIATION_TO_FULL_MAP = "AbbreviationToFull";
+    private static final String DOTLESS_TO_FULL_MAP = "DotlessToFull";
+    private static final String SHORTEST_UNIQUE_TO_FULL_MAP = "ShortestUniqueToFull";
+
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, Abbreviation> abbreviationToAbbreviationObject;
+    private final Map<String, Abbreviation> dotlessToAbbreviationObject;
+    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject;
+    /**
+     * Replaced as a whole on each change, guarded by this
+     */
+    private volatile CustomAbbreviations customAbbreviations = CustomAbbreviations.EMPTY;
+
+    /**
+     * Counts the changes of the custom abbreviations
+     */
+    private volatile int modificationCount;
+
+    /**
+     * The store of the journal list if it is opened memory-mapped
+     */
+    private final MVStore store;
 
     /**
      * Initializes the internal data based on the abbreviations found in the given MV file
      */
     public JournalAbbreviationRepository(Path journalList) {
+        this(journalList, false);
+    }
+
+    /**
+     * @param memoryMapped whether the journal list is kept in the memory-mapped MV file instead of being read into
+     *                     memory. If the file does not contain the lookup maps, it is read into memory anyway.
+     */
+    public JournalAbbreviationRepository(Path journalList, boolean memoryMapped) {
+        MVStore mappedStore = null;
+        if (memoryMapped) {
+            mappedStore = new MVStore.Builder().readOnly().fileName("nioMapped:" + journalList.toAbsolutePath()).open();
+            if (!hasLookupMaps(mappedStore)) {
+                LOGGER.info("The journal list {} does not contain lookup maps, thus it is read into memory", journalList);
+                mappedStore.close();
+                mappedStore = null;
+            }
+        }
+        this.store = mappedStore;
+
+        if (store != null) {
+            MVMap<String, Abbreviation> storedAbbreviations = store.openMap(FULL_TO_ABBREVIATION_MAP);
+            fullToAbbreviationObject = new StoredAbbreviationMap(null, storedAbbreviations);
+            abbreviationToAbbreviationObject = new StoredAbbreviationMap(store.openMap(ABBREVIATION_TO_FULL_MAP), storedAbbreviations);
+            dotlessToAbbreviationObject = new StoredAbbreviationMap(store.openMap(DOTLESS_TO_FULL_MAP), storedAbbreviations);
+            shortestUniqueToAbbreviationObject = new StoredAbbreviationMap(store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP), storedAbbreviations);
+            return;
+        }
+
+        fullToAbbreviationObject = new HashMap<>();
+        abbreviationToAbbreviationObject = new HashMap<>();
+        dotlessToAbbreviationObject = new HashMap<>();
+        shortestUniqueToAbbreviationObject = new HashMap<>();
         MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
+        try (MVStore journalListStore = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
+            mvFullToAbbreviationObject = journalListStore.openMap(FULL_TO_ABBREVIATION_MAP);
             mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
+                Abbreviation newAbbreviation = restoreName(name, abbreviation);
                 fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
+                abbreviationToAbbreviationObject.put(newAbbreviation.getAbbreviation(), newAbbreviation);
                 dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
+                shortestUniqueToAbbreviationObject.put(newAbbreviation.getShortestUniqueAbbreviation(), newAbbreviation);
             });
         }
     }
@@ -53,6 +117,12 @@ public class JournalAbbreviationRepository {
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
+        this.store = null;
+        fullToAbbreviationObject = new HashMap<>();
+        abbreviationToAbbreviationObject = new HashMap<>();
+        dotlessToAbbreviationObject = new HashMap<>();
+        shortestUniqueToAbbreviationObject = new HashMap<>();
+
         Abbreviation newAbbreviation = new Abbreviation(
                 "Demonstration",
                 "Demo",
@@ -64,21 +134,51 @@ public class JournalAbbreviationRepository {
         shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+    /**
+     * Writes the maps from the (dotless, shortest unique) abbreviations to the full names, which are needed to open the
+     * journal list memory-mapped. They are derived from the map of the full names, which has to be written before.
+     * Like when reading the list into memory, the last full name (in alphabetical order) wins if several journals share
+     * an abbreviation.
+     */
+    public static void writeLookupMaps(MVStore store) {
+        MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(FULL_TO_ABBREVIATION_MAP);
+        MVMap<String, String> abbreviationToFull = store.openMap(ABBREVIATION_TO_FULL_MAP);
+        MVMap<String, String> dotlessToFull = store.openMap(DOTLESS_TO_FULL_MAP);
+        MVMap<String, String> shortestUniqueToFull = store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP);
+        abbreviationToFull.clear();
+        dotlessToFull.clear();
+        shortestUniqueToFull.clear();
+        fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+            Abbreviation abbreviation = restoreName(name, storedAbbreviation);
+            abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+            dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+            shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+        });
     }
 
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        boolean isExpanded = name.equalsIgnoreCase(abbreviation.getName());
-        if (isExpanded) {
-            return false;
-        }
-        return name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+    private static boolean hasLookupMaps(MVStore store) {
+        return store.hasMap(FULL_TO_ABBREVIATION_MAP)
+                && store.hasMap(ABBREVIATION_TO_FULL_MAP)
+                && store.hasMap(DOTLESS_TO_FULL_MAP)
+                && store.hasMap(SHORTEST_UNIQUE_TO_FULL_MAP);
+    }
+
+    /**
+     * The full name of an abbreviation is not serialized, it is the key of the abbreviation in the MV file
+     */
+    private static Abbreviation restoreName(String name, Abbreviation storedAbbreviation) {
+        return new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+    }
+
+    /**
+     * Trims the given journal name and unescapes ampersands
+     */
+    private static String normalize(String journalName) {
+        return journalName.trim().replace("\\&", "&");
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -89,8 +189,8 @@ public class JournalAbbreviationRepository {
         if (QUESTION_MARK.matcher(journalName).find()) {
             return false;
         }
-        String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatched(journal, abbreviation))
+        String journal = normalize(journalName);
+        return customAbbreviations.byName().containsKey(toKey(journal))
                 || fullToAbbreviationObject.containsKey(journal)
                 || abbreviationToAbbreviationObject.containsKey(journal)
                 || dotlessToAbbreviationObject.containsKey(journal)
@@ -105,8 +205,10 @@ public class JournalAbbreviationRepository {
         if (QUESTION_MARK.matcher(journalName).find()) {
             return false;
         }
-        String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
+        String journal = normalize(journalName);
+        String key = toKey(journal);
+        return customAbbreviations.byAbbreviatedName().getOrDefault(key, List.of()).stream()
+                                  .anyMatch(abbreviation -> !key.equals(toKey(abbreviation.getName())))
                 || abbreviationToAbbreviationObject.containsKey(journal)
                 || dotlessToAbbreviationObject.containsKey(journal)
                 || shortestUniqueToAbbreviationObject.containsKey(journal);
@@ -118,14 +220,11 @@ public class JournalAbbreviationRepository {
      * @param input The journal name (either full name or abbreviated name).
      */
     public Optional<Abbreviation> get(String input) {
-        // Clean up input: trim and unescape ampersand
-        String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findFirst();
-        if (customAbbreviation.isPresent()) {
-            return customAbbreviation;
+        String journal = normalize(input);
+
+        Abbreviation customAbbreviation = customAbbreviations.byName().get(toKey(journal));
+        if (customAbbreviation != null) {
+            return Optional.of(customAbbreviation);
         }
 
         return Optional.ofNullable(fullToAbbreviationObject.get(journal))
@@ -135,20 +234,66 @@ public class JournalAbbreviationRepository {
     }
 
     public void addCustomAbbreviation(Abbreviation abbreviation) {
-        Objects.requireNonNull(abbreviation);
+        addCustomAbbreviations(List.of(Objects.requireNonNull(abbreviation)));
+    }
 
-        // We do NOT want to keep duplicates
-        // The set automatically "removes" duplicates
-        // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+    /**
+     * Returns a number which changes whenever the custom abbreviations change, so that results depending on the
+     * abbreviations can be invalidated
+     */
+    public int getModificationCount() {
+        return modificationCount;
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
-        return customAbbreviations;
+        return customAbbreviations.abbreviations();
     }
 
-    public void addCustomAbbreviations(Collection<Abbreviation> abbreviationsToAdd) {
-        abbreviationsToAdd.forEach(this::addCustomAbbreviation);
+    /**
+     * Adds the given abbreviations at once, i.e., the index of the custom abbreviations is copied only once
+     */
+    public synchronized void addCustomAbbreviations(Collection<Abbreviation> abbreviationsToAdd) {
+        CustomAbbreviations current = customAbbreviations;
+        TreeSet<Abbreviation> abbreviations = new TreeSet<>(current.abbreviations());
+        Map<String, Abbreviation> byName = new HashMap<>(current.byName());
+        Map<String, List<Abbreviation>> byAbbreviatedName = new HashMap<>(current.byAbbreviatedName());
+        boolean isChanged = false;
+        for (Abbreviation abbreviation : abbreviationsToAdd) {
+            Objects.requireNonNull(abbreviation);
+
+            // We do NOT want to keep duplicates
+            // The set automatically "removes" duplicates
+            // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
+            if (!abbreviations.add(abbreviation)) {
+                continue;
+            }
+            isChanged = true;
+
+            // Keeps the first matching abbreviation in the order of the custom abbreviations
+            for (String name : List.of(abbreviation.getName(), abbreviation.getAbbreviation(), abbreviation.getDotlessAbbreviation(), abbreviation.getShortestUniqueAbbreviation())) {
+                byName.merge(toKey(name), abbreviation, (first, second) -> first.compareTo(second) <= 0 ? first : second);
+            }
+            Set<String> abbreviatedNames = new HashSet<>(List.of(toKey(abbreviation.getAbbreviation()), toKey(abbreviation.getDotlessAbbreviation()), toKey(abbreviation.getShortestUniqueAbbreviation())));
+            for (String abbreviatedName : abbreviatedNames) {
+                // The lists of the published index must not be modified
+                byAbbreviatedName.merge(abbreviatedName, List.of(abbreviation), (existing, added) -> {
+                    List<Abbreviation> merged = new ArrayList<>(existing.size() + 1);
+                    merged.addAll(existing);
+                    merged.addAll(added);
+                    return merged;
+                });
+            }
+        }
+        if (!isChanged) {
+            return;
+        }
+
+        customAbbreviations = new CustomAbbreviations(
+                Collections.unmodifiableSortedSet(abbreviations),
+                Collections.unmodifiableMap(byName),
+                Collections.unmodifiableMap(byAbbreviatedName));
+        // Incremented after publishing, so that a reader seeing the new count also sees the new abbreviations
+        modificationCount++;
     }
 
     public Optional<String> getNextAbbreviation(String text) {
@@ -174,4 +319,102 @@ public class JournalAbbreviationRepository {
     public Collection<Abbreviation> getAllLoaded() {
         return fullToAbbreviationObject.values();
     }
+
+    @Override
+    public void close() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    /**
+     * The custom abbreviations and their indexes, which are never modified once published
+     *
+     * @param byName            the first custom abbreviation (in the order of the abbreviations) having a name,
+     *                          abbreviation, dotless or shortest unique abbreviation equal to the lower-case key
+     * @param byAbbreviatedName the custom abbreviations having an abbreviation, dotless or shortest unique abbreviation
+     *                          equal to the lower-case key
+     */
+    private record CustomAbbreviations(SortedSet<Abbreviation> abbreviations,
+                                       Map<String, Abbreviation> byName,
+                                       Map<String, List<Abbreviation>> byAbbreviatedName) {
+
+        static final CustomAbbreviations EMPTY = new CustomAbbreviations(Collections.emptySortedSet(), Map.of(), Map.of());
+    }
+
+    /**
+     * A read-only view of a map of the memory-mapped journal list. The abbreviations are looked up in the map of the full
+     * names, either by the key itself or by the full name the key is mapped to.
+     */
+    private static class StoredAbbreviationMap extends AbstractMap<String, Abbreviation> {
+
+        private final MVMap<String, String> fullNames;
+        private final MVMap<String, Abbreviation> storedAbbreviations;
+
+        /**
+         * @param fullNames the map from the keys to the full names or null if the keys are the full names
+         */
+        StoredAbbreviationMap(MVMap<String, String> fullNames, MVMap<String, Abbreviation> storedAbbreviations) {
+            this.fullNames = fullNames;
+            this.storedAbbreviations = storedAbbreviations;
+        }
+
+        @Override
+        public Abbreviation get(Object key) {
+            if (!(key instanceof String name)) {
+                return null;
+            }
+            String fullName = fullNames == null ? name : fullNames.get(name);
+            if (fullName == null) {
+                return null;
+            }
+            Abbreviation storedAbbreviation = storedAbbreviations.get(fullName);
+            return storedAbbreviation == null ? null : restoreName(fullName, storedAbbreviation);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+            return fullNames == null ? storedAbbreviations.containsKey(key) : fullNames.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return fullNames == null ? storedAbbreviations.size() : fullNames.size();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(fullNames == null ? storedAbbreviations.keySet() : fullNames.keySet());
+        }
+
+        @Override
+        public Set<Entry<String, Abbreviation>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Abbreviation>> iterator() {
+                    Iterator<String> keys = keySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return keys.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Abbreviation> next() {
+                            String key = keys.next();
+                            return new SimpleImmutableEntry<>(key, get(key));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return StoredAbbreviationMap.this.size();
+                }
+            };
+        }
+    }
 }
@@ -1,10 +1,10 @@
 package org.jabref.logic.journals.predatory;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Matcher;
-import java.util.stream.Collectors;
 
 import org.jabref.logic.util.strings.StringSimilarity;
 
@@ -20,15 +20,18 @@ public class PredatoryJournalRepository implements AutoCloseable {
     private final Logger LOGGER = LoggerFactory.getLogger(PredatoryJournalRepository.class);
     private final Map<String, PredatoryJournalInformation> predatoryJournals;
     private final StringSimilarity match = new StringSimilarity();
+    private final TrigramIndex candidateIndex;
     private final MVStore store;
 
     /**
      * Initializes the internal data based on the predatory journals found in the given MV file
      */
     public PredatoryJournalRepository(Path mvStore) {
-        MVMap<String, PredatoryJournalInformation> predatoryJournalsMap;
         store = new MVStore.Builder().readOnly().fileName(mvStore.toAbsolutePath().toString()).open();
-        predatoryJournals = store.openMap("PredatoryJournals");
+        MVMap<String, PredatoryJournalInformation> predatoryJournalsMap = store.openMap("PredatoryJournals");
+        predatoryJournals = predatoryJournalsMap;
+        // Lists generated before the index was introduced are indexed in memory
+        candidateIndex = TrigramIndex.read(store).orElseGet(() -> TrigramIndex.build(predatoryJournalsMap.keySet()));
     }
 
     /**
@@ -37,10 +40,12 @@ public class PredatoryJournalRepository implements AutoCloseable {
     public PredatoryJournalRepository() {
         store = null;
         predatoryJournals = Map.of("Demo", new PredatoryJournalInformation("Demo", "Demo", ""));
+        candidateIndex = TrigramIndex.build(predatoryJournals.keySet());
     }
 
     /**
-     * Returns true if the given journal name is contained in the list in its full form
+     * Returns true if the given journal name is contained in the list in its full form or similar to a name of the
+     * list. Only the candidates of the trigram index are compared to the given name.
      */
     public boolean isKnownName(String journalName) {
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
@@ -50,11 +55,14 @@ public class PredatoryJournalRepository implements AutoCloseable {
             return true;
         }
 
-        var matches = predatoryJournals.keySet().stream()
-                                       .filter(key -> match.isSimilar(journal.toLowerCase(Locale.ROOT), key.toLowerCase(Locale.ROOT)))
-                                       .collect(Collectors.toList());
+        String lowerCaseJournal = journal.toLowerCase(Locale.ROOT);
+        List<String> matches = candidateIndex.getCandidates(journal, StringSimilarity.METRIC_THRESHOLD).stream()
+                                             .filter(key -> match.isSimilar(lowerCaseJournal, key.toLowerCase(Locale.ROOT)))
+                                             .toList();
 
-        LOGGER.info("Found multiple possible predatory journals {}", String.join(", ", matches));
+        if (!matches.isEmpty()) {
+            LOGGER.info("Found multiple possible predatory journals {}", String.join(", ", matches));
+        }
         return !matches.isEmpty();
     }
 
@@ -0,0 +1,151 @@
+package org.jabref.logic.journals.predatory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+/**
+ * Narrows a list of names to the candidates which may be within a given edit distance of a name.
+ * <p>
+ * Each name is split into its (padded) trigrams, and for each trigram the ids of the names containing it are stored.
+ * An edit operation changes at most three trigrams of a name. Thus, a name within an edit distance of {@code k} shares
+ * at least {@code t - 3k} trigrams with the looked up name having {@code t} distinct trigrams. Only names reaching this
+ * count and differing in length by at most {@code k} are returned, thus no similar name is missed. Short names do not
+ * have enough trigrams for this filter, for them all names of a similar length are candidates.
+ * <p>
+ * Names are compared in lower case. The index can be stored in an {@link MVStore} next to the list it belongs to.
+ */
+public class TrigramIndex {
+
+    static final String NAMES_MAP = "PredatoryJournalNames";
+    static final String TRIGRAMS_MAP = "PredatoryJournalTrigrams";
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String PADDING = "\u0000".repeat(GRAM_LENGTH - 1);
+
+    private final List<String> names;
+    private final Map<String, int[]> namesByTrigram;
+
+    /**
+     * @param names          the indexed names, the position of a name is its id
+     * @param namesByTrigram the sorted ids of the names containing a trigram
+     */
+    private TrigramIndex(List<String> names, Map<String, int[]> namesByTrigram) {
+        this.names = names;
+        this.namesByTrigram = namesByTrigram;
+    }
+
+    /**
+     * Builds the index in memory
+     */
+    public static TrigramIndex build(Collection<String> names) {
+        List<String> indexedNames = List.copyOf(names);
+        Map<String, List<Integer>> ids = new HashMap<>();
+        for (int id = 0; id < indexedNames.size(); id++) {
+            for (String trigram : getTrigrams(indexedNames.get(id).toLowerCase(Locale.ROOT))) {
+                ids.computeIfAbsent(trigram, key -> new ArrayList<>()).add(id);
+            }
+        }
+
+        Map<String, int[]> namesByTrigram = new HashMap<>(ids.size());
+        ids.forEach((trigram, trigramIds) -> namesByTrigram.put(trigram, trigramIds.stream().mapToInt(Integer::intValue).toArray()));
+        return new TrigramIndex(indexedNames, namesByTrigram);
+    }
+
+    /**
+     * Builds the index of the given names and writes it to the given store, replacing an index written before
+     */
+    public static void write(MVStore store, Collection<String> names) {
+        TrigramIndex index = build(names);
+
+        MVMap<Integer, String> namesMap = store.openMap(NAMES_MAP);
+        namesMap.clear();
+        for (int id = 0; id < index.names.size(); id++) {
+            namesMap.put(id, index.names.get(id));
+        }
+
+        MVMap<String, int[]> trigramsMap = store.openMap(TRIGRAMS_MAP);
+        trigramsMap.clear();
+        trigramsMap.putAll(index.namesByTrigram);
+    }
+
+    /**
+     * Reads the index written by {@link #write(MVStore, Collection)}. The names are kept in memory, the ids of a trigram
+     * are read from the store when needed.
+     *
+     * @return the index or an empty optional if the store does not contain an index
+     */
+    public static Optional<TrigramIndex> read(MVStore store) {
+        if (!store.hasMap(NAMES_MAP) || !store.hasMap(TRIGRAMS_MAP)) {
+            return Optional.empty();
+        }
+        MVMap<Integer, String> namesMap = store.openMap(NAMES_MAP);
+        MVMap<String, int[]> trigramsMap = store.openMap(TRIGRAMS_MAP);
+        // The ids are the consecutive keys of the map, thus the values are in the order of the ids
+        return Optional.of(new TrigramIndex(new ArrayList<>(namesMap.values()), trigramsMap));
+    }
+
+    /**
+     * Returns the names which may be within the given edit distance of the given name, ignoring the case
+     */
+    public List<String> getCandidates(String name, int maxEditDistance) {
+        String lowerCaseName = name.toLowerCase(Locale.ROOT);
+        Set<String> trigrams = getTrigrams(lowerCaseName);
+        int minSharedTrigrams = trigrams.size() - (maxEditDistance * GRAM_LENGTH);
+
+        List<String> candidates = new ArrayList<>();
+        if (minSharedTrigrams <= 0) {
+            for (String candidate : names) {
+                if (hasSimilarLength(lowerCaseName, candidate, maxEditDistance)) {
+                    candidates.add(candidate);
+                }
+            }
+            return candidates;
+        }
+
+        int[] sharedTrigrams = new int[names.size()];
+        for (String trigram : trigrams) {
+            int[] ids = namesByTrigram.get(trigram);
+            if (ids == null) {
+                continue;
+            }
+            for (int id : ids) {
+                sharedTrigrams[id]++;
+                if ((sharedTrigrams[id] == minSharedTrigrams) && hasSimilarLength(lowerCaseName, names.get(id), maxEditDistance)) {
+                    candidates.add(names.get(id));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    private static boolean hasSimilarLength(String lowerCaseName, String candidate, int maxEditDistance) {
+        return Math.abs(lowerCaseName.length() - candidate.toLowerCase(Locale.ROOT).length()) <= maxEditDistance;
+    }
+
+    /**
+     * Returns the distinct trigrams of the given name. The name is padded, thus its first and last characters are part
+     * of as many trigrams as the other characters.
+     */
+    static Set<String> getTrigrams(String name) {
+        String padded = PADDING + name + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.pdf.search.SearchFieldConstants.ANNOTATIONS;
 import static org.jabref.model.pdf.search.SearchFieldConstants.CONTENT;
+import static org.jabref.model.pdf.search.SearchFieldConstants.FINGERPRINT;
 import static org.jabref.model.pdf.search.SearchFieldConstants.MODIFIED;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PAGE_NUMBER;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PATH;
@@ -91,12 +92,32 @@ public final class DocumentReader {
     }
 
     private List<Document> readPdfContents(LinkedFile pdf, Path resolvedPdfPath) {
+        Optional<FileFingerprint> fingerprint;
+        try {
+            fingerprint = Optional.of(FileFingerprint.of(resolvedPdfPath));
+        } catch (IOException e) {
+            LOGGER.warn("Could not compute the fingerprint of {}", resolvedPdfPath, e);
+            fingerprint = Optional.empty();
+        }
+        return readPdfContents(pdf, resolvedPdfPath, fingerprint, () -> Loader.loadPDF(resolvedPdfPath.toFile()));
+    }
+
+    /**
+     * Converts the already read bytes of a PDF file into Lucene Documents. This way, reading the file (I/O) and
+     * extracting the text (CPU) can be done by different threads, see {@link PdfExtractionPipeline}.
+     */
+    List<Document> readPdfContents(LinkedFile pdf, Path resolvedPdfPath, byte[] content) {
+        return readPdfContents(pdf, resolvedPdfPath, Optional.of(FileFingerprint.of(content)), () -> Loader.loadPDF(content));
+    }
+
+    private List<Document> readPdfContents(LinkedFile pdf, Path resolvedPdfPath, Optional<FileFingerprint> fingerprint, PdfLoader loader) {
         List<Document> pages = new ArrayList<>();
-        try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
+        try (PDDocument pdfDocument = loader.load()) {
             for (int pageNumber = 0; pageNumber < pdfDocument.getNumberOfPages(); pageNumber++) {
                 Document newDocument = new Document();
                 addIdentifiers(newDocument, pdf.getLink());
                 addMetaData(newDocument, resolvedPdfPath, pageNumber);
+                fingerprint.ifPresent(value -> addStringField(newDocument, FINGERPRINT, value.toString()));
                 try {
                     addContentIfNotEmpty(pdfDocument, newDocument, pageNumber);
                 } catch (IOException e) {
@@ -111,12 +132,40 @@ public final class DocumentReader {
             Document newDocument = new Document();
             addIdentifiers(newDocument, pdf.getLink());
             addMetaData(newDocument, resolvedPdfPath, 0);
+            fingerprint.ifPresent(value -> addStringField(newDocument, FINGERPRINT, value.toString()));
             pages.add(newDocument);
         }
         return pages;
     }
 
-    private void addMetaData(Document newDocument, Path resolvedPdfPath, int pageNumber) {
+    /**
+     * Creates the documents of a file from the stored documents of another file with the same content, e.g., after the
+     * file was moved. This avoids extracting the text again.
+     *
+     * @param storedPages the pages as returned by {@link org.apache.lucene.search.IndexSearcher#doc(int)}
+     */
+    static List<Document> relinkPages(List<Document> storedPages, String link, Path resolvedPdfPath) {
+        List<Document> pages = new ArrayList<>(storedPages.size());
+        for (Document storedPage : storedPages) {
+            Document newDocument = new Document();
+            addIdentifiers(newDocument, link);
+            addMetaData(newDocument, resolvedPdfPath, Integer.parseInt(storedPage.get(PAGE_NUMBER)));
+            addStringField(newDocument, FINGERPRINT, storedPage.get(FINGERPRINT));
+            addTextField(newDocument, CONTENT, storedPage.get(CONTENT));
+            addTextField(newDocument, ANNOTATIONS, storedPage.get(ANNOTATIONS));
+            pages.add(newDocument);
+        }
+        return pages;
+    }
+
+    private static void addTextField(Document newDocument, String field, String value) {
+        if (!isValidField(value)) {
+            return;
+        }
+        newDocument.add(new TextField(field, value, Field.Store.YES));
+    }
+
+    private static void addMetaData(Document newDocument, Path resolvedPdfPath, int pageNumber) {
         try {
             BasicFileAttributes attributes = Files.readAttributes(resolvedPdfPath, BasicFileAttributes.class);
             addStringField(newDocument, MODIFIED, String.valueOf(attributes.lastModifiedTime().to(TimeUnit.SECONDS)));
@@ -126,14 +175,14 @@ public final class DocumentReader {
         addStringField(newDocument, PAGE_NUMBER, String.valueOf(pageNumber));
     }
 
-    private void addStringField(Document newDocument, String field, String value) {
+    private static void addStringField(Document newDocument, String field, String value) {
         if (!isValidField(value)) {
             return;
         }
         newDocument.add(new StringField(field, value, Field.Store.YES));
     }
 
-    private boolean isValidField(String value) {
+    private static boolean isValidField(String value) {
         return !StringUtil.isNullOrEmpty(value);
     }
 
@@ -160,7 +209,12 @@ public final class DocumentReader {
         }
     }
 
-    private void addIdentifiers(Document newDocument, String path) {
+    private static void addIdentifiers(Document newDocument, String path) {
         newDocument.add(new StringField(PATH, path, Field.Store.YES));
     }
+
+    @FunctionalInterface
+    private interface PdfLoader {
+        PDDocument load() throws IOException;
+    }
 }
@@ -0,0 +1,38 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+
+/**
+ * Identifies the content of a file by its size and a fast, non-cryptographic hash. Files having the same fingerprint
+ * are treated as having the same content, which allows to reuse the extracted text of a renamed, moved or copied file.
+ * <p>
+ * The string representation starts with the size, so that the index can be searched for candidates of the same size
+ * before the file is hashed.
+ */
+record FileFingerprint(long size, String hash) {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    static FileFingerprint of(Path file) throws IOException {
+        return new FileFingerprint(Files.size(file), MoreFiles.asByteSource(file).hash(HASH_FUNCTION).toString());
+    }
+
+    static FileFingerprint of(byte[] content) {
+        return new FileFingerprint(content.length, HASH_FUNCTION.hashBytes(content).toString());
+    }
+
+    static String sizePrefix(long size) {
+        return size + ":";
+    }
+
+    @Override
+    public String toString() {
+        return sizePrefix(size) + hash;
+    }
+}
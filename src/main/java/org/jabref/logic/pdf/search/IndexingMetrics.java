@@ -0,0 +1,107 @@
+package org.jabref.logic.pdf.search;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects throughput numbers of a {@link PdfIndexer}: indexed files and pages per second and the latency of the
+ * commits to the Lucene index.
+ * <p>
+ * The rates are computed relative to the creation of the metrics (or the last {@link #reset()}).
+ */
+public class IndexingMetrics {
+
+    private final LongAdder indexedFiles = new LongAdder();
+    private final LongAdder indexedPages = new LongAdder();
+    private final LongAdder reusedFiles = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder commitNanos = new LongAdder();
+    private volatile long lastCommitNanos;
+    private volatile long startNanos = System.nanoTime();
+
+    void recordIndexedFile(int pages) {
+        indexedFiles.increment();
+        indexedPages.add(pages);
+    }
+
+    /**
+     * A file whose content was found in the index and thus was not read again
+     */
+    void recordReusedFile() {
+        reusedFiles.increment();
+    }
+
+    void recordCommit(long nanos) {
+        commits.increment();
+        commitNanos.add(nanos);
+        lastCommitNanos = nanos;
+    }
+
+    public void reset() {
+        indexedFiles.reset();
+        indexedPages.reset();
+        reusedFiles.reset();
+        commits.reset();
+        commitNanos.reset();
+        lastCommitNanos = 0;
+        startNanos = System.nanoTime();
+    }
+
+    public long getIndexedFiles() {
+        return indexedFiles.sum();
+    }
+
+    public long getIndexedPages() {
+        return indexedPages.sum();
+    }
+
+    public long getReusedFiles() {
+        return reusedFiles.sum();
+    }
+
+    public long getCommits() {
+        return commits.sum();
+    }
+
+    public double getFilesPerSecond() {
+        return perSecond(indexedFiles.sum());
+    }
+
+    public double getPagesPerSecond() {
+        return perSecond(indexedPages.sum());
+    }
+
+    public Duration getAverageCommitLatency() {
+        long count = commits.sum();
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(commitNanos.sum() / count);
+    }
+
+    public Duration getLastCommitLatency() {
+        return Duration.ofNanos(lastCommitNanos);
+    }
+
+    private double perSecond(long count) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return count / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexingMetrics{" +
+                "files=" + getIndexedFiles() +
+                ", pages=" + getIndexedPages() +
+                ", reusedFiles=" + getReusedFiles() +
+                ", filesPerSecond=" + String.format("%.1f", getFilesPerSecond()) +
+                ", pagesPerSecond=" + String.format("%.1f", getPagesPerSecond()) +
+                ", commits=" + getCommits() +
+                ", averageCommitLatency=" + getAverageCommitLatency().toMillis() + "ms" +
+                ", lastCommitLatency=" + getLastCommitLatency().toMillis() + "ms" +
+                '}';
+    }
+}
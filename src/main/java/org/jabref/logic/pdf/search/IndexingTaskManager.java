@@ -3,6 +3,7 @@ package org.jabref.logic.pdf.search;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -17,10 +18,14 @@ import org.jabref.model.entry.LinkedFile;
 
 /**
  * Wrapper around {@link PdfIndexer} to execute all operations in the background.
+ * <p>
+ * The tasks do not commit their changes individually. The indexers commit in batches and are flushed as soon as the
+ * queue is drained.
  */
 public class IndexingTaskManager extends BackgroundTask<Void> {
 
     private final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
+    private final Set<PdfIndexer> indexersToFlush = ConcurrentHashMap.newKeySet();
     private TaskExecutor taskExecutor;
     private int numOfIndexedFiles = 0;
 
@@ -49,12 +54,20 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
             numOfIndexedFiles++;
             updateProgress();
         }
+        flushIndexers();
         synchronized (lock) {
             isRunning = false;
         }
         return null;
     }
 
+    private void flushIndexers() {
+        for (PdfIndexer indexer : indexersToFlush) {
+            indexersToFlush.remove(indexer);
+            indexer.flush();
+        }
+    }
+
     private void updateProgress() {
         DefaultTaskExecutor.runInJavaFXThread(() -> {
             updateMessage(Localization.lang("%0 of %1 linked files added to the index", numOfIndexedFiles, numOfIndexedFiles + taskQueue.size()));
@@ -62,8 +75,9 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         });
     }
 
-    private void enqueueTask(Runnable indexingTask) {
+    private void enqueueTask(PdfIndexer indexer, Runnable indexingTask) {
         if (!isBlockingNewTasks) {
+            indexersToFlush.add(indexer);
             taskQueue.add(indexingTask);
             // What if already running?
             synchronized (lock) {
@@ -88,7 +102,7 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
     }
 
     public void rebuildIndex(PdfIndexer indexer) {
-        enqueueTask(indexer::rebuildIndex);
+        enqueueTask(indexer, indexer::rebuildIndex);
     }
 
     /**
@@ -102,7 +116,7 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
                        .forEach(pathsToRemove::remove);
         // The indexer checks the attached PDFs for modifications (based on the timestamp of the PDF) and reindexes the PDF if it is newer than the index. Therefore, we need to pass the whole library to the indexer for re-indexing.
         addToIndex(indexer, databaseContext.getEntries());
-        enqueueTask(() -> indexer.removePathsFromIndex(pathsToRemove));
+        enqueueTask(indexer, () -> indexer.removePathsFromIndex(pathsToRemove, false));
     }
 
     public void addToIndex(PdfIndexer indexer, List<BibEntry> entries) {
@@ -111,23 +125,23 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         // Solution inspired by https://stackoverflow.com/a/27595803/873282
         entries.stream().collect(Collectors.groupingBy(x -> counter.getAndIncrement() / 50))
                .values()
-               .forEach(list -> enqueueTask(() -> indexer.addToIndex(list)));
+               .forEach(list -> enqueueTask(indexer, () -> indexer.addToIndex(list, false)));
     }
 
     public void addToIndex(PdfIndexer indexer, BibEntry entry) {
-        enqueueTask(() -> indexer.addToIndex(entry));
+        enqueueTask(indexer, () -> indexer.addToIndex(entry, entry.getFiles(), false));
     }
 
     public void addToIndex(PdfIndexer indexer, BibEntry entry, List<LinkedFile> linkedFiles) {
-        enqueueTask(() -> indexer.addToIndex(entry, linkedFiles));
+        enqueueTask(indexer, () -> indexer.addToIndex(entry, linkedFiles, false));
     }
 
     public void removeFromIndex(PdfIndexer indexer, BibEntry entry) {
-        enqueueTask(() -> indexer.removeFromIndex(entry));
+        enqueueTask(indexer, () -> indexer.removeFromIndex(entry.getFiles(), false));
     }
 
     public void removeFromIndex(PdfIndexer indexer, List<LinkedFile> linkedFiles) {
-        enqueueTask(() -> indexer.removeFromIndex(linkedFiles));
+        enqueueTask(indexer, () -> indexer.removeFromIndex(linkedFiles, false));
     }
 
     public void updateDatabaseName(String name) {
@@ -0,0 +1,160 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.preferences.FilePreferences;
+
+import org.apache.lucene.document.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extracts the text of PDF files in three stages:
+ *
+ * <ol>
+ *     <li>The files are read by virtual threads, as reading is I/O bound.</li>
+ *     <li>The text is extracted by PDFBox on a pool of a fixed number of platform threads, as this is CPU bound.</li>
+ *     <li>The resulting Lucene documents are handed to a single consumer on the calling thread, which writes them
+ *     to the index.</li>
+ * </ol>
+ *
+ * At most {@code maxFilesInFlight} files are read but not yet consumed. If the consumer is slower than the
+ * extraction, reading further files blocks (back-pressure), so that the memory usage stays bounded.
+ */
+class PdfExtractionPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfExtractionPipeline.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final FilePreferences filePreferences;
+    private final int extractionWorkers;
+    private final int maxFilesInFlight;
+
+    /**
+     * @param extractionWorkers number of threads extracting the text with PDFBox
+     */
+    PdfExtractionPipeline(FilePreferences filePreferences, int extractionWorkers) {
+        if (extractionWorkers < 1) {
+            throw new IllegalArgumentException("At least one extraction worker is required, was " + extractionWorkers);
+        }
+        this.filePreferences = filePreferences;
+        this.extractionWorkers = extractionWorkers;
+        this.maxFilesInFlight = 2 * extractionWorkers;
+    }
+
+    /**
+     * Extracts all given files and passes the results in the order of their completion to the consumer. The consumer
+     * is called on the calling thread only. Returns after all files have been consumed.
+     */
+    void run(List<ExtractionTask> tasks, Consumer<ExtractedFile> consumer) throws InterruptedException {
+        if ((tasks.size() == 1) || (extractionWorkers == 1)) {
+            // Starting threads does not pay off
+            for (ExtractionTask task : tasks) {
+                consumer.accept(extract(task, readContent(task)));
+            }
+            return;
+        }
+
+        Semaphore filesInFlight = new Semaphore(maxFilesInFlight);
+        BlockingQueue<ExtractedFile> extractedFiles = new LinkedBlockingQueue<>();
+        ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor();
+        ExecutorService extractors = Executors.newFixedThreadPool(extractionWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "PDF text extraction " + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (ExtractionTask task : tasks) {
+                readers.execute(() -> {
+                    try {
+                        filesInFlight.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    Optional<byte[]> content;
+                    try {
+                        content = readContent(task);
+                    } catch (Throwable e) {
+                        extractedFiles.add(failed(task, e));
+                        return;
+                    }
+                    try {
+                        extractors.execute(() -> {
+                            try {
+                                extractedFiles.add(extract(task, content));
+                            } catch (Throwable e) {
+                                extractedFiles.add(failed(task, e));
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        LOGGER.debug("Extraction of {} was cancelled", task.resolvedPath(), e);
+                    }
+                });
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                ExtractedFile extractedFile = extractedFiles.take();
+                filesInFlight.release();
+                consumer.accept(extractedFile);
+            }
+        } finally {
+            readers.shutdownNow();
+            extractors.shutdownNow();
+        }
+    }
+
+    private Optional<byte[]> readContent(ExtractionTask task) {
+        try {
+            return Optional.of(Files.readAllBytes(task.resolvedPath()));
+        } catch (IOException e) {
+            LOGGER.warn("Could not read {}", task.resolvedPath(), e);
+            return Optional.empty();
+        }
+    }
+
+    private ExtractedFile extract(ExtractionTask task, Optional<byte[]> content) {
+        if (content.isEmpty()) {
+            return new ExtractedFile(task, List.of());
+        }
+        try {
+            return new ExtractedFile(task, new DocumentReader(task.entry(), filePreferences)
+                    .readPdfContents(task.linkedFile(), task.resolvedPath(), content.get()));
+        } catch (RuntimeException e) {
+            // The consumer waits for a result of each task
+            LOGGER.warn("Could not extract the text of {}", task.resolvedPath(), e);
+            return new ExtractedFile(task, List.of());
+        }
+    }
+
+    /**
+     * The consumer waits for a result of each task, thus even errors killing a worker, e.g., {@link OutOfMemoryError}, have to yield a result
+     */
+    private static ExtractedFile failed(ExtractionTask task, Throwable error) {
+        LOGGER.error("Could not extract the text of {}", task.resolvedPath(), error);
+        return new ExtractedFile(task, List.of());
+    }
+
+    record ExtractionTask(BibEntry entry, LinkedFile linkedFile, Path resolvedPath) {
+    }
+
+    /**
+     * @param pages the pages of the file, empty if the file could not be read
+     */
+    record ExtractedFile(ExtractionTask task, List<Document> pages) {
+    }
+}
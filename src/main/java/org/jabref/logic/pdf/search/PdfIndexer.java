@@ -4,13 +4,20 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import org.jabref.logic.pdf.search.PdfExtractionPipeline.ExtractedFile;
+import org.jabref.logic.pdf.search.PdfExtractionPipeline.ExtractionTask;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -21,15 +28,15 @@ import org.jabref.preferences.FilePreferences;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexNotFoundException;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
@@ -39,23 +46,56 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Indexes the text of PDF files and adds it into the lucene search index.
+ * <p>
+ * Changes are collected and committed in batches: a commit happens if {@link #COMMIT_THRESHOLD_OPERATIONS} files
+ * were added or removed or {@link #COMMIT_THRESHOLD_INTERVAL} has passed since the last commit. Callers passing
+ * {@code shouldCommit = false} have to call {@link #flush()} at the end of their batch. The index is read through a
+ * near-real-time {@link SearcherManager}, which is refreshed after each commit.
+ * <p>
+ * The text of the files is extracted in parallel by a {@link PdfExtractionPipeline}; the thread calling the indexer is
+ * the only one writing to the index.
  */
 public class PdfIndexer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PdfIndexer.class);
 
+    private static final int COMMIT_THRESHOLD_OPERATIONS = 200;
+    private static final Duration COMMIT_THRESHOLD_INTERVAL = Duration.ofSeconds(30);
+
+    /**
+     * One core is left for the UI and the writer
+     */
+    private static final int DEFAULT_EXTRACTION_WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
     @VisibleForTesting
     IndexWriter indexWriter;
 
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
     private final Directory indexDirectory;
-    private IndexReader reader;
+    private final IndexingMetrics metrics = new IndexingMetrics();
+    private final PdfExtractionPipeline extractionPipeline;
+
+    /**
+     * Paths added (true) or removed (false) since the last refresh of the searcher. Used to answer "is this file
+     * indexed?" within a batch without reopening the reader.
+     */
+    private final Map<String, Boolean> changedSinceRefresh = new ConcurrentHashMap<>();
+    private SearcherManager searcherManager;
+
+    /**
+     * The state of the index before the running {@link #rebuildIndex()}. Its documents are reused for files whose
+     * content is unchanged.
+     */
+    private volatile IndexSearcher previousIndex;
+    private int uncommittedOperations;
+    private long lastCommitTime = System.nanoTime();
 
-    private PdfIndexer(BibDatabaseContext databaseContext, Directory indexDirectory, FilePreferences filePreferences) {
+    private PdfIndexer(BibDatabaseContext databaseContext, Directory indexDirectory, FilePreferences filePreferences, int extractionWorkers) {
         this.databaseContext = databaseContext;
         this.indexDirectory = indexDirectory;
         this.filePreferences = filePreferences;
+        this.extractionPipeline = new PdfExtractionPipeline(filePreferences, extractionWorkers);
     }
 
     /**
@@ -63,7 +103,14 @@ public class PdfIndexer {
      */
     @VisibleForTesting
     public static PdfIndexer of(BibDatabaseContext databaseContext, Path indexDirectory, FilePreferences filePreferences) throws IOException {
-        return new PdfIndexer(databaseContext, new NIOFSDirectory(indexDirectory), filePreferences);
+        return of(databaseContext, indexDirectory, filePreferences, DEFAULT_EXTRACTION_WORKERS);
+    }
+
+    /**
+     * @param extractionWorkers the number of threads extracting the text of PDF files in parallel
+     */
+    public static PdfIndexer of(BibDatabaseContext databaseContext, Path indexDirectory, FilePreferences filePreferences, int extractionWorkers) throws IOException {
+        return new PdfIndexer(databaseContext, new NIOFSDirectory(indexDirectory), filePreferences, extractionWorkers);
     }
 
     /**
@@ -71,33 +118,53 @@ public class PdfIndexer {
      */
     @VisibleForTesting
     public static PdfIndexer of(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
-        return new PdfIndexer(databaseContext, new NIOFSDirectory(databaseContext.getFulltextIndexPath()), filePreferences);
+        return of(databaseContext, databaseContext.getFulltextIndexPath(), filePreferences);
     }
 
     /**
      * Creates (and thus resets) the PDF index. No re-indexing will be done.
      * Any previous state of the Lucene search is deleted.
      */
-    public void createIndex() {
+    public synchronized void createIndex() {
         LOGGER.debug("Creating new index for directory {}.", indexDirectory);
-        initializeIndexWriterAndReader(IndexWriterConfig.OpenMode.CREATE);
+        if (indexWriter == null) {
+            initializeIndexWriterAndSearcher(IndexWriterConfig.OpenMode.CREATE);
+            commit();
+            return;
+        }
+        // A second writer cannot be opened on the same directory, thus the existing one is cleared
+        try {
+            indexWriter.deleteAll();
+            changedSinceRefresh.clear();
+            commit();
+        } catch (IOException e) {
+            LOGGER.error("Could not clear the index", e);
+        }
     }
 
     /**
      * Needs to be accessed by {@link PdfSearcher}
      */
-    IndexWriter getIndexWriter() {
+    synchronized IndexWriter getIndexWriter() {
         LOGGER.trace("Getting the index writer");
         if (indexWriter == null) {
             LOGGER.trace("Initializing the index writer");
-            initializeIndexWriterAndReader(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            initializeIndexWriterAndSearcher(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
         } else {
             LOGGER.trace("Using existing index writer");
         }
         return indexWriter;
     }
 
-    private void initializeIndexWriterAndReader(IndexWriterConfig.OpenMode mode) {
+    /**
+     * Needs to be accessed by {@link PdfSearcher}. Searchers have to be released after use.
+     */
+    synchronized SearcherManager getSearcherManager() {
+        getIndexWriter();
+        return searcherManager;
+    }
+
+    private void initializeIndexWriterAndSearcher(IndexWriterConfig.OpenMode mode) {
         try {
             indexWriter = new IndexWriter(
                     indexDirectory,
@@ -105,12 +172,18 @@ public class PdfIndexer {
                             new EnglishStemAnalyzer()).setOpenMode(mode));
         } catch (IOException e) {
             LOGGER.error("Could not initialize the IndexWriter", e);
+            return;
         }
         try {
-            reader = DirectoryReader.open(indexWriter);
+            searcherManager = new SearcherManager(indexWriter, null);
         } catch (IOException e) {
-            LOGGER.error("Could not initialize the IndexReader", e);
+            LOGGER.error("Could not initialize the SearcherManager", e);
         }
+        changedSinceRefresh.clear();
+    }
+
+    public IndexingMetrics getMetrics() {
+        return metrics;
     }
 
     /**
@@ -118,21 +191,53 @@ public class PdfIndexer {
      */
     public void rebuildIndex() {
         LOGGER.debug("Rebuilding index.");
-        createIndex();
-        addToIndex(databaseContext.getEntries());
+        SearcherManager manager = getSearcherManager();
+        IndexSearcher snapshot = null;
+        if (manager != null) {
+            try {
+                // A searcher is a point-in-time view and still sees the documents after the index was cleared
+                snapshot = manager.acquire();
+            } catch (IOException e) {
+                LOGGER.debug("Could not keep the previous index. All files will be read again.", e);
+            }
+        }
+        previousIndex = snapshot;
+        try {
+            createIndex();
+            addToIndex(databaseContext.getEntries());
+        } finally {
+            previousIndex = null;
+            if (snapshot != null) {
+                try {
+                    manager.release(snapshot);
+                } catch (IOException e) {
+                    LOGGER.debug("Could not release the previous index", e);
+                }
+            }
+        }
     }
 
     public void addToIndex(List<BibEntry> entries) {
-        int count = 0;
+        addToIndex(entries, true);
+    }
+
+    /**
+     * @param shouldCommit if false, the changes are only committed if the commit thresholds are reached. The caller
+     *                     has to call {@link #flush()} after the last change of its batch.
+     */
+    public void addToIndex(List<BibEntry> entries, boolean shouldCommit) {
+        Map<String, ExtractionTask> tasks = new LinkedHashMap<>();
         for (BibEntry entry : entries) {
-            addToIndex(entry, false);
-            count++;
-            if (count % 100 == 0) {
-                doCommit();
+            for (LinkedFile linkedFile : entry.getFiles()) {
+                // A file linked from several entries is indexed once
+                if (!tasks.containsKey(linkedFile.getLink())) {
+                    createExtractionTask(entry, linkedFile).ifPresent(task -> tasks.put(linkedFile.getLink(), task));
+                }
             }
         }
-        doCommit();
-        LOGGER.debug("Added {} documents to the index.", count);
+        indexFiles(tasks.values());
+        commitIfRequired(shouldCommit);
+        LOGGER.debug("Added {} documents of {} entries to the index.", tasks.size(), entries.size());
     }
 
     /**
@@ -144,13 +249,6 @@ public class PdfIndexer {
         addToIndex(entry, entry.getFiles(), true);
     }
 
-    private void addToIndex(BibEntry entry, boolean shouldCommit) {
-        addToIndex(entry, entry.getFiles(), false);
-        if (shouldCommit) {
-            doCommit();
-        }
-    }
-
     /**
      * Adds a list of pdf files linked to one entry in the database to an existing (or new) Lucene search index
      *
@@ -160,21 +258,52 @@ public class PdfIndexer {
         addToIndex(entry, linkedFiles, true);
     }
 
+    /**
+     * @param shouldCommit if false, the changes are only committed if the commit thresholds are reached. The caller
+     *                     has to call {@link #flush()} after the last change of its batch.
+     */
     public void addToIndex(BibEntry entry, Collection<LinkedFile> linkedFiles, boolean shouldCommit) {
-        for (LinkedFile linkedFile : linkedFiles) {
-            addToIndex(entry, linkedFile, false);
+        indexFiles(linkedFiles.stream()
+                             .map(linkedFile -> createExtractionTask(entry, linkedFile))
+                             .flatMap(Optional::stream)
+                             .toList());
+        commitIfRequired(shouldCommit);
+    }
+
+    /**
+     * Commits all pending changes to the index and refreshes the searcher, so that the changes are visible to
+     * subsequent searches.
+     */
+    public synchronized void flush() {
+        if (uncommittedOperations > 0) {
+            commit();
         }
+        LOGGER.debug("Index {}: {}", indexDirectory, metrics);
+    }
+
+    private synchronized void commitIfRequired(boolean shouldCommit) {
         if (shouldCommit) {
-            doCommit();
+            flush();
+        } else if ((uncommittedOperations >= COMMIT_THRESHOLD_OPERATIONS)
+                || ((uncommittedOperations > 0) && ((System.nanoTime() - lastCommitTime) >= COMMIT_THRESHOLD_INTERVAL.toNanos()))) {
+            commit();
         }
     }
 
-    private void doCommit() {
+    private synchronized void commit() {
+        long start = System.nanoTime();
         try {
             getIndexWriter().commit();
+            if (searcherManager != null) {
+                searcherManager.maybeRefreshBlocking();
+            }
+            changedSinceRefresh.clear();
+            uncommittedOperations = 0;
         } catch (IOException e) {
             LOGGER.warn("Could not commit changes to the index.", e);
         }
+        lastCommitTime = System.nanoTime();
+        metrics.recordCommit(lastCommitTime - start);
     }
 
     /**
@@ -183,12 +312,7 @@ public class PdfIndexer {
      * @param linkedFilePath the path to the file to be removed
      */
     public void removeFromIndex(String linkedFilePath) {
-        try {
-            getIndexWriter().deleteDocuments(new Term(SearchFieldConstants.PATH, linkedFilePath));
-            getIndexWriter().commit();
-        } catch (IOException e) {
-            LOGGER.debug("Could not remove document {} from the index.", linkedFilePath, e);
-        }
+        removePathsFromIndex(List.of(linkedFilePath), true);
     }
 
     /**
@@ -204,15 +328,36 @@ public class PdfIndexer {
      * Removes a list of files linked to a bib-entry from the index
      */
     public void removeFromIndex(Collection<LinkedFile> linkedFiles) {
-        for (LinkedFile linkedFile : linkedFiles) {
-            removeFromIndex(linkedFile.getLink());
-        }
+        removeFromIndex(linkedFiles, true);
+    }
+
+    public void removeFromIndex(Collection<LinkedFile> linkedFiles, boolean shouldCommit) {
+        removePathsFromIndex(linkedFiles.stream().map(LinkedFile::getLink).toList(), shouldCommit);
     }
 
     public void removePathsFromIndex(Collection<String> linkedFiles) {
-        for (String linkedFile : linkedFiles) {
-            removeFromIndex(linkedFile);
+        removePathsFromIndex(linkedFiles, true);
+    }
+
+    /**
+     * Removes the files in one operation from the index
+     *
+     * @param shouldCommit if false, the changes are only committed if the commit thresholds are reached
+     */
+    public synchronized void removePathsFromIndex(Collection<String> linkedFiles, boolean shouldCommit) {
+        if (linkedFiles.isEmpty()) {
+            return;
+        }
+        try {
+            getIndexWriter().deleteDocuments(linkedFiles.stream()
+                                                        .map(path -> new Term(SearchFieldConstants.PATH, path))
+                                                        .toArray(Term[]::new));
+            linkedFiles.forEach(path -> changedSinceRefresh.put(path, false));
+            uncommittedOperations += linkedFiles.size();
+        } catch (IOException e) {
+            LOGGER.debug("Could not remove documents {} from the index.", linkedFiles, e);
         }
+        commitIfRequired(shouldCommit);
     }
 
     /**
@@ -227,49 +372,161 @@ public class PdfIndexer {
     }
 
     private void addToIndex(BibEntry entry, LinkedFile linkedFile, boolean shouldCommit) {
+        addToIndex(entry, List.of(linkedFile), shouldCommit);
+    }
+
+    /**
+     * Returns the task to extract the file if it is a PDF file which is not in the index yet or which is newer than the
+     * one in the index
+     */
+    private Optional<ExtractionTask> createExtractionTask(BibEntry entry, LinkedFile linkedFile) {
         if (linkedFile.isOnlineLink() ||
                 (!StandardFileType.PDF.getName().equals(linkedFile.getFileType()) &&
                         // We do not require the file type to be set
                         (!linkedFile.getLink().endsWith(".pdf") && !linkedFile.getLink().endsWith(".PDF")))) {
-            return;
+            return Optional.empty();
         }
         Optional<Path> resolvedPath = linkedFile.findIn(databaseContext, filePreferences);
         if (resolvedPath.isEmpty()) {
             LOGGER.debug("Could not find {}", linkedFile.getLink());
-            return;
+            return Optional.empty();
         }
-        LOGGER.debug("Adding {} to index", linkedFile.getLink());
         try {
-            // Check if a document with this path is already in the index
+            if (isIndexed(linkedFile.getLink(), resolvedPath.get())) {
+                LOGGER.debug("File {} is already indexed", linkedFile.getLink());
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not check whether {} is indexed.", linkedFile.getLink(), e);
+        }
+        if (reuseIndexedContent(linkedFile.getLink(), resolvedPath.get())) {
+            return Optional.empty();
+        }
+        return Optional.of(new ExtractionTask(entry, linkedFile, resolvedPath.get()));
+    }
+
+    /**
+     * Looks for a file with the same content in the index (e.g., the same file before it was touched, moved or renamed)
+     * and copies its documents instead of extracting the text again.
+     *
+     * @return true if the documents of the file were written to the index
+     */
+    private boolean reuseIndexedContent(String link, Path resolvedPath) {
+        SearcherManager manager = null;
+        IndexSearcher searcher = previousIndex;
+        try {
+            if (searcher == null) {
+                manager = getSearcherManager();
+                if (manager == null) {
+                    return false;
+                }
+                searcher = manager.acquire();
+            }
             try {
-                IndexSearcher searcher = new IndexSearcher(reader);
-                TermQuery query = new TermQuery(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
-                TopDocs topDocs = searcher.search(query, 1);
-                // If a document was found, check if is less current than the one in the FS
-                if (topDocs.scoreDocs.length > 0) {
-                    Document doc = reader.document(topDocs.scoreDocs[0].doc);
-                    long indexModificationTime = Long.parseLong(doc.getField(SearchFieldConstants.MODIFIED).stringValue());
-                    BasicFileAttributes attributes = Files.readAttributes(resolvedPath.get(), BasicFileAttributes.class);
-                    if (indexModificationTime >= attributes.lastModifiedTime().to(TimeUnit.SECONDS)) {
-                        LOGGER.debug("File {} is already indexed", linkedFile.getLink());
-                        return;
+                Query sameSize = new PrefixQuery(new Term(SearchFieldConstants.FINGERPRINT, FileFingerprint.sizePrefix(Files.size(resolvedPath))));
+                if (searcher.count(sameSize) == 0) {
+                    // Hashing the file does not pay off
+                    return false;
+                }
+                Query sameContent = new TermQuery(new Term(SearchFieldConstants.FINGERPRINT, FileFingerprint.of(resolvedPath).toString()));
+                int hits = searcher.count(sameContent);
+                if (hits == 0) {
+                    return false;
+                }
+                String sourcePath = null;
+                List<Document> storedPages = new ArrayList<>();
+                for (ScoreDoc scoreDoc : searcher.search(sameContent, hits).scoreDocs) {
+                    Document storedPage = searcher.doc(scoreDoc.doc);
+                    if (sourcePath == null) {
+                        sourcePath = storedPage.get(SearchFieldConstants.PATH);
+                    }
+                    // Several files may have the same content, the pages of one of them are sufficient
+                    if (sourcePath.equals(storedPage.get(SearchFieldConstants.PATH))) {
+                        storedPages.add(storedPage);
                     }
                 }
-            } catch (IndexNotFoundException e) {
-                LOGGER.debug("Index not found. Continuing.", e);
-            }
-            // If no document was found, add the new one
-            Optional<List<Document>> pages = new DocumentReader(entry, filePreferences).readLinkedPdf(this.databaseContext, linkedFile);
-            if (pages.isPresent()) {
-                getIndexWriter().addDocuments(pages.get());
-                if (shouldCommit) {
-                    getIndexWriter().commit();
+                LOGGER.debug("Reusing the indexed content of {} for {}", sourcePath, link);
+                if (writeToIndex(link, DocumentReader.relinkPages(storedPages, link, resolvedPath))) {
+                    metrics.recordReusedFile();
+                }
+                return true;
+            } finally {
+                if (manager != null) {
+                    manager.release(searcher);
                 }
-            } else {
-                LOGGER.debug("No content found in file {}", linkedFile.getLink());
             }
         } catch (IOException e) {
-            LOGGER.warn("Could not add document {} to the index.", linkedFile.getLink(), e);
+            LOGGER.debug("Could not reuse the indexed content for {}", link, e);
+            return false;
+        }
+    }
+
+    private void indexFiles(Collection<ExtractionTask> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        try {
+            // This thread is the single writer stage of the pipeline
+            extractionPipeline.run(List.copyOf(tasks), this::writeToIndex);
+        } catch (InterruptedException e) {
+            LOGGER.debug("Indexing was interrupted", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeToIndex(ExtractedFile extractedFile) {
+        String link = extractedFile.task().linkedFile().getLink();
+        if (extractedFile.pages().isEmpty()) {
+            LOGGER.debug("No content found in file {}", link);
+            return;
+        }
+        LOGGER.debug("Adding {} to index", link);
+        if (writeToIndex(link, extractedFile.pages())) {
+            metrics.recordIndexedFile(extractedFile.pages().size());
+        }
+    }
+
+    private boolean writeToIndex(String link, List<Document> pages) {
+        try {
+            synchronized (this) {
+                // Replaces an outdated version of the file
+                getIndexWriter().updateDocuments(new Term(SearchFieldConstants.PATH, link), pages);
+                changedSinceRefresh.put(link, true);
+                uncommittedOperations++;
+            }
+            commitIfRequired(false);
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Could not add document {} to the index.", link, e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether a document with this path is in the index and is at least as current as the one in the file system
+     */
+    private boolean isIndexed(String link, Path resolvedPath) throws IOException {
+        Boolean changed = changedSinceRefresh.get(link);
+        if (changed != null) {
+            // The searcher does not see the change yet
+            return changed;
+        }
+        SearcherManager manager = getSearcherManager();
+        if (manager == null) {
+            return false;
+        }
+        IndexSearcher searcher = manager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(new TermQuery(new Term(SearchFieldConstants.PATH, link)), 1);
+            if (topDocs.scoreDocs.length == 0) {
+                return false;
+            }
+            Document doc = searcher.doc(topDocs.scoreDocs[0].doc);
+            long indexModificationTime = Long.parseLong(doc.getField(SearchFieldConstants.MODIFIED).stringValue());
+            BasicFileAttributes attributes = Files.readAttributes(resolvedPath, BasicFileAttributes.class);
+            return indexModificationTime >= attributes.lastModifiedTime().to(TimeUnit.SECONDS);
+        } finally {
+            manager.release(searcher);
         }
     }
 
@@ -280,27 +537,37 @@ public class PdfIndexer {
      */
     public Set<String> getListOfFilePaths() {
         Set<String> paths = new HashSet<>();
-        try (IndexReader reader = DirectoryReader.open(getIndexWriter())) {
-            IndexSearcher searcher = new IndexSearcher(reader);
-            MatchAllDocsQuery query = new MatchAllDocsQuery();
-            TopDocs allDocs = searcher.search(query, Integer.MAX_VALUE);
-            for (ScoreDoc scoreDoc : allDocs.scoreDocs) {
-                Document doc = reader.document(scoreDoc.doc);
-                paths.add(doc.getField(SearchFieldConstants.PATH).stringValue());
+        SearcherManager manager = getSearcherManager();
+        if (manager == null) {
+            return paths;
+        }
+        try {
+            manager.maybeRefreshBlocking();
+            IndexSearcher searcher = manager.acquire();
+            try {
+                TopDocs allDocs = searcher.search(new MatchAllDocsQuery(), Integer.MAX_VALUE);
+                for (ScoreDoc scoreDoc : allDocs.scoreDocs) {
+                    Document doc = searcher.doc(scoreDoc.doc);
+                    paths.add(doc.getField(SearchFieldConstants.PATH).stringValue());
+                }
+            } finally {
+                manager.release(searcher);
             }
         } catch (IOException e) {
             LOGGER.debug("Could not read from index. Returning intermediate result.", e);
-            return paths;
         }
         return paths;
     }
 
-    public void close() throws IOException {
-    	
-    	//Editted
-    	
-    	if (indexWriter != null) {
-        indexWriter.close();
-    	}
+    public synchronized void close() throws IOException {
+        if (searcherManager != null) {
+            searcherManager.close();
+            searcherManager = null;
+        }
+        if (indexWriter != null) {
+            // closing commits the pending changes
+            indexWriter.close();
+            uncommittedOperations = 0;
+        }
     }
 }
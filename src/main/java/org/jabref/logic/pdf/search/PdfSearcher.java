@@ -11,13 +11,12 @@ import org.jabref.model.pdf.search.PdfSearchResults;
 import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.model.strings.StringUtil;
 
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,11 +54,15 @@ public final class PdfSearcher {
         }
 
         List<SearchResult> resultDocs = new ArrayList<>();
-        // We need to point the DirectoryReader to the indexer, because we get errors otherwise
-        // Hint from https://stackoverflow.com/a/63673753/873282.
-        try (IndexReader reader = DirectoryReader.open(indexer.getIndexWriter())) {
+        // The searcher manager of the indexer provides near-real-time readers on the index writer, which are only reopened if the index changed
+        SearcherManager searcherManager = indexer.getSearcherManager();
+        if (searcherManager == null) {
+            return new PdfSearchResults();
+        }
+        searcherManager.maybeRefresh();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
             Query query = new MultiFieldQueryParser(PDF_FIELDS, englishStemAnalyzer).parse(searchString);
-            IndexSearcher searcher = new IndexSearcher(reader);
             TopDocs results = searcher.search(query, maxHits);
             for (ScoreDoc scoreDoc : results.scoreDocs) {
                 resultDocs.add(new SearchResult(searcher, query, scoreDoc));
@@ -68,6 +71,8 @@ public final class PdfSearcher {
         } catch (ParseException e) {
             LOGGER.warn("Could not parse query: '{}'", searchString, e);
             return new PdfSearchResults();
+        } finally {
+            searcherManager.release(searcher);
         }
     }
 }
@@ -0,0 +1,369 @@
+package org.jabref.logic.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.search.rules.ContainsBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule.ComparisonOperator;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.search.rules.SentenceAnalyzer;
+import org.jabref.model.strings.StringUtil;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * In-memory inverted index over the field contents of all entries of a library.
+ * <p>
+ * Field contents are normalized the same way the search rules do (LaTeX free, accents stripped), lower-cased and split
+ * at whitespace into terms. Each term maps to the entries containing it in the respective field.
+ * The search rules match substrings and a search word contains no whitespace, thus every entry matching a search
+ * word has a term containing that word. This allows computing a superset of the matching entries by scanning the
+ * vocabulary instead of all entries. The candidates still have to be checked using {@link SearchQuery#isMatch(BibEntry)}.
+ * <p>
+ * The index is updated incrementally on the events of the database.
+ */
+public class InvertedFieldIndex {
+
+    private static final String ANY_FIELD = "anyfield";
+    private static final String ANY_KEYWORD = "anykeyword";
+
+    private final Map<Field, Map<String, Postings>> postingsByField = new HashMap<>();
+    private final Map<BibEntry, IndexedEntry> indexedEntries = new IdentityHashMap<>();
+    private int nextId;
+    private long modificationCount;
+
+    public InvertedFieldIndex(BibDatabase database) {
+        database.registerListener(this);
+        database.getEntries().forEach(this::addEntry);
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::addEntry);
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::removeEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldsChangedBatchEvent event) {
+        event.getFieldChangedEvents().forEach(this::listen);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        IndexedEntry indexedEntry = indexedEntries.get(event.getBibEntry());
+        if (indexedEntry != null) {
+            indexField(event.getBibEntry(), indexedEntry, event.getField());
+            indexedEntry.fingerprint = fingerprint(event.getBibEntry());
+        }
+    }
+
+    /**
+     * Returns a filter accepting at least all entries matched by the given query. Entries not (yet) known to the index
+     * are always accepted. The candidates are recomputed lazily if the index changes.
+     */
+    public Predicate<BibEntry> getCandidateFilter(SearchQuery query) {
+        return new CandidateFilter(query);
+    }
+
+    private synchronized void addEntry(BibEntry entry) {
+        if (indexedEntries.containsKey(entry)) {
+            return;
+        }
+        IndexedEntry indexedEntry = new IndexedEntry(nextId++);
+        indexedEntries.put(entry, indexedEntry);
+        for (Field field : entry.getFields()) {
+            indexField(entry, indexedEntry, field);
+        }
+        indexedEntry.fingerprint = fingerprint(entry);
+    }
+
+    private synchronized void removeEntry(BibEntry entry) {
+        IndexedEntry indexedEntry = indexedEntries.remove(entry);
+        if (indexedEntry == null) {
+            return;
+        }
+        indexedEntry.terms.forEach((field, terms) -> removeTerms(field, terms, indexedEntry.id));
+        modificationCount++;
+    }
+
+    private void indexField(BibEntry entry, IndexedEntry indexedEntry, Field field) {
+        Set<String> oldTerms = indexedEntry.terms.remove(field);
+        if (oldTerms != null) {
+            removeTerms(field, oldTerms, indexedEntry.id);
+        }
+
+        Optional<String> content = entry.getFieldLatexFree(field);
+        if (content.isPresent()) {
+            Set<String> terms = new HashSet<>(splitIntoTerms(normalize(content.get())));
+            Map<String, Postings> vocabulary = postingsByField.computeIfAbsent(field, key -> new HashMap<>());
+            for (String term : terms) {
+                vocabulary.computeIfAbsent(term, key -> new Postings()).add(indexedEntry.id);
+            }
+            indexedEntry.terms.put(field, terms);
+        }
+        modificationCount++;
+    }
+
+    private void removeTerms(Field field, Set<String> terms, int id) {
+        Map<String, Postings> vocabulary = postingsByField.get(field);
+        if (vocabulary == null) {
+            return;
+        }
+        for (String term : terms) {
+            Postings postings = vocabulary.get(term);
+            if (postings != null) {
+                postings.remove(id);
+                if (postings.isEmpty()) {
+                    vocabulary.remove(term);
+                }
+            }
+        }
+        if (vocabulary.isEmpty()) {
+            postingsByField.remove(field);
+        }
+    }
+
+    /**
+     * Computes a cheap fingerprint of the field contents. Field values are interned by {@link BibEntry}, therefore
+     * the identity of the values changes whenever the content changes.
+     */
+    private static int fingerprint(BibEntry entry) {
+        int fingerprint = 0;
+        for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+            fingerprint += (31 * field.getKey().hashCode()) ^ System.identityHashCode(field.getValue());
+        }
+        return fingerprint;
+    }
+
+    private static String normalize(String content) {
+        return StringUtil.stripAccents(content).toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> splitIntoTerms(String content) {
+        return Arrays.stream(content.split("\\p{javaWhitespace}+"))
+                     .filter(term -> !term.isEmpty())
+                     .toList();
+    }
+
+    /**
+     * Computes the entries having at least one term containing each of the given words in one of the given fields.
+     *
+     * @return the ids of the candidate entries, or an empty optional if all entries are candidates
+     */
+    private Optional<BitSet> getCandidates(List<String> words, Predicate<Field> fieldFilter) {
+        BitSet result = null;
+        for (String word : words) {
+            for (String part : splitIntoTerms(normalize(word))) {
+                BitSet matches = new BitSet();
+                postingsByField.forEach((field, vocabulary) -> {
+                    if (fieldFilter.test(field)) {
+                        vocabulary.forEach((term, postings) -> {
+                            if (term.contains(part)) {
+                                postings.addTo(matches);
+                            }
+                        });
+                    }
+                });
+                if (result == null) {
+                    result = matches;
+                } else {
+                    result.and(matches);
+                }
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+
+    private Optional<BitSet> getCandidates(SearchQuery query) {
+        EnumSet<SearchFlags> searchFlags = query.getSearchFlags();
+        if (query.getRule() instanceof ContainsBasedSearchRule) {
+            if (searchFlags.contains(SearchFlags.FULLTEXT)) {
+                return Optional.empty();
+            }
+            return getCandidates(new SentenceAnalyzer(query.getQuery()).getWords(), field -> true);
+        }
+        if ((query.getRule() instanceof GrammarBasedSearchRule grammarRule)
+                && !searchFlags.contains(SearchFlags.REGULAR_EXPRESSION)
+                && (grammarRule.getTree() != null)) {
+            return new CandidatesVisitor(searchFlags).visit(grammarRule.getTree());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Terms of a single entry stored in the index. Kept to be able to remove the entry from the postings.
+     */
+    private static class IndexedEntry {
+        private final int id;
+        private final Map<Field, Set<String>> terms = new HashMap<>();
+        private int fingerprint;
+
+        IndexedEntry(int id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * Sorted list of the ids of the entries containing a term
+     */
+    private static class Postings {
+        private int[] ids = new int[1];
+        private int size;
+
+        void add(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertionPoint = -(index + 1);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertionPoint, ids, insertionPoint + 1, size - insertionPoint);
+            ids[insertionPoint] = id;
+            size++;
+        }
+
+        void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(ids[i]);
+            }
+        }
+    }
+
+    /**
+     * Computes a superset of the entries matched by a search expression. An empty optional stands for all entries.
+     */
+    private class CandidatesVisitor extends SearchBaseVisitor<Optional<BitSet>> {
+
+        private final EnumSet<SearchFlags> searchFlags;
+
+        CandidatesVisitor(EnumSet<SearchFlags> searchFlags) {
+            this.searchFlags = searchFlags;
+        }
+
+        @Override
+        public Optional<BitSet> visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<BitSet> visitComparison(SearchParser.ComparisonContext context) {
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            if (context.left == null) {
+                if (searchFlags.contains(SearchFlags.FULLTEXT)) {
+                    return Optional.empty();
+                }
+                return getCandidates(new SentenceAnalyzer(right).getWords(), field -> true);
+            }
+
+            String fieldName = StringUtil.stripAccents(context.left.getText());
+            if ((ComparisonOperator.build(context.operator.getText()) == ComparisonOperator.DOES_NOT_CONTAIN)
+                    || fieldName.equalsIgnoreCase(InternalField.TYPE_HEADER.getName())
+                    || fieldName.equalsIgnoreCase(ANY_KEYWORD)) {
+                return Optional.empty();
+            }
+            if (fieldName.equalsIgnoreCase(ANY_FIELD)) {
+                return getCandidates(List.of(right), field -> true);
+            }
+            return getCandidates(List.of(right), field -> field.getName().equalsIgnoreCase(fieldName));
+        }
+
+        @Override
+        public Optional<BitSet> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<BitSet> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<BitSet> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Optional<BitSet> left = visit(ctx.left);
+            Optional<BitSet> right = visit(ctx.right);
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                if (left.isEmpty()) {
+                    return right;
+                }
+                right.ifPresent(left.get()::and);
+                return left;
+            }
+            if (left.isEmpty() || right.isEmpty()) {
+                return Optional.empty();
+            }
+            left.get().or(right.get());
+            return left;
+        }
+    }
+
+    private class CandidateFilter implements Predicate<BibEntry> {
+
+        private final SearchQuery query;
+        private Optional<BitSet> candidates;
+        private long candidatesModificationCount = -1;
+
+        CandidateFilter(SearchQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(BibEntry entry) {
+            synchronized (InvertedFieldIndex.this) {
+                IndexedEntry indexedEntry = indexedEntries.get(entry);
+                if ((indexedEntry == null) || (indexedEntry.fingerprint != fingerprint(entry))) {
+                    // The index is not up-to-date for this entry (e.g., the list change is processed before the change event)
+                    return true;
+                }
+                if (candidatesModificationCount != modificationCount) {
+                    candidates = getCandidates(query);
+                    candidatesModificationCount = modificationCount;
+                }
+                return candidates.map(bitSet -> bitSet.get(indexedEntry.id)).orElse(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.jabref.logic.shared;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.NavigableMap;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * Tracks which part of the change log of a shared database was read by a {@link DBMSSynchronizer}.
+ * <p>
+ * Sequence numbers of the change log are assigned before the writing transaction commits. Thus, a long transaction
+ * may make its rows visible after rows with higher sequence numbers were read already. Each sequence number skipped
+ * by a read is kept as gap, and the next read starts below the lowest gap. Gaps of rolled back transactions never
+ * close, thus gaps are dropped after {@link #GAP_TIMEOUT}. Changes missed nevertheless are pulled by the complete
+ * synchronization done every {@link #FULL_SYNCHRONIZATION_INTERVAL}.
+ * <p>
+ * The complete synchronizations also serve as checkpoints to prune the change log: once a checkpoint is older than
+ * {@link #CHANGE_LOG_RETENTION}, every client synchronized completely since, and the rows up to the checkpoint are not
+ * needed anymore.
+ */
+class ChangeLogPosition {
+
+    static final Duration GAP_TIMEOUT = Duration.ofMinutes(10);
+
+    /**
+     * Not longer than the retention of the change log, so that a client never needs pruned rows
+     */
+    static final Duration FULL_SYNCHRONIZATION_INTERVAL = Duration.ofMinutes(10);
+
+    static final Duration CHANGE_LOG_RETENTION = Duration.ofHours(1);
+
+    /**
+     * Above this number of gaps, reading the change log is not cheaper than a complete synchronization anymore. Then, a
+     * complete synchronization is done.
+     */
+    static final int MAX_GAPS = 1_000;
+
+    private long highestSequenceNumber = -1;
+    private Instant lastFullSynchronization = Instant.MIN;
+
+    // sequence number -> time it was found missing
+    private final NavigableMap<Long, Instant> gaps = new TreeMap<>();
+
+    private final Deque<Checkpoint> checkpoints = new ArrayDeque<>();
+
+    /**
+     * Returns the sequence number after which the change log has to be read, or an empty optional if all entries have
+     * to be synchronized
+     */
+    synchronized OptionalLong getReadPosition(Instant now) {
+        if ((highestSequenceNumber < 0) || lastFullSynchronization.plus(FULL_SYNCHRONIZATION_INTERVAL).isBefore(now)) {
+            return OptionalLong.empty();
+        }
+        gaps.values().removeIf(foundAt -> foundAt.plus(GAP_TIMEOUT).isBefore(now));
+        return OptionalLong.of(gaps.isEmpty() ? highestSequenceNumber : gaps.firstKey() - 1);
+    }
+
+    /**
+     * Records the sequence numbers read from the change log
+     */
+    synchronized void advance(Collection<Long> sequenceNumbers, Instant now) {
+        for (long sequenceNumber : sequenceNumbers.stream().sorted().toList()) {
+            if (highestSequenceNumber < 0) {
+                // a complete synchronization is pending
+                return;
+            }
+            if (sequenceNumber <= highestSequenceNumber) {
+                gaps.remove(sequenceNumber);
+                continue;
+            }
+            if (gaps.size() + (sequenceNumber - highestSequenceNumber - 1) > MAX_GAPS) {
+                highestSequenceNumber = -1;
+                return;
+            }
+            for (long missing = highestSequenceNumber + 1; missing < sequenceNumber; missing++) {
+                gaps.put(missing, now);
+            }
+            highestSequenceNumber = sequenceNumber;
+        }
+    }
+
+    /**
+     * Records a complete synchronization
+     *
+     * @param sequenceNumber the highest sequence number of the change log read before the synchronization, empty if
+     *                       there is no change log
+     */
+    synchronized void reset(OptionalLong sequenceNumber, Instant now) {
+        highestSequenceNumber = sequenceNumber.orElse(-1);
+        lastFullSynchronization = now;
+        gaps.clear();
+        sequenceNumber.ifPresent(number -> checkpoints.addLast(new Checkpoint(number, now)));
+    }
+
+    /**
+     * Returns the sequence number up to which the change log can be pruned, i.e., the one of the latest checkpoint
+     * older than {@link #CHANGE_LOG_RETENTION}. Each checkpoint is returned once.
+     */
+    synchronized OptionalLong pollPrunableSequenceNumber(Instant now) {
+        OptionalLong prunable = OptionalLong.empty();
+        while (!checkpoints.isEmpty() && checkpoints.getFirst().createdAt().plus(CHANGE_LOG_RETENTION).isBefore(now)) {
+            prunable = OptionalLong.of(checkpoints.removeFirst().sequenceNumber());
+        }
+        return prunable;
+    }
+
+    private record Checkpoint(long sequenceNumber, Instant createdAt) {
+    }
+}
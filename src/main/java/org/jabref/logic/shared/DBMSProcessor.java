@@ -6,21 +6,23 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.SharedBibEntryData;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
@@ -40,10 +42,19 @@ public abstract class DBMSProcessor {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
+    /**
+     * Maximum number of rows written by one multi-row statement, of IDs in one <code>IN</code> list and of entries
+     * updated in one transaction. Keeps the statements below the limits of the database systems, e.g., 1000 elements
+     * of an Oracle <code>IN</code> list and 32767 bind parameters of PostgreSQL.
+     */
+    static final int ROWS_PER_STATEMENT = 500;
+
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    private Boolean changeLogAvailable;
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
@@ -120,6 +131,8 @@ public abstract class DBMSProcessor {
      */
     public void setupSharedDatabase() throws SQLException {
         setUp();
+        // checked again, as setting up the triggers may have failed
+        changeLogAvailable = null;
 
         if (!checkBaseIntegrity()) {
             // can only happen with users direct intervention on shared database
@@ -159,7 +172,8 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Inserts the List of BibEntry into the shared database.
+     * Inserts the List of BibEntry into the shared database. All entries are inserted in one transaction using
+     * multi-row statements of at most {@link #ROWS_PER_STATEMENT} rows.
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
@@ -168,48 +182,65 @@ public abstract class DBMSProcessor {
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+        try {
+            executeInTransaction(() -> {
+                insertIntoEntryTable(notYetExistingEntries);
+                insertIntoFieldTable(notYetExistingEntries);
+                announceEntryChanges(getSharedIDs(notYetExistingEntries));
+            });
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+            // The generated shared IDs were rolled back
+            notYetExistingEntries.forEach(entry -> entry.getSharedBibEntryData().setSharedID(-1));
+        }
     }
 
     /**
-     * Inserts the given List of BibEntry into the ENTRY table.
+     * Inserts the given List of BibEntry into the ENTRY table and sets the generated shared IDs.
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
-        StringBuilder insertIntoEntryQuery = new StringBuilder()
-                .append("INSERT INTO ")
-                .append(escape_Table("ENTRY"))
-                .append("(")
-                .append(escape("TYPE"))
-                .append(") VALUES(?)");
-        // Number of commas is bibEntries.size() - 1
-        insertIntoEntryQuery.append(", (?)".repeat(Math.max(0, (bibEntries.size() - 1))));
-
-        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString(),
-                new String[]{"SHARED_ID"})) {
-            for (int i = 0; i < bibEntries.size(); i++) {
-                preparedEntryStatement.setString(i + 1, bibEntries.get(i).getType().getName());
-            }
-            preparedEntryStatement.executeUpdate();
-
-            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                // The following assumes that we get the generated keys in the order the entries were inserted
-                // This should be the case
-                for (BibEntry bibEntry : bibEntries) {
-                    generatedKeys.next();
-                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1));
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
+        try (MultiRowStatement insertStatement = new MultiRowStatement(this::getInsertIntoEntryTableQuery, this::prepareInsertIntoEntryTable)) {
+            for (List<BibEntry> partition : Lists.partition(bibEntries, ROWS_PER_STATEMENT)) {
+                PreparedStatement preparedEntryStatement = insertStatement.forRows(partition.size());
+                for (int i = 0; i < partition.size(); i++) {
+                    preparedEntryStatement.setString(i + 1, partition.get(i).getType().getName());
                 }
-                if (generatedKeys.next()) {
-                    LOGGER.error("Error: Some shared IDs left unassigned");
+                preparedEntryStatement.executeUpdate();
+
+                try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                    // The following assumes that we get the generated keys in the order the entries were inserted
+                    // This should be the case
+                    for (BibEntry bibEntry : partition) {
+                        generatedKeys.next();
+                        bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1));
+                    }
+                    if (generatedKeys.next()) {
+                        LOGGER.error("Error: Some shared IDs left unassigned");
+                    }
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
+    private String getInsertIntoEntryTableQuery(int rows) {
+        return "INSERT INTO " +
+                escape_Table("ENTRY") +
+                "(" +
+                escape("TYPE") +
+                ") VALUES(?)" +
+                // Number of commas is rows - 1
+                ", (?)".repeat(rows - 1);
+    }
+
+    /**
+     * Prepares the insertion into the ENTRY table such that the generated shared IDs are returned.
+     */
+    protected PreparedStatement prepareInsertIntoEntryTable(String query) throws SQLException {
+        return connection.prepareStatement(query, new String[]{"SHARED_ID"});
+    }
+
     /**
      * Filters a list of BibEntry to and returns those which do not exist in the database
      *
@@ -217,17 +248,15 @@ public abstract class DBMSProcessor {
      * @return <code>true</code> if existent, else <code>false</code>
      */
     private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
-        List<Integer> remoteIds = new ArrayList<>();
-        List<Integer> localIds = bibEntries.stream()
-                                           .map(BibEntry::getSharedBibEntryData)
-                                           .map(SharedBibEntryData::getSharedID)
-                                           .filter(id -> id != -1)
-                                           .toList();
+        Set<Integer> remoteIds = new HashSet<>();
+        List<Integer> localIds = getSharedIDs(bibEntries);
         if (localIds.isEmpty()) {
             return bibEntries;
         }
         try {
-            String selectQuery = "SELECT * FROM " +
+            String selectQuery = "SELECT " +
+                    escape("SHARED_ID") +
+                    " FROM " +
                     escape_Table("ENTRY");
 
             try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery)) {
@@ -245,204 +274,199 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Inserts the given list of BibEntry into FIELD table.
+     * Inserts the fields of the given list of BibEntry into FIELD table.
      *
      * @param bibEntries {@link BibEntry} to be inserted
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape_Table("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
-
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        List<FieldRow> fieldRows = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
+            int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
+            for (Map.Entry<Field, String> field : bibEntry.getFieldMap().entrySet()) {
+                fieldRows.add(new FieldRow(sharedID, field.getKey().getName(), field.getValue()));
             }
+        }
 
-            // Number of commas is fields.size() - 1
-            insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, (numFields - 1))));
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+        try (MultiRowStatement insertStatement = new MultiRowStatement(this::getInsertIntoFieldTableQuery, connection::prepareStatement)) {
+            for (List<FieldRow> partition : Lists.partition(fieldRows, ROWS_PER_STATEMENT)) {
+                PreparedStatement preparedFieldStatement = insertStatement.forRows(partition.size());
+                for (int i = 0; i < partition.size(); i++) {
+                    FieldRow fieldRow = partition.get(i);
+                    // columnIndex starts with 1
+                    preparedFieldStatement.setInt((3 * i) + 1, fieldRow.sharedID());
+                    preparedFieldStatement.setString((3 * i) + 2, fieldRow.name());
+                    preparedFieldStatement.setString((3 * i) + 3, fieldRow.value());
                 }
                 preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
     /**
-     * Updates the whole {@link BibEntry} on shared database.
-     *
-     * @param localBibEntry {@link BibEntry} affected by changes
-     * @throws SQLException in case of error
+     * Builds the query inserting the given number of rows (ENTRY_SHARED_ID, NAME, VALUE) into the FIELD table.
      */
-    public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
-        connection.setAutoCommit(false); // disable auto commit due to transaction
-
-        try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
-
-            if (sharedEntryOptional.isEmpty()) {
-                return;
-            }
-
-            BibEntry sharedBibEntry = sharedEntryOptional.get();
-
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
-            // update only if local version is higher or the entries are equal
-            if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
-                                                                                     .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
-
-                // updating entry type
-                String updateEntryTypeQuery = "UPDATE " +
-                        escape_Table("ENTRY") +
-                        " SET " +
-                        escape("TYPE") +
-                        " = ?, " +
-                        escape("VERSION") +
-                        " = " +
-                        escape("VERSION") +
-                        " + 1 WHERE " +
-                        escape("SHARED_ID") +
-                        " = ?";
-
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
-
-                connection.commit(); // apply all changes in current transaction
-            } else {
-                throw new OfflineLockException(localBibEntry, sharedBibEntry);
-            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
-            connection.rollback(); // undo changes made in current transaction
-        } finally {
-            connection.setAutoCommit(true); // enable auto commit mode again
-        }
+    protected String getInsertIntoFieldTableQuery(int rows) {
+        return "INSERT INTO " +
+                escape_Table("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?)" +
+                // Number of commas is rows - 1
+                ", (?, ?, ?)".repeat(rows - 1);
     }
 
     /**
-     * Helping method. Removes shared fields which do not exist locally
+     * Updates the whole {@link BibEntry} on shared database.
+     *
+     * @param localBibEntry {@link BibEntry} affected by changes
+     * @throws OfflineLockException if the shared entry is newer than the local one
+     * @throws SQLException         in case of error
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
-        Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
-        nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
-            }
+    public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+        List<OfflineLockException> conflicts = updateEntries(Collections.singletonList(localBibEntry));
+        if (!conflicts.isEmpty()) {
+            throw conflicts.getFirst();
         }
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Updates the given entries on shared database. The entries are processed in batches of
+     * {@link #ROWS_PER_STATEMENT} entries: The shared entries of a batch are fetched by a single query, and the changed
+     * fields and entry types are written as JDBC batches in one transaction. The prepared statements are reused for all
+     * batches.
+     * <p>
+     * An entry is only updated if its local version is not lower than the shared one or the entries are equal.
+     * Afterwards, the local version is the new shared version. Entries not present on shared database are skipped. If
+     * the transaction of a batch fails, none of its entries is updated or reported as conflict.
+     *
+     * @param localBibEntries {@link BibEntry} affected by changes
+     * @return a {@link OfflineLockException} for each entry which was not updated, because the shared entry is newer
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
-            }
-
-            String selectFieldQuery = "SELECT * FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
+    public List<OfflineLockException> updateEntries(List<BibEntry> localBibEntries) throws SQLException {
+        String deleteFieldQuery = "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+        String updateFieldQuery = "UPDATE " +
+                escape_Table("FIELD") +
+                " SET " +
+                escape("VALUE") +
+                " = ? WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+        String insertFieldQuery = getInsertIntoFieldTableQuery(1);
+        String updateEntryTypeQuery = "UPDATE " +
+                escape_Table("ENTRY") +
+                " SET " +
+                escape("TYPE") +
+                " = ?, " +
+                escape("VERSION") +
+                " = " +
+                escape("VERSION") +
+                " + 1 WHERE " +
+                escape("SHARED_ID") +
+                " = ?";
+
+        List<OfflineLockException> conflicts = new ArrayList<>();
+        try (PreparedStatement deleteFieldStatement = connection.prepareStatement(deleteFieldQuery);
+             PreparedStatement updateFieldStatement = connection.prepareStatement(updateFieldQuery);
+             PreparedStatement insertFieldStatement = connection.prepareStatement(insertFieldQuery);
+             PreparedStatement updateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
+            for (List<BibEntry> batch : Lists.partition(localBibEntries, ROWS_PER_STATEMENT)) {
+                List<Integer> sharedIDs = getSharedIDs(batch);
+                if (sharedIDs.isEmpty()) {
+                    // Querying without IDs would fetch all entries
+                    continue;
+                }
+                Map<BibEntry, Integer> newVersions = new IdentityHashMap<>();
+                List<OfflineLockException> batchConflicts = new ArrayList<>();
+                try {
+                    executeInTransaction(() -> {
+                        Map<Integer, BibEntry> sharedEntries = new HashMap<>();
+                        for (BibEntry sharedEntry : getSharedEntries(sharedIDs)) {
+                            sharedEntries.put(sharedEntry.getSharedBibEntryData().getSharedID(), sharedEntry);
                         }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
+
+                        List<Integer> updatedIDs = new ArrayList<>();
+                        for (BibEntry localBibEntry : batch) {
+                            int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+                            BibEntry sharedBibEntry = sharedEntries.get(sharedID);
+                            if (sharedBibEntry == null) {
+                                continue;
+                            }
+
+                            // update only if local version is higher or the entries are equal
+                            if ((localBibEntry.getSharedBibEntryData().getVersion() < sharedBibEntry.getSharedBibEntryData().getVersion())
+                                    && !localBibEntry.equals(sharedBibEntry)) {
+                                batchConflicts.add(new OfflineLockException(localBibEntry, sharedBibEntry));
+                                continue;
+                            }
+
+                            // remove shared fields which do not exist locally
+                            for (Field sharedField : sharedBibEntry.getFields()) {
+                                if (!localBibEntry.hasField(sharedField)) {
+                                    deleteFieldStatement.setString(1, sharedField.getName());
+                                    deleteFieldStatement.setInt(2, sharedID);
+                                    deleteFieldStatement.addBatch();
+                                }
+                            }
+
+                            // insert new fields, update only the changed ones
+                            for (Map.Entry<Field, String> localField : localBibEntry.getFieldMap().entrySet()) {
+                                Optional<String> sharedValue = sharedBibEntry.getField(localField.getKey());
+                                if (sharedValue.isEmpty()) {
+                                    insertFieldStatement.setInt(1, sharedID);
+                                    insertFieldStatement.setString(2, localField.getKey().getName());
+                                    insertFieldStatement.setString(3, localField.getValue());
+                                    insertFieldStatement.addBatch();
+                                } else if (!sharedValue.get().equals(localField.getValue())) {
+                                    updateFieldStatement.setString(1, localField.getValue());
+                                    updateFieldStatement.setString(2, localField.getKey().getName());
+                                    updateFieldStatement.setInt(3, sharedID);
+                                    updateFieldStatement.addBatch();
+                                }
+                            }
+
+                            // updating entry type
+                            updateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
+                            updateEntryTypeStatement.setInt(2, sharedID);
+                            updateEntryTypeStatement.addBatch();
+                            updatedIDs.add(sharedID);
+                            newVersions.put(localBibEntry, sharedBibEntry.getSharedBibEntryData().getVersion() + 1);
                         }
-                    }
+
+                        deleteFieldStatement.executeBatch();
+                        updateFieldStatement.executeBatch();
+                        insertFieldStatement.executeBatch();
+                        updateEntryTypeStatement.executeBatch();
+                        announceEntryChanges(updatedIDs);
+                    });
+                    // The local entries correspond to the shared ones now. This prevents refusing further local
+                    // changes before the next synchronization pulls the new versions.
+                    newVersions.forEach((localBibEntry, version) -> localBibEntry.getSharedBibEntryData().setVersion(version));
+                    // Conflicts found in a rolled back transaction are not reported, as the shared entries read are
+                    // not valid then
+                    conflicts.addAll(batchConflicts);
+                } catch (SQLException e) {
+                    LOGGER.error("SQL Error: ", e);
+                    // statements of the rolled back transaction must not be executed with the next batch
+                    deleteFieldStatement.clearBatch();
+                    updateFieldStatement.clearBatch();
+                    insertFieldStatement.clearBatch();
+                    updateEntryTypeStatement.clearBatch();
                 }
             }
         }
+        return conflicts;
     }
 
     /**
@@ -455,25 +479,51 @@ public abstract class DBMSProcessor {
         if (bibEntries.isEmpty()) {
             return;
         }
-        StringBuilder query = new StringBuilder()
-                .append("DELETE FROM ")
-                .append(escape_Table("ENTRY"))
-                .append(" WHERE ")
-                .append(escape("SHARED_ID"))
-                .append(" IN (");
-        query.append("?, ".repeat(bibEntries.size() - 1));
-        query.append("?)");
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            for (int j = 0; j < bibEntries.size(); j++) {
-                preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
-            }
-            preparedStatement.executeUpdate();
+        try {
+            executeInTransaction(() -> {
+                try (MultiRowStatement deleteStatement = new MultiRowStatement(this::getDeleteFromEntryTableQuery, connection::prepareStatement)) {
+                    for (List<BibEntry> partition : Lists.partition(bibEntries, ROWS_PER_STATEMENT)) {
+                        PreparedStatement preparedStatement = deleteStatement.forRows(partition.size());
+                        for (int j = 0; j < partition.size(); j++) {
+                            preparedStatement.setInt(j + 1, partition.get(j).getSharedBibEntryData().getSharedID());
+                        }
+                        preparedStatement.executeUpdate();
+                    }
+                }
+                announceEntryChanges(getSharedIDs(bibEntries));
+            });
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
     }
 
+    private String getDeleteFromEntryTableQuery(int rows) {
+        return "DELETE FROM " +
+                escape_Table("ENTRY") +
+                " WHERE " +
+                escape("SHARED_ID") +
+                " IN (" +
+                "?, ".repeat(rows - 1) +
+                "?)";
+    }
+
+    /**
+     * Runs the given operation in a transaction, which is rolled back if the operation fails.
+     */
+    private void executeInTransaction(SQLOperation operation) throws SQLException {
+        connection.setAutoCommit(false); // disable auto commit due to transaction
+        try {
+            operation.execute();
+            connection.commit(); // apply all changes in current transaction
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback(); // undo changes made in current transaction
+            throw e;
+        } finally {
+            connection.setAutoCommit(true); // enable auto commit mode again
+        }
+    }
+
+
     /**
      * @param sharedID Entry ID
      * @return instance of {@link BibEntry}
@@ -488,13 +538,13 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Queries the database for shared entries in 500 element batches.
+     * Queries the database for shared entries in batches of {@link #ROWS_PER_STATEMENT} elements.
      * Optionally, they are filtered by the given list of sharedIds
      *
      * @param sharedIDs the list of Ids to filter. If list is empty, then no filter is applied
      */
     public List<BibEntry> partitionAndGetSharedEntries(List<Integer> sharedIDs) {
-        List<List<Integer>> partitions = Lists.partition(sharedIDs, 500);
+        List<List<Integer>> partitions = Lists.partition(sharedIDs, ROWS_PER_STATEMENT);
         List<BibEntry> result = new ArrayList<>();
 
         for (List<Integer> sublist : partitions) {
@@ -600,6 +650,148 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Checks whether the shared database has a change log, i.e., the ENTRY_CHANGE table and the triggers filling it.
+     * The triggers append the shared ID of each inserted, updated and removed entry to the log, also for changes done
+     * by older versions of JabRef. This allows clients to pull only the changes since their last synchronization.
+     */
+    private boolean hasChangeLog() {
+        if (changeLogAvailable == null) {
+            try {
+                changeLogAvailable = checkChangeLogTriggers();
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error while checking for the change log", e);
+                return false;
+            }
+        }
+        return changeLogAvailable;
+    }
+
+    /**
+     * Checks whether the triggers appending to the change log exist
+     */
+    abstract boolean checkChangeLogTriggers() throws SQLException;
+
+    /**
+     * Sets up the triggers appending to the change log if they do not exist yet. Existing triggers are kept, as
+     * replacing them would leave a moment in which the changes of other clients are not logged. Creating triggers may
+     * need privileges the user does not have. Then, the clients fall back to comparing all entries.
+     *
+     * @param statements the statements creating the triggers
+     */
+    protected void setUpChangeLogTriggers(String... statements) {
+        try {
+            if (checkChangeLogTriggers()) {
+                return;
+            }
+            for (String statement : statements) {
+                connection.createStatement().execute(statement);
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Could not set up the change log of the shared database. Changes are pulled by comparing all entries.", e);
+        }
+    }
+
+    /**
+     * Notifies the other clients about changed entries. The changes themselves are appended to the change log by the
+     * triggers of the database.
+     */
+    private void announceEntryChanges(Collection<Integer> sharedIDs) {
+        if (!sharedIDs.isEmpty()) {
+            notifyClientsAboutEntryChanges(sharedIDs);
+        }
+    }
+
+    private static List<Integer> getSharedIDs(List<BibEntry> bibEntries) {
+        return bibEntries.stream()
+                         .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                         .filter(id -> id != -1)
+                         .toList();
+    }
+
+    /**
+     * Returns the highest sequence number of the change log. It is read before a complete synchronization, so that
+     * changes done meanwhile are pulled afterwards.
+     *
+     * @return an empty optional if the database has no change log
+     */
+    public OptionalLong getLatestChangeSequenceNumber() {
+        if (!hasChangeLog()) {
+            return OptionalLong.empty();
+        }
+        String selectQuery = "SELECT MAX(" +
+                escape("SEQUENCE_NUMBER") +
+                ") FROM " +
+                escape_Table("ENTRY_CHANGE");
+
+        try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery)) {
+            // MAX of an empty table is NULL, which is read as 0
+            return resultSet.next() ? OptionalLong.of(resultSet.getLong(1)) : OptionalLong.of(0);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Queries the change log for the entries changed after the given sequence number.
+     *
+     * @return an empty optional if the database has no change log or the query failed. Then, all entries have to be
+     * synchronized.
+     */
+    public Optional<SharedEntryChanges> getEntryChangesSince(long sequenceNumber) {
+        if (!hasChangeLog()) {
+            return Optional.empty();
+        }
+        String selectQuery = "SELECT " +
+                escape("SEQUENCE_NUMBER") +
+                ", " +
+                escape("SHARED_ID") +
+                " FROM " +
+                escape_Table("ENTRY_CHANGE") +
+                " WHERE " +
+                escape("SEQUENCE_NUMBER") +
+                " > ?";
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectQuery)) {
+            preparedStatement.setLong(1, sequenceNumber);
+            List<Long> sequenceNumbers = new ArrayList<>();
+            Set<Integer> sharedIDs = new HashSet<>();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    sequenceNumbers.add(resultSet.getLong("SEQUENCE_NUMBER"));
+                    sharedIDs.add(resultSet.getInt("SHARED_ID"));
+                }
+            }
+            return Optional.of(new SharedEntryChanges(sequenceNumbers, sharedIDs));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Removes the changes up to the given sequence number from the change log. Only called for changes which all
+     * clients have read (see {@link ChangeLogPosition}).
+     */
+    public void pruneChangeLog(long sequenceNumber) {
+        if (!hasChangeLog()) {
+            return;
+        }
+        String deleteQuery = "DELETE FROM " +
+                escape_Table("ENTRY_CHANGE") +
+                " WHERE " +
+                escape("SEQUENCE_NUMBER") +
+                " <= ?";
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(deleteQuery)) {
+            preparedStatement.setLong(1, sequenceNumber);
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
@@ -704,4 +896,22 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients connected to the same DBMS about the changed entries. Needs to be implemented if LiveUpdate
+     * of single entries is supported by the DBMS
+     *
+     * @param sharedIDs the shared IDs of the inserted, updated or removed entries
+     */
+    protected void notifyClientsAboutEntryChanges(@SuppressWarnings("unused") Collection<Integer> sharedIDs) {
+        // nothing to do
+    }
+
+    private record FieldRow(int sharedID, String name, String value) {
+    }
+
+    @FunctionalInterface
+    private interface SQLOperation {
+        void execute() throws SQLException;
+    }
 }
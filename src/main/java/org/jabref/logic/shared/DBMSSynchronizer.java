@@ -2,12 +2,18 @@ package org.jabref.logic.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
@@ -27,6 +33,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -44,6 +51,11 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    /**
+     * The maximal time a local field change is pending before it is written to the shared database
+     */
+    private static final Duration WRITE_DELAY = Duration.ofMillis(500);
+
     private DBMSProcessor dbmsProcessor;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
@@ -54,10 +66,34 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final Character keywordSeparator;
     private final GlobalCitationKeyPattern globalCiteKeyPattern;
     private final FileUpdateMonitor fileMonitor;
-    private Optional<BibEntry> lastEntryChanged;
+    private final WriteBehindQueue writeQueue;
+
+    /**
+     * Runs the synchronizations not started by a local change, i.e., the delayed writes and the pulls announced by the
+     * database system
+     */
+    private final Executor synchronizationExecutor;
+
+    /**
+     * Index of the local entries by their shared ID. Kept in sync by the entry events and rebuilt on each complete
+     * synchronization.
+     */
+    private final Map<Integer, BibEntry> localEntriesBySharedID = new ConcurrentHashMap<>();
 
+    /**
+     * The part of the change log of which all changes are pulled
+     */
+    private final ChangeLogPosition changeLogPosition = new ChangeLogPosition();
+
+    /**
+     * @param synchronizationExecutor runs the synchronizations not started by a local change. In JabRef, these run in
+     *                                the JavaFX thread like the ones started by local changes. Thus, the database
+     *                                connection and the local database are used by a single thread, and the events of
+     *                                the synchronizer are posted in the JavaFX thread.
+     */
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
-                            GlobalCitationKeyPattern globalCiteKeyPattern, FileUpdateMonitor fileMonitor) {
+                            GlobalCitationKeyPattern globalCiteKeyPattern, FileUpdateMonitor fileMonitor,
+                            Executor synchronizationExecutor) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
         this.bibDatabase = bibDatabaseContext.getDatabase();
         this.metaData = bibDatabaseContext.getMetaData();
@@ -65,7 +101,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.eventBus = new EventBus();
         this.keywordSeparator = keywordSeparator;
         this.globalCiteKeyPattern = Objects.requireNonNull(globalCiteKeyPattern);
-        this.lastEntryChanged = Optional.empty();
+        this.synchronizationExecutor = Objects.requireNonNull(synchronizationExecutor);
+        this.writeQueue = new WriteBehindQueue(this::writePendingEntries, WRITE_DELAY, synchronizationExecutor);
     }
 
     /**
@@ -77,30 +114,43 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            writeQueue.flush();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
-            // Reset last changed entry because it just has already been synchronized -> Why necessary?
-            lastEntryChanged = Optional.empty();
         }
+        indexLocalEntries(event.getBibEntries());
     }
 
     /**
-     * Listening method. Updates an existing shared {@link BibEntry}.
+     * Listening method. Queues the update of an existing shared {@link BibEntry}. Changes being filtered out, i.e.,
+     * single key strokes while editing a field, are merged and written after a short delay. Other changes, e.g., when
+     * switching to another field or entry, write all pending changes right away.
      */
     @Subscribe
     public void listen(FieldChangedEvent event) {
         BibEntry bibEntry = event.getBibEntry();
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
-        if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
+        if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event)) {
+            writeQueue.enqueue(bibEntry, event.getField());
+            if (!event.isFilteredOut()) {
+                writeQueue.flush();
+            }
+        }
+    }
+
+    /**
+     * Listening method. Updates all shared {@link BibEntry} changed by a bulk operation at once.
+     */
+    @Subscribe
+    public void listen(FieldsChangedBatchEvent event) {
+        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
-            synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
-        } else {
-            // Set new BibEntry that has been changed last
-            lastEntryChanged = Optional.of(bibEntry);
+            writeQueue.flush();
+            synchronizeSharedEntries(event.getBibEntries().stream()
+                                          .filter(this::isPresentLocalBibEntry)
+                                          .toList());
+            synchronizeLocalDatabase();
         }
     }
 
@@ -109,11 +159,13 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
+        // Before synchronizing, as the removal is part of the change log read then
+        unindexLocalEntries(event.getBibEntries());
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            writeQueue.flush();
             dbmsProcessor.removeEntries(event.getBibEntries());
             synchronizeLocalDatabase();
         }
@@ -164,6 +216,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * Only the entries listed in the change log of the shared database since the last synchronization are pulled. If
+     * the database has no change log, all entries are compared. As a fallback for changes missed by reading the change
+     * log, all entries are compared regularly, too (see {@link ChangeLogPosition}).
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -171,48 +227,121 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
+        OptionalLong readPosition = changeLogPosition.getReadPosition(Instant.now());
+        if (readPosition.isEmpty()) {
+            synchronizeAllEntries();
+            return;
+        }
+
+        Optional<SharedEntryChanges> changes = dbmsProcessor.getEntryChangesSince(readPosition.getAsLong());
+        if (changes.isEmpty()) {
+            synchronizeAllEntries();
+            return;
+        }
+        synchronizeEntries(changes.get().sharedIDs());
+        changeLogPosition.advance(changes.get().sequenceNumbers(), Instant.now());
+    }
+
+    /**
+     * Compares the versions of all shared entries with the local ones and pulls the changed entries.
+     */
+    private void synchronizeAllEntries() {
+        // Read before the entries, so that changes done meanwhile are pulled by the next synchronization
+        OptionalLong sequenceNumber = dbmsProcessor.getLatestChangeSequenceNumber();
+
         List<BibEntry> localEntries = bibDatabase.getEntries();
+        localEntriesBySharedID.clear();
+        indexLocalEntries(localEntries);
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        List<Integer> entriesToUpdateLocally = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToUpdateLocally.add(idVersionEntry.getKey());
+            }
+        }
+
+        if (!entriesToUpdateLocally.isEmpty()) {
+            for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToUpdateLocally)) {
+                BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+                if (localEntry != null) {
+                    updateLocalEntry(localEntry, sharedEntry);
+                }
             }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            insertLocalEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase));
+        }
+        Instant now = Instant.now();
+        changeLogPosition.reset(sequenceNumber, now);
+        changeLogPosition.pollPrunableSequenceNumber(now).ifPresent(dbmsProcessor::pruneChangeLog);
+    }
+
+    /**
+     * Pulls the given shared entries. Entries which do not exist on the shared database anymore are removed locally.
+     */
+    private void synchronizeEntries(Set<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            // an empty list would fetch all entries
+            return;
+        }
+
+        Set<Integer> removedIDs = new HashSet<>(sharedIDs);
+        List<BibEntry> entriesToInsert = new ArrayList<>();
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(new ArrayList<>(sharedIDs))) {
+            int sharedID = sharedEntry.getSharedBibEntryData().getSharedID();
+            removedIDs.remove(sharedID);
+            BibEntry localEntry = localEntriesBySharedID.get(sharedID);
+            if (localEntry == null) {
+                entriesToInsert.add(sharedEntry);
+            } else if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                updateLocalEntry(localEntry, sharedEntry);
+            }
+        }
+
+        List<BibEntry> entriesToRemove = removedIDs.stream()
+                                                   .map(localEntriesBySharedID::get)
+                                                   .filter(Objects::nonNull)
+                                                   .toList();
+        removeLocalEntries(entriesToRemove);
+        insertLocalEntries(entriesToInsert);
+    }
+
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        if (writeQueue.hasPendingChanges(localEntry)) {
+            // Would overwrite local changes not written yet. These are checked against the newer shared version when
+            // written, which refuses them.
+            return;
+        }
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
+    private void insertLocalEntries(List<BibEntry> sharedEntries) {
+        if (!sharedEntries.isEmpty()) {
+            bibDatabase.insertEntries(sharedEntries, EntriesEventSource.SHARED);
+            indexLocalEntries(sharedEntries);
         }
     }
 
@@ -227,10 +356,30 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                 localEntries.stream()
                             .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
                             .collect(Collectors.toList());
+        removeLocalEntries(entriesToRemove);
+    }
+
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
             bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
+            unindexLocalEntries(entriesToRemove);
+        }
+    }
+
+    private void indexLocalEntries(List<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            int sharedID = entry.getSharedBibEntryData().getSharedID();
+            if (sharedID != -1) {
+                localEntriesBySharedID.put(sharedID, entry);
+            }
+        }
+    }
+
+    private void unindexLocalEntries(List<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            localEntriesBySharedID.remove(entry.getSharedBibEntryData().getSharedID(), entry);
         }
     }
 
@@ -252,6 +401,29 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Synchronizes the given shared entries with the local ones. They are written in batches instead of one by one.
+     */
+    public void synchronizeSharedEntries(List<BibEntry> bibEntries) {
+        if (bibEntries.isEmpty() || !checkCurrentConnection()) {
+            return;
+        }
+        for (BibEntry bibEntry : bibEntries) {
+            BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
+        }
+        updateSharedEntries(bibEntries);
+    }
+
+    private void updateSharedEntries(List<BibEntry> bibEntries) {
+        try {
+            for (OfflineLockException exception : dbmsProcessor.updateEntries(bibEntries)) {
+                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+    }
+
     /**
      * Synchronizes all meta data locally.
      */
@@ -291,18 +463,16 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (!checkCurrentConnection()) {
             return;
         }
+        List<BibEntry> changedEntries = new ArrayList<>();
         for (BibEntry bibEntry : bibDatabase.getEntries()) {
-            try {
-                // synchronize only if changes were present
-                if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData).isEmpty()) {
-                    dbmsProcessor.updateEntry(bibEntry);
-                }
-            } catch (OfflineLockException exception) {
-                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-            } catch (SQLException e) {
-                LOGGER.error("SQL Error: ", e);
+            // synchronize only if changes were present
+            if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData).isEmpty()) {
+                changedEntries.add(bibEntry);
             }
         }
+        if (!changedEntries.isEmpty()) {
+            updateSharedEntries(changedEntries);
+        }
     }
 
     /**
@@ -314,34 +484,65 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
         // First synchronize entry, then synchronize database
-        pullWithLastEntry();
+        writeQueue.flush();
         synchronizeLocalDatabase();
         synchronizeLocalMetaData();
     }
 
     /**
-     * Synchronizes local BibEntries only if last entry changes still remain
+     * Pulls the given entries, e.g., announced by a notification of the database system. The change log is read by the
+     * next {@link #synchronizeLocalDatabase()} nevertheless, as notifications might get lost.
+     *
+     * @param sharedIDs the shared IDs of the changed entries
      */
-    public void pullLastEntryChanges() {
-        if (!lastEntryChanged.isEmpty()) {
-            if (!checkCurrentConnection()) {
-                return;
-            }
-            synchronizeLocalMetaData();
-            pullWithLastEntry();
-            // Pull changes for the case that there were some
-            synchronizeLocalDatabase();
+    public void pullChanges(Set<Integer> sharedIDs) {
+        if (!checkCurrentConnection()) {
+            return;
         }
+        writeQueue.flush();
+        synchronizeEntries(sharedIDs);
+    }
+
+    /**
+     * Pulls the changes announced by a notification of the database system. The notifications are received by another
+     * thread, thus the changes are pulled by the synchronization executor.
+     *
+     * @param sharedIDs the shared IDs of the changed entries, empty if all changes have to be pulled
+     */
+    public void pullAnnouncedChanges(Set<Integer> sharedIDs) {
+        synchronizationExecutor.execute(() -> {
+            if (sharedIDs.isEmpty()) {
+                pullChanges();
+            } else {
+                pullChanges(sharedIDs);
+            }
+        });
+    }
+
+    /**
+     * Writes the pending local changes to the shared database and waits until they are written
+     */
+    public void flushPendingChanges() {
+        writeQueue.flush();
     }
 
     /**
-     * Synchronizes local BibEntries and pulls remaining last entry changes
+     * Writes the entries having pending changes and pulls changes of others for the case that there were some.
+     * Called by the {@link WriteBehindQueue}.
      */
-    private void pullWithLastEntry() {
-        if (!lastEntryChanged.isEmpty() && isPresentLocalBibEntry(lastEntryChanged.get())) {
-            synchronizeSharedEntry(lastEntryChanged.get());
+    private void writePendingEntries(List<BibEntry> entries) {
+        if (!checkCurrentConnection()) {
+            return;
         }
-        lastEntryChanged = Optional.empty();
+        synchronizeLocalMetaData();
+        synchronizeSharedEntries(entries.stream()
+                                        .filter(this::isPresentLocalBibEntry)
+                                        .toList());
+        synchronizeLocalDatabase();
+    }
+
+    public WriteBehindMetrics getWriteQueueMetrics() {
+        return writeQueue.getMetrics();
     }
 
     /**
@@ -387,7 +588,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     @Override
     public void closeSharedDatabase() {
         // Submit remaining entry changes
-        pullLastEntryChanges();
+        writeQueue.close();
         try {
             dbmsProcessor.stopNotificationListener();
             currentConnection.close();
@@ -397,7 +598,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
-        return bibDatabase.getEntries().contains(bibEntry);
+        return (localEntriesBySharedID.get(bibEntry.getSharedBibEntryData().getSharedID()) == bibEntry)
+                || bibDatabase.getEntries().contains(bibEntry);
     }
 
     @Override
@@ -0,0 +1,57 @@
+package org.jabref.logic.shared;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.function.IntFunction;
+
+/**
+ * Holds a prepared statement affecting a number of rows at once, e.g., a multi-row insert or a delete with an
+ * {@code IN} list.
+ * <p>
+ * When writing a list in partitions, all partitions except the last one have the same size. Thus, the statement is
+ * prepared once and reused for these partitions. It is only prepared again if the number of rows changes.
+ */
+final class MultiRowStatement implements AutoCloseable {
+
+    @FunctionalInterface
+    interface StatementPreparer {
+        PreparedStatement prepare(String query) throws SQLException;
+    }
+
+    private final IntFunction<String> queryForRows;
+    private final StatementPreparer preparer;
+
+    private PreparedStatement statement;
+    private int rows;
+
+    /**
+     * @param queryForRows builds the query for the given number of rows
+     * @param preparer     prepares the statement, e.g., requesting generated keys
+     */
+    MultiRowStatement(IntFunction<String> queryForRows, StatementPreparer preparer) {
+        this.queryForRows = queryForRows;
+        this.preparer = preparer;
+    }
+
+    /**
+     * Returns the statement for the given number of rows. A previously returned statement for a different number of
+     * rows is closed.
+     */
+    PreparedStatement forRows(int rows) throws SQLException {
+        if ((statement == null) || (this.rows != rows)) {
+            close();
+            statement = preparer.prepare(queryForRows.apply(rows));
+            this.rows = rows;
+        }
+        return statement;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (statement != null) {
+            PreparedStatement toClose = statement;
+            statement = null;
+            toClose.close();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.shared;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
 
@@ -11,7 +12,7 @@ import org.jabref.model.metadata.MetaData;
 public class MySQLProcessor extends DBMSProcessor {
 
     private Integer VERSION_DB_STRUCT_DEFAULT = -1;
-    private Integer CURRENT_VERSION_DB_STRUCT = 1;
+    private Integer CURRENT_VERSION_DB_STRUCT = 3;
 
     public MySQLProcessor(DatabaseConnection connection) {
         super(connection);
@@ -42,6 +43,25 @@ public class MySQLProcessor extends DBMSProcessor {
                         "`KEY` varchar(255) NOT NULL," +
                         "`VALUE` text NOT NULL)");
 
+        // Added in version 2 of the structure. It starts empty, as clients synchronize all entries when connecting.
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `JABREF_ENTRY_CHANGE` (" +
+                        "`SEQUENCE_NUMBER` BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                        "`SHARED_ID` INT(11) NOT NULL)");
+
+        // Added in version 3 of the structure. Logs the changes of all clients, including older ones.
+        // The triggers are only dropped if not all of them exist, e.g., after a failed set up.
+        setUpChangeLogTriggers(
+                "DROP TRIGGER IF EXISTS `JABREF_ENTRY_INSERTED`",
+                "CREATE TRIGGER `JABREF_ENTRY_INSERTED` AFTER INSERT ON `JABREF_ENTRY` FOR EACH ROW " +
+                        "INSERT INTO `JABREF_ENTRY_CHANGE` (`SHARED_ID`) VALUES (NEW.`SHARED_ID`)",
+                "DROP TRIGGER IF EXISTS `JABREF_ENTRY_UPDATED`",
+                "CREATE TRIGGER `JABREF_ENTRY_UPDATED` AFTER UPDATE ON `JABREF_ENTRY` FOR EACH ROW " +
+                        "INSERT INTO `JABREF_ENTRY_CHANGE` (`SHARED_ID`) VALUES (NEW.`SHARED_ID`)",
+                "DROP TRIGGER IF EXISTS `JABREF_ENTRY_DELETED`",
+                "CREATE TRIGGER `JABREF_ENTRY_DELETED` AFTER DELETE ON `JABREF_ENTRY` FOR EACH ROW " +
+                        "INSERT INTO `JABREF_ENTRY_CHANGE` (`SHARED_ID`) VALUES (OLD.`SHARED_ID`)");
+
         Map<String, String> metadata = getSharedMetaData();
 
         if (metadata.get(MetaData.VERSION_DB_STRUCT) != null) {
@@ -56,7 +76,7 @@ public class MySQLProcessor extends DBMSProcessor {
 
         if (VERSION_DB_STRUCT_DEFAULT < CURRENT_VERSION_DB_STRUCT) {
             // We can to migrate from old table in new table
-            if (CURRENT_VERSION_DB_STRUCT == 1 && checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
+            if ((VERSION_DB_STRUCT_DEFAULT < 1) && checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
                 LOGGER.info("Migrating from VersionDBStructure == 0");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("ENTRY") + " SELECT * FROM `ENTRY`");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("FIELD") + " SELECT * FROM `FIELD`");
@@ -83,4 +103,13 @@ public class MySQLProcessor extends DBMSProcessor {
     Integer getCURRENT_VERSION_DB_STRUCT() {
         return CURRENT_VERSION_DB_STRUCT;
     }
+
+    @Override
+    boolean checkChangeLogTriggers() throws SQLException {
+        try (ResultSet resultSet = connection.createStatement().executeQuery(
+                "SELECT COUNT(*) FROM information_schema.TRIGGERS WHERE TRIGGER_SCHEMA = DATABASE() " +
+                        "AND TRIGGER_NAME IN ('JABREF_ENTRY_INSERTED', 'JABREF_ENTRY_UPDATED', 'JABREF_ENTRY_DELETED')")) {
+            return resultSet.next() && (resultSet.getInt(1) == 3);
+        }
+    }
 }
@@ -4,15 +4,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.listener.OracleNotificationListener;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.field.Field;
 import org.jabref.model.metadata.MetaData;
 
 import oracle.jdbc.OracleConnection;
@@ -69,6 +66,24 @@ public class OracleProcessor extends DBMSProcessor {
                         "\"KEY\"  VARCHAR2(255) NULL," +
                         "\"VALUE\"  CLOB NOT NULL)");
 
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE \"ENTRY_CHANGE\" (" +
+                        "\"SEQUENCE_NUMBER\" NUMBER NOT NULL, " +
+                        "\"SHARED_ID\" NUMBER NOT NULL, " +
+                        "CONSTRAINT \"ENTRY_CHANGE_PK\" PRIMARY KEY (\"SEQUENCE_NUMBER\"))");
+
+        connection.createStatement().executeUpdate("CREATE SEQUENCE \"ENTRY_CHANGE_SEQ\"");
+
+        connection.createStatement().executeUpdate("CREATE TRIGGER \"ENTRY_CHANGE_T\" BEFORE INSERT ON \"ENTRY_CHANGE\" " +
+                "FOR EACH ROW BEGIN SELECT \"ENTRY_CHANGE_SEQ\".NEXTVAL INTO :NEW.sequence_number FROM DUAL; END;");
+
+        // Logs the changes of all clients, including older ones
+        setUpChangeLogTriggers("CREATE OR REPLACE TRIGGER \"ENTRY_CHANGED_T\" AFTER INSERT OR UPDATE OR DELETE ON \"ENTRY\" " +
+                "FOR EACH ROW BEGIN " +
+                "IF DELETING THEN INSERT INTO \"ENTRY_CHANGE\" (\"SHARED_ID\") VALUES (:OLD.\"SHARED_ID\"); " +
+                "ELSE INSERT INTO \"ENTRY_CHANGE\" (\"SHARED_ID\") VALUES (:NEW.\"SHARED_ID\"); " +
+                "END IF; END;");
+
         Map<String, String> metadata = getSharedMetaData();
 
         if (metadata.get(MetaData.VERSION_DB_STRUCT) != null) {
@@ -88,6 +103,18 @@ public class OracleProcessor extends DBMSProcessor {
         }
     }
 
+    /**
+     * The structure of Oracle databases is not versioned, thus databases set up by older versions of JabRef lack the
+     * change log
+     */
+    @Override
+    boolean checkChangeLogTriggers() throws SQLException {
+        try (ResultSet resultSet = connection.createStatement().executeQuery(
+                "SELECT 1 FROM user_triggers WHERE trigger_name = 'ENTRY_CHANGED_T' AND status = 'ENABLED'")) {
+            return resultSet.next();
+        }
+    }
+
     @Override
     String escape(String expression) {
         return expression;
@@ -132,76 +159,51 @@ public class OracleProcessor extends DBMSProcessor {
         }
     }
 
+    /**
+     * Oracle returns the generated key of a single row only. Thus, the entries are inserted one by one, reusing the
+     * prepared statement.
+     */
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> entries) {
-        try {
+    protected void insertIntoEntryTable(List<BibEntry> entries) throws SQLException {
+        String insertIntoEntryQuery =
+                "INSERT INTO " +
+                        escape_Table("ENTRY") +
+                        "(" +
+                        escape("TYPE") +
+                        ") VALUES(?)";
+
+        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery,
+                new String[]{"SHARED_ID"})) {
             for (BibEntry entry : entries) {
-                String insertIntoEntryQuery =
-                        "INSERT INTO " +
-                                escape_Table("ENTRY") +
-                                "(" +
-                                escape("TYPE") +
-                                ") VALUES(?)";
-
-                try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery,
-                        new String[]{"SHARED_ID"})) {
-
-                    preparedEntryStatement.setString(1, entry.getType().getName());
-                    preparedEntryStatement.executeUpdate();
-
-                    try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                        if (generatedKeys.next()) {
-                            entry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
-                        }
+                preparedEntryStatement.setString(1, entry.getType().getName());
+                preparedEntryStatement.executeUpdate();
+
+                try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        entry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
                     }
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during entry insertion", e);
         }
     }
 
     @Override
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(entry -> new ArrayList<>(entry.getFields()))
-                                                 .collect(Collectors.toList());
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT ALL");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
-            for (int i = 0; i < numFields; i++) {
-                insertFieldQuery.append(" INTO ")
-                                .append(escape_Table("FIELD"))
-                                .append(" (")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES (?, ?, ?)");
-            }
-            insertFieldQuery.append(" SELECT * FROM DUAL");
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
-                }
-                preparedFieldStatement.executeUpdate();
-            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during field insertion", e);
+    protected String getInsertIntoFieldTableQuery(int rows) {
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT ALL");
+        for (int i = 0; i < rows; i++) {
+            insertFieldQuery.append(" INTO ")
+                            .append(escape_Table("FIELD"))
+                            .append(" (")
+                            .append(escape("ENTRY_SHARED_ID"))
+                            .append(", ")
+                            .append(escape("NAME"))
+                            .append(", ")
+                            .append(escape("VALUE"))
+                            .append(") VALUES (?, ?, ?)");
         }
+        insertFieldQuery.append(" SELECT * FROM DUAL");
+        return insertFieldQuery.toString();
     }
 
     @Override
@@ -4,12 +4,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
 
 import org.jabref.gui.JabRefExecutorService;
+import org.jabref.logic.shared.listener.LiveUpdateNotification;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
-import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.MetaData;
 
 import org.postgresql.PGConnection;
@@ -19,10 +19,13 @@ import org.postgresql.PGConnection;
  */
 public class PostgreSQLProcessor extends DBMSProcessor {
 
+    // LISTEN folds the unquoted channel name jabrefLiveUpdate to lower case, pg_notify does not
+    private static final String NOTIFICATION_CHANNEL = "jabrefliveupdate";
+
     private PostgresSQLNotificationListener listener;
 
     private int VERSION_DB_STRUCT_DEFAULT = -1;
-    private final int CURRENT_VERSION_DB_STRUCT = 1;
+    private final int CURRENT_VERSION_DB_STRUCT = 3;
 
     public PostgreSQLProcessor(DatabaseConnection connection) {
         super(connection);
@@ -36,7 +39,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     @Override
     public void setUp() throws SQLException {
 
-        if (CURRENT_VERSION_DB_STRUCT == 1 && checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
+        if (checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
             // checkTableAvailability does not distinguish if same table name exists in different schemas
             // VERSION_DB_STRUCT_DEFAULT must be forced
             VERSION_DB_STRUCT_DEFAULT = 0;
@@ -61,6 +64,25 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                         + "\"KEY\" VARCHAR,"
                         + "\"VALUE\" TEXT)");
 
+        // Added in version 2 of the structure. It starts empty, as clients synchronize all entries when connecting.
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS " + escape_Table("ENTRY_CHANGE") + " (" +
+                        "\"SEQUENCE_NUMBER\" BIGSERIAL PRIMARY KEY, " +
+                        "\"SHARED_ID\" INTEGER NOT NULL)");
+
+        // Added in version 3 of the structure. Logs the changes of all clients, including older ones.
+        setUpChangeLogTriggers(
+                "CREATE OR REPLACE FUNCTION jabref.log_entry_change() RETURNS TRIGGER AS $$ BEGIN " +
+                        "IF (TG_OP = 'DELETE') THEN " +
+                        "INSERT INTO " + escape_Table("ENTRY_CHANGE") + " (\"SHARED_ID\") VALUES (OLD.\"SHARED_ID\"); " +
+                        "ELSE " +
+                        "INSERT INTO " + escape_Table("ENTRY_CHANGE") + " (\"SHARED_ID\") VALUES (NEW.\"SHARED_ID\"); " +
+                        "END IF; " +
+                        "RETURN NULL; " +
+                        "END; $$ LANGUAGE plpgsql",
+                "CREATE TRIGGER \"ENTRY_CHANGED\" AFTER INSERT OR UPDATE OR DELETE ON " + escape_Table("ENTRY") +
+                        " FOR EACH ROW EXECUTE PROCEDURE jabref.log_entry_change()");
+
         Map<String, String> metadata = getSharedMetaData();
 
         if (metadata.get(MetaData.VERSION_DB_STRUCT) != null) {
@@ -76,7 +98,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
         if (VERSION_DB_STRUCT_DEFAULT < CURRENT_VERSION_DB_STRUCT) {
             // We can to migrate from old table in new table
-            if (VERSION_DB_STRUCT_DEFAULT == 0 && CURRENT_VERSION_DB_STRUCT == 1) {
+            if (VERSION_DB_STRUCT_DEFAULT == 0) {
                 LOGGER.info("Migrating from VersionDBStructure == 0");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("ENTRY") + " SELECT * FROM \"ENTRY\"");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("FIELD") + " SELECT * FROM \"FIELD\"");
@@ -90,37 +112,12 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    /**
+     * Requests all columns of the inserted rows, of which SHARED_ID is the first one
+     */
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
-        StringBuilder insertIntoEntryQuery = new StringBuilder()
-                .append("INSERT INTO ")
-                .append(escape_Table("ENTRY"))
-                .append("(")
-                .append(escape("TYPE"))
-                .append(") VALUES(?)");
-        // Number of commas is bibEntries.size() - 1
-        insertIntoEntryQuery.append(", (?)".repeat(Math.max(0, bibEntries.size() - 1)));
-        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString(),
-                Statement.RETURN_GENERATED_KEYS)) {
-            for (int i = 0; i < bibEntries.size(); i++) {
-                preparedEntryStatement.setString(i + 1, bibEntries.get(i).getType().getName());
-            }
-            preparedEntryStatement.executeUpdate();
-
-            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                // The following assumes that we get the generated keys in the order the entries were inserted
-                // This should be the case
-                for (BibEntry bibEntry : bibEntries) {
-                    generatedKeys.next();
-                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1));
-                }
-                if (generatedKeys.next()) {
-                    LOGGER.error("Some shared IDs left unassigned");
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during entry insertion", e);
-        }
+    protected PreparedStatement prepareInsertIntoEntryTable(String query) throws SQLException {
+        return connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
     }
 
     @Override
@@ -138,6 +135,14 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         return CURRENT_VERSION_DB_STRUCT;
     }
 
+    @Override
+    boolean checkChangeLogTriggers() throws SQLException {
+        try (ResultSet resultSet = connection.createStatement().executeQuery(
+                "SELECT 1 FROM information_schema.triggers WHERE trigger_schema = 'jabref' AND trigger_name = 'ENTRY_CHANGED'")) {
+            return resultSet.next();
+        }
+    }
+
     @Override
     public void startNotificationListener(DBMSSynchronizer dbmsSynchronizer) {
         // Disable cleanup output of ThreadedHousekeeper
@@ -172,4 +177,19 @@ public class PostgreSQLProcessor extends DBMSProcessor {
             LOGGER.error("SQL Error during client notification", e);
         }
     }
+
+    /**
+     * Sends the changed IDs along, so that the other clients can pull exactly these entries. Inside a transaction,
+     * PostgreSQL delivers the notification on commit.
+     */
+    @Override
+    protected void notifyClientsAboutEntryChanges(Collection<Integer> sharedIDs) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            preparedStatement.setString(1, NOTIFICATION_CHANNEL);
+            preparedStatement.setString(2, LiveUpdateNotification.of(PROCESSOR_ID, sharedIDs).toPayload());
+            preparedStatement.execute();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during client notification", e);
+        }
+    }
 }
@@ -0,0 +1,13 @@
+package org.jabref.logic.shared;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entries changed on the shared database according to its change log.
+ *
+ * @param sequenceNumbers the sequence numbers of the change log read (see {@link ChangeLogPosition})
+ * @param sharedIDs       the IDs of the entries inserted, updated or removed
+ */
+public record SharedEntryChanges(List<Long> sequenceNumbers, Set<Integer> sharedIDs) {
+}
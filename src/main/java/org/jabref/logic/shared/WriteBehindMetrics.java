@@ -0,0 +1,113 @@
+package org.jabref.logic.shared;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects numbers of a {@link WriteBehindQueue}: the number of pending field changes, how many changes were merged
+ * into pending ones and the latency of writing the pending entries to the shared database.
+ */
+public class WriteBehindMetrics {
+
+    private final LongAdder enqueuedChanges = new LongAdder();
+    private final LongAdder mergedChanges = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedEntries = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private volatile int queueDepth;
+    private volatile int maxQueueDepth;
+    private volatile long lastFlushNanos;
+
+    /**
+     * @param merged     whether the change was merged into a pending change of the same entry and field
+     * @param queueDepth the number of pending changes afterwards
+     */
+    void recordEnqueued(boolean merged, int queueDepth) {
+        enqueuedChanges.increment();
+        if (merged) {
+            mergedChanges.increment();
+        }
+        updateQueueDepth(queueDepth);
+    }
+
+    void updateQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+        if (queueDepth > maxQueueDepth) {
+            maxQueueDepth = queueDepth;
+        }
+    }
+
+    void recordFlush(int entries, long nanos) {
+        flushes.increment();
+        flushedEntries.add(entries);
+        flushNanos.add(nanos);
+        lastFlushNanos = nanos;
+    }
+
+    public void reset() {
+        enqueuedChanges.reset();
+        mergedChanges.reset();
+        flushes.reset();
+        flushedEntries.reset();
+        flushNanos.reset();
+        maxQueueDepth = queueDepth;
+        lastFlushNanos = 0;
+    }
+
+    /**
+     * Returns the number of pending changes, counting each changed field of each entry once
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public long getEnqueuedChanges() {
+        return enqueuedChanges.sum();
+    }
+
+    /**
+     * Returns the number of changes which did not cause an additional write, because the same field of the same entry
+     * was already pending
+     */
+    public long getMergedChanges() {
+        return mergedChanges.sum();
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    public long getFlushedEntries() {
+        return flushedEntries.sum();
+    }
+
+    public Duration getAverageFlushLatency() {
+        long count = flushes.sum();
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(flushNanos.sum() / count);
+    }
+
+    public Duration getLastFlushLatency() {
+        return Duration.ofNanos(lastFlushNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindMetrics{" +
+                "queueDepth=" + getQueueDepth() +
+                ", maxQueueDepth=" + getMaxQueueDepth() +
+                ", enqueuedChanges=" + getEnqueuedChanges() +
+                ", mergedChanges=" + getMergedChanges() +
+                ", flushes=" + getFlushes() +
+                ", flushedEntries=" + getFlushedEntries() +
+                ", averageFlushLatency=" + getAverageFlushLatency().toMillis() + "ms" +
+                ", lastFlushLatency=" + getLastFlushLatency().toMillis() + "ms" +
+                '}';
+    }
+}
@@ -0,0 +1,192 @@
+package org.jabref.logic.shared;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jabref.model.database.EntryIndexes;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delays and coalesces the writing of local field changes to the shared database.
+ * <p>
+ * Typing in the entry editor changes a field with each key stroke. Instead of writing each change, the changed fields
+ * are collected per entry. Further changes of a pending field are merged into the pending change. The pending entries
+ * are written at once
+ * <ul>
+ *     <li>when the flush delay passed since the first pending change,</li>
+ *     <li>when a field of another entry is changed (in the background),</li>
+ *     <li>or when {@link #flush()} is called, e.g., before other synchronizations or when closing the database.</li>
+ * </ul>
+ * The writer gets the entries themselves, thus their current content is written and merged changes are never lost. It
+ * is responsible for the optimistic locking, i.e., entries whose shared version is newer are refused by the writer.
+ * <p>
+ * The delayed writes are run by the given flush executor, not by the thread timing them. Thus, they can run in the
+ * same thread as the other synchronizations using the database connection, e.g., the JavaFX thread.
+ */
+public class WriteBehindQueue implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindQueue.class);
+
+    private final Consumer<List<BibEntry>> writer;
+    private final long flushDelayMillis;
+    private final Executor flushExecutor;
+    private final ScheduledThreadPoolExecutor executor;
+    private final WriteBehindMetrics metrics = new WriteBehindMetrics();
+
+    /**
+     * Serializes the flushes, so that two flushes never use the database connection at the same time. Only contended
+     * if flushes are requested by several threads.
+     */
+    private final Object flushLock = new Object();
+
+    /**
+     * The changed fields by entry, see {@link EntryIndexes} for the comparison by identity. Guarded by this.
+     */
+    private final Map<BibEntry, Set<Field>> pendingChanges = new IdentityHashMap<>();
+    private int pendingFields;
+    private ScheduledFuture<?> scheduledFlush;
+    private long scheduledFlushTime;
+
+    /**
+     * @param writer        writes the given entries to the shared database
+     * @param flushDelay    the maximal time a change is pending, unless a flush is requested earlier
+     * @param flushExecutor runs the delayed flushes
+     */
+    public WriteBehindQueue(Consumer<List<BibEntry>> writer, Duration flushDelay, Executor flushExecutor) {
+        this.writer = writer;
+        this.flushDelayMillis = flushDelay.toMillis();
+        this.flushExecutor = flushExecutor;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "JabRef shared database write-behind timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Adds the change of the given field to the pending changes. A change of another entry than the pending ones starts
+     * writing the pending changes.
+     */
+    public synchronized void enqueue(BibEntry entry, Field field) {
+        boolean isEntrySwitched = !pendingChanges.isEmpty() && !pendingChanges.containsKey(entry);
+        boolean isNewChange = pendingChanges.computeIfAbsent(entry, key -> new HashSet<>()).add(field);
+        if (isNewChange) {
+            pendingFields++;
+        }
+        metrics.recordEnqueued(!isNewChange, pendingFields);
+        scheduleFlush(isEntrySwitched ? 0 : flushDelayMillis);
+    }
+
+    public synchronized boolean hasPendingChanges(BibEntry entry) {
+        return pendingChanges.containsKey(entry);
+    }
+
+    /**
+     * Writes the pending changes and waits until they are written, including the ones being written in the
+     * background. If the writer fails, the changes stay pending and are written by the next flush.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<BibEntry, Set<Field>> flushedChanges;
+            synchronized (this) {
+                if (scheduledFlush != null) {
+                    scheduledFlush.cancel(false);
+                    scheduledFlush = null;
+                }
+                if (pendingChanges.isEmpty()) {
+                    return;
+                }
+                flushedChanges = new IdentityHashMap<>(pendingChanges);
+                pendingChanges.clear();
+                pendingFields = 0;
+                metrics.updateQueueDepth(0);
+            }
+
+            List<BibEntry> entries = new ArrayList<>(flushedChanges.keySet());
+            long start = System.nanoTime();
+            boolean isWritten = false;
+            try {
+                writer.accept(entries);
+                isWritten = true;
+            } finally {
+                metrics.recordFlush(entries.size(), System.nanoTime() - start);
+                if (!isWritten) {
+                    requeue(flushedChanges);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds changes which could not be written to the pending ones, which may have been enqueued meanwhile
+     */
+    private synchronized void requeue(Map<BibEntry, Set<Field>> changes) {
+        changes.forEach((entry, fields) -> {
+            Set<Field> pendingFieldsOfEntry = pendingChanges.computeIfAbsent(entry, key -> new HashSet<>());
+            for (Field field : fields) {
+                if (pendingFieldsOfEntry.add(field)) {
+                    pendingFields++;
+                }
+            }
+        });
+        metrics.updateQueueDepth(pendingFields);
+    }
+
+    public WriteBehindMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Writes the pending changes and stops the background writing
+     */
+    @Override
+    public void close() {
+        flush();
+        // The timer only hands the delayed flushes over to the flush executor, thus there is nothing to wait for
+        executor.shutdown();
+    }
+
+    /**
+     * Schedules a flush after the given delay, unless one is scheduled earlier already
+     */
+    private void scheduleFlush(long delayMillis) {
+        long flushTime = System.currentTimeMillis() + delayMillis;
+        if ((scheduledFlush != null) && !scheduledFlush.isDone()) {
+            if (scheduledFlushTime <= flushTime) {
+                return;
+            }
+            scheduledFlush.cancel(false);
+        }
+        try {
+            scheduledFlush = executor.schedule(() -> flushExecutor.execute(this::flushInBackground), delayMillis, TimeUnit.MILLISECONDS);
+            scheduledFlushTime = flushTime;
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Queue already closed, changes are written by the next flush.");
+        }
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not write pending changes to the shared database", e);
+        }
+    }
+}
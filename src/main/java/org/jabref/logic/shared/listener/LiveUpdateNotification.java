@@ -0,0 +1,66 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The payload of a live update notification sent via the database system: the sender and, if known, the shared IDs of
+ * the changed entries.
+ * <p>
+ * The payload has the format <code>senderID</code> or <code>senderID:id1,id2,...</code>. Without IDs, the receiver has
+ * to pull all changes.
+ *
+ * @param senderID  the {@link org.jabref.logic.shared.DBMSProcessor#PROCESSOR_ID} of the sender
+ * @param sharedIDs the changed entries, empty if unknown
+ */
+public record LiveUpdateNotification(String senderID, Set<Integer> sharedIDs) {
+
+    /**
+     * PostgreSQL limits the payload to less than 8000 bytes
+     */
+    static final int MAX_PAYLOAD_LENGTH = 7999;
+
+    private static final char ID_LIST_START = ':';
+    private static final String ID_SEPARATOR = ",";
+
+    public static LiveUpdateNotification of(String senderID, Collection<Integer> sharedIDs) {
+        return new LiveUpdateNotification(senderID, Set.copyOf(sharedIDs));
+    }
+
+    public static LiveUpdateNotification parse(String payload) {
+        int idListStart = payload.indexOf(ID_LIST_START);
+        if (idListStart < 0) {
+            return new LiveUpdateNotification(payload, Set.of());
+        }
+        try {
+            Set<Integer> sharedIDs = Arrays.stream(payload.substring(idListStart + 1).split(ID_SEPARATOR))
+                                           .filter(id -> !id.isBlank())
+                                           .map(Integer::valueOf)
+                                           .collect(Collectors.toSet());
+            return new LiveUpdateNotification(payload.substring(0, idListStart), sharedIDs);
+        } catch (NumberFormatException e) {
+            // unknown format, thus pull everything
+            return new LiveUpdateNotification(payload.substring(0, idListStart), Set.of());
+        }
+    }
+
+    /**
+     * Leaves out the IDs if the payload would become too long
+     */
+    public String toPayload() {
+        if (sharedIDs.isEmpty()) {
+            return senderID;
+        }
+        String payload = senderID + ID_LIST_START + sharedIDs.stream().map(String::valueOf).collect(Collectors.joining(ID_SEPARATOR));
+        if (payload.length() > MAX_PAYLOAD_LENGTH) {
+            return senderID;
+        }
+        return payload;
+    }
+
+    public boolean isSentBy(String processorID) {
+        return senderID.equals(processorID);
+    }
+}
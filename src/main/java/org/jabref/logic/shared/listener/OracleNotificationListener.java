@@ -1,5 +1,7 @@
 package org.jabref.logic.shared.listener;
 
+import java.util.Set;
+
 import org.jabref.logic.shared.DBMSSynchronizer;
 
 import oracle.jdbc.dcn.DatabaseChangeEvent;
@@ -18,6 +20,6 @@ public class OracleNotificationListener implements DatabaseChangeListener {
 
     @Override
     public void onDatabaseChangeNotification(DatabaseChangeEvent event) {
-        dbmsSynchronizer.pullChanges();
+        dbmsSynchronizer.pullAnnouncedChanges(Set.of());
     }
 }
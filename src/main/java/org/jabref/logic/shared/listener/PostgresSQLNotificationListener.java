@@ -1,6 +1,8 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -11,7 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A listener for PostgreSQL database notifications.
+ * A listener for PostgreSQL database notifications. Notifications about changed entries carry their shared IDs (see
+ * {@link LiveUpdateNotification}), so that only these entries are pulled.
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
@@ -35,11 +38,7 @@ public class PostgresSQLNotificationListener implements Runnable {
                 PGNotification notifications[] = pgConnection.getNotifications();
 
                 if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                    handleNotifications(notifications);
                 }
 
                 // Wait a while before checking again for new notifications
@@ -50,6 +49,32 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    /**
+     * Pulls the entries announced by the notifications of other clients at once. If a notification does not name the
+     * changed entries, all changes are pulled.
+     */
+    private void handleNotifications(PGNotification[] notifications) {
+        Set<Integer> changedSharedIDs = new HashSet<>();
+        boolean pullAllChanges = false;
+        for (PGNotification notification : notifications) {
+            LiveUpdateNotification liveUpdate = LiveUpdateNotification.parse(notification.getParameter());
+            if (liveUpdate.isSentBy(DBMSProcessor.PROCESSOR_ID)) {
+                continue;
+            }
+            if (liveUpdate.sharedIDs().isEmpty()) {
+                pullAllChanges = true;
+            } else {
+                changedSharedIDs.addAll(liveUpdate.sharedIDs());
+            }
+        }
+
+        if (pullAllChanges) {
+            dbmsSynchronizer.pullAnnouncedChanges(Set.of());
+        } else if (!changedSharedIDs.isEmpty()) {
+            dbmsSynchronizer.pullAnnouncedChanges(changedSharedIDs);
+        }
+    }
+
     public void stop() {
         stop = true;
     }
@@ -6,13 +6,15 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 import org.jabref.model.entry.field.Field;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 
 /**
- * Filters change events and only relays major changes.
+ * Filters change events and only relays major changes. A {@link FieldsChangedBatchEvent} of a bulk operation is relayed
+ * as a whole and never filtered out.
  */
 public class CoarseChangeFilter {
 
@@ -50,6 +52,14 @@ public class CoarseChangeFilter {
 
             lastFieldChanged = Optional.of(fieldChange.getField());
             lastEntryChanged = Optional.of(fieldChange.getBibEntry());
+        } else if (event instanceof FieldsChangedBatchEvent batch) {
+            // A bulk operation is always a major change, and it ends any manual edit
+            batch.setFilteredOut(false);
+            eventBus.post(batch);
+
+            FieldChangedEvent lastChange = batch.getFieldChangedEvents().getLast();
+            lastFieldChanged = Optional.of(lastChange.getField());
+            lastEntryChanged = Optional.of(lastChange.getBibEntry());
         } else {
             eventBus.post(event);
         }
@@ -0,0 +1,76 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.util.Objects;
+
+/**
+ * A {@link Reader} decoding the bytes of a {@link ByteBuffer}, e.g., of a memory-mapped file, on the fly.
+ * Only a small buffer of decoded characters is held in memory.
+ * <p>
+ * Decoding errors are handled as configured at the given decoder.
+ */
+public class ByteBufferReader extends Reader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ByteBuffer input;
+    private final CharsetDecoder decoder;
+    private final CharBuffer decoded = CharBuffer.allocate(BUFFER_SIZE);
+    private boolean inputDecoded;
+    private boolean flushed;
+
+    /**
+     * @param input the bytes between the position and the limit of the buffer are read; the buffer itself is not modified
+     */
+    public ByteBufferReader(ByteBuffer input, CharsetDecoder decoder) {
+        this.input = Objects.requireNonNull(input).duplicate();
+        this.decoder = Objects.requireNonNull(decoder).reset();
+        decoded.flip();
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!decoded.hasRemaining() && !fill()) {
+            return -1;
+        }
+        int count = Math.min(length, decoded.remaining());
+        decoded.get(buffer, offset, count);
+        return count;
+    }
+
+    /**
+     * Decodes the next characters
+     *
+     * @return false if the end of the input is reached
+     */
+    private boolean fill() throws IOException {
+        decoded.clear();
+        while ((decoded.position() == 0) && !flushed) {
+            if (inputDecoded) {
+                flushed = decoder.flush(decoded).isUnderflow();
+            } else {
+                CoderResult result = decoder.decode(input, decoded, true);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                inputDecoded = result.isUnderflow();
+            }
+        }
+        decoded.flip();
+        return decoded.hasRemaining();
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, the buffer is released by the garbage collector
+    }
+}
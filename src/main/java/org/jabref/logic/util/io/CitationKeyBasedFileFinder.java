@@ -1,11 +1,8 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -13,9 +10,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.model.entry.BibEntry;
@@ -24,9 +20,22 @@ import org.jabref.model.strings.StringUtil;
 class CitationKeyBasedFileFinder implements FileFinder {
 
     private final boolean exactKeyOnly;
+    private final Supplier<DirectoryIndex> directoryIndex;
 
+    /**
+     * Creates a finder which reads the directories again for each entry
+     */
     CitationKeyBasedFileFinder(boolean exactKeyOnly) {
+        this(exactKeyOnly, DirectoryIndex::new);
+    }
+
+    CitationKeyBasedFileFinder(boolean exactKeyOnly, DirectoryIndex directoryIndex) {
+        this(exactKeyOnly, () -> directoryIndex);
+    }
+
+    private CitationKeyBasedFileFinder(boolean exactKeyOnly, Supplier<DirectoryIndex> directoryIndex) {
         this.exactKeyOnly = exactKeyOnly;
+        this.directoryIndex = directoryIndex;
     }
 
     @Override
@@ -42,11 +51,11 @@ class CitationKeyBasedFileFinder implements FileFinder {
 
         List<Path> result = new ArrayList<>();
 
-        // First scan directories
-        Set<Path> filesWithExtension = findFilesByExtension(directories, extensions);
+        // Only files starting with the key (or the key cleaned for file names) can match
+        Set<Path> candidates = findFilesByNamePrefixes(directories, extensions, new HashSet<>(List.of(citeKey, FileNameCleaner.cleanFileName(citeKey))));
 
         // Now look for keys
-        for (Path file : filesWithExtension) {
+        for (Path file : candidates) {
             String name = file.getFileName().toString();
             String nameWithoutExtension = FileUtil.getBaseName(name);
 
@@ -76,21 +85,22 @@ class CitationKeyBasedFileFinder implements FileFinder {
     }
 
     /**
-     * Returns a list of all files in the given directories which have one of the given extension.
+     * Returns all files in the given directories which have one of the given extensions and whose name starts with
+     * one of the given prefixes.
      */
-    private Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) throws IOException {
+    private Set<Path> findFilesByNamePrefixes(List<Path> directories, List<String> extensions, Set<String> prefixes) throws IOException {
         Objects.requireNonNull(extensions, "Extensions must not be null!");
 
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) -> !Files.isDirectory(path)
-                && extensions.contains(FileUtil.getFileExtension(path).orElse(""));
-
+        DirectoryIndex index = directoryIndex.get();
         Set<Path> result = new HashSet<>();
         for (Path directory : directories) {
             if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
+                for (String prefix : prefixes) {
+                    for (Path file : index.getFilesByNamePrefix(directory, prefix)) {
+                        if (extensions.contains(FileUtil.getFileExtension(file).orElse(""))) {
+                            result.add(file);
+                        }
+                    }
                 }
             }
         }
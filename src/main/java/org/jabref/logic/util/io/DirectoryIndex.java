@@ -0,0 +1,265 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A snapshot of the files in some directories, which is shared by the {@link FileFinder}s of one run, e.g., when
+ * automatically linking the files of all entries of a library. Each directory is read at most once, afterwards finding
+ * the files of an entry is a lookup in memory.
+ * <p>
+ * Directories are read when they are needed for the first time. Whole directory trees are read in parallel using
+ * virtual threads, so that the latency of network shares does not add up. The files of the read trees are indexed by
+ * their name, so that files whose name starts with a given text are found without looking at each file.
+ * <p>
+ * Files created after a directory was read are not known to the index. Thus, the index should be discarded after the
+ * run. Symbolic links are followed; the tree of a directory reached twice (e.g., because of a link to a parent
+ * directory) is read only once.
+ * <p>
+ * If a {@link FileCatalog} is given, the directories it covers are not read from the file system, but taken from the
+ * catalog.
+ */
+public class DirectoryIndex {
+
+    /**
+     * The maximal number of directories read at the same time. Limits the load on the file system, especially if the
+     * directories are on a network share.
+     */
+    private static final int MAX_PARALLEL_READS = 16;
+
+    private final Semaphore readPermits = new Semaphore(MAX_PARALLEL_READS);
+
+    /**
+     * The content of the read directories, forming a tree starting at the directories requested first
+     */
+    private final Map<Path, DirectoryNode> directories = new ConcurrentHashMap<>();
+
+    /**
+     * The files of the read directory trees by their file name
+     */
+    private final NavigableMap<String, Set<Path>> filesByName = new ConcurrentSkipListMap<>();
+
+    /**
+     * The directories whose subdirectories are read completely
+     */
+    private final Set<Path> indexedTrees = ConcurrentHashMap.newKeySet();
+
+    private final Optional<FileCatalog> fileCatalog;
+
+    public DirectoryIndex() {
+        this.fileCatalog = Optional.empty();
+    }
+
+    public DirectoryIndex(FileCatalog fileCatalog) {
+        this.fileCatalog = Optional.of(fileCatalog);
+    }
+
+    /**
+     * Returns the files (but not the subdirectories) directly contained in the given directory, ordered by their name
+     */
+    List<Path> getFiles(Path directory) throws IOException {
+        return getNode(directory).files();
+    }
+
+    /**
+     * Returns the subdirectories directly contained in the given directory, ordered by their name
+     */
+    List<Path> getSubdirectories(Path directory) throws IOException {
+        return getNode(directory).subdirectories();
+    }
+
+    /**
+     * Returns the attributes of the given file, which were read together with its directory. Returns an empty optional
+     * if the directory of the file was not read from the file system (but taken from the catalog).
+     */
+    Optional<BasicFileAttributes> getFileAttributes(Path file) throws IOException {
+        return Optional.ofNullable(getNode(file.getParent()).fileAttributes().get(file));
+    }
+
+    /**
+     * Returns all direct and indirect subdirectories of the given directory (but not the directory itself). A
+     * directory is listed before its subdirectories.
+     */
+    List<Path> getAllSubdirectories(Path directory) throws IOException {
+        indexTree(directory);
+
+        List<Path> subdirectories = new ArrayList<>();
+        Set<Object> visitedDirectories = new HashSet<>();
+        visitedDirectories.add(getNode(directory).key());
+        collectSubdirectories(directory, visitedDirectories, subdirectories);
+        return subdirectories;
+    }
+
+    /**
+     * Returns the files in the given directory or its subdirectories whose name starts with the given prefix
+     */
+    Set<Path> getFilesByNamePrefix(Path directory, String prefix) throws IOException {
+        indexTree(directory);
+
+        Set<Path> files = new LinkedHashSet<>();
+        for (Set<Path> filesWithName : filesByName.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+            for (Path file : filesWithName) {
+                if (file.startsWith(directory)) {
+                    files.add(file);
+                }
+            }
+        }
+        return files;
+    }
+
+    private void collectSubdirectories(Path directory, Set<Object> visitedDirectories, List<Path> subdirectories) throws IOException {
+        for (Path subdirectory : getNode(directory).subdirectories()) {
+            if (visitedDirectories.add(getNode(subdirectory).key())) {
+                subdirectories.add(subdirectory);
+                collectSubdirectories(subdirectory, visitedDirectories, subdirectories);
+            }
+        }
+    }
+
+    /**
+     * Reads all directories of the tree starting at the given directory, which were not read before
+     */
+    private void indexTree(Path directory) throws IOException {
+        if (isTreeIndexed(directory)) {
+            return;
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            indexTree(directory, executor, ConcurrentHashMap.newKeySet());
+        }
+        indexedTrees.add(directory);
+    }
+
+    private void indexTree(Path directory, ExecutorService executor, Set<Object> visitedDirectories) throws IOException {
+        DirectoryNode node = getNode(directory);
+        if (!visitedDirectories.add(node.key())) {
+            return;
+        }
+        for (Path file : node.files()) {
+            filesByName.computeIfAbsent(file.getFileName().toString(), name -> ConcurrentHashMap.newKeySet()).add(file);
+        }
+
+        List<Future<Void>> subtrees = new ArrayList<>(node.subdirectories().size());
+        for (Path subdirectory : node.subdirectories()) {
+            if (!isTreeIndexed(subdirectory)) {
+                subtrees.add(executor.submit(() -> {
+                    indexTree(subdirectory, executor, visitedDirectories);
+                    return null;
+                }));
+            }
+        }
+        for (Future<Void> subtree : subtrees) {
+            try {
+                subtree.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Reading %s was interrupted".formatted(directory));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw new IOException("Problem in reading %s".formatted(directory), e.getCause());
+            }
+        }
+    }
+
+    private boolean isTreeIndexed(Path directory) {
+        for (Path path = directory; path != null; path = path.getParent()) {
+            if (indexedTrees.contains(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DirectoryNode getNode(Path directory) throws IOException {
+        DirectoryNode node = directories.get(directory);
+        if (node != null) {
+            return node;
+        }
+
+        node = read(directory);
+        // If another thread read the directory at the same time, its result is kept
+        DirectoryNode existingNode = directories.putIfAbsent(directory, node);
+        return existingNode != null ? existingNode : node;
+    }
+
+    private DirectoryNode read(Path directory) throws IOException {
+        if (fileCatalog.isPresent() && fileCatalog.get().isCataloged(directory)) {
+            return readFromCatalog(fileCatalog.get(), directory);
+        }
+
+        try {
+            readPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Reading %s was interrupted".formatted(directory));
+        }
+        try {
+            BasicFileAttributes directoryAttributes = Files.readAttributes(directory, BasicFileAttributes.class);
+            // The file key identifies the directory independent of the path (and of symbolic links), but is not available on all platforms
+            Object key = directoryAttributes.fileKey() != null ? directoryAttributes.fileKey() : directory.toRealPath();
+
+            List<Path> files = new ArrayList<>();
+            List<Path> subdirectories = new ArrayList<>();
+            Map<Path, BasicFileAttributes> fileAttributes = new HashMap<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path path : stream) {
+                    BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    } catch (IOException e) {
+                        // E.g., a broken symbolic link
+                        continue;
+                    }
+                    if (attributes.isDirectory()) {
+                        subdirectories.add(path);
+                    } else {
+                        files.add(path);
+                        fileAttributes.put(path, attributes);
+                    }
+                }
+            }
+            files.sort(null);
+            subdirectories.sort(null);
+            return new DirectoryNode(key, List.copyOf(files), List.copyOf(subdirectories), fileAttributes);
+        } finally {
+            readPermits.release();
+        }
+    }
+
+    private static DirectoryNode readFromCatalog(FileCatalog catalog, Path directory) {
+        // The catalog contains each directory once, thus its path identifies the directory.
+        // The paths are resolved against the requested directory, so that they have the same form as the paths read from the file system.
+        List<Path> files = catalog.getFiles(directory).stream()
+                                  .map(file -> directory.resolve(file.getFileName()))
+                                  .toList();
+        List<Path> subdirectories = catalog.getSubdirectories(directory).stream()
+                                           .map(subdirectory -> directory.resolve(subdirectory.getFileName()))
+                                           .toList();
+        return new DirectoryNode(FileCatalog.toCatalogPath(directory), files, subdirectories, Map.of());
+    }
+
+    private record DirectoryNode(Object key, List<Path> files, List<Path> subdirectories, Map<Path, BasicFileAttributes> fileAttributes) {
+    }
+}
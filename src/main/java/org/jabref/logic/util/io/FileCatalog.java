@@ -0,0 +1,468 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+import org.jabref.model.util.DirectoryUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A catalog of all files in the file directories of a library. For each file, its size, its last modification time
+ * and its content hash are recorded. Answers questions like "which files are in this directory?" or "does this linked
+ * file exist?" without accessing the file system, which is slow for large directory trees, especially on network
+ * shares.
+ * <p>
+ * The catalog is built by reading the directories once (see {@link DirectoryIndex}). Afterwards, it is kept up to date
+ * using the {@link FileUpdateMonitor}, which reports the changes of each watched directory. The reported changes are
+ * applied on a background thread, as a new directory requires reading its whole tree. A directory which cannot be
+ * watched (e.g., on some network shares or if the limit of watches of the operating system is reached) is not
+ * cataloged, and its content is read from the file system instead. The records of the files
+ * are persisted in an MVStore, usually next to the fulltext index of the library. Thus, content hashes survive
+ * restarts: when the catalog is opened again, the directories are read, but the hash of a file whose size and
+ * modification time did not change is kept.
+ * <p>
+ * Content hashes are computed when they are requested for the first time, not when the catalog is built, as hashing
+ * reads all bytes of all files.
+ */
+public class FileCatalog implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileCatalog.class);
+
+    private static final String FILES_MAP_NAME = "Files";
+    private static final HashFunction HASH_FUNCTION = Hashing.sha256();
+
+    private final List<Path> directories;
+    private final List<Path> catalogDirectories;
+    private final FileUpdateMonitor fileUpdateMonitor;
+    private final DirectoryUpdateListener updateListener = this::update;
+    private final MVStore store;
+    private final ExecutorService updateExecutor;
+
+    /**
+     * The records of all cataloged files by the catalog path of the file
+     */
+    private final MVMap<String, FileRecord> files;
+
+    /**
+     * The files and subdirectories of each cataloged directory, ordered by their name
+     */
+    private final Map<Path, Set<Path>> filesOfDirectory = new ConcurrentHashMap<>();
+    private final Map<Path, Set<Path>> subdirectoriesOfDirectory = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    /**
+     * Builds the catalog of the given directories. Reads all directories, thus this may take a while.
+     *
+     * @param catalogFile the file to store the catalog in, or null to keep the catalog in memory only
+     */
+    public FileCatalog(Path catalogFile, List<Path> directories, FileUpdateMonitor fileUpdateMonitor) {
+        this(catalogFile, directories, fileUpdateMonitor, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JabRef file catalog update");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * @param updateExecutor applies the changes reported by the file update monitor. Has to apply them one after the
+     *                       other in the order they were reported.
+     */
+    FileCatalog(Path catalogFile, List<Path> directories, FileUpdateMonitor fileUpdateMonitor, ExecutorService updateExecutor) {
+        this.updateExecutor = updateExecutor;
+        this.directories = List.copyOf(directories);
+        this.catalogDirectories = directories.stream().map(FileCatalog::toCatalogPath).distinct().toList();
+        this.fileUpdateMonitor = fileUpdateMonitor;
+        this.store = openStore(catalogFile);
+        this.files = store.openMap(FILES_MAP_NAME);
+
+        synchronized (this) {
+            // Files of directories which are no longer file directories of the library
+            removeRecords(key -> !isCovered(Path.of(key)));
+            for (Path directory : catalogDirectories) {
+                // A directory inside another file directory is cataloged together with the other directory
+                if (catalogDirectories.stream().noneMatch(other -> !other.equals(directory) && directory.startsWith(other))) {
+                    scan(directory);
+                }
+            }
+            store.commit();
+        }
+    }
+
+    private static MVStore openStore(Path catalogFile) {
+        if (catalogFile == null) {
+            return new MVStore.Builder().open();
+        }
+        try {
+            Files.createDirectories(catalogFile.getParent());
+            try {
+                return new MVStore.Builder().fileName(catalogFile.toString()).open();
+            } catch (MVStoreException e) {
+                LOGGER.warn("File catalog {} is damaged, creating a new one", catalogFile, e);
+                Files.deleteIfExists(catalogFile);
+                return new MVStore.Builder().fileName(catalogFile.toString()).open();
+            }
+        } catch (IOException | MVStoreException e) {
+            LOGGER.warn("Could not open file catalog {}, keeping the catalog in memory", catalogFile, e);
+            return new MVStore.Builder().open();
+        }
+    }
+
+    /**
+     * Returns the form of the given path used in the catalog, i.e., the absolute and normalized path
+     */
+    static Path toCatalogPath(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns the directories the catalog was built for
+     */
+    public List<Path> getDirectories() {
+        return directories;
+    }
+
+    /**
+     * Indicates whether the content of the given directory is known to the catalog. This is only the case if the
+     * directory is watched for changes.
+     */
+    public boolean isCataloged(Path directory) {
+        // Changes are not reported anymore if the file update monitor failed
+        return fileUpdateMonitor.isActive() && isInCatalog(toCatalogPath(directory));
+    }
+
+    private boolean isInCatalog(Path directory) {
+        return subdirectoriesOfDirectory.containsKey(directory);
+    }
+
+    /**
+     * Returns the files (but not the subdirectories) directly contained in the given directory, ordered by their name.
+     * Returns an empty list if the directory is not cataloged.
+     */
+    public List<Path> getFiles(Path directory) {
+        return List.copyOf(filesOfDirectory.getOrDefault(toCatalogPath(directory), Set.of()));
+    }
+
+    /**
+     * Returns the subdirectories directly contained in the given directory, ordered by their name. Returns an empty
+     * list if the directory is not cataloged.
+     */
+    public List<Path> getSubdirectories(Path directory) {
+        return List.copyOf(subdirectoriesOfDirectory.getOrDefault(toCatalogPath(directory), Set.of()));
+    }
+
+    /**
+     * Indicates whether the given file exists. The catalog is used if it contains the directory of the file, otherwise
+     * the file system is asked. The file system is also asked if the file is not in the catalog, as the catalog compares
+     * the paths exactly, whereas the file system may ignore their case (e.g., on Windows and macOS).
+     */
+    public boolean exists(Path file) {
+        Path catalogPath = toCatalogPath(file);
+        Path directory = catalogPath.getParent();
+        if ((directory == null) || !isCataloged(directory)) {
+            return Files.exists(file);
+        }
+        return filesOfDirectory.getOrDefault(directory, Set.of()).contains(catalogPath)
+                || subdirectoriesOfDirectory.getOrDefault(directory, Set.of()).contains(catalogPath)
+                || Files.exists(file);
+    }
+
+    public Optional<FileTime> getLastModifiedTime(Path file) {
+        return getRecord(file).map(fileRecord -> FileTime.fromMillis(fileRecord.lastModified()));
+    }
+
+    public Optional<Long> getSize(Path file) {
+        return getRecord(file).map(FileRecord::size);
+    }
+
+    /**
+     * Returns the SHA-256 hash of the content of the given file. The hash is computed when it is requested for the
+     * first time and then kept until the file changes.
+     *
+     * @return an empty optional if the file is not cataloged
+     */
+    public Optional<String> getContentHash(Path file) throws IOException {
+        String key = toCatalogPath(file).toString();
+        FileRecord fileRecord = files.get(key);
+        if (fileRecord == null) {
+            return Optional.empty();
+        }
+        if (fileRecord.contentHash() != null) {
+            return Optional.of(fileRecord.contentHash());
+        }
+
+        String contentHash = MoreFiles.asByteSource(file).hash(HASH_FUNCTION).toString();
+        // If the file was changed in the meantime, the record was replaced and the hash is not stored
+        files.replace(key, fileRecord, new FileRecord(fileRecord.size(), fileRecord.lastModified(), contentHash));
+        return Optional.of(contentHash);
+    }
+
+    private Optional<FileRecord> getRecord(Path file) {
+        return Optional.ofNullable(files.get(toCatalogPath(file).toString()));
+    }
+
+    private boolean isCovered(Path path) {
+        return catalogDirectories.stream().anyMatch(path::startsWith);
+    }
+
+    /**
+     * Handles a change reported by the file update monitor. Called by the thread of the monitor, thus the change is
+     * only queued.
+     */
+    private void update(Path changedPath) {
+        try {
+            updateExecutor.execute(() -> applyUpdate(changedPath));
+        } catch (RejectedExecutionException e) {
+            // The catalog is closed
+        }
+    }
+
+    private synchronized void applyUpdate(Path changedPath) {
+        if (closed) {
+            return;
+        }
+        Path path = toCatalogPath(changedPath);
+        Path directory = path.getParent();
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // The file or directory was deleted
+            remove(path);
+            return;
+        }
+
+        if (attributes.isDirectory()) {
+            if (isInCatalog(path)) {
+                // The directory itself is reported if its changes were lost
+                refresh(path);
+            } else if ((directory != null) && isInCatalog(directory)) {
+                subdirectoriesOfDirectory.get(directory).add(path);
+                scan(path);
+            }
+        } else if ((directory != null) && isInCatalog(directory)) {
+            filesOfDirectory.get(directory).add(path);
+            putRecord(path, attributes);
+        }
+    }
+
+    /**
+     * Reads the tree starting at the given directory and replaces the catalog of the tree
+     */
+    private void scan(Path directory) {
+        forgetTree(directory);
+
+        DirectoryIndex directoryIndex = new DirectoryIndex();
+        Set<String> foundFiles = new HashSet<>();
+        try {
+            List<Path> scannedDirectories = new ArrayList<>();
+            scannedDirectories.add(directory);
+            // Each directory is listed once, even if it can be reached by several paths
+            scannedDirectories.addAll(directoryIndex.getAllSubdirectories(directory));
+            Set<Path> scannedDirectorySet = new HashSet<>(scannedDirectories);
+
+            for (Path scannedDirectory : scannedDirectories) {
+                if (closed) {
+                    // The records of the files which were not read yet are kept
+                    return;
+                }
+                // Watched before reading, so that no change is missed. The subdirectories are still cataloged.
+                if (!watch(scannedDirectory)) {
+                    continue;
+                }
+                List<Path> directoryFiles = directoryIndex.getFiles(scannedDirectory);
+                for (Path file : directoryFiles) {
+                    Optional<BasicFileAttributes> attributes = directoryIndex.getFileAttributes(file);
+                    if (attributes.isPresent()) {
+                        putRecord(file, attributes.get());
+                        foundFiles.add(file.toString());
+                    }
+                }
+                Set<Path> subdirectories = new ConcurrentSkipListSet<>();
+                for (Path subdirectory : directoryIndex.getSubdirectories(scannedDirectory)) {
+                    if (scannedDirectorySet.contains(subdirectory)) {
+                        subdirectories.add(subdirectory);
+                    }
+                }
+                filesOfDirectory.put(scannedDirectory, new ConcurrentSkipListSet<>(directoryFiles));
+                subdirectoriesOfDirectory.put(scannedDirectory, subdirectories);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read {}", directory, e);
+        }
+
+        removeRecordsInTree(directory, key -> !foundFiles.contains(key));
+    }
+
+    /**
+     * Reads the given cataloged directory (but not its subdirectories) again
+     */
+    private void refresh(Path directory) {
+        DirectoryIndex directoryIndex = new DirectoryIndex();
+        List<Path> currentFiles;
+        List<Path> currentSubdirectories;
+        Map<Path, BasicFileAttributes> currentAttributes = new HashMap<>();
+        try {
+            currentFiles = directoryIndex.getFiles(directory);
+            currentSubdirectories = directoryIndex.getSubdirectories(directory);
+            for (Path file : currentFiles) {
+                directoryIndex.getFileAttributes(file).ifPresent(attributes -> currentAttributes.put(file, attributes));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read {}", directory, e);
+            return;
+        }
+
+        Set<Path> knownFiles = filesOfDirectory.get(directory);
+        for (Path file : List.copyOf(knownFiles)) {
+            if (!currentAttributes.containsKey(file)) {
+                knownFiles.remove(file);
+                files.remove(file.toString());
+            }
+        }
+        currentAttributes.forEach((file, attributes) -> {
+            knownFiles.add(file);
+            putRecord(file, attributes);
+        });
+
+        Set<Path> knownSubdirectories = subdirectoriesOfDirectory.get(directory);
+        for (Path subdirectory : List.copyOf(knownSubdirectories)) {
+            if (!currentSubdirectories.contains(subdirectory)) {
+                knownSubdirectories.remove(subdirectory);
+                forgetTree(subdirectory);
+                removeRecordsInTree(subdirectory, key -> true);
+            }
+        }
+        for (Path subdirectory : currentSubdirectories) {
+            if (knownSubdirectories.add(subdirectory)) {
+                scan(subdirectory);
+            }
+        }
+    }
+
+    private void remove(Path path) {
+        Path directory = path.getParent();
+        if (directory != null) {
+            Optional.ofNullable(filesOfDirectory.get(directory)).ifPresent(directoryFiles -> directoryFiles.remove(path));
+            Optional.ofNullable(subdirectoriesOfDirectory.get(directory)).ifPresent(subdirectories -> subdirectories.remove(path));
+        }
+        if (isInCatalog(path)) {
+            forgetTree(path);
+            removeRecordsInTree(path, key -> true);
+        } else {
+            files.remove(path.toString());
+        }
+    }
+
+    /**
+     * Removes the given directory and its subdirectories from the tree of cataloged directories. The records of the
+     * files are kept.
+     */
+    private void forgetTree(Path directory) {
+        filesOfDirectory.remove(directory);
+        Set<Path> subdirectories = subdirectoriesOfDirectory.remove(directory);
+        fileUpdateMonitor.removeListenerForDirectory(directory, updateListener);
+        if (subdirectories != null) {
+            subdirectories.forEach(this::forgetTree);
+        }
+    }
+
+    /**
+     * Returns whether the given directory is watched for changes
+     */
+    private boolean watch(Path directory) {
+        try {
+            fileUpdateMonitor.addListenerForDirectory(directory, updateListener);
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Could not watch {} for changes, reading it from the file system instead", directory, e);
+            return false;
+        }
+    }
+
+    private void putRecord(Path file, BasicFileAttributes attributes) {
+        String key = file.toString();
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        FileRecord fileRecord = files.get(key);
+        // The content hash is kept as long as the file is not changed
+        if ((fileRecord == null) || (fileRecord.size() != size) || (fileRecord.lastModified() != lastModified)) {
+            files.put(key, new FileRecord(size, lastModified, null));
+        }
+    }
+
+    /**
+     * Removes the matching records of the files in the tree starting at the given directory
+     */
+    private void removeRecordsInTree(Path directory, Predicate<String> shouldRemove) {
+        // The records are ordered by their path, thus the records of the tree are next to each other
+        String prefix = directory.toString();
+        List<String> keysToRemove = new ArrayList<>();
+        Iterator<String> keys = files.keyIterator(prefix);
+        while (keys.hasNext()) {
+            String key = keys.next();
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            if (Path.of(key).startsWith(directory) && shouldRemove.test(key)) {
+                keysToRemove.add(key);
+            }
+        }
+        keysToRemove.forEach(files::remove);
+    }
+
+    private void removeRecords(Predicate<String> shouldRemove) {
+        List<String> keysToRemove = files.keySet().stream().filter(shouldRemove).toList();
+        keysToRemove.forEach(files::remove);
+    }
+
+    /**
+     * Closes the catalog. A running update is stopped, so that closing does not wait until a whole new directory tree is
+     * read.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        updateExecutor.shutdownNow();
+        synchronized (this) {
+            for (Path directory : catalogDirectories) {
+                forgetTree(directory);
+            }
+            store.close();
+        }
+    }
+
+    /**
+     * The record of a file. The content hash is null as long as it was not requested.
+     */
+    private record FileRecord(long size, long lastModified, String contentHash) implements Serializable {
+    }
+}
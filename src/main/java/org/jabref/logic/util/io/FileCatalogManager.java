@@ -0,0 +1,119 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.FileUpdateMonitor;
+import org.jabref.preferences.FilePreferences;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link FileCatalog} takes a long time to build, but is kept up to date afterwards. Thus, the catalog of a library is
+ * built once and kept until the library is closed.
+ * <p>
+ * The catalog is related to the file directories of the library. If they change (e.g., because the user changes the
+ * file preferences), we need to build a new catalog.
+ * <p>
+ * A catalog is built outside of any lock, so that the catalogs of other libraries can be used and closed in the
+ * meantime. Callers requesting the catalog of a library while it is built wait for it.
+ */
+public class FileCatalogManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileCatalogManager.class);
+
+    // Map from the library to its (possibly not yet built) catalog. The content of a library changes, thus the library itself is the key, not an equal one.
+    private static final Map<BibDatabaseContext, CompletableFuture<FileCatalog>> catalogMap = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Returns the catalog of the given library. Builds the catalog if the library has none yet.
+     */
+    public static FileCatalog getCatalog(BibDatabaseContext context, FilePreferences filePreferences, FileUpdateMonitor fileUpdateMonitor) {
+        List<Path> directories = context.getFileDirectories(filePreferences);
+        while (true) {
+            CompletableFuture<FileCatalog> newCatalog = new CompletableFuture<>();
+            CompletableFuture<FileCatalog> existingCatalog = catalogMap.putIfAbsent(context, newCatalog);
+            if (existingCatalog == null) {
+                LOGGER.debug("No file catalog found for context {}, creating new one", context);
+                return build(context, directories, fileUpdateMonitor, newCatalog);
+            }
+
+            FileCatalog catalog;
+            try {
+                catalog = existingCatalog.join();
+            } catch (CompletionException e) {
+                // The catalog could not be built and was removed, thus we try again
+                continue;
+            }
+            if (catalog.getDirectories().equals(directories)) {
+                LOGGER.trace("Found existing file catalog for context {}", context);
+                return catalog;
+            }
+            if (catalogMap.replace(context, existingCatalog, newCatalog)) {
+                LOGGER.debug("File directories have changed, rebuilding file catalog");
+                // Closed before building the new catalog, as both use the same file
+                catalog.close();
+                return build(context, directories, fileUpdateMonitor, newCatalog);
+            }
+            // The catalog was replaced or closed in the meantime
+        }
+    }
+
+    private static FileCatalog build(BibDatabaseContext context, List<Path> directories, FileUpdateMonitor fileUpdateMonitor, CompletableFuture<FileCatalog> future) {
+        FileCatalog catalog;
+        try {
+            catalog = new FileCatalog(context.getFileCatalogPath().orElse(null), directories, fileUpdateMonitor);
+        } catch (RuntimeException e) {
+            catalogMap.remove(context, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        future.complete(catalog);
+        return catalog;
+    }
+
+    /**
+     * Returns the catalog of the given library if it was built already. Does not build a catalog, so that checks of
+     * single files do not need to wait for it.
+     */
+    public static Optional<FileCatalog> getOpenCatalog(BibDatabaseContext context) {
+        return Optional.ofNullable(catalogMap.get(context))
+                       .filter(catalog -> catalog.state() == Future.State.SUCCESS)
+                       .map(Future::resultNow);
+    }
+
+    public static void shutdownAllCatalogs() {
+        List<CompletableFuture<FileCatalog>> catalogs;
+        synchronized (catalogMap) {
+            catalogs = List.copyOf(catalogMap.values());
+            catalogMap.clear();
+        }
+        catalogs.forEach(FileCatalogManager::close);
+    }
+
+    public static void shutdownCatalog(BibDatabaseContext context) {
+        CompletableFuture<FileCatalog> catalog = catalogMap.remove(context);
+        if (catalog != null) {
+            close(catalog);
+        } else {
+            LOGGER.debug("No file catalog found for context {}", context);
+        }
+    }
+
+    /**
+     * Closes the given catalog. A catalog which is still built is closed by the building thread when it is done, so that
+     * the caller (e.g., the JavaFX thread) does not have to wait.
+     */
+    private static void close(CompletableFuture<FileCatalog> catalog) {
+        catalog.thenAccept(FileCatalog::close);
+    }
+}
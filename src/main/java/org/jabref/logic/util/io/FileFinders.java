@@ -14,4 +14,19 @@ public class FileFinders {
                     new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator());
         };
     }
+
+    /**
+     * Creates a preconfigurated file finder based on the given AutoLink preferences, which looks up the files in the
+     * given index instead of reading the directories for each entry. Use this for finding the files of many entries.
+     */
+    public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences, DirectoryIndex directoryIndex) {
+        return switch (autoLinkPreferences.getCitationKeyDependency()) {
+            case START ->
+                    new CitationKeyBasedFileFinder(false, directoryIndex);
+            case EXACT ->
+                    new CitationKeyBasedFileFinder(true, directoryIndex);
+            case REGEX ->
+                    new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator(), directoryIndex);
+        };
+    }
 }
@@ -1,21 +1,15 @@
 package org.jabref.logic.util.io;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.BracketedPattern;
 import org.jabref.model.entry.BibEntry;
@@ -29,13 +23,25 @@ class RegExpBasedFileFinder implements FileFinder {
 
     private final String regExp;
     private final Character keywordDelimiter;
+    private final Supplier<DirectoryIndex> directoryIndex;
 
     /**
+     * Creates a finder which reads the directories again for each entry
+     *
      * @param regExp The expression deciding which names are acceptable.
      */
     RegExpBasedFileFinder(String regExp, Character keywordDelimiter) {
+        this(regExp, keywordDelimiter, DirectoryIndex::new);
+    }
+
+    RegExpBasedFileFinder(String regExp, Character keywordDelimiter, DirectoryIndex directoryIndex) {
+        this(regExp, keywordDelimiter, () -> directoryIndex);
+    }
+
+    private RegExpBasedFileFinder(String regExp, Character keywordDelimiter, Supplier<DirectoryIndex> directoryIndex) {
         this.regExp = regExp;
         this.keywordDelimiter = keywordDelimiter;
+        this.directoryIndex = directoryIndex;
     }
 
     /**
@@ -122,9 +128,10 @@ class RegExpBasedFileFinder implements FileFinder {
      * null if none was found.
      */
     private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
+        DirectoryIndex index = directoryIndex.get();
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, index, directory, regExp, extensionRegExp));
         }
         return res;
     }
@@ -133,7 +140,7 @@ class RegExpBasedFileFinder implements FileFinder {
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final DirectoryIndex index, final Path directory, final String file, final String extensionRegExp) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -159,8 +166,8 @@ class RegExpBasedFileFinder implements FileFinder {
             return resultFiles;
         }
 
-        for (int index = 0; index < (fileParts.length - 1); index++) {
-            String dirToProcess = fileParts[index];
+        for (int partIndex = 0; partIndex < (fileParts.length - 1); partIndex++) {
+            String dirToProcess = fileParts[partIndex];
 
             if (dirToProcess.matches("^.:$")) { // Windows Drive Letter
                 actualDirectory = Path.of(dirToProcess + '/');
@@ -174,45 +181,31 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
-                        }
+                if (Files.isDirectory(actualDirectory)) {
+                    String restOfFileString = StringUtil.join(fileParts, "/", partIndex + 1, fileParts.length);
+                    for (Path subDir : index.getSubdirectories(actualDirectory)) {
+                        resultFiles.addAll(findFile(entry, index, subDir, restOfFileString, extensionRegExp));
                     }
                 }
             }
             // Do for all direct and indirect subdirs
             if ("**".equals(dirToProcess)) {
-                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                String restOfFileString = StringUtil.join(fileParts, "/", partIndex + 1, fileParts.length);
 
-                final Path rootDirectory = actualDirectory;
-                try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
-                    // We only want to transverse directory (and not the current one; this is already done below)
-                    for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
-                    }
-                } catch (UncheckedIOException ioe) {
-                    throw ioe.getCause();
+                // We only want to transverse directory (and not the current one; this is already done below)
+                for (Path path : index.getAllSubdirectories(actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, index, path, restOfFileString, extensionRegExp));
                 }
             } // End process directory information
         }
 
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
-        BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
-        try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
-            resultFiles.addAll(pathStream.collect(Collectors.toList()));
-        } catch (UncheckedIOException uncheckedIOException) {
-            // Previously, an empty list were returned here on both IOException and UncheckedIOException
-            throw uncheckedIOException.getCause();
+        for (Path path : index.getFiles(actualDirectory)) {
+            if (toMatch.matcher(path.getFileName().toString()).matches()) {
+                resultFiles.add(path);
+            }
         }
         return resultFiles;
     }
-
-    private boolean isSubDirectory(Path rootDirectory, Path path) {
-        return !rootDirectory.equals(path) && Files.isDirectory(path);
-    }
 }
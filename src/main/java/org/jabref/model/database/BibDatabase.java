@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,14 +30,16 @@ import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.Month;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangeListener;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,9 +57,22 @@ public class BibDatabase {
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
+    /**
+     * Index of the entries by their citation key. Kept in sync with {@link #entries}.
+     */
+    private final CitationKeyIndex citationKeyIndex = new CitationKeyIndex();
+
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    // Registered at each entry of the database. A single instance is needed to be able to remove it again.
+    private final FieldChangeListener entryChangeRelay = this::relayEntryChangeEvent;
+
+    /**
+     * The changes collected by the batch update running in the current thread, see {@link #performBatchUpdate(Runnable)}
+     */
+    private final ThreadLocal<List<FieldChangedEvent>> batchedChanges = new ThreadLocal<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -149,7 +165,10 @@ public class BibDatabase {
      * Returns the entry with the given citation key.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        if (key == null) {
+            return entries.stream().filter(entry -> entry.getCitationKey().isEmpty()).findFirst();
+        }
+        return getEntriesByCitationKey(key).stream().findFirst();
     }
 
     /**
@@ -159,16 +178,15 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+        List<BibEntry> result = citationKeyIndex.get(key);
+        if (result.size() <= 1) {
+            return result;
         }
-        return result;
+
+        // Restore the order of the database
+        Set<BibEntry> entriesWithKey = Collections.newSetFromMap(new IdentityHashMap<>());
+        entriesWithKey.addAll(result);
+        return entries.stream().filter(entriesWithKey::contains).collect(Collectors.toList());
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -196,7 +214,7 @@ public class BibDatabase {
     public synchronized void insertEntries(List<BibEntry> newEntries, EntriesEventSource eventSource) {
         Objects.requireNonNull(newEntries);
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.addFieldChangeListener(entryChangeRelay);
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -204,6 +222,7 @@ public class BibDatabase {
             eventBus.post(new EntriesAddedEvent(newEntries, newEntries.getFirst(), eventSource));
         }
         entries.addAll(newEntries);
+        newEntries.forEach(citationKeyIndex::add);
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -234,11 +253,19 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        List<BibEntry> removedEntries = new ArrayList<>();
+        boolean anyRemoved = entries.removeIf(entry -> {
+            if (ids.contains(entry.getId())) {
+                removedEntries.add(entry);
+                return true;
+            }
+            return false;
+        });
+        removedEntries.forEach(citationKeyIndex::remove);
         if (anyRemoved) {
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
@@ -547,6 +574,7 @@ public class BibDatabase {
      * <p>
      * - {@link EntriesAddedEvent}
      * - {@link EntryChangedEvent}
+     * - {@link FieldsChangedBatchEvent}
      * - {@link EntriesRemovedEvent}
      *
      * @param listener listener (subscriber) to add
@@ -569,9 +597,49 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
+    /**
+     * Stops notifying this database about changes of the given entry, e.g., because the entry was moved to another
+     * database.
+     */
+    public void detachEntry(BibEntry entry) {
+        entry.removeFieldChangeListener(entryChangeRelay);
+    }
+
+    /**
+     * Runs a bulk modification of entries, e.g., a cleanup or a find and replace. Instead of an event for each changed
+     * field, the listeners of this database get a single {@link FieldsChangedBatchEvent} when the modification is done.
+     * <p>
+     * Only changes done by the calling thread are collected. Nested calls become part of the outermost batch.
+     */
+    public void performBatchUpdate(Runnable update) {
+        if (batchedChanges.get() != null) {
+            update.run();
+            return;
+        }
+
+        List<FieldChangedEvent> changes = new ArrayList<>();
+        batchedChanges.set(changes);
+        try {
+            update.run();
+        } finally {
+            batchedChanges.remove();
+            // Also if the update failed, the changes done so far have to be announced
+            if (!changes.isEmpty()) {
+                eventBus.post(new FieldsChangedBatchEvent(changes));
+            }
+        }
+    }
+
     private void relayEntryChangeEvent(FieldChangedEvent event) {
-        eventBus.post(event);
+        if (InternalField.KEY_FIELD == event.getField()) {
+            citationKeyIndex.updateKey(event.getBibEntry());
+        }
+        List<FieldChangedEvent> batch = batchedChanges.get();
+        if (batch != null) {
+            batch.add(event);
+        } else {
+            eventBus.post(event);
+        }
     }
 
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
@@ -608,10 +676,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return citationKeyIndex.count(key);
     }
 
     /**
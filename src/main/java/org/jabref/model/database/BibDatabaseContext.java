@@ -18,6 +18,7 @@ import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.OS;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.study.Study;
 import org.jabref.preferences.FilePreferences;
@@ -51,6 +52,7 @@ public class BibDatabaseContext {
     private DatabaseSynchronizer dbmsSynchronizer;
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
+    private GroupMembershipIndex groupMembershipIndex;
 
     public BibDatabaseContext() {
         this(new BibDatabase());
@@ -113,8 +115,25 @@ public class BibDatabaseContext {
         return metaData;
     }
 
-    public void setMetaData(MetaData metaData) {
-        this.metaData = Objects.requireNonNull(metaData);
+    public synchronized void setMetaData(MetaData metaData) {
+        Objects.requireNonNull(metaData);
+        if (groupMembershipIndex != null) {
+            this.metaData.unregisterListener(groupMembershipIndex);
+            metaData.registerListener(groupMembershipIndex);
+            groupMembershipIndex.invalidateAll();
+        }
+        this.metaData = metaData;
+    }
+
+    /**
+     * Returns the index of the entries matched by the groups of this library. It is created on first use.
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database);
+            metaData.registerListener(groupMembershipIndex);
+        }
+        return groupMembershipIndex;
     }
 
     public boolean isBiblatexMode() {
@@ -288,6 +307,18 @@ public class BibDatabaseContext {
         return indexPath;
     }
 
+    /**
+     * @return The path to store the catalog of the files in the file directories, next to the lucene index files. Empty
+     * for unsaved libraries, as they do not have an own index.
+     */
+    public Optional<Path> getFileCatalogPath() {
+        if (getDatabasePath().isEmpty()) {
+            return Optional.empty();
+        }
+        Path indexPath = getFulltextIndexPath();
+        return Optional.of(indexPath.resolveSibling(indexPath.getFileName() + ".files.mv"));
+    }
+
     @Override
     public String toString() {
         return "BibDatabaseContext{" +
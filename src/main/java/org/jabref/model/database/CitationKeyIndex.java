@@ -0,0 +1,118 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Maps citation keys to the entries of a {@link BibDatabase} having that key.
+ * <p>
+ * The index is maintained by the database on insertion, removal and citation key changes of its entries.
+ * Entries are tracked by identity, because two different entries may be equal.
+ */
+final class CitationKeyIndex {
+
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+    private final Map<BibEntry, IndexedEntry> indexedEntries = new IdentityHashMap<>();
+
+    synchronized void add(BibEntry entry) {
+        IndexedEntry indexedEntry = indexedEntries.get(entry);
+        if (indexedEntry == null) {
+            indexedEntry = new IndexedEntry(entry.getCitationKey().orElse(null));
+            indexedEntries.put(entry, indexedEntry);
+        } else {
+            // the same object is contained several times in the database
+            indexedEntry.occurrences++;
+        }
+        if (indexedEntry.key != null) {
+            entriesByKey.computeIfAbsent(indexedEntry.key, key -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    synchronized void remove(BibEntry entry) {
+        IndexedEntry indexedEntry = indexedEntries.get(entry);
+        if (indexedEntry == null) {
+            return;
+        }
+        if (indexedEntry.key != null) {
+            removeOccurrences(indexedEntry.key, entry, 1);
+        }
+        indexedEntry.occurrences--;
+        if (indexedEntry.occurrences == 0) {
+            indexedEntries.remove(entry);
+        }
+    }
+
+    /**
+     * Re-indexes the given entry under its current citation key. Entries not contained in the index are ignored.
+     */
+    synchronized void updateKey(BibEntry entry) {
+        IndexedEntry indexedEntry = indexedEntries.get(entry);
+        if (indexedEntry == null) {
+            return;
+        }
+        String newKey = entry.getCitationKey().orElse(null);
+        if (Objects.equals(indexedEntry.key, newKey)) {
+            return;
+        }
+        if (indexedEntry.key != null) {
+            removeOccurrences(indexedEntry.key, entry, indexedEntry.occurrences);
+        }
+        if (newKey != null) {
+            List<BibEntry> entriesWithNewKey = entriesByKey.computeIfAbsent(newKey, key -> new ArrayList<>(1));
+            for (int i = 0; i < indexedEntry.occurrences; i++) {
+                entriesWithNewKey.add(entry);
+            }
+        }
+        indexedEntry.key = newKey;
+    }
+
+    /**
+     * Returns the entries having the given citation key. The order of the returned entries is unspecified.
+     */
+    synchronized List<BibEntry> get(String key) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return List.of();
+        }
+        return new ArrayList<>(entries);
+    }
+
+    synchronized int count(String key) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        return entries == null ? 0 : entries.size();
+    }
+
+    private void removeOccurrences(String key, BibEntry entry, int occurrences) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return;
+        }
+        int removed = 0;
+        Iterator<BibEntry> iterator = entries.iterator();
+        while (iterator.hasNext() && (removed < occurrences)) {
+            if (iterator.next() == entry) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        if (entries.isEmpty()) {
+            entriesByKey.remove(key);
+        }
+    }
+
+    private static class IndexedEntry {
+        private String key;
+        private int occurrences = 1;
+
+        IndexedEntry(String key) {
+            this.key = key;
+        }
+    }
+}
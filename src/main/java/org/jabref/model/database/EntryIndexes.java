@@ -0,0 +1,64 @@
+package org.jabref.model.database;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jabref.model.entry.event.EntriesEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Helpers for indexes and caches keeping data per entry of a {@link BibDatabase}.
+ * <p>
+ * Such indexes have to compare entries by identity (e.g., using an {@link IdentityHashMap} or {@link #newIdentitySet()}),
+ * as the equality and the hash code of an entry depend on its content, which changes while the entry is indexed.
+ */
+public class EntryIndexes {
+
+    private EntryIndexes() {
+    }
+
+    /**
+     * Creates a set comparing its elements by identity
+     */
+    public static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Forwards the {@link EntriesEvent}s of the database to the index as long as the index is referenced. Afterwards,
+     * the forwarding listener unregisters itself. Thus, an index dropped by its users does not need to be closed.
+     *
+     * @param listener receives the index and the event; it must not reference the index itself, e.g., use a method
+     *                 reference like {@code Index::listen}
+     */
+    public static <T> void listenWhileReferenced(BibDatabase database, T index, BiConsumer<T, EntriesEvent> listener) {
+        database.registerListener(new WeakListener<>(database, index, listener));
+    }
+
+    private static class WeakListener<T> {
+
+        private final BibDatabase database;
+        private final WeakReference<T> index;
+        private final BiConsumer<T, EntriesEvent> listener;
+
+        WeakListener(BibDatabase database, T index, BiConsumer<T, EntriesEvent> listener) {
+            this.database = database;
+            this.index = new WeakReference<>(index);
+            this.listener = listener;
+        }
+
+        @Subscribe
+        public void listen(EntriesEvent event) {
+            T referencedIndex = index.get();
+            if (referencedIndex == null) {
+                database.unregisterListener(this);
+            } else {
+                listener.accept(referencedIndex, event);
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Optional;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
@@ -32,6 +33,11 @@ public class KeyChangeListener {
         }
     }
 
+    @Subscribe
+    public void listen(FieldsChangedBatchEvent event) {
+        event.getFieldChangedEvents().forEach(this::listen);
+    }
+
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
         List<BibEntry> entries = event.getBibEntries();
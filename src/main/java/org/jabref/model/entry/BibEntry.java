@@ -1,6 +1,7 @@
 package org.jabref.model.entry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -31,6 +32,7 @@ import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
+import org.jabref.model.entry.event.FieldChangeListener;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
@@ -95,30 +97,40 @@ public class BibEntry implements Cloneable {
 
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
+    private static final FieldChangeListener[] NO_FIELD_CHANGE_LISTENERS = new FieldChangeListener[0];
     private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field. Created on first use, as most entries never need it.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<Field, Set<String>> fieldsAsWords;
 
     /**
-     * Cache that stores latex free versions of fields.
+     * Cache that stores latex free versions of fields. Created on first use.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
-     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>). Created on first use.
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    /**
+     * Created when the first listener registers. Entries without listeners, e.g., during import, do not need one.
+     */
+    private volatile EventBus eventBus;
+
+    /**
+     * Called on each field change without going through the {@link #eventBus}. Used by the databases containing this
+     * entry. Replaced on modification (copy on write).
+     */
+    private volatile FieldChangeListener[] fieldChangeListeners = NO_FIELD_CHANGE_LISTENERS;
 
     private String id;
 
     private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private ObservableMap<Field, String> fields = FXCollections.observableMap(new CompactFieldMap());
 
     /**
      * The part before the start of the entry
@@ -371,7 +383,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -439,7 +451,7 @@ public class BibEntry implements Cloneable {
         this.type.setValue(newType);
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -463,13 +475,15 @@ public class BibEntry implements Cloneable {
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+        }
+        Map<Field, String> cache = getLatexFreeFieldsCache();
+        if (cache.containsKey(field)) {
+            return Optional.ofNullable(cache.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
-                String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                String latexFreeValue = FieldValueDeduplicator.deduplicate(field, LatexToUnicodeAdapter.format(fieldValue.get()));
+                cache.put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -477,6 +491,15 @@ public class BibEntry implements Cloneable {
         }
     }
 
+    private Map<Field, String> getLatexFreeFieldsCache() {
+        Map<Field, String> cache = latexFreeFields;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            latexFreeFields = cache;
+        }
+        return cache;
+    }
+
     /**
      * Returns true if the entry has the given field, or false if it is not set.
      */
@@ -618,13 +641,13 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        fields.put(field, FieldValueDeduplicator.deduplicate(field, value));
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -667,7 +690,7 @@ public class BibEntry implements Cloneable {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -692,7 +715,7 @@ public class BibEntry implements Cloneable {
     @Override
     public Object clone() {
         BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        clone.fields = FXCollections.observableMap(new CompactFieldMap(fields));
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
         clone.changed = changed;
@@ -930,18 +953,66 @@ public class BibEntry implements Cloneable {
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        EventBus bus = eventBus;
+        if (bus == null) {
+            synchronized (this) {
+                bus = eventBus;
+                if (bus == null) {
+                    bus = new EventBus();
+                    eventBus = bus;
+                }
+            }
+        }
+        bus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    /**
+     * Adds a listener which is called directly on each field change. Adding the same listener twice has no effect.
+     */
+    public synchronized void addFieldChangeListener(FieldChangeListener listener) {
+        Objects.requireNonNull(listener);
+        for (FieldChangeListener existing : fieldChangeListeners) {
+            if (existing == listener) {
+                return;
+            }
+        }
+        FieldChangeListener[] listeners = Arrays.copyOf(fieldChangeListeners, fieldChangeListeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        fieldChangeListeners = listeners;
+    }
+
+    public synchronized void removeFieldChangeListener(FieldChangeListener listener) {
+        FieldChangeListener[] listeners = Arrays.stream(fieldChangeListeners)
+                                                .filter(existing -> existing != listener)
+                                                .toArray(FieldChangeListener[]::new);
+        fieldChangeListeners = listeners.length == 0 ? NO_FIELD_CHANGE_LISTENERS : listeners;
+    }
+
+    private void postEvent(Object event) {
+        if (event instanceof FieldChangedEvent fieldChangedEvent) {
+            for (FieldChangeListener listener : fieldChangeListeners) {
+                listener.fieldChanged(fieldChangedEvent);
+            }
+        }
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -949,10 +1020,16 @@ public class BibEntry implements Cloneable {
     }
 
     /**
-     * A copy is made of the parameter
+     * A copy is made of the parameter. Fields mapped to {@code null} are not set.
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        CompactFieldMap fieldMap = new CompactFieldMap();
+        content.forEach((field, value) -> {
+            if (value != null) {
+                fieldMap.put(field, value);
+            }
+        });
+        this.fields = FXCollections.observableMap(fieldMap);
         this.setChanged(false);
         return this;
     }
@@ -992,6 +1069,9 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new HashMap<>();
+        }
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1008,7 +1088,7 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
                 return storedList.get();
@@ -1020,6 +1100,9 @@ public class BibEntry implements Cloneable {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
+            if (fieldsAsKeywords == null) {
+                fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+            }
             fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
         }
         return keywords;
@@ -1030,10 +1113,14 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
-
-        if (field instanceof StandardField standardField) {
+        Map<Field, String> latexFreeCache = latexFreeFields;
+        if (latexFreeCache != null) {
+            latexFreeCache.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             fieldsAsKeywords.remove(standardField);
         }
     }
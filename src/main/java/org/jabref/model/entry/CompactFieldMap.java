@@ -0,0 +1,238 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Stores the fields of a {@link BibEntry} using little memory.
+ * <p>
+ * Most entries have only a few fields. Their keys and values are stored alternating in a single array, which is
+ * searched linearly. Each modification replaces the array (copy on write), thus reading needs no locking and
+ * iterating works on a snapshot. This is the same behavior as of the {@link ConcurrentHashMap} used for entries having
+ * more than {@link #MAX_ARRAY_FIELDS} fields.
+ */
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final int MAX_ARRAY_FIELDS = 16;
+    private static final Object[] EMPTY = new Object[0];
+
+    /**
+     * Either an array of alternating keys and values or a {@link ConcurrentHashMap}
+     */
+    private volatile Object storage = EMPTY;
+
+    private Set<Map.Entry<Field, String>> entrySet;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<Field, String> content) {
+        putAll(content);
+    }
+
+    /**
+     * Mirrors the key lookup of hash maps: fields of different classes (e.g., {@link org.jabref.model.entry.field.UnknownField}
+     * and {@link org.jabref.model.entry.field.StandardField}) are only the same key if they are equal and have the same
+     * hash code.
+     */
+    private static boolean isSameKey(Object storedKey, Object key) {
+        if (storedKey == key) {
+            return true;
+        }
+        if (storedKey.getClass() == key.getClass()) {
+            return key.equals(storedKey);
+        }
+        return (storedKey.hashCode() == key.hashCode()) && key.equals(storedKey);
+    }
+
+    private static int indexOf(Object[] array, Object key) {
+        for (int i = 0; i < array.length; i += 2) {
+            if (isSameKey(array[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentHashMap<Field, String> asMap(Object storage) {
+        return (ConcurrentHashMap<Field, String>) storage;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        Object current = storage;
+        if (current instanceof Object[] array) {
+            int index = indexOf(array, key);
+            return index < 0 ? null : (String) array[index + 1];
+        }
+        return asMap(current).get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        Object current = storage;
+        if (current instanceof Object[] array) {
+            return array.length / 2;
+        }
+        return asMap(current).size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public synchronized String put(Field key, String value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        if (!(storage instanceof Object[] array)) {
+            return asMap(storage).put(key, value);
+        }
+        int index = indexOf(array, key);
+        if (index >= 0) {
+            Object[] copy = array.clone();
+            copy[index + 1] = value;
+            storage = copy;
+            return (String) array[index + 1];
+        }
+        if (array.length / 2 >= MAX_ARRAY_FIELDS) {
+            ConcurrentHashMap<Field, String> map = new ConcurrentHashMap<>(2 * MAX_ARRAY_FIELDS);
+            for (int i = 0; i < array.length; i += 2) {
+                map.put((Field) array[i], (String) array[i + 1]);
+            }
+            map.put(key, value);
+            storage = map;
+            return null;
+        }
+        Object[] copy = Arrays.copyOf(array, array.length + 2);
+        copy[array.length] = key;
+        copy[array.length + 1] = value;
+        storage = copy;
+        return null;
+    }
+
+    @Override
+    public synchronized String remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+        if (!(storage instanceof Object[] array)) {
+            return asMap(storage).remove(key);
+        }
+        int index = indexOf(array, key);
+        if (index < 0) {
+            return null;
+        }
+        Object[] copy = new Object[array.length - 2];
+        System.arraycopy(array, 0, copy, 0, index);
+        System.arraycopy(array, index + 2, copy, index, array.length - index - 2);
+        storage = copy;
+        return (String) array[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        storage = EMPTY;
+    }
+
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<Field, String>> {
+
+        @Override
+        public Iterator<Map.Entry<Field, String>> iterator() {
+            Object current = storage;
+            if (current instanceof Object[] array) {
+                return new SnapshotIterator(array);
+            }
+            return asMap(current).entrySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactFieldMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactFieldMap.this.clear();
+        }
+    }
+
+    private final class SnapshotIterator implements Iterator<Map.Entry<Field, String>> {
+
+        private final Object[] snapshot;
+        private int next;
+        private Field lastReturned;
+
+        SnapshotIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public Map.Entry<Field, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = (Field) snapshot[next];
+            Map.Entry<Field, String> entry = new WriteThroughEntry(lastReturned, (String) snapshot[next + 1]);
+            next += 2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            CompactFieldMap.this.remove(lastReturned);
+            lastReturned = null;
+        }
+    }
+
+    /**
+     * Like the entries of {@link ConcurrentHashMap}, setting the value changes the map
+     */
+    private final class WriteThroughEntry extends AbstractMap.SimpleEntry<Field, String> {
+
+        WriteThroughEntry(Field key, String value) {
+            super(key, value);
+        }
+
+        @Override
+        public String setValue(String value) {
+            CompactFieldMap.this.put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
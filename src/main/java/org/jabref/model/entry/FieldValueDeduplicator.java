@@ -0,0 +1,50 @@
+package org.jabref.model.entry;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Shares equal field values between entries.
+ * <p>
+ * Values such as journal names, publishers or years repeat across the entries of a library. They are replaced by a
+ * canonical instance. Long values of other fields, e.g., abstracts, are mostly unique and are kept as they are. In
+ * contrast to {@link String#intern()}, the canonical instances are garbage collected as soon as no entry uses them
+ * anymore.
+ */
+final class FieldValueDeduplicator {
+
+    private static final int MAX_SHORT_VALUE_LENGTH = 32;
+
+    private static final Set<StandardField> REPEATING_FIELDS = EnumSet.of(
+            StandardField.ADDRESS,
+            StandardField.BOOKTITLE,
+            StandardField.HOWPUBLISHED,
+            StandardField.INSTITUTION,
+            StandardField.JOURNAL,
+            StandardField.JOURNALTITLE,
+            StandardField.LANGUAGE,
+            StandardField.LOCATION,
+            StandardField.ORGANIZATION,
+            StandardField.PUBLISHER,
+            StandardField.SCHOOL,
+            StandardField.SERIES);
+
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    private FieldValueDeduplicator() {
+    }
+
+    static String deduplicate(Field field, String value) {
+        if ((value.length() <= MAX_SHORT_VALUE_LENGTH)
+                || ((field instanceof StandardField standardField) && REPEATING_FIELDS.contains(standardField))) {
+            return INTERNER.intern(value);
+        }
+        return value;
+    }
+}
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import javafx.beans.Observable;
@@ -192,6 +193,14 @@ public class LinkedFile implements Serializable {
      * optional if the file cannot be found.
      */
     public Optional<Path> findIn(List<Path> directories) {
+        return findIn(directories, Files::exists);
+    }
+
+    /**
+     * Tries to find the file in the given directories like {@link #findIn(List)}, but uses the given predicate to check
+     * whether a file exists (e.g., to look up the file in a catalog instead of asking the file system).
+     */
+    public Optional<Path> findIn(List<Path> directories, Predicate<Path> fileExists) {
         try {
             if (link.get().isEmpty()) {
                 // We do not want to match empty paths (which could be any file or none ?!)
@@ -200,13 +209,13 @@ public class LinkedFile implements Serializable {
 
             Path file = Path.of(link.get());
             if (file.isAbsolute() || directories.isEmpty()) {
-                if (Files.exists(file)) {
+                if (fileExists.test(file)) {
                     return Optional.of(file);
                 } else {
                     return Optional.empty();
                 }
             } else {
-                return FileUtil.find(link.get(), directories);
+                return FileUtil.find(link.get(), directories, fileExists);
             }
         } catch (InvalidPathException ex) {
             return Optional.empty();
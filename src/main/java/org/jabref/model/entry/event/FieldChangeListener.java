@@ -0,0 +1,15 @@
+package org.jabref.model.entry.event;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Lightweight listener for changes of the fields of a {@link BibEntry}.
+ * <p>
+ * In contrast to the listeners registered via {@link BibEntry#registerListener(Object)}, these listeners are called
+ * directly and do not need an event bus for each entry.
+ */
+@FunctionalInterface
+public interface FieldChangeListener {
+
+    void fieldChanged(FieldChangedEvent event);
+}
@@ -0,0 +1,68 @@
+package org.jabref.model.entry.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * <code>FieldsChangedBatchEvent</code> is fired once for all fields modified during a bulk operation (see
+ * {@link BibDatabase#performBatchUpdate(Runnable)}) instead of a {@link FieldChangedEvent} for each field.
+ * <p>
+ * {@link #getBibEntries()} contains each modified entry once.
+ */
+public class FieldsChangedBatchEvent extends EntriesEvent {
+
+    private final List<FieldChangedEvent> fieldChangedEvents;
+
+    /**
+     * @param fieldChangedEvents The events of the single changes in the order they happened
+     */
+    public FieldsChangedBatchEvent(List<FieldChangedEvent> fieldChangedEvents) {
+        super(getChangedEntries(fieldChangedEvents), getCommonSource(fieldChangedEvents));
+        this.fieldChangedEvents = Collections.unmodifiableList(fieldChangedEvents);
+    }
+
+    private static List<BibEntry> getChangedEntries(List<FieldChangedEvent> fieldChangedEvents) {
+        // Identity, because equal entries are still different entries of the library
+        Set<BibEntry> seenEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> changedEntries = new ArrayList<>();
+        for (FieldChangedEvent event : fieldChangedEvents) {
+            if (seenEntries.add(event.getBibEntry())) {
+                changedEntries.add(event.getBibEntry());
+            }
+        }
+        return changedEntries;
+    }
+
+    /**
+     * The source shared by all changes, or {@link EntriesEventSource#LOCAL} if the changes have different sources
+     */
+    private static EntriesEventSource getCommonSource(List<FieldChangedEvent> fieldChangedEvents) {
+        if (fieldChangedEvents.isEmpty()) {
+            return EntriesEventSource.LOCAL;
+        }
+        EntriesEventSource source = fieldChangedEvents.getFirst().getEntriesEventSource();
+        for (FieldChangedEvent event : fieldChangedEvents) {
+            if (event.getEntriesEventSource() != source) {
+                return EntriesEventSource.LOCAL;
+            }
+        }
+        return source;
+    }
+
+    public List<FieldChangedEvent> getFieldChangedEvents() {
+        return fieldChangedEvents;
+    }
+
+    /**
+     * Sum of the major character changes of all fields, see {@link FieldChangedEvent#getMajorCharacterChange()}
+     */
+    public int getMajorCharacterChange() {
+        return fieldChangedEvents.stream().mapToInt(FieldChangedEvent::getMajorCharacterChange).sum();
+    }
+}
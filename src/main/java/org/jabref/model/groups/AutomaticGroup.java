@@ -5,6 +5,7 @@ import java.util.Set;
 import javafx.collections.ObservableList;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.util.TreeCollector;
 
 public abstract class AutomaticGroup extends AbstractGroup {
@@ -22,10 +23,18 @@ public abstract class AutomaticGroup extends AbstractGroup {
         return false;
     }
 
+    /**
+     * Returns the field the subgroups are derived from
+     */
+    public abstract Field getField();
+
     public abstract Set<GroupTreeNode> createSubgroups(BibEntry entry);
 
+    /**
+     * Creates the subgroups for the given entries once. Use {@link AutomaticGroupIndex} to keep the subgroups up to
+     * date with the entries of a library.
+     */
     public ObservableList<GroupTreeNode> createSubgroups(ObservableList<BibEntry> entries) {
-        // TODO: Propagate changes to entry list (however: there is no flatMap and collect as TransformationList)
         return entries.stream()
                       .flatMap(entry -> createSubgroups(entry).stream())
                       .collect(TreeCollector.mergeIntoTree(GroupTreeNode::isSameGroupAs));
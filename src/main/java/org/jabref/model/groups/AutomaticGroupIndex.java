@@ -0,0 +1,237 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.EntryIndexes;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
+
+/**
+ * Maintains the subgroups of an {@link AutomaticGroup} for the entries of a library.
+ * <p>
+ * Each subgroup is identified by its path of groups from the top-level subgroup, e.g., the keyword chain
+ * {@code A > B}. The index maps each path to the entries having it and to the node representing it in the subgroup
+ * tree. When an entry is added, removed or its field of the automatic group changes, only the subgroups of this entry
+ * are created again and compared to the previous ones. Subgroup nodes are added when their first entry appears and
+ * removed when their last entry disappears. All other nodes stay untouched.
+ * <p>
+ * The entries are processed on the thread announcing the change. The changes of the subgroup tree are handed to the
+ * tree updater in order, e.g., to apply them on the JavaFX thread.
+ * <p>
+ * The index listens to the database as long as it is referenced.
+ */
+public class AutomaticGroupIndex {
+
+    private final AutomaticGroup group;
+    private final Consumer<Runnable> treeUpdater;
+    private final ObservableList<GroupTreeNode> subgroups = FXCollections.observableArrayList();
+    private final ObservableList<GroupTreeNode> unmodifiableSubgroups = FXCollections.unmodifiableObservableList(subgroups);
+
+    /**
+     * The subgroup paths of each entry
+     */
+    private final Map<BibEntry, Set<List<AbstractGroup>>> pathsByEntry = new IdentityHashMap<>();
+    private final Map<List<AbstractGroup>, Subgroup> subgroupsByPath = new HashMap<>();
+    private final Map<GroupTreeNode, Subgroup> subgroupsByNode = new IdentityHashMap<>();
+    private final Set<Consumer<Set<GroupTreeNode>>> listeners = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * @param treeUpdater applies the changes of the subgroup tree, e.g., on the JavaFX thread. The subgroups for the
+     *                    entries present when creating the index are built directly.
+     */
+    public AutomaticGroupIndex(AutomaticGroup group, BibDatabase database, Consumer<Runnable> treeUpdater) {
+        this.group = group;
+        this.treeUpdater = treeUpdater;
+
+        EntryIndexes.listenWhileReferenced(database, this, AutomaticGroupIndex::listen);
+        synchronized (this) {
+            List<Runnable> treeChanges = new ArrayList<>();
+            Set<GroupTreeNode> changedSubgroups = EntryIndexes.newIdentitySet();
+            for (BibEntry entry : List.copyOf(database.getEntries())) {
+                updateEntry(entry, treeChanges, changedSubgroups);
+            }
+            treeChanges.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Returns the top-level subgroups. The list and the children of the subgroups are changed by the tree updater.
+     */
+    public ObservableList<GroupTreeNode> getSubgroups() {
+        return unmodifiableSubgroups;
+    }
+
+    /**
+     * Returns the number of entries having the given subgroup, including the ones having one of its children
+     */
+    public synchronized int getHitCount(GroupTreeNode subgroup) {
+        Subgroup indexedSubgroup = subgroupsByNode.get(subgroup);
+        return indexedSubgroup == null ? 0 : indexedSubgroup.entries().size();
+    }
+
+    /**
+     * Returns the entries having the given subgroup, including the ones having one of its children
+     */
+    public synchronized List<BibEntry> getEntries(GroupTreeNode subgroup) {
+        Subgroup indexedSubgroup = subgroupsByNode.get(subgroup);
+        return indexedSubgroup == null ? List.of() : List.copyOf(indexedSubgroup.entries());
+    }
+
+    /**
+     * Returns whether the given node is a subgroup maintained by this index
+     */
+    public synchronized boolean contains(GroupTreeNode subgroup) {
+        return subgroupsByNode.containsKey(subgroup);
+    }
+
+    /**
+     * Registers a listener which gets the subgroups whose entries changed. The listener is referenced weakly.
+     */
+    public synchronized void addListener(Consumer<Set<GroupTreeNode>> listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized void removeListener(Consumer<Set<GroupTreeNode>> listener) {
+        listeners.remove(listener);
+    }
+
+    private void listen(EntriesEvent event) {
+        if (!isAffected(event)) {
+            return;
+        }
+
+        Set<GroupTreeNode> changedSubgroups = EntryIndexes.newIdentitySet();
+        List<Consumer<Set<GroupTreeNode>>> listenersToNotify;
+        synchronized (this) {
+            List<Runnable> treeChanges = new ArrayList<>();
+            for (BibEntry entry : event.getBibEntries()) {
+                if (event instanceof EntriesRemovedEvent) {
+                    updatePaths(entry, Set.of(), treeChanges, changedSubgroups);
+                } else {
+                    updateEntry(entry, treeChanges, changedSubgroups);
+                }
+            }
+            if (!treeChanges.isEmpty()) {
+                // Handed over while holding the lock, so that the changes of concurrent events keep their order
+                treeUpdater.accept(() -> treeChanges.forEach(Runnable::run));
+            }
+            listenersToNotify = new ArrayList<>(listeners);
+        }
+
+        if (!changedSubgroups.isEmpty()) {
+            Set<GroupTreeNode> unmodifiableChangedSubgroups = Collections.unmodifiableSet(changedSubgroups);
+            listenersToNotify.forEach(listener -> listener.accept(unmodifiableChangedSubgroups));
+        }
+    }
+
+    /**
+     * Changes of other fields than the one of the automatic group do not change the subgroups
+     */
+    private boolean isAffected(EntriesEvent event) {
+        if (event instanceof FieldChangedEvent fieldChangedEvent) {
+            return fieldChangedEvent.getField().equals(group.getField());
+        }
+        if (event instanceof FieldsChangedBatchEvent batchEvent) {
+            return batchEvent.getFieldChangedEvents().stream()
+                             .anyMatch(fieldChangedEvent -> fieldChangedEvent.getField().equals(group.getField()));
+        }
+        return true;
+    }
+
+    private void updateEntry(BibEntry entry, List<Runnable> treeChanges, Set<GroupTreeNode> changedSubgroups) {
+        Set<List<AbstractGroup>> paths = new LinkedHashSet<>();
+        for (GroupTreeNode subgroup : group.createSubgroups(entry)) {
+            collectPaths(subgroup, List.of(), paths);
+        }
+        updatePaths(entry, paths, treeChanges, changedSubgroups);
+    }
+
+    /**
+     * Collects the paths of the given node and its descendants. A path is collected before the paths of its children.
+     */
+    private static void collectPaths(GroupTreeNode node, List<AbstractGroup> parentPath, Set<List<AbstractGroup>> paths) {
+        List<AbstractGroup> path = new ArrayList<>(parentPath.size() + 1);
+        path.addAll(parentPath);
+        path.add(node.getGroup());
+        paths.add(List.copyOf(path));
+        for (GroupTreeNode child : node.getChildren()) {
+            collectPaths(child, path, paths);
+        }
+    }
+
+    private void updatePaths(BibEntry entry, Set<List<AbstractGroup>> newPaths, List<Runnable> treeChanges, Set<GroupTreeNode> changedSubgroups) {
+        Set<List<AbstractGroup>> oldPaths = pathsByEntry.getOrDefault(entry, Set.of());
+        if (oldPaths.equals(newPaths)) {
+            return;
+        }
+
+        for (List<AbstractGroup> path : oldPaths) {
+            if (newPaths.contains(path)) {
+                continue;
+            }
+            Subgroup subgroup = subgroupsByPath.get(path);
+            subgroup.entries().remove(entry);
+            changedSubgroups.add(subgroup.node());
+            if (subgroup.entries().isEmpty()) {
+                subgroupsByPath.remove(path);
+                subgroupsByNode.remove(subgroup.node());
+                treeChanges.add(() -> detach(subgroup.node()));
+            }
+        }
+
+        // Parents come before their children, thus the parent node of a new node always exists
+        for (List<AbstractGroup> path : newPaths) {
+            if (oldPaths.contains(path)) {
+                continue;
+            }
+            Subgroup subgroup = subgroupsByPath.get(path);
+            if (subgroup == null) {
+                subgroup = new Subgroup(new GroupTreeNode(path.getLast()), EntryIndexes.newIdentitySet());
+                subgroupsByPath.put(path, subgroup);
+                subgroupsByNode.put(subgroup.node(), subgroup);
+                GroupTreeNode node = subgroup.node();
+                if (path.size() == 1) {
+                    treeChanges.add(() -> subgroups.add(node));
+                } else {
+                    GroupTreeNode parent = subgroupsByPath.get(path.subList(0, path.size() - 1)).node();
+                    treeChanges.add(() -> parent.addChild(node));
+                }
+            }
+            subgroup.entries().add(entry);
+            changedSubgroups.add(subgroup.node());
+        }
+
+        if (newPaths.isEmpty()) {
+            pathsByEntry.remove(entry);
+        } else {
+            pathsByEntry.put(entry, newPaths);
+        }
+    }
+
+    private void detach(GroupTreeNode node) {
+        if (node.getParent().isPresent()) {
+            node.removeFromParent();
+        } else {
+            subgroups.remove(node);
+        }
+    }
+
+    private record Subgroup(GroupTreeNode node, Set<BibEntry> entries) {
+    }
+}
@@ -31,6 +31,7 @@ public class AutomaticKeywordGroup extends AutomaticGroup {
         return keywordDelimiter;
     }
 
+    @Override
     public Field getField() {
         return field;
     }
@@ -47,6 +47,7 @@ public class AutomaticPersonsGroup extends AutomaticGroup {
                             .collect(Collectors.toSet());
     }
 
+    @Override
     public Field getField() {
         return field;
     }
@@ -0,0 +1,335 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.EntryIndexes;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
+import org.jabref.model.search.SearchMatcher;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Caches which entries of a library are matched by which group.
+ * <p>
+ * Each entry of the library gets a slot number and each group a {@link BitSet} holding the slots of the matched
+ * entries. The bit set of a group is computed once when it is requested first. Afterwards, only the entries of an
+ * {@link EntriesEvent}, e.g., a changed field, are matched again against the cached groups. Thus, a change of a
+ * single entry no longer requires matching the whole library against all groups.
+ * <p>
+ * Groups are compared by identity. A change of the group tree (announced by a {@link GroupUpdatedEvent}) drops all
+ * cached groups, as the hierarchical context of a group depends on its parent and children. Groups depending on
+ * something else than the entries, e.g., a {@link TexGroup}, have to be {@link #invalidate(GroupTreeNode) invalidated}
+ * by the caller.
+ * <p>
+ * The matched entries of a group are computed without holding the lock of the index, so that entry events are not
+ * blocked meanwhile. Entries changed during the computation are matched again before the result is published.
+ * <p>
+ * Listeners are notified about the groups whose matched entries changed. They are referenced weakly, thus the caller
+ * has to keep a reference to the listener as long as it is interested in changes.
+ */
+public class GroupMembershipIndex {
+
+    private final Map<BibEntry, Integer> slots = new IdentityHashMap<>();
+    private final List<BibEntry> entriesBySlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+    private final Map<GroupTreeNode, Membership> memberships = new MapMaker().weakKeys().makeMap();
+    private final Set<Consumer<Set<GroupTreeNode>>> listeners = Collections.newSetFromMap(new WeakHashMap<>());
+
+    // The slots changed during each running computation of matched entries
+    private final Set<BitSet> changedSlotsOfComputations = EntryIndexes.newIdentitySet();
+    // Counts the invalidations of groups, which make running computations obsolete
+    private long invalidations;
+
+    /**
+     * Creates the index and keeps it up to date with the given database
+     */
+    public GroupMembershipIndex(BibDatabase database) {
+        database.registerListener(this);
+        synchronized (this) {
+            database.getEntries().forEach(this::getOrCreateSlot);
+        }
+    }
+
+    /**
+     * Returns the number of entries matched by the given group, taking its hierarchical context into account
+     */
+    public int getHitCount(GroupTreeNode group) {
+        Membership membership = getMembership(group);
+        synchronized (this) {
+            return membership.entries().cardinality();
+        }
+    }
+
+    /**
+     * Returns the entries matched by the given group in the order they were added to the library
+     */
+    public List<BibEntry> getMatches(GroupTreeNode group) {
+        Membership membership = getMembership(group);
+        synchronized (this) {
+            BitSet entries = membership.entries();
+            List<BibEntry> matches = new ArrayList<>(entries.cardinality());
+            entries.stream().forEach(slot -> matches.add(entriesBySlot.get(slot)));
+            return matches;
+        }
+    }
+
+    /**
+     * Returns whether the given group matches the given entry. If the matched entries of the group are not known yet,
+     * the entry is matched directly against the group, as computing all matched entries for a single lookup does not
+     * pay off. The same applies to entries which are not part of the library.
+     */
+    public boolean matches(GroupTreeNode group, BibEntry entry) {
+        synchronized (this) {
+            Integer slot = slots.get(entry);
+            Membership membership = memberships.get(group);
+            if ((slot != null) && (membership != null)) {
+                return membership.entries().get(slot);
+            }
+        }
+        return group.matches(entry);
+    }
+
+    /**
+     * Returns whether at least one of the given groups matches the given entry (union of the groups). It is meant to
+     * be called for many entries, e.g., when filtering, thus the matched entries of the groups are computed.
+     */
+    public boolean matchesAny(Collection<GroupTreeNode> groups, BibEntry entry) {
+        for (GroupTreeNode group : groups) {
+            if (isMember(group, entry)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether all given groups match the given entry (intersection of the groups). It is meant to be called
+     * for many entries, e.g., when filtering, thus the matched entries of the groups are computed.
+     */
+    public boolean matchesAll(Collection<GroupTreeNode> groups, BibEntry entry) {
+        for (GroupTreeNode group : groups) {
+            if (!isMember(group, entry)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drops the matched entries of the given group, e.g., because the group depends on a file which changed. They are
+     * computed again when requested next.
+     */
+    public void invalidate(GroupTreeNode group) {
+        synchronized (this) {
+            memberships.remove(group);
+            invalidations++;
+        }
+        notifyListeners(Collections.singleton(group));
+    }
+
+    /**
+     * Drops the matched entries of all groups
+     */
+    public void invalidateAll() {
+        Set<GroupTreeNode> invalidatedGroups = EntryIndexes.newIdentitySet();
+        synchronized (this) {
+            invalidatedGroups.addAll(memberships.keySet());
+            memberships.clear();
+            invalidations++;
+        }
+        notifyListeners(invalidatedGroups);
+    }
+
+    /**
+     * Registers a listener which gets the groups whose matched entries changed. The listener is referenced weakly.
+     */
+    public synchronized void addListener(Consumer<Set<GroupTreeNode>> listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized void removeListener(Consumer<Set<GroupTreeNode>> listener) {
+        listeners.remove(listener);
+    }
+
+    @Subscribe
+    public void listen(EntriesEvent event) {
+        Set<GroupTreeNode> changedGroups;
+        synchronized (this) {
+            if (event instanceof EntriesRemovedEvent) {
+                changedGroups = removeEntries(event.getBibEntries());
+            } else {
+                changedGroups = updateEntries(event.getBibEntries(), event instanceof EntriesAddedEvent);
+            }
+        }
+        notifyListeners(changedGroups);
+    }
+
+    @Subscribe
+    public void listen(GroupUpdatedEvent event) {
+        invalidateAll();
+    }
+
+    private boolean isMember(GroupTreeNode group, BibEntry entry) {
+        boolean isIndexed;
+        synchronized (this) {
+            isIndexed = slots.containsKey(entry);
+        }
+        if (!isIndexed) {
+            return group.matches(entry);
+        }
+        Membership membership = getMembership(group);
+        synchronized (this) {
+            Integer slot = slots.get(entry);
+            if (slot != null) {
+                return membership.entries().get(slot);
+            }
+        }
+        // removed meanwhile
+        return group.matches(entry);
+    }
+
+    /**
+     * Returns the cached matched entries of the given group or computes them. The computation matches all entries, thus
+     * it does not hold the lock. The entries changed meanwhile are matched again before the result is cached. If the
+     * group was invalidated meanwhile, the result is returned without caching it.
+     */
+    private Membership getMembership(GroupTreeNode group) {
+        List<BibEntry> entries;
+        BitSet changedSlots = new BitSet();
+        long invalidationsAtStart;
+        synchronized (this) {
+            Membership membership = memberships.get(group);
+            if (membership != null) {
+                return membership;
+            }
+            entries = new ArrayList<>(entriesBySlot);
+            changedSlotsOfComputations.add(changedSlots);
+            invalidationsAtStart = invalidations;
+        }
+
+        SearchMatcher matcher;
+        BitSet matchedSlots = new BitSet(entries.size());
+        try {
+            matcher = group.getSearchMatcher();
+            for (int slot = 0; slot < entries.size(); slot++) {
+                BibEntry entry = entries.get(slot);
+                if ((entry != null) && matcher.isMatch(entry)) {
+                    matchedSlots.set(slot);
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedSlotsOfComputations.remove(changedSlots);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            changedSlotsOfComputations.remove(changedSlots);
+            Membership membership = memberships.get(group);
+            if (membership != null) {
+                // computed by another thread meanwhile
+                return membership;
+            }
+            changedSlots.stream().forEach(slot -> {
+                BibEntry entry = entriesBySlot.get(slot);
+                matchedSlots.set(slot, (entry != null) && matcher.isMatch(entry));
+            });
+            membership = new Membership(matcher, matchedSlots);
+            if (invalidations == invalidationsAtStart) {
+                memberships.put(group, membership);
+            }
+            return membership;
+        }
+    }
+
+    private Set<GroupTreeNode> updateEntries(List<BibEntry> entries, boolean areNewEntries) {
+        Set<GroupTreeNode> changedGroups = EntryIndexes.newIdentitySet();
+        for (BibEntry entry : entries) {
+            Integer slot = areNewEntries ? getOrCreateSlot(entry) : slots.get(entry);
+            if (slot == null) {
+                continue;
+            }
+            changedSlotsOfComputations.forEach(changedSlots -> changedSlots.set(slot));
+            memberships.forEach((group, membership) -> {
+                boolean isMatch = membership.matcher().isMatch(entry);
+                if (membership.entries().get(slot) != isMatch) {
+                    membership.entries().set(slot, isMatch);
+                    changedGroups.add(group);
+                }
+            });
+        }
+        return changedGroups;
+    }
+
+    private Set<GroupTreeNode> removeEntries(List<BibEntry> entries) {
+        Set<GroupTreeNode> changedGroups = EntryIndexes.newIdentitySet();
+        for (BibEntry entry : entries) {
+            Integer slot = slots.remove(entry);
+            if (slot == null) {
+                continue;
+            }
+            entriesBySlot.set(slot, null);
+            freeSlots.set(slot);
+            changedSlotsOfComputations.forEach(changedSlots -> changedSlots.set(slot));
+            memberships.forEach((group, membership) -> {
+                if (membership.entries().get(slot)) {
+                    membership.entries().clear(slot);
+                    changedGroups.add(group);
+                }
+            });
+        }
+        return changedGroups;
+    }
+
+    private int getOrCreateSlot(BibEntry entry) {
+        Integer existingSlot = slots.get(entry);
+        if (existingSlot != null) {
+            return existingSlot;
+        }
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = entriesBySlot.size();
+            entriesBySlot.add(entry);
+        } else {
+            freeSlots.clear(slot);
+            entriesBySlot.set(slot, entry);
+        }
+        slots.put(entry, slot);
+        return slot;
+    }
+
+    private void notifyListeners(Set<GroupTreeNode> changedGroups) {
+        if (changedGroups.isEmpty()) {
+            return;
+        }
+        List<Consumer<Set<GroupTreeNode>>> listenersToNotify;
+        synchronized (this) {
+            listenersToNotify = new ArrayList<>(listeners);
+        }
+        Set<GroupTreeNode> unmodifiableChangedGroups = Collections.unmodifiableSet(changedGroups);
+        listenersToNotify.forEach(listener -> listener.accept(unmodifiableChangedGroups));
+    }
+
+    /**
+     * The matcher is kept together with the matched entries, as creating the matcher of a hierarchical group walks
+     * the group tree
+     */
+    private record Membership(SearchMatcher matcher, BitSet entries) {
+    }
+}
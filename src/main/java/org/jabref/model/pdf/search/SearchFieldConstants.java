@@ -7,6 +7,7 @@ public class SearchFieldConstants {
     public static final String PAGE_NUMBER = "pageNumber";
     public static final String ANNOTATIONS = "annotations";
     public static final String MODIFIED = "modified";
+    public static final String FINGERPRINT = "fingerprint";
 
     public static final String[] PDF_FIELDS = new String[]{PATH, CONTENT, PAGE_NUMBER, MODIFIED, ANNOTATIONS};
 
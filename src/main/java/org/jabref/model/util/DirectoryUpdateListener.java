@@ -0,0 +1,12 @@
+package org.jabref.model.util;
+
+import java.nio.file.Path;
+
+public interface DirectoryUpdateListener {
+
+    /**
+     * A file or subdirectory directly contained in the directory has been created, modified or deleted. If the
+     * single changes are not known (e.g., because there were too many at once), the directory itself is passed.
+     */
+    void directoryUpdated(Path changedPath);
+}
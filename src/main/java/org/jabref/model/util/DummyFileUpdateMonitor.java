@@ -18,6 +18,16 @@ public class DummyFileUpdateMonitor implements FileUpdateMonitor {
         // empty
     }
 
+    @Override
+    public void addListenerForDirectory(Path directory, DirectoryUpdateListener listener) {
+        // empty
+    }
+
+    @Override
+    public void removeListenerForDirectory(Path directory, DirectoryUpdateListener listener) {
+        // empty
+    }
+
     @Override
     public boolean isActive() {
         return false;
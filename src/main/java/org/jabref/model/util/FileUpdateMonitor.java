@@ -19,6 +19,23 @@ public interface FileUpdateMonitor {
      */
     void removeListener(Path path, FileUpdateListener listener);
 
+    /**
+     * Add a new directory to monitor. Only changes of the files and subdirectories directly contained in the directory
+     * are reported.
+     *
+     * @param directory The directory to monitor.
+     * @throws IOException if the directory does not exist or cannot be watched (e.g., because the monitor is not
+     *                     active or the limit of watches of the operating system is reached).
+     */
+    void addListenerForDirectory(Path directory, DirectoryUpdateListener listener) throws IOException;
+
+    /**
+     * Removes a directory listener from the monitor.
+     *
+     * @param directory The directory to remove.
+     */
+    void removeListenerForDirectory(Path directory, DirectoryUpdateListener listener);
+
     /**
      * Indicates whether the native system's file monitor has successfully started.
      *
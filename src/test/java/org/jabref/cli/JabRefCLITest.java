@@ -42,6 +42,23 @@ class JabRefCLITest {
         assertEquals("some/export/file", cli.getFileExport());
     }
 
+    @Test
+    void abbreviateJournalsKeepsLibraryAsLeftOver() throws Exception {
+        JabRefCLI cli = new JabRefCLI(new String[]{"--nogui", "--abbreviateJournals", "library.bib"});
+
+        assertTrue(cli.isAbbreviateJournals());
+        assertEquals("default", cli.getAbbreviationType());
+        assertEquals(List.of("library.bib"), cli.getLeftOver());
+    }
+
+    @Test
+    void successfulParsingOfAbbreviationType() throws Exception {
+        JabRefCLI cli = new JabRefCLI(new String[]{"--nogui", "--abbreviateJournals", "--abbreviationType", "dotless", "library.bib"});
+
+        assertEquals("dotless", cli.getAbbreviationType());
+        assertEquals(List.of("library.bib"), cli.getLeftOver());
+    }
+
     @Test
     void emptyCLILeftOversShortOptions() throws Exception {
         JabRefCLI cli = new JabRefCLI(new String[]{"-n", "-i=some/file", "-o=some/export/file"});
@@ -1,18 +1,24 @@
 package org.jabref.gui;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -51,7 +57,7 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(preferencesMock, database));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
@@ -69,10 +75,37 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(preferencesMock, database));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "New timestamp set after entry changed even though updates were disabled");
     }
+
+    @Test
+    void batchOfChangesUpdatesTimestampsInOneBatch() {
+        when(timestampPreferencesMock.now()).thenReturn(newDate);
+        when(timestampPreferencesMock.shouldAddModificationDate()).thenReturn(true);
+        BibEntry otherEntry = new BibEntry();
+        database.insertEntry(otherEntry);
+        database.registerListener(new UpdateTimestampListener(preferencesMock, database));
+        List<EntriesEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(EntriesEvent event) {
+                events.add(event);
+            }
+        });
+
+        database.performBatchUpdate(() -> {
+            bibEntry.setField(new UnknownField("test"), "some value");
+            otherEntry.setField(new UnknownField("test"), "other value");
+        });
+
+        assertEquals(Optional.of(newDate), bibEntry.getField(StandardField.MODIFICATIONDATE));
+        assertEquals(Optional.of(newDate), otherEntry.getField(StandardField.MODIFICATIONDATE));
+        // the batch of the changes and the batch of the timestamps
+        assertEquals(2, events.size());
+        assertTrue(events.stream().allMatch(FieldsChangedBatchEvent.class::isInstance));
+    }
 }
@@ -0,0 +1,98 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+
+    private BibDatabase database;
+    private SuggestionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        index = new SuggestionIndex<>(database, List.of(StandardField.JOURNAL), entry -> entry.getField(StandardField.JOURNAL).stream(), Function.identity());
+    }
+
+    @Test
+    void mostFrequentCandidatesComeFirst() {
+        addEntryWithJournal("Journal of Rare Results");
+        addEntryWithJournal("Journal of Frequent Results");
+        addEntryWithJournal("Journal of Frequent Results");
+
+        assertEquals(List.of("Journal of Frequent Results", "Journal of Rare Results"), index.getTopCandidates("jour"));
+    }
+
+    @Test
+    void candidatesAreFoundByAnyWord() {
+        addEntryWithJournal("Journal of Rare Results");
+
+        assertEquals(List.of("Journal of Rare Results"), index.getTopCandidates("rare res"));
+        assertEquals(List.of(), index.getTopCandidates("are"));
+    }
+
+    @Test
+    void numberOfTopCandidatesIsLimited() {
+        IntStream.range(0, 2 * SuggestionIndex.MAX_SUGGESTIONS).forEach(i -> addEntryWithJournal("Journal " + i));
+
+        assertEquals(SuggestionIndex.MAX_SUGGESTIONS, index.getTopCandidates("journal").size());
+    }
+
+    @Test
+    void indexIsNotUpdatedAfterShutdown() {
+        addEntryWithJournal("Journal of Rare Results");
+        assertEquals(List.of("Journal of Rare Results"), index.getTopCandidates("jour"));
+
+        index.shutdown();
+        addEntryWithJournal("Journal of Frequent Results");
+
+        assertEquals(List.of(), index.getTopCandidates("jour"));
+        assertEquals(List.of(), index.getCandidates());
+    }
+
+    @Test
+    void changedEntryIsIndexedAgain() {
+        BibEntry entry = addEntryWithJournal("Journal of Rare Results");
+        assertEquals(List.of("Journal of Rare Results"), index.getTopCandidates("jour"));
+
+        entry.setField(StandardField.JOURNAL, "Journal of Frequent Results");
+
+        assertEquals(List.of("Journal of Frequent Results"), index.getTopCandidates("jour"));
+    }
+
+    @Test
+    void removedEntryIsNotSuggested() {
+        BibEntry entry = addEntryWithJournal("Journal of Rare Results");
+        assertEquals(List.of("Journal of Rare Results"), index.getTopCandidates("jour"));
+
+        database.removeEntry(entry);
+
+        assertEquals(List.of(), index.getTopCandidates("jour"));
+        assertEquals(List.of(), index.getCandidates());
+    }
+
+    @Test
+    void matchesInsideWordsFollowTopCandidates() {
+        addEntryWithJournal("Software Journal");
+        addEntryWithJournal("Warehouse Journal");
+
+        assertEquals(List.of("Warehouse Journal", "Software Journal"),
+                index.getMatches("ware", candidate -> candidate.toLowerCase().contains("ware")).distinct().toList());
+    }
+
+    private BibEntry addEntryWithJournal(String journal) {
+        BibEntry entry = new BibEntry().withField(StandardField.JOURNAL, journal);
+        database.insertEntry(entry);
+        return entry;
+    }
+}
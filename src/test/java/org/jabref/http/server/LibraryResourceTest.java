@@ -1,12 +1,30 @@
 package org.jabref.http.server;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
 import org.jabref.http.JabrefMediaType;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -36,4 +54,139 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void unchangedLibraryIsNotSentAgain() {
+        EntityTag entityTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get().getEntityTag();
+        assertNotNull(entityTag);
+
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM)
+                                                                                       .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+                                                                                       .get();
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void formatsHaveDifferentEntityTags() {
+        EntityTag bibtexEntityTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.BIBTEX).get().getEntityTag();
+        EntityTag jsonEntityTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get().getEntityTag();
+
+        assertNotEquals(bibtexEntityTag, jsonEntityTag);
+    }
+
+    @Test
+    void getEntries() {
+        JsonObject page = getPage(TestBibFile.GENERAL_SERVER_TEST, Map.of());
+
+        JsonArray entries = page.getAsJsonArray("entries");
+        assertEquals(1, entries.size());
+        JsonObject entry = entries.get(0).getAsJsonObject();
+        assertEquals("Author2023test", entry.get("citationKey").getAsString());
+        assertTrue(entry.get("bibtex").getAsString().contains("@Misc{Author2023test,"));
+        assertFalse(page.has("next"));
+    }
+
+    @Test
+    void pagesContainAllEntries() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.GENERAL_SERVER_TEST, TestBibFile.JABREF_AUTHORS));
+        List<String> allCitationKeys = getCitationKeys(getPage(TestBibFile.JABREF_AUTHORS, Map.of("limit", LibraryResource.MAX_PAGE_SIZE)));
+
+        List<String> citationKeys = new ArrayList<>();
+        int numberOfPages = 0;
+        JsonObject page = getPage(TestBibFile.JABREF_AUTHORS, Map.of("limit", 50));
+        while (true) {
+            numberOfPages++;
+            citationKeys.addAll(getCitationKeys(page));
+            if (!page.has("next")) {
+                break;
+            }
+            page = getPage(TestBibFile.JABREF_AUTHORS, Map.of("limit", 50, "cursor", page.get("next").getAsString()));
+        }
+
+        assertEquals((allCitationKeys.size() + 49) / 50, numberOfPages);
+        assertEquals(allCitationKeys, citationKeys);
+    }
+
+    @Test
+    void entriesOfPageEqualEntriesOfLibrary() {
+        JsonArray libraryEntries = JsonParser.parseString(target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON).get(String.class)).getAsJsonArray();
+
+        assertEquals(libraryEntries, getPage(TestBibFile.GENERAL_SERVER_TEST, Map.of()).getAsJsonArray("entries"));
+    }
+
+    @Test
+    void onlyGivenFieldsAreReturned() {
+        JsonObject entry = getPage(TestBibFile.GENERAL_SERVER_TEST, Map.of("fields", "title,year")).getAsJsonArray("entries").get(0).getAsJsonObject();
+
+        String bibtex = entry.get("bibtex").getAsString();
+        assertTrue(bibtex.contains("Demo Title"));
+        assertTrue(bibtex.contains("2023"));
+        assertFalse(bibtex.contains("Demo Author"));
+    }
+
+    @Test
+    void pagesWithDifferentParametersHaveDifferentEntityTags() {
+        WebTarget target = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries");
+        EntityTag allFieldsEntityTag = target.request().get().getEntityTag();
+        EntityTag someFieldsEntityTag = target.queryParam("fields", "title,year").request().get().getEntityTag();
+        EntityTag reorderedFieldsEntityTag = target.queryParam("fields", "year,title").request().get().getEntityTag();
+        EntityTag limitedEntityTag = target.queryParam("limit", 1).request().get().getEntityTag();
+
+        assertNotEquals(allFieldsEntityTag, someFieldsEntityTag);
+        assertNotEquals(allFieldsEntityTag, limitedEntityTag);
+        assertEquals(someFieldsEntityTag, reorderedFieldsEntityTag);
+    }
+
+    @Test
+    void onlyMatchingEntriesAreReturned() {
+        assertEquals(1, getPage(TestBibFile.GENERAL_SERVER_TEST, Map.of("q", "author=Demo")).getAsJsonArray("entries").size());
+        assertEquals(0, getPage(TestBibFile.GENERAL_SERVER_TEST, Map.of("q", "author=Nobody")).getAsJsonArray("entries").size());
+    }
+
+    @Test
+    void invalidLimitIsRejected() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").queryParam("limit", 0).request().get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void cursorOfOtherVersionIsRejected() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").queryParam("cursor", "0-0:1").request().get();
+
+        assertEquals(Response.Status.GONE.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").queryParam("cursor", "1").request().get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void getEntry() {
+        String entry = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Author2023test").request().get(String.class);
+
+        JsonObject json = JsonParser.parseString(entry).getAsJsonObject();
+        assertEquals("Author2023test", json.get("citationKey").getAsString());
+        assertTrue(json.get("bibtex").getAsString().contains("Demo Title"));
+    }
+
+    private JsonObject getPage(TestBibFile library, Map<String, Object> parameters) {
+        WebTarget target = target("/libraries/" + library.id + "/entries");
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            target = target.queryParam(parameter.getKey(), parameter.getValue());
+        }
+        return JsonParser.parseString(target.request().get(String.class)).getAsJsonObject();
+    }
+
+    private static List<String> getCitationKeys(JsonObject page) {
+        List<String> citationKeys = new ArrayList<>();
+        for (JsonElement entry : page.getAsJsonArray("entries")) {
+            citationKeys.add(entry.getAsJsonObject().get("citationKey").getAsString());
+        }
+        return citationKeys;
+    }
 }
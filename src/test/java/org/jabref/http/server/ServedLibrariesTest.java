@@ -0,0 +1,107 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServedLibrariesTest {
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final FieldPreferences fieldPreferences = new FieldPreferences(false, List.of(), List.of());
+
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.fieldPreferences()).thenReturn(new FieldPreferences(false, List.of(), List.of()));
+        library = Files.writeString(temporaryFolder.resolve("library.bib"), "@Misc{first, title = {First}}");
+    }
+
+    @Test
+    void unchangedLibraryIsParsedOnce() throws IOException {
+        ServedLibrary servedLibrary = ServedLibraries.getLibrary(library, importFormatPreferences, fieldPreferences);
+
+        assertSame(servedLibrary, ServedLibraries.getLibrary(library, importFormatPreferences, fieldPreferences));
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain() throws IOException {
+        ServedLibrary servedLibrary = ServedLibraries.getLibrary(library, importFormatPreferences, fieldPreferences);
+
+        Files.writeString(library, "@Misc{first, title = {First}}\n@Misc{second, title = {Second}}");
+        ServedLibrary changedLibrary = ServedLibraries.getLibrary(library, importFormatPreferences, fieldPreferences);
+
+        assertNotSame(servedLibrary, changedLibrary);
+        assertEquals(2, changedLibrary.getEntries().size());
+    }
+
+    @Test
+    void libraryChangedWithinGranularityOfModificationTimeIsParsedAgain() throws IOException {
+        ServedLibrary servedLibrary = ServedLibraries.getLibrary(library, importFormatPreferences, fieldPreferences);
+
+        // Same size and modification time
+        FileTime lastModifiedTime = Files.getLastModifiedTime(library);
+        Files.writeString(library, "@Misc{other, title = {Other}}");
+        Files.setLastModifiedTime(library, lastModifiedTime);
+        ServedLibrary changedLibrary = ServedLibraries.getLibrary(library, importFormatPreferences, fieldPreferences);
+
+        assertNotSame(servedLibrary, changedLibrary);
+        assertEquals(Optional.of("other"), changedLibrary.getEntries().getFirst().getCitationKey());
+    }
+
+    @Test
+    void versionDoesNotChangeOnceModificationIsLongEnoughAgo() throws Exception {
+        String version = ServedLibraries.getVersion(library);
+
+        Thread.sleep(ServedLibraries.MODIFICATION_TIME_GRANULARITY.plusMillis(100));
+
+        assertEquals(version, ServedLibraries.getVersion(library));
+    }
+
+    @Test
+    void versionChangesWithinGranularityOfModificationTime() throws IOException {
+        String version = ServedLibraries.getVersion(library);
+
+        // Same size and modification time
+        FileTime lastModifiedTime = Files.getLastModifiedTime(library);
+        Files.writeString(library, "@Misc{other, title = {Other}}");
+        Files.setLastModifiedTime(library, lastModifiedTime);
+
+        assertNotEquals(version, ServedLibraries.getVersion(library));
+    }
+
+    @Test
+    void libraryIsParsedAgainWithChangedPreferences() throws IOException {
+        ServedLibrary servedLibrary = ServedLibraries.getLibrary(library, importFormatPreferences, fieldPreferences);
+
+        fieldPreferences.setNonWrappableFields(List.of(StandardField.TITLE));
+
+        assertNotSame(servedLibrary, ServedLibraries.getLibrary(library, importFormatPreferences, fieldPreferences));
+    }
+
+    @Test
+    void libraryIsFoundById() {
+        assertEquals(Optional.of(library), ServedLibraries.getPath(List.of(library), ServedLibraries.getId(library)));
+        assertEquals(Optional.empty(), ServedLibraries.getPath(List.of(library), "unknown.bib-0000"));
+    }
+}
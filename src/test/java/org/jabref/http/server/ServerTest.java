@@ -81,9 +81,9 @@ abstract class ServerTest extends JerseyTest {
         when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
         when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
 
-        FieldPreferences fieldWriterPreferences = mock(FieldPreferences.class);
+        // The served libraries are versioned with the field preferences, thus they need real values
+        FieldPreferences fieldWriterPreferences = new FieldPreferences(false, List.of(), List.of());
         when(preferencesService.getFieldPreferences()).thenReturn(fieldWriterPreferences);
-        when(fieldWriterPreferences.shouldResolveStrings()).thenReturn(false);
 
         // defaults are in {@link org.jabref.preferences.JabRefPreferences.NON_WRAPPABLE_FIELDS}
         FieldPreferences fieldContentFormatterPreferences = new FieldPreferences(false, List.of(), List.of());
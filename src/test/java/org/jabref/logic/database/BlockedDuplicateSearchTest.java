@@ -0,0 +1,114 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockedDuplicateSearchTest {
+
+    private BlockedDuplicateSearch duplicateSearch;
+
+    @BeforeEach
+    void setUp() {
+        duplicateSearch = new BlockedDuplicateSearch(new DuplicateCheck(new BibEntryTypesManager()), BibDatabaseMode.BIBTEX);
+    }
+
+    @Test
+    void findsDuplicatesWithSameTitleAndAuthor() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        BibEntry unrelated = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Completely Different")
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(StandardField.YEAR, "1992");
+        BibEntry second = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(List.of(List.of(first, second)), duplicateSearch.search(List.of(first, unrelated, second)));
+    }
+
+    @Test
+    void findsDuplicatesWithSameDoiOnly() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Some title")
+                .withField(StandardField.DOI, "10.1000/182");
+        BibEntry second = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.TITLE, "Completely different")
+                .withField(StandardField.DOI, "10.1000/182");
+
+        assertEquals(List.of(List.of(first, second)), duplicateSearch.search(List.of(first, second)));
+    }
+
+    @Test
+    void reportsPairSharingSeveralBlocksOnlyOnce() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017")
+                .withField(StandardField.DOI, "10.1000/182");
+        BibEntry second = (BibEntry) first.clone();
+
+        assertEquals(1, duplicateSearch.search(List.of(first, second)).size());
+    }
+
+    @Test
+    void comparesEntriesWithoutBlockingKey() {
+        BibEntry first = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.NOTE, "Just a note");
+        BibEntry second = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.NOTE, "Just a note");
+
+        assertEquals(List.of(List.of(first, second)), duplicateSearch.search(List.of(first, second)));
+    }
+
+    @Test
+    void doesNotCompareEntriesOfDifferentBlocks() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        BibEntry second = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Other Person")
+                .withField(StandardField.TITLE, "Another paper")
+                .withField(StandardField.YEAR, "2018");
+
+        AtomicInteger comparisons = new AtomicInteger();
+        DuplicateCheck everythingIsDuplicate = new DuplicateCheck(new BibEntryTypesManager()) {
+            @Override
+            public boolean isDuplicate(BibEntry one, BibEntry two, BibDatabaseMode bibDatabaseMode) {
+                comparisons.incrementAndGet();
+                return true;
+            }
+        };
+
+        List<List<BibEntry>> duplicates = new BlockedDuplicateSearch(everythingIsDuplicate, BibDatabaseMode.BIBTEX).search(List.of(first, second));
+
+        assertTrue(duplicates.isEmpty());
+        assertEquals(0, comparisons.get());
+    }
+
+    @Test
+    void blockingKeysContainTitlePrefixAndAuthorYear() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Ove Grandstrand and Other Person")
+                .withField(StandardField.TITLE, "Innovation and {I}ntellectual Property Rights")
+                .withField(StandardField.YEAR, "2004");
+
+        assertEquals(List.of("title:innovation", "author:grandstrand:2004"), List.copyOf(BlockedDuplicateSearch.getBlockingKeys(entry)));
+    }
+}
@@ -0,0 +1,157 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelBibtexParserTest {
+
+    private ImportFormatPreferences importFormatPreferences;
+    private ForkJoinPool pool;
+    private ParallelBibtexParser parser;
+
+    @BeforeEach
+    void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        pool = new ForkJoinPool(4);
+        parser = new ParallelBibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), 1024, pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static String createLibrary(String newline, String entryContent) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("% Encoding: UTF-8").append(newline).append(newline);
+        builder.append("@Preamble{\\newcommand{\\noopsort}[1]{}}").append(newline).append(newline);
+        builder.append("@String{journal = {Journal of Tests}}").append(newline).append(newline);
+        for (int i = 0; i < 200; i++) {
+            if ((i % 10) == 0) {
+                builder.append("% Comment in front of entry ").append(i).append(newline);
+            }
+            builder.append("@Article{key").append(i).append(',').append(newline)
+                   .append("  author  = {Authör ").append(i).append("},").append(newline)
+                   .append("  journal = journal,").append(newline)
+                   .append("  note    = {").append(entryContent).append("},").append(newline)
+                   .append("  title   = {Title {").append(i).append("}},").append(newline)
+                   .append('}').append(newline).append(newline);
+            if ((i % 30) == 0) {
+                builder.append("@String{string").append(i).append(" = {String ").append(i).append("}}").append(newline);
+            }
+        }
+        builder.append("@Comment{jabref-meta: databaseType:bibtex;}").append(newline).append(newline);
+        builder.append("@Comment{jabref-meta: grouping:").append(newline)
+               .append("0 AllEntriesGroup:;").append(newline)
+               .append("1 StaticGroup:Group\\;0\\;1\\;\\;\\;\\;;").append(newline)
+               .append('}').append(newline);
+        return builder.toString();
+    }
+
+    private void assertSameAsSerialParser(String library) throws IOException {
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(library));
+        assertSameResult(expected, parser.parse(new StringReader(library)));
+        assertSameResult(expected, parser.parse(ByteBuffer.wrap(library.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+    }
+
+    private static void assertSameResult(ParserResult expected, ParserResult actual) {
+        BibDatabase expectedDatabase = expected.getDatabase();
+        BibDatabase actualDatabase = actual.getDatabase();
+        assertEquals(expectedDatabase.getEntries(), actualDatabase.getEntries());
+        assertEquals(
+                expectedDatabase.getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                actualDatabase.getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(getStrings(expectedDatabase), getStrings(actualDatabase));
+        assertEquals(expectedDatabase.getPreamble(), actualDatabase.getPreamble());
+        assertEquals(expectedDatabase.getEpilog(), actualDatabase.getEpilog());
+        assertEquals(expectedDatabase.getNewLineSeparator(), actualDatabase.getNewLineSeparator());
+        assertEquals(expected.getMetaData(), actual.getMetaData());
+        assertEquals(expected.getEntryTypes(), actual.getEntryTypes());
+        assertEquals(expected.warnings(), actual.warnings());
+    }
+
+    private static Map<String, String> getStrings(BibDatabase database) {
+        return database.getStringValues().stream()
+                       .collect(Collectors.toMap(BibtexString::getName, string -> string.getContent() + string.getParsedSerialization()));
+    }
+
+    @Test
+    void splitsLargeInputInFrontOfEntries() {
+        String library = createLibrary("\n", "Some note");
+        List<Integer> boundaries = parser.getBoundaries(library);
+
+        assertTrue(boundaries.size() > 3);
+        assertEquals(0, boundaries.getFirst());
+        assertEquals(library.length(), boundaries.getLast());
+        for (int i = 1; i < (boundaries.size() - 1); i++) {
+            assertTrue(library.substring(boundaries.get(i)).trim().startsWith("@"));
+            assertTrue(library.substring(0, boundaries.get(i)).trim().endsWith("}"));
+        }
+    }
+
+    @Test
+    void doesNotSplitSmallInput() {
+        String library = "@Article{key, title = {Title}}\n\n@Article{key2, title = {Title}}\n";
+        assertEquals(List.of(0, library.length()), parser.getBoundaries(library));
+    }
+
+    @Test
+    void doesNotSplitMetadata() {
+        String library = createLibrary("\n", "Some note");
+        int metadataStart = library.indexOf("@Comment{jabref-meta");
+        assertTrue(parser.getBoundaries(library).stream().allMatch(boundary -> (boundary <= metadataStart) || (boundary == library.length())));
+    }
+
+    @Test
+    void parallelParseEqualsSerialParse() throws IOException {
+        assertSameAsSerialParser(createLibrary("\n", "Some note"));
+    }
+
+    @Test
+    void parallelParseEqualsSerialParseWithInputLargerThanReadBlock() throws IOException {
+        String library = createLibrary("\n", "Some long note ".repeat(50));
+        assertTrue(library.length() > (1 << 16));
+        assertSameAsSerialParser(library);
+    }
+
+    @Test
+    void parallelParseEqualsSerialParseWithWindowsLineBreaks() throws IOException {
+        assertSameAsSerialParser(createLibrary("\r\n", "Some note"));
+    }
+
+    @Test
+    void parallelParseEqualsSerialParseWithEntriesInFields() throws IOException {
+        // looks like a boundary between two entries, but is part of a field
+        assertSameAsSerialParser(createLibrary("\n", "Cited as {x}\n\n@Misc{fake, title = {Fake}}"));
+    }
+
+    @Test
+    void parallelParseEqualsSerialParseWithDuplicateStrings() throws IOException {
+        String library = createLibrary("\n", "Some note") + "@String{string0 = {Duplicate}}\n";
+        assertSameAsSerialParser(library);
+    }
+}
@@ -0,0 +1,201 @@
+package org.jabref.logic.integrity;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.bibtex.FileFieldWriter;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.journals.predatory.PredatoryJournalRepository;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.preferences.FilePreferences;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BackgroundIntegrityCheckTest {
+
+    // Long enough to never check in the background during a test
+    private static final long DELAY_MILLIS = 60_000;
+
+    private final IntegrityCheck integrityCheck = mock(IntegrityCheck.class);
+
+    private BibDatabase database;
+    private BibEntry entry;
+    private BibEntry otherEntry;
+    private BackgroundIntegrityCheck backgroundCheck;
+
+    @BeforeEach
+    void setUp() {
+        when(integrityCheck.checkEntry(any())).thenAnswer(invocation -> {
+            BibEntry checkedEntry = invocation.getArgument(0);
+            if (checkedEntry.getField(StandardField.TITLE).equals(Optional.of("wrong"))) {
+                return List.of(new IntegrityMessage("wrong title", checkedEntry, StandardField.TITLE));
+            }
+            return List.of();
+        });
+        when(integrityCheck.checkDatabase(any())).thenReturn(List.of());
+
+        entry = new BibEntry().withCitationKey("key").withField(StandardField.TITLE, "wrong");
+        otherEntry = new BibEntry().withCitationKey("other").withField(StandardField.TITLE, "right");
+        database = new BibDatabase(List.of(entry, otherEntry));
+        backgroundCheck = new BackgroundIntegrityCheck(integrityCheck, database, DELAY_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backgroundCheck.shutdown();
+    }
+
+    @Test
+    void checksAllEntriesWhenStarted() {
+        assertEquals(List.of(new IntegrityMessage("wrong title", entry, StandardField.TITLE)), backgroundCheck.getUpToDateMessages());
+        assertFalse(backgroundCheck.hasPendingEntries());
+    }
+
+    @Test
+    void messagesAreInOrderOfEntries() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entries.add(new BibEntry().withCitationKey("key" + i).withField(StandardField.TITLE, "wrong"));
+        }
+        database.insertEntries(entries);
+
+        List<BibEntry> entriesOfMessages = backgroundCheck.getUpToDateMessages().stream()
+                                                          .map(IntegrityMessage::getEntry)
+                                                          .toList();
+
+        List<BibEntry> expected = new ArrayList<>();
+        expected.add(entry);
+        expected.addAll(entries);
+        assertEquals(expected, entriesOfMessages);
+    }
+
+    @Test
+    void checksOnlyChangedEntry() {
+        backgroundCheck.getUpToDateMessages();
+        clearInvocations(integrityCheck);
+
+        otherEntry.setField(StandardField.TITLE, "wrong");
+        entry.setField(StandardField.TITLE, "right");
+
+        assertTrue(backgroundCheck.hasPendingEntries());
+        assertEquals(List.of(new IntegrityMessage("wrong title", otherEntry, StandardField.TITLE)), backgroundCheck.getUpToDateMessages());
+        verify(integrityCheck).checkEntry(entry);
+        verify(integrityCheck).checkEntry(otherEntry);
+    }
+
+    @Test
+    void changedCitationKeyChecksEntriesHavingTheKey() {
+        backgroundCheck.getUpToDateMessages();
+        clearInvocations(integrityCheck);
+
+        entry.setCitationKey("other");
+        backgroundCheck.getUpToDateMessages();
+
+        verify(integrityCheck).checkEntry(entry);
+        verify(integrityCheck).checkEntry(otherEntry);
+    }
+
+    @Test
+    void checkAllChecksUnchangedEntries() {
+        backgroundCheck.getUpToDateMessages();
+        clearInvocations(integrityCheck);
+
+        backgroundCheck.checkAll((checkedEntries, allEntries) -> {
+        }, () -> false);
+
+        verify(integrityCheck).checkEntry(entry);
+        verify(integrityCheck).checkEntry(otherEntry);
+        assertFalse(backgroundCheck.hasPendingEntries());
+    }
+
+    @Test
+    void cancelledCheckAllKeepsEntriesPending() {
+        backgroundCheck.getUpToDateMessages();
+
+        backgroundCheck.checkAll((checkedEntries, allEntries) -> {
+        }, () -> true);
+
+        assertTrue(backgroundCheck.hasPendingEntries());
+        assertEquals(List.of(new IntegrityMessage("wrong title", entry, StandardField.TITLE)), backgroundCheck.getMessages());
+    }
+
+    @Test
+    void checkAllReportsDeletedLinkedFile(@TempDir Path tempDir) throws IOException {
+        Path file = Files.createFile(tempDir.resolve("paper.pdf"));
+        BibEntry entryWithFile = new BibEntry()
+                .withField(StandardField.FILE, FileFieldWriter.getStringRepresentation(new LinkedFile("", file, "PDF")));
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(List.of(entryWithFile)));
+        IntegrityCheck fileCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                mock(JournalAbbreviationRepository.class),
+                mock(PredatoryJournalRepository.class),
+                false);
+        BackgroundIntegrityCheck backgroundFileCheck = new BackgroundIntegrityCheck(fileCheck, context.getDatabase(), DELAY_MILLIS);
+        try {
+            assertEquals(List.of(), backgroundFileCheck.getUpToDateMessages());
+
+            Files.delete(file);
+
+            // The entry itself is unchanged, thus only checking all entries notices the deleted file
+            assertEquals(List.of(), backgroundFileCheck.getUpToDateMessages());
+            assertEquals(List.of(new IntegrityMessage(Localization.lang("link should refer to a correct file path"), entryWithFile, StandardField.FILE)),
+                    backgroundFileCheck.checkAll((checkedEntries, allEntries) -> {
+                    }, () -> false));
+            assertEquals(1, backgroundFileCheck.getMessages().size());
+        } finally {
+            backgroundFileCheck.shutdown();
+        }
+    }
+
+    private static CitationKeyPatternPreferences createCitationKeyPatternPreferences() {
+        return new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                GlobalCitationKeyPattern.fromPattern("[auth][year]"),
+                "",
+                ',');
+    }
+
+    @Test
+    void removedEntryHasNoMessages() {
+        backgroundCheck.getUpToDateMessages();
+        clearInvocations(integrityCheck);
+
+        database.removeEntry(entry);
+
+        assertEquals(List.of(), backgroundCheck.getMessages());
+        backgroundCheck.getUpToDateMessages();
+        verify(integrityCheck, never()).checkEntry(otherEntry);
+    }
+}
@@ -0,0 +1,102 @@
+package org.jabref.logic.integrity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IntegrityCheckCacheTest {
+
+    private static final IntegrityCheck.Configuration CONFIGURATION = new IntegrityCheck.Configuration(BibDatabaseMode.BIBLATEX, StandardCharsets.UTF_8, false, null, 0, null);
+
+    private final List<BibEntry> checkedEntries = new ArrayList<>();
+    private final Function<BibEntry, List<IntegrityMessage>> checker = entry -> {
+        checkedEntries.add(entry);
+        return List.of(new IntegrityMessage("message", entry, StandardField.TITLE));
+    };
+
+    private BibDatabase database;
+    private BibEntry entry;
+    private BibEntry otherEntry;
+    private IntegrityCheckCache cache;
+
+    @BeforeEach
+    void setUp() {
+        entry = new BibEntry().withField(StandardField.TITLE, "Title");
+        otherEntry = new BibEntry().withField(StandardField.TITLE, "Other title");
+        database = new BibDatabase(List.of(entry, otherEntry));
+        cache = new IntegrityCheckCache(database);
+    }
+
+    @Test
+    void unchangedEntryIsNotCheckedAgain() {
+        cache.getOrCheck(entry, CONFIGURATION, checker);
+        List<IntegrityMessage> messages = cache.getOrCheck(entry, CONFIGURATION, checker);
+
+        assertEquals(List.of(entry), checkedEntries);
+        assertEquals(List.of(new IntegrityMessage("message", entry, StandardField.TITLE)), messages);
+    }
+
+    @Test
+    void changedEntryIsCheckedAgain() {
+        cache.getOrCheck(entry, CONFIGURATION, checker);
+        cache.getOrCheck(otherEntry, CONFIGURATION, checker);
+
+        entry.setField(StandardField.TITLE, "Changed title");
+        cache.getOrCheck(entry, CONFIGURATION, checker);
+        cache.getOrCheck(otherEntry, CONFIGURATION, checker);
+
+        assertEquals(List.of(entry, otherEntry, entry), checkedEntries);
+    }
+
+    @Test
+    void otherConfigurationIsCheckedAgain() {
+        cache.getOrCheck(entry, CONFIGURATION, checker);
+        cache.getOrCheck(entry, new IntegrityCheck.Configuration(BibDatabaseMode.BIBTEX, StandardCharsets.UTF_8, false, null, 0, null), checker);
+
+        assertEquals(List.of(entry, entry), checkedEntries);
+    }
+
+    @Test
+    void changedAbbreviationsAreCheckedAgain() {
+        cache.getOrCheck(entry, CONFIGURATION, checker);
+        cache.getOrCheck(entry, new IntegrityCheck.Configuration(BibDatabaseMode.BIBLATEX, StandardCharsets.UTF_8, false, null, 1, null), checker);
+
+        assertEquals(List.of(entry, entry), checkedEntries);
+    }
+
+    @Test
+    void removedEntryIsNotCached() {
+        cache.getOrCheck(entry, CONFIGURATION, checker);
+
+        database.removeEntry(entry);
+
+        assertEquals(0, cache.size());
+        cache.getOrCheck(entry, CONFIGURATION, checker);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void indexesEntriesSharingDoi() {
+        BibEntry entryWithDoi = new BibEntry().withField(StandardField.DOI, "10.1023/A:1022883727209");
+        BibEntry otherEntryWithDoi = new BibEntry().withField(StandardField.DOI, "10.1023/a:1022883727209");
+        database.insertEntry(entryWithDoi);
+        assertEquals(List.of(), cache.getEntriesSharingDoi());
+
+        database.insertEntry(otherEntryWithDoi);
+        assertEquals(List.of(List.of(entryWithDoi, otherEntryWithDoi)), cache.getEntriesSharingDoi());
+
+        otherEntryWithDoi.setField(StandardField.DOI, "10.1177/1461444811422887");
+        assertEquals(List.of(), cache.getEntriesSharingDoi());
+    }
+}
@@ -5,7 +5,9 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
@@ -149,6 +151,45 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkReportsProgressOfEachEntry() throws Exception {
+        BibDatabaseContext context = createContext(StandardField.TITLE, "sometitle");
+        context.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "othertitle"));
+        List<Integer> checkedEntries = new CopyOnWriteArrayList<>();
+
+        try (PredatoryJournalRepository predatoryJournalRepository = PredatoryJournalListLoader.loadRepository()) {
+            new IntegrityCheck(context,
+                    mock(FilePreferences.class),
+                    createCitationKeyPatternPreferences(),
+                    JournalAbbreviationLoader.loadBuiltInRepository(),
+                    predatoryJournalRepository, false)
+                    .check((checked, all) -> {
+                        assertEquals(2, all);
+                        checkedEntries.add(checked);
+                    }, () -> false);
+        }
+
+        assertEquals(Set.of(1, 2), Set.copyOf(checkedEntries));
+    }
+
+    @Test
+    void cancelledCheckSkipsEntries() throws Exception {
+        BibDatabaseContext context = withMode(createContext(StandardField.AUTHOR, "and Kurt Cobain and A. Einstein"), BibDatabaseMode.BIBLATEX);
+        List<IntegrityMessage> messages;
+
+        try (PredatoryJournalRepository predatoryJournalRepository = PredatoryJournalListLoader.loadRepository()) {
+            messages = new IntegrityCheck(context,
+                    mock(FilePreferences.class),
+                    createCitationKeyPatternPreferences(),
+                    JournalAbbreviationLoader.loadBuiltInRepository(),
+                    predatoryJournalRepository, false)
+                    .check((checked, all) -> {
+                    }, () -> true);
+        }
+
+        assertEquals(Collections.emptyList(), messages);
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
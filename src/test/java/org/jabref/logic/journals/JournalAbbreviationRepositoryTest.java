@@ -1,24 +1,40 @@
 package org.jabref.logic.journals;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.undo.CompoundEdit;
 
 import org.jabref.architecture.AllowedToUseSwing;
 import org.jabref.gui.journals.AbbreviationType;
 import org.jabref.gui.journals.UndoableAbbreviator;
+import org.jabref.gui.journals.UndoableBulkAbbreviator;
 import org.jabref.gui.journals.UndoableUnabbreviator;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 import org.jabref.model.entry.field.AMSField;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 
+import com.google.common.eventbus.Subscribe;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @AllowedToUseSwing("UndoableUnabbreviator and UndoableAbbreviator requires Swing Compound Edit in order test the abbreviation and unabbreviation of journal titles")
@@ -99,6 +115,39 @@ class JournalAbbreviationRepositoryTest {
         assertEquals(1, repository.getCustomAbbreviations().size());
     }
 
+    @Test
+    void modificationCountChangesWithCustomAbbreviations() {
+        int initialCount = repository.getModificationCount();
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
+        int countAfterAdding = repository.getModificationCount();
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
+
+        assertNotEquals(initialCount, countAfterAdding);
+        assertEquals(countAfterAdding, repository.getModificationCount());
+    }
+
+    @Test
+    void customAbbreviationsCanBeAddedWhileLookingUp() throws Exception {
+        List<Abbreviation> abbreviations = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            abbreviations.add(new Abbreviation("Long Name " + i, "L. N. " + i));
+        }
+        AtomicBoolean isAdding = new AtomicBoolean(true);
+        CompletableFuture<Void> lookups = CompletableFuture.runAsync(() -> {
+            while (isAdding.get()) {
+                repository.get("L. N. 999");
+                repository.isAbbreviatedName("L. N. 500");
+            }
+        });
+
+        abbreviations.forEach(repository::addCustomAbbreviation);
+        isAdding.set(false);
+        lookups.get(10, TimeUnit.SECONDS);
+
+        assertEquals(1000, repository.getCustomAbbreviations().size());
+        assertEquals(Optional.of(abbreviations.getLast()), repository.get("L. N. 999"));
+    }
+
     @Test
     void testDuplicatesWithShortestUniqueAbbreviation() {
         repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
@@ -314,4 +363,99 @@ class JournalAbbreviationRepositoryTest {
                 .withField(StandardField.JOURNAL, "Physical Review B");
         assertEquals(expectedAbbreviatedJournalEntry, abbreviatedJournalEntry);
     }
+
+    @Test
+    void customAbbreviationIsFoundIgnoringCase() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertEquals("L. N.", repository.getDefaultAbbreviation("long name").orElse("WRONG"));
+        assertEquals("Long Name", repository.get("ln").map(Abbreviation::getName).orElse("WRONG"));
+        assertTrue(repository.isAbbreviatedName("l n"));
+        assertFalse(repository.isAbbreviatedName("LONG NAME"));
+    }
+
+    @Test
+    void memoryMappedListFindsSameAbbreviationsAsListInMemory(@TempDir Path tempDir) {
+        Path journalList = tempDir.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap("FullToAbbreviation");
+            fullToAbbreviation.put("Physical Review B", new Abbreviation("Physical Review B", "Phys. Rev. B"));
+            fullToAbbreviation.put("Long Name", new Abbreviation("Long Name", "L. N.", "LN"));
+            JournalAbbreviationRepository.writeLookupMaps(store);
+        }
+
+        try (JournalAbbreviationRepository inMemory = new JournalAbbreviationRepository(journalList);
+             JournalAbbreviationRepository memoryMapped = new JournalAbbreviationRepository(journalList, true)) {
+            for (String name : List.of("Physical Review B", "Phys. Rev. B", "Phys Rev B", "Long Name", "L N", "LN", "Unknown")) {
+                assertEquals(inMemory.get(name), memoryMapped.get(name));
+                assertEquals(inMemory.isKnownName(name), memoryMapped.isKnownName(name));
+                assertEquals(inMemory.isAbbreviatedName(name), memoryMapped.isAbbreviatedName(name));
+            }
+            assertEquals(Optional.of("Phys. Rev. B"), memoryMapped.getDefaultAbbreviation("Physical Review B"));
+            assertEquals(Set.copyOf(inMemory.getAllLoaded()), Set.copyOf(memoryMapped.getAllLoaded()));
+        }
+    }
+
+    @Test
+    void bulkAbbreviationChangesAllEntriesInOneBatch() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.JOURNAL, "ACS Applied Materials & Interfaces");
+        BibEntry second = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.JOURNAL, "ACS Applied Materials & Interfaces");
+        BibEntry unknown = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.JOURNAL, "Unknown Journal");
+        BibDatabase database = new BibDatabase(List.of(first, second, unknown));
+        List<FieldsChangedBatchEvent> batchEvents = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(FieldsChangedBatchEvent event) {
+                batchEvents.add(event);
+            }
+        });
+        CompoundEdit compoundEdit = new CompoundEdit();
+
+        int count = new UndoableBulkAbbreviator(repository).abbreviate(database, database.getEntries(), AbbreviationType.DEFAULT, false, compoundEdit);
+
+        assertEquals(2, count);
+        assertEquals(Optional.of("ACS Appl. Mater. Interfaces"), first.getField(StandardField.JOURNAL));
+        assertEquals(Optional.of("ACS Appl. Mater. Interfaces"), second.getField(StandardField.JOURNAL));
+        assertEquals(Optional.of("Unknown Journal"), unknown.getField(StandardField.JOURNAL));
+        assertEquals(1, batchEvents.size());
+
+        compoundEdit.end();
+        compoundEdit.undo();
+        assertEquals(Optional.of("ACS Applied Materials & Interfaces"), first.getField(StandardField.JOURNAL));
+    }
+
+    @Test
+    void bulkUnabbreviationGivesSameResultAsUnabbreviatingEachEntry() {
+        BibDatabase unabbreviatedEachEntry = createAbbreviatedDatabase();
+        UndoableUnabbreviator unabbreviator = new UndoableUnabbreviator(repository);
+        int expectedCount = 0;
+        for (BibEntry entry : unabbreviatedEachEntry.getEntries()) {
+            for (Field field : FieldFactory.getJournalNameFields()) {
+                if (unabbreviator.unabbreviate(unabbreviatedEachEntry, entry, field, new CompoundEdit())) {
+                    expectedCount++;
+                }
+            }
+        }
+        BibDatabase unabbreviatedInBulk = createAbbreviatedDatabase();
+
+        int count = new UndoableBulkAbbreviator(repository).unabbreviate(unabbreviatedInBulk, unabbreviatedInBulk.getEntries(), new CompoundEdit());
+
+        assertEquals(2, expectedCount);
+        assertEquals(expectedCount, count);
+        assertEquals(unabbreviatedEachEntry.getEntries(), unabbreviatedInBulk.getEntries());
+    }
+
+    private static BibDatabase createAbbreviatedDatabase() {
+        return new BibDatabase(List.of(
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.JOURNAL, "ACS Appl. Mater. Interfaces"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.JOURNAL, "Phys. Rev. B")
+                        .withField(AMSField.FJOURNAL, "Physical Review B"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.JOURNAL, "ACS Applied Materials & Interfaces")));
+    }
 }
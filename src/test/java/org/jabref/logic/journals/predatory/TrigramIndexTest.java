@@ -0,0 +1,61 @@
+package org.jabref.logic.journals.predatory;
+
+import java.util.List;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "European International Journal of Science and Technology",
+            "International Journal of Advanced Research",
+            "Journal of Science",
+            "OMICS",
+            "Academic Journals");
+
+    @Test
+    void candidatesContainNameWithTypos() {
+        TrigramIndex index = TrigramIndex.build(NAMES);
+
+        assertEquals(List.of("European International Journal of Science and Technology"),
+                index.getCandidates("european internationl journal, of science and technolgy", 4));
+    }
+
+    @Test
+    void candidatesExcludeDifferentNames() {
+        TrigramIndex index = TrigramIndex.build(NAMES);
+
+        assertEquals(List.of(), index.getCandidates("IEEE Transactions on Software Engineering", 4));
+    }
+
+    @Test
+    void shortNameIsComparedToNamesOfSimilarLength() {
+        TrigramIndex index = TrigramIndex.build(NAMES);
+
+        assertEquals(List.of("OMICS"), index.getCandidates("omic", 4));
+    }
+
+    @Test
+    void readsWrittenIndex() {
+        try (MVStore store = new MVStore.Builder().open()) {
+            TrigramIndex.write(store, NAMES);
+
+            TrigramIndex index = TrigramIndex.read(store).orElseThrow();
+
+            assertEquals(NAMES.size(), index.size());
+            assertEquals(List.of("International Journal of Advanced Research"),
+                    index.getCandidates("International Journal of Advanced Research", 4));
+        }
+    }
+
+    @Test
+    void readReturnsEmptyIfNoIndexWasWritten() {
+        try (MVStore store = new MVStore.Builder().open()) {
+            assertTrue(TrigramIndex.read(store).isEmpty());
+        }
+    }
+}
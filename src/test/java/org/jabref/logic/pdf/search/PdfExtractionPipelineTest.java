@@ -0,0 +1,79 @@
+package org.jabref.logic.pdf.search;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.pdf.search.PdfExtractionPipeline.ExtractedFile;
+import org.jabref.logic.pdf.search.PdfExtractionPipeline.ExtractionTask;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.preferences.FilePreferences;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class PdfExtractionPipelineTest {
+
+    private static final Path PDF_DIRECTORY = Path.of("src/test/resources/pdfs");
+
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+
+    private static ExtractionTask createTask(String fileName) {
+        LinkedFile linkedFile = new LinkedFile("", fileName, StandardFileType.PDF.getName());
+        BibEntry entry = new BibEntry().withFiles(List.of(linkedFile));
+        return new ExtractionTask(entry, linkedFile, PDF_DIRECTORY.resolve(fileName));
+    }
+
+    private List<ExtractedFile> extract(int workers, List<ExtractionTask> tasks) throws InterruptedException {
+        List<ExtractedFile> result = new ArrayList<>();
+        Thread callingThread = Thread.currentThread();
+        new PdfExtractionPipeline(filePreferences, workers).run(tasks, extractedFile -> {
+            // the index is written by the calling thread only
+            assertEquals(callingThread, Thread.currentThread());
+            result.add(extractedFile);
+        });
+        return result;
+    }
+
+    private static Map<String, Integer> getNumberOfPages(List<ExtractedFile> extractedFiles) {
+        return extractedFiles.stream().collect(Collectors.toMap(
+                extractedFile -> extractedFile.task().linkedFile().getLink(),
+                extractedFile -> extractedFile.pages().size(),
+                (first, second) -> first));
+    }
+
+    @Test
+    void extractsAllFilesInParallel() throws InterruptedException {
+        List<ExtractionTask> tasks = new ArrayList<>();
+        tasks.add(createTask("thesis-example.pdf"));
+        tasks.add(createTask("metaData.pdf"));
+        tasks.add(createTask("NOT_PRESENT.pdf"));
+        for (int i = 0; i < 20; i++) {
+            tasks.add(createTask("metaData.pdf"));
+        }
+
+        List<ExtractedFile> extractedFiles = extract(4, tasks);
+
+        assertEquals(tasks.size(), extractedFiles.size());
+        assertEquals(Map.of("thesis-example.pdf", 33, "metaData.pdf", 1, "NOT_PRESENT.pdf", 0), getNumberOfPages(extractedFiles));
+    }
+
+    @Test
+    void parallelExtractionEqualsSerialExtraction() throws InterruptedException {
+        List<ExtractionTask> tasks = List.of(createTask("thesis-example.pdf"), createTask("metaData.pdf"), createTask("NOT_PRESENT.pdf"));
+
+        assertEquals(getNumberOfPages(extract(1, tasks)), getNumberOfPages(extract(3, tasks)));
+    }
+
+    @Test
+    void requiresAtLeastOneWorker() {
+        assertThrows(IllegalArgumentException.class, () -> new PdfExtractionPipeline(filePreferences, 0));
+    }
+}
@@ -1,9 +1,12 @@
 package org.jabref.logic.pdf.search;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabase;
@@ -154,4 +157,114 @@ public class PdfIndexerTest {
             assertEquals(34, reader.numDocs());
         }
     }
+
+    @Test
+    public void batchedChangesAreCommittedOnFlush() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        entry.setFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.createIndex();
+
+        // when
+        indexer.addToIndex(entry, entry.getFiles(), false);
+
+        // then
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(0, reader.numDocs());
+        }
+        assertEquals(Set.of("thesis-example.pdf"), indexer.getListOfFilePaths());
+
+        indexer.flush();
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(33, reader.numDocs());
+        }
+        assertEquals(1, indexer.getMetrics().getIndexedFiles());
+        assertEquals(33, indexer.getMetrics().getIndexedPages());
+    }
+
+    @Test
+    public void unchangedFileIsNotIndexedTwiceWithinBatch() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        entry.setFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.createIndex();
+
+        // when
+        indexer.addToIndex(entry, entry.getFiles(), false);
+        indexer.addToIndex(entry, entry.getFiles(), false);
+        indexer.flush();
+
+        // then
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(33, reader.numDocs());
+        }
+        assertEquals(1, indexer.getMetrics().getIndexedFiles());
+    }
+
+    @Test
+    public void removedFilesAreDeletedInOneBatch() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        entry.setFiles(List.of(
+                new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName()),
+                new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.rebuildIndex();
+
+        // when
+        indexer.removePathsFromIndex(List.of("thesis-example.pdf", "metaData.pdf"), false);
+        indexer.flush();
+
+        // then
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(0, reader.numDocs());
+        }
+    }
+
+    @Test
+    public void movedFileIsNotReadAgain(@TempDir Path fileDir) throws IOException {
+        // given
+        Path originalFile = fileDir.resolve("original.pdf");
+        Files.copy(Path.of("src/test/resources/pdfs/thesis-example.pdf"), originalFile);
+        LinkedFile linkedFile = new LinkedFile("Example Thesis", originalFile.toString(), StandardFileType.PDF.getName());
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis).withFiles(List.of(linkedFile));
+        database.insertEntry(entry);
+        indexer.rebuildIndex();
+
+        Path movedFile = Files.move(originalFile, fileDir.resolve("moved.pdf"));
+        linkedFile.setLink(movedFile.toString());
+
+        // when
+        indexer.addToIndex(entry);
+        indexer.removePathsFromIndex(List.of(originalFile.toString()));
+
+        // then
+        assertEquals(1, indexer.getMetrics().getIndexedFiles());
+        assertEquals(1, indexer.getMetrics().getReusedFiles());
+        assertEquals(Set.of(movedFile.toString()), indexer.getListOfFilePaths());
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(33, reader.numDocs());
+        }
+    }
+
+    @Test
+    public void rebuildIndexReusesUnchangedFiles() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        entry.setFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.rebuildIndex();
+
+        // when
+        indexer.rebuildIndex();
+
+        // then
+        assertEquals(1, indexer.getMetrics().getIndexedFiles());
+        assertEquals(1, indexer.getMetrics().getReusedFiles());
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(33, reader.numDocs());
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package org.jabref.logic.search;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedFieldIndexTest {
+
+    private BibDatabase database;
+    private InvertedFieldIndex index;
+    private BibEntry vikings;
+    private BibEntry romans;
+
+    @BeforeEach
+    void setUp() {
+        vikings = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Sigurd Haraldsson")
+                .withField(StandardField.TITLE, "The great Vikinger");
+        romans = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Gaius Julius Cäsar")
+                .withField(StandardField.TITLE, "De Bello Gallico");
+        database = new BibDatabase(List.of(vikings, romans));
+        index = new InvertedFieldIndex(database);
+    }
+
+    private List<BibEntry> search(String query) {
+        SearchQuery searchQuery = new SearchQuery(query, EnumSet.noneOf(SearchFlags.class));
+        Predicate<BibEntry> candidates = index.getCandidateFilter(searchQuery);
+        List<BibEntry> result = database.getEntries().stream().filter(candidates.and(searchQuery::isMatch)).toList();
+        // the index must never change the result of the search
+        assertEquals(database.getEntries().stream().filter(searchQuery::isMatch).toList(), result);
+        return result;
+    }
+
+    @Test
+    void candidatesContainEntriesWithSubstringOfTerm() {
+        assertEquals(List.of(vikings), search("ikinger"));
+    }
+
+    @Test
+    void candidatesRequireAllWords() {
+        Predicate<BibEntry> candidates = index.getCandidateFilter(new SearchQuery("great bello", EnumSet.noneOf(SearchFlags.class)));
+        assertFalse(candidates.test(vikings));
+        assertFalse(candidates.test(romans));
+    }
+
+    @Test
+    void candidatesIgnoreAccentsAndCase() {
+        assertEquals(List.of(romans), search("CASAR"));
+    }
+
+    @Test
+    void grammarBasedSearchRestrictsToField() {
+        assertEquals(List.of(vikings), search("title=great"));
+        assertEquals(List.of(), search("author=great"));
+        assertEquals(List.of(vikings, romans), search("title=great or author=julius or title=bello"));
+    }
+
+    @Test
+    void negatedGrammarSearchDoesNotFilter() {
+        assertEquals(List.of(romans), search("not title=great"));
+        assertEquals(List.of(vikings), search("title!=bello"));
+    }
+
+    @Test
+    void indexFollowsFieldChanges() {
+        assertEquals(List.of(), search("asterix"));
+        romans.setField(StandardField.TITLE, "Asterix and Obelix");
+        assertEquals(List.of(romans), search("asterix"));
+        assertEquals(List.of(), search("bello"));
+    }
+
+    @Test
+    void candidateFilterIsRecomputedAfterChanges() {
+        Predicate<BibEntry> candidates = index.getCandidateFilter(new SearchQuery("asterix", EnumSet.noneOf(SearchFlags.class)));
+        assertFalse(candidates.test(romans));
+        romans.setField(StandardField.TITLE, "Asterix and Obelix");
+        assertTrue(candidates.test(romans));
+    }
+
+    @Test
+    void indexFollowsAddedAndRemovedEntries() {
+        BibEntry gauls = new BibEntry().withField(StandardField.TITLE, "Asterix and Obelix");
+        database.insertEntry(gauls);
+        assertEquals(List.of(gauls), search("obelix"));
+        database.removeEntry(gauls);
+        assertEquals(List.of(), search("obelix"));
+    }
+}
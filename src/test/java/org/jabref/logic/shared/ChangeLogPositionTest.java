@@ -0,0 +1,83 @@
+package org.jabref.logic.shared;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChangeLogPositionTest {
+
+    private final Instant start = Instant.parse("2023-01-01T10:00:00Z");
+    private ChangeLogPosition position;
+
+    @BeforeEach
+    void setUp() {
+        position = new ChangeLogPosition();
+        position.reset(OptionalLong.of(10), start);
+    }
+
+    @Test
+    void completeSynchronizationIsNeededInitially() {
+        assertEquals(OptionalLong.empty(), new ChangeLogPosition().getReadPosition(start));
+    }
+
+    @Test
+    void readContinuesAfterHighestSequenceNumber() {
+        position.advance(List.of(11L, 12L), start);
+
+        assertEquals(OptionalLong.of(12), position.getReadPosition(start));
+    }
+
+    @Test
+    void readStartsBelowSkippedSequenceNumber() {
+        position.advance(List.of(11L, 13L), start);
+
+        assertEquals(OptionalLong.of(11), position.getReadPosition(start));
+    }
+
+    @Test
+    void gapIsClosedByLateSequenceNumber() {
+        position.advance(List.of(11L, 13L), start);
+        position.advance(List.of(12L, 13L), start);
+
+        assertEquals(OptionalLong.of(13), position.getReadPosition(start));
+    }
+
+    @Test
+    void gapIsDroppedAfterTimeout() {
+        Instant later = start.plus(ChangeLogPosition.GAP_TIMEOUT).plusSeconds(1);
+        position.reset(OptionalLong.of(10), later.minusSeconds(1));
+        // the gap was found long before
+        position.advance(List.of(11L, 13L), start);
+
+        assertEquals(OptionalLong.of(13), position.getReadPosition(later));
+    }
+
+    @Test
+    void tooManyGapsNeedCompleteSynchronization() {
+        position.advance(List.of(11L + ChangeLogPosition.MAX_GAPS + 1), start);
+
+        assertEquals(OptionalLong.empty(), position.getReadPosition(start));
+    }
+
+    @Test
+    void completeSynchronizationIsNeededRegularly() {
+        position.advance(List.of(11L), start);
+
+        assertEquals(OptionalLong.empty(), position.getReadPosition(start.plus(ChangeLogPosition.FULL_SYNCHRONIZATION_INTERVAL).plusSeconds(1)));
+    }
+
+    @Test
+    void changeLogIsPrunedUpToCheckpointOlderThanRetention() {
+        position.reset(OptionalLong.of(20), start.plusSeconds(60));
+        position.reset(OptionalLong.of(30), start.plus(ChangeLogPosition.CHANGE_LOG_RETENTION));
+
+        Instant later = start.plus(ChangeLogPosition.CHANGE_LOG_RETENTION).plusSeconds(61);
+        assertEquals(OptionalLong.of(20), position.pollPrunableSequenceNumber(later));
+        assertEquals(OptionalLong.empty(), position.pollPrunableSequenceNumber(later));
+    }
+}
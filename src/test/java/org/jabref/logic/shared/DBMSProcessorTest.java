@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
@@ -197,6 +198,41 @@ class DBMSProcessorTest {
         assertEquals(Optional.of(expectedBibEntry), actualBibEntryOptional);
     }
 
+    @Test
+    void testUpdateEntriesReportsNewerSharedEntries() throws SQLException {
+        BibEntry outdatedEntry = getBibEntryExample();
+        BibEntry upToDateEntry = getBibEntryExample2();
+        dbmsProcessor.insertEntries(List.of(outdatedEntry, upToDateEntry));
+
+        // simulate older version
+        outdatedEntry.getSharedBibEntryData().setVersion(0);
+        outdatedEntry.setField(StandardField.YEAR, "1993");
+        upToDateEntry.setField(StandardField.YEAR, "1982");
+        List<OfflineLockException> conflicts = dbmsProcessor.updateEntries(List.of(outdatedEntry, upToDateEntry));
+
+        assertEquals(1, conflicts.size());
+        assertEquals(outdatedEntry, conflicts.getFirst().getLocalBibEntry());
+        assertEquals(Optional.of("1994"), dbmsProcessor.getSharedEntry(outdatedEntry.getSharedBibEntryData().getSharedID())
+                                                       .flatMap(entry -> entry.getField(StandardField.YEAR)));
+        assertEquals(Optional.of(upToDateEntry), dbmsProcessor.getSharedEntry(upToDateEntry.getSharedBibEntryData().getSharedID()));
+    }
+
+    @Test
+    void testInsertUpdateAndRemoveMoreEntriesThanFitIntoOneStatement() throws Exception {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < DBMSProcessor.ROWS_PER_STATEMENT + 1; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "title " + i));
+        }
+        dbmsProcessor.insertEntries(entries);
+
+        entries.forEach(entry -> entry.setField(StandardField.YEAR, "2024"));
+        assertEquals(List.of(), dbmsProcessor.updateEntries(entries));
+        assertEquals(entries, dbmsProcessor.getSharedEntries());
+
+        dbmsProcessor.removeEntries(entries);
+        assertEquals(List.of(), dbmsProcessor.getSharedEntries());
+    }
+
     @Test
     void testRemoveAllEntries() throws SQLException {
         BibEntry firstEntry = getBibEntryExample();
@@ -303,15 +339,71 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void testGetEntryChangesSince() throws OfflineLockException, SQLException {
+        long initialSequenceNumber = dbmsProcessor.getLatestChangeSequenceNumber().orElseThrow();
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(firstEntry);
+        long sequenceNumberAfterInsertion = dbmsProcessor.getLatestChangeSequenceNumber().orElseThrow();
+
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(secondEntry);
+        dbmsProcessor.removeEntries(List.of(firstEntry));
+
+        SharedEntryChanges allChanges = dbmsProcessor.getEntryChangesSince(initialSequenceNumber).orElseThrow();
+        SharedEntryChanges laterChanges = dbmsProcessor.getEntryChangesSince(sequenceNumberAfterInsertion).orElseThrow();
+
+        assertEquals(Set.of(firstEntry.getSharedBibEntryData().getSharedID(), secondEntry.getSharedBibEntryData().getSharedID()), allChanges.sharedIDs());
+        assertEquals(allChanges.sharedIDs(), laterChanges.sharedIDs());
+        assertEquals(dbmsProcessor.getLatestChangeSequenceNumber().orElseThrow(), Collections.max(laterChanges.sequenceNumbers()));
+    }
+
+    @Test
+    void testGetEntryChangesSinceLatestSequenceNumberIsEmpty() {
+        dbmsProcessor.insertEntry(getBibEntryExample());
+        long sequenceNumber = dbmsProcessor.getLatestChangeSequenceNumber().orElseThrow();
+
+        assertEquals(new SharedEntryChanges(List.of(), Set.of()), dbmsProcessor.getEntryChangesSince(sequenceNumber).orElseThrow());
+    }
+
+    @Test
+    void testChangesOfOtherClientsAreLogged() throws SQLException {
+        BibEntry entry = getBibEntryExample();
+        dbmsProcessor.insertEntry(entry);
+        long sequenceNumber = dbmsProcessor.getLatestChangeSequenceNumber().orElseThrow();
+
+        // as done by versions of JabRef not writing to the change log
+        dbmsConnection.getConnection().createStatement().executeUpdate("UPDATE " + escape_Table("ENTRY", dbmsProcessor) + " SET " + escape("VERSION", dbmsProcessor) + " = " + escape("VERSION", dbmsProcessor) + " + 1");
+
+        assertEquals(Set.of(entry.getSharedBibEntryData().getSharedID()), dbmsProcessor.getEntryChangesSince(sequenceNumber).orElseThrow().sharedIDs());
+    }
+
+    @Test
+    void testPruneChangeLog() {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(firstEntry);
+        long sequenceNumber = dbmsProcessor.getLatestChangeSequenceNumber().orElseThrow();
+        dbmsProcessor.insertEntry(secondEntry);
+
+        dbmsProcessor.pruneChangeLog(sequenceNumber);
+
+        assertEquals(Set.of(secondEntry.getSharedBibEntryData().getSharedID()), dbmsProcessor.getEntryChangesSince(0).orElseThrow().sharedIDs());
+    }
+
     @Test
     void testGetSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
         insertMetaData("protectedFlag", "true;", dbmsConnection, dbmsProcessor);
         insertMetaData("saveActions", "enabled;\nauthor[capitalize,html_to_latex]\ntitle[title_case]\n;", dbmsConnection, dbmsProcessor);
         insertMetaData("saveOrderConfig", "specified;author;false;title;false;year;true;", dbmsConnection, dbmsProcessor);
-        insertMetaData("VersionDBStructure", "1", dbmsConnection, dbmsProcessor);
+        // setting up the database already stored the current version
+        String currentVersion = String.valueOf(dbmsProcessor.getCURRENT_VERSION_DB_STRUCT());
+        insertMetaData("VersionDBStructure", currentVersion, dbmsConnection, dbmsProcessor);
 
         Map<String, String> expectedMetaData = getMetaDataExample();
+        expectedMetaData.put("VersionDBStructure", currentVersion);
         Map<String, String> actualMetaData = dbmsProcessor.getSharedMetaData();
 
         assertEquals(expectedMetaData, actualMetaData);
@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
 import org.jabref.logic.cleanup.FieldFormatterCleanup;
@@ -61,7 +62,7 @@ public class DBMSSynchronizerTest {
         bibDatabase = new BibDatabase();
         BibDatabaseContext context = new BibDatabaseContext(bibDatabase);
 
-        dbmsSynchronizer = new DBMSSynchronizer(context, ',', pattern, new DummyFileUpdateMonitor());
+        dbmsSynchronizer = new DBMSSynchronizer(context, ',', pattern, new DummyFileUpdateMonitor(), Runnable::run);
         bibDatabase.registerListener(dbmsSynchronizer);
 
         dbmsSynchronizer.openSharedDatabase(dbmsConnection);
@@ -183,6 +184,22 @@ public class DBMSSynchronizerTest {
         assertEquals(expectedBibEntries, bibDatabase.getEntries());
     }
 
+    @Test
+    public void pullChangesOfGivenEntries() throws Exception {
+        BibEntry bibEntry = createExampleBibEntry(1);
+        bibDatabase.insertEntry(bibEntry);
+
+        BibEntry modifiedBibEntry = createExampleBibEntry(1)
+                .withField(new UnknownField("custom"), "custom value");
+        BibEntry otherBibEntry = createExampleBibEntry(2);
+        dbmsProcessor.updateEntry(modifiedBibEntry);
+        dbmsProcessor.insertEntry(otherBibEntry);
+
+        dbmsSynchronizer.pullChanges(Set.of(1));
+
+        assertEquals(List.of(modifiedBibEntry), bibDatabase.getEntries());
+    }
+
     @Test
     public void testSynchronizeLocalDatabaseWithEntryUpdate() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
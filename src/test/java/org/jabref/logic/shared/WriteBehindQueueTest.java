@@ -0,0 +1,135 @@
+package org.jabref.logic.shared;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindQueueTest {
+
+    private final BlockingQueue<List<BibEntry>> writes = new LinkedBlockingQueue<>();
+    private WriteBehindQueue queue;
+
+    @AfterEach
+    void closeQueue() {
+        queue.close();
+    }
+
+    @Test
+    void mergesChangesOfSameEntryAndField() {
+        queue = new WriteBehindQueue(writes::add, Duration.ofHours(1), Runnable::run);
+        BibEntry entry = new BibEntry();
+
+        queue.enqueue(entry, StandardField.TITLE);
+        queue.enqueue(entry, StandardField.TITLE);
+        queue.enqueue(entry, StandardField.AUTHOR);
+
+        assertTrue(queue.hasPendingChanges(entry));
+        assertEquals(2, queue.getMetrics().getQueueDepth());
+        assertEquals(1, queue.getMetrics().getMergedChanges());
+
+        queue.flush();
+
+        assertEquals(List.of(List.of(entry)), List.copyOf(writes));
+        assertFalse(queue.hasPendingChanges(entry));
+        assertEquals(0, queue.getMetrics().getQueueDepth());
+        assertEquals(1, queue.getMetrics().getFlushes());
+    }
+
+    @Test
+    void failedWriteKeepsChangesPending() {
+        AtomicBoolean isDatabaseAvailable = new AtomicBoolean(false);
+        queue = new WriteBehindQueue(entries -> {
+            if (!isDatabaseAvailable.get()) {
+                throw new IllegalStateException("Connection lost");
+            }
+            writes.add(entries);
+        }, Duration.ofHours(1), Runnable::run);
+        BibEntry entry = new BibEntry();
+        queue.enqueue(entry, StandardField.TITLE);
+
+        assertThrows(IllegalStateException.class, queue::flush);
+        assertTrue(queue.hasPendingChanges(entry));
+        assertEquals(1, queue.getMetrics().getQueueDepth());
+
+        isDatabaseAvailable.set(true);
+        queue.flush();
+
+        assertEquals(List.of(List.of(entry)), List.copyOf(writes));
+        assertFalse(queue.hasPendingChanges(entry));
+    }
+
+    @Test
+    void writesPendingChangesAfterDelay() throws Exception {
+        queue = new WriteBehindQueue(writes::add, Duration.ofMillis(10), Runnable::run);
+        BibEntry entry = new BibEntry();
+
+        queue.enqueue(entry, StandardField.TITLE);
+
+        List<BibEntry> written = writes.poll(10, TimeUnit.SECONDS);
+        assertSame(entry, written.getFirst());
+    }
+
+    @Test
+    void delayedWriteIsRunByFlushExecutor() throws Exception {
+        BlockingQueue<Runnable> handedOver = new LinkedBlockingQueue<>();
+        queue = new WriteBehindQueue(writes::add, Duration.ofMillis(10), handedOver::add);
+        BibEntry entry = new BibEntry();
+
+        queue.enqueue(entry, StandardField.TITLE);
+        Runnable delayedFlush = handedOver.poll(10, TimeUnit.SECONDS);
+
+        assertNull(writes.peek());
+        delayedFlush.run();
+        assertSame(entry, writes.poll().getFirst());
+    }
+
+    @Test
+    void changeOfAnotherEntryWritesPendingChanges() throws Exception {
+        queue = new WriteBehindQueue(writes::add, Duration.ofHours(1), Runnable::run);
+        BibEntry first = new BibEntry();
+        BibEntry second = new BibEntry();
+
+        queue.enqueue(first, StandardField.TITLE);
+        queue.enqueue(second, StandardField.TITLE);
+
+        List<BibEntry> written = writes.poll(10, TimeUnit.SECONDS);
+        assertTrue(written.contains(first));
+    }
+
+    @Test
+    void closeWritesPendingChanges() {
+        queue = new WriteBehindQueue(writes::add, Duration.ofHours(1), Runnable::run);
+        BibEntry entry = new BibEntry();
+        queue.enqueue(entry, StandardField.TITLE);
+
+        queue.close();
+
+        assertEquals(List.of(List.of(entry)), List.copyOf(writes));
+    }
+
+    @Test
+    void flushWithoutPendingChangesWritesNothing() {
+        queue = new WriteBehindQueue(writes::add, Duration.ofHours(1), Runnable::run);
+
+        queue.flush();
+
+        assertNull(writes.peek());
+        assertEquals(0, queue.getMetrics().getFlushes());
+    }
+}
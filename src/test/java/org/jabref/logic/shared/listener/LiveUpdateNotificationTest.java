@@ -0,0 +1,42 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveUpdateNotificationTest {
+
+    @Test
+    void payloadWithIDsIsParsedBack() {
+        LiveUpdateNotification notification = LiveUpdateNotification.of("sender", List.of(1, 42, 7));
+
+        assertEquals(notification, LiveUpdateNotification.parse(notification.toPayload()));
+    }
+
+    @Test
+    void payloadWithoutIDsRequestsAllChanges() {
+        LiveUpdateNotification notification = LiveUpdateNotification.parse("sender");
+
+        assertEquals(new LiveUpdateNotification("sender", Set.of()), notification);
+        assertTrue(notification.isSentBy("sender"));
+        assertFalse(notification.isSentBy("other"));
+    }
+
+    @Test
+    void tooManyIDsAreLeftOut() {
+        LiveUpdateNotification notification = LiveUpdateNotification.of("sender", IntStream.range(0, 5000).boxed().toList());
+
+        assertEquals("sender", notification.toPayload());
+    }
+
+    @Test
+    void malformedIDsRequestAllChanges() {
+        assertEquals(new LiveUpdateNotification("sender", Set.of()), LiveUpdateNotification.parse("sender:1,x"));
+    }
+}
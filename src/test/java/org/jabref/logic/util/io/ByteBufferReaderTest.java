@@ -0,0 +1,54 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ByteBufferReaderTest {
+
+    private static String readAll(Reader reader) throws IOException {
+        StringWriter writer = new StringWriter();
+        reader.transferTo(writer);
+        return writer.toString();
+    }
+
+    @Test
+    void readsMultibyteCharactersAcrossBufferBoundaries() throws IOException {
+        String content = "Müller, Jürgen – 東京 ".repeat(2000);
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(content, readAll(new ByteBufferReader(buffer, StandardCharsets.UTF_8.newDecoder())));
+    }
+
+    @Test
+    void readsOnlyRemainingBytesAndDoesNotModifyBuffer() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap("skip@Article{key}".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(4);
+
+        assertEquals("@Article{key}", readAll(new ByteBufferReader(buffer, StandardCharsets.US_ASCII.newDecoder())));
+        assertEquals(4, buffer.position());
+    }
+
+    @Test
+    void replacesMalformedInputIfConfigured() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {'a', (byte) 0xFF, 'b'});
+
+        assertEquals("a�b", readAll(new ByteBufferReader(buffer, StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE))));
+    }
+
+    @Test
+    void reportsMalformedInputByDefault() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {'a', (byte) 0xFF, 'b'});
+
+        assertThrows(CharacterCodingException.class, () -> readAll(new ByteBufferReader(buffer, StandardCharsets.UTF_8.newDecoder())));
+    }
+}
@@ -0,0 +1,85 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DirectoryIndexTest {
+
+    private final DirectoryIndex directoryIndex = new DirectoryIndex();
+
+    private Path rootDir;
+    private Path subDir;
+    private Path subSubDir;
+    private Path rootFile;
+    private Path subFile;
+    private Path subSubFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        rootDir = temporaryFolder;
+        subDir = Files.createDirectory(rootDir.resolve("sub"));
+        subSubDir = Files.createDirectory(subDir.resolve("subsub"));
+        rootFile = Files.createFile(rootDir.resolve("HipKro03.pdf"));
+        subFile = Files.createFile(subDir.resolve("HipKro03 - Hello.pdf"));
+        subSubFile = Files.createFile(subSubDir.resolve("Other.pdf"));
+    }
+
+    @Test
+    void getFilesReturnsOnlyFilesOfDirectory() throws IOException {
+        assertEquals(List.of(rootFile), directoryIndex.getFiles(rootDir));
+        assertEquals(List.of(subDir), directoryIndex.getSubdirectories(rootDir));
+    }
+
+    @Test
+    void getAllSubdirectoriesReturnsParentsFirst() throws IOException {
+        assertEquals(List.of(subDir, subSubDir), directoryIndex.getAllSubdirectories(rootDir));
+    }
+
+    @Test
+    void getFilesByNamePrefixSearchesSubdirectories() throws IOException {
+        assertEquals(Set.of(rootFile, subFile), directoryIndex.getFilesByNamePrefix(rootDir, "HipKro03"));
+        assertEquals(Set.of(subFile), directoryIndex.getFilesByNamePrefix(subDir, "HipKro03"));
+        assertEquals(Set.of(subSubFile), directoryIndex.getFilesByNamePrefix(rootDir, "Other"));
+    }
+
+    @Test
+    void indexDoesNotSeeFilesCreatedAfterReading() throws IOException {
+        directoryIndex.getFilesByNamePrefix(rootDir, "HipKro03");
+        Files.createFile(subSubDir.resolve("HipKro03 - Later.pdf"));
+
+        assertEquals(Set.of(rootFile, subFile), directoryIndex.getFilesByNamePrefix(rootDir, "HipKro03"));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void linkToParentDirectoryIsReadOnce() throws IOException {
+        Files.createSymbolicLink(subSubDir.resolve("loop"), rootDir);
+
+        assertEquals(List.of(subDir, subSubDir), directoryIndex.getAllSubdirectories(rootDir));
+        assertEquals(Set.of(rootFile, subFile), directoryIndex.getFilesByNamePrefix(rootDir, "HipKro03"));
+    }
+
+    @Test
+    void sharedIndexFindsFilesOfSeveralEntries() throws IOException {
+        FileFinder fileFinder = new CitationKeyBasedFileFinder(false, directoryIndex);
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withCitationKey("HipKro03");
+        BibEntry otherEntry = new BibEntry(StandardEntryType.Article).withCitationKey("Other");
+
+        assertEquals(List.of(rootFile, subFile), fileFinder.findAssociatedFiles(entry, List.of(rootDir), List.of("pdf")));
+        assertEquals(List.of(subSubFile), fileFinder.findAssociatedFiles(otherEntry, List.of(rootDir), List.of("pdf")));
+    }
+}
@@ -0,0 +1,168 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.util.DirectoryUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileCatalogTest {
+
+    private final FileUpdateMonitor fileUpdateMonitor = mock(FileUpdateMonitor.class);
+
+    private Path catalogFile;
+    private Path rootDir;
+    private Path subDir;
+    private Path rootFile;
+    private Path subFile;
+    private FileCatalog fileCatalog;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        catalogFile = temporaryFolder.resolve("catalog.files.mv");
+        rootDir = Files.createDirectory(temporaryFolder.resolve("files"));
+        subDir = Files.createDirectory(rootDir.resolve("sub"));
+        rootFile = Files.writeString(rootDir.resolve("HipKro03.pdf"), "content");
+        subFile = Files.writeString(subDir.resolve("Other.pdf"), "other content");
+        when(fileUpdateMonitor.isActive()).thenReturn(true);
+        fileCatalog = createCatalog();
+    }
+
+    private FileCatalog createCatalog() {
+        // Applies the reported changes immediately
+        return new FileCatalog(catalogFile, List.of(rootDir), fileUpdateMonitor, MoreExecutors.newDirectExecutorService());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileCatalog.close();
+    }
+
+    @Test
+    void catalogContainsFilesOfAllDirectories() {
+        assertEquals(List.of(rootFile), fileCatalog.getFiles(rootDir));
+        assertEquals(List.of(subDir), fileCatalog.getSubdirectories(rootDir));
+        assertEquals(List.of(subFile), fileCatalog.getFiles(subDir));
+        assertTrue(fileCatalog.exists(subFile));
+        assertFalse(fileCatalog.exists(subDir.resolve("HipKro03.pdf")));
+        assertEquals(Optional.of(7L), fileCatalog.getSize(rootFile));
+    }
+
+    @Test
+    void reportedChangesUpdateCatalog() throws IOException {
+        DirectoryUpdateListener listener = getListener(subDir);
+
+        Path newFile = Files.createFile(subDir.resolve("New.pdf"));
+        listener.directoryUpdated(newFile);
+        Files.delete(subFile);
+        listener.directoryUpdated(subFile);
+
+        assertEquals(List.of(newFile), fileCatalog.getFiles(subDir));
+        assertFalse(fileCatalog.exists(subFile));
+    }
+
+    @Test
+    void reportedNewDirectoryIsCataloged() throws IOException {
+        Path newDir = Files.createDirectory(rootDir.resolve("new"));
+        Path newFile = Files.createFile(newDir.resolve("New.pdf"));
+        getListener(rootDir).directoryUpdated(newDir);
+
+        assertEquals(List.of(newDir, subDir), fileCatalog.getSubdirectories(rootDir));
+        assertTrue(fileCatalog.exists(newFile));
+    }
+
+    @Test
+    void catalogIsUsedInsteadOfFileSystem() throws IOException {
+        // The deletion is not reported
+        Files.delete(rootFile);
+
+        assertTrue(fileCatalog.exists(rootFile));
+        assertEquals(List.of(rootFile), new DirectoryIndex(fileCatalog).getFiles(rootDir));
+    }
+
+    @Test
+    void fileMissingInCatalogIsLookedUpInFileSystem() throws IOException {
+        // The creation is not reported, as for a path differing in case only on a case-insensitive file system
+        Path unreportedFile = Files.createFile(rootDir.resolve("Unreported.pdf"));
+
+        assertTrue(fileCatalog.exists(unreportedFile));
+        assertEquals(List.of(rootFile), fileCatalog.getFiles(rootDir));
+    }
+
+    @Test
+    void unwatchedDirectoryIsReadFromFileSystem() throws IOException {
+        fileCatalog.close();
+        doThrow(new IOException("Limit of watches reached")).when(fileUpdateMonitor).addListenerForDirectory(eq(subDir), any());
+        fileCatalog = createCatalog();
+        Files.delete(subFile);
+
+        assertTrue(fileCatalog.isCataloged(rootDir));
+        assertFalse(fileCatalog.isCataloged(subDir));
+        assertEquals(List.of(subDir), fileCatalog.getSubdirectories(rootDir));
+        assertFalse(fileCatalog.exists(subFile));
+        assertEquals(List.of(), new DirectoryIndex(fileCatalog).getFiles(subDir));
+    }
+
+    @Test
+    void catalogIsNotUsedIfMonitorFailed() throws IOException {
+        when(fileUpdateMonitor.isActive()).thenReturn(false);
+        Files.delete(rootFile);
+
+        assertFalse(fileCatalog.isCataloged(rootDir));
+        assertFalse(fileCatalog.exists(rootFile));
+    }
+
+    @Test
+    void contentHashIsKeptWhenCatalogIsOpenedAgain() throws IOException {
+        Optional<String> contentHash = fileCatalog.getContentHash(rootFile);
+        fileCatalog.close();
+
+        // Same size and modification time, thus the file is not hashed again
+        FileTime lastModifiedTime = Files.getLastModifiedTime(rootFile);
+        Files.writeString(rootFile, "changed");
+        Files.setLastModifiedTime(rootFile, lastModifiedTime);
+        fileCatalog = createCatalog();
+
+        assertEquals(contentHash, fileCatalog.getContentHash(rootFile));
+    }
+
+    @Test
+    void contentHashIsComputedAgainForChangedFile() throws IOException {
+        Optional<String> contentHash = fileCatalog.getContentHash(rootFile);
+        fileCatalog.close();
+
+        Files.writeString(rootFile, "changed content");
+        fileCatalog = createCatalog();
+
+        assertNotEquals(contentHash, fileCatalog.getContentHash(rootFile));
+    }
+
+    private DirectoryUpdateListener getListener(Path directory) throws IOException {
+        ArgumentCaptor<DirectoryUpdateListener> listener = ArgumentCaptor.forClass(DirectoryUpdateListener.class);
+        verify(fileUpdateMonitor, atLeastOnce()).addListenerForDirectory(eq(directory), listener.capture());
+        return listener.getValue();
+    }
+}
@@ -314,6 +314,62 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void batchUpdatePostsSingleBatchEvent() {
+        BibEntry first = new BibEntry();
+        BibEntry second = new BibEntry();
+        database.insertEntries(first, second);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        database.performBatchUpdate(() -> {
+            first.setField(StandardField.TITLE, "title");
+            second.setField(StandardField.TITLE, "title");
+            // nested batches belong to the outer one
+            database.performBatchUpdate(() -> first.setField(StandardField.YEAR, "2024"));
+        });
+
+        assertEquals(0, tel.getEntryChangedEvents());
+        assertEquals(List.of(first, second), tel.getBatchEvent().getBibEntries());
+        assertEquals(3, tel.getBatchEvent().getFieldChangedEvents().size());
+    }
+
+    @Test
+    void batchUpdateWithoutChangesPostsNoEvent() {
+        database.insertEntry(new BibEntry());
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        database.performBatchUpdate(() -> {
+        });
+
+        assertNull(tel.getBatchEvent());
+    }
+
+    @Test
+    void batchUpdateKeepsCitationKeysUpToDate() {
+        BibEntry entry = new BibEntry().withCitationKey("old");
+        database.insertEntry(entry);
+
+        database.performBatchUpdate(() -> {
+            entry.setCitationKey("new");
+            assertEquals(Optional.of(entry), database.getEntryByCitationKey("new"));
+        });
+    }
+
+    @Test
+    void changesAfterBatchUpdatePostSingleEvents() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        database.performBatchUpdate(() -> entry.setField(StandardField.TITLE, "title"));
+        entry.setField(StandardField.YEAR, "2024");
+
+        assertEquals(1, tel.getEntryChangedEvents());
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -345,6 +401,45 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void keyCountFollowsCitationKeyChange() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void keyCountIgnoresClearedCitationKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearCiteKey();
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void keyChangeOfRemovedEntryIsNotIndexed() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("AAA").withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry().withCitationKey("BBB").withField(StandardField.TITLE, "second");
+        database.insertEntries(first, second);
+        first.setCitationKey("CCC");
+        first.setCitationKey("BBB");
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("BBB"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("BBB"));
+        assertTrue(database.isDuplicateCitationKeyExisting("BBB"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
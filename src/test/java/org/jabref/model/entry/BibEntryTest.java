@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,6 +14,8 @@ import java.util.stream.Stream;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.FieldChangeListener;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.BibField;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldPriority;
@@ -58,6 +61,14 @@ class BibEntryTest {
         assertThrows(NullPointerException.class, () -> entry.setField(null));
     }
 
+    @Test
+    void withFieldsSkipsNullValues() {
+        Map<Field, String> content = new HashMap<>();
+        content.put(StandardField.TITLE, "Title");
+        content.put(StandardField.YEAR, null);
+        assertEquals(Map.of(StandardField.TITLE, "Title"), new BibEntry().withFields(content).getFieldMap());
+    }
+
     @Test
     void getFieldIsCaseInsensitive() throws Exception {
         entry.setField(new UnknownField("TeSt"), "value");
@@ -846,4 +857,19 @@ class BibEntryTest {
     void isNotEmpty(BibEntry entry) {
         assertFalse(entry.isEmpty());
     }
+
+    @Test
+    void fieldChangeListenerIsNotifiedOnceUntilRemoved() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        FieldChangeListener listener = events::add;
+        entry.addFieldChangeListener(listener);
+        entry.addFieldChangeListener(listener);
+
+        entry.setField(StandardField.TITLE, "title");
+        entry.removeFieldChangeListener(listener);
+        entry.setField(StandardField.YEAR, "2024");
+
+        assertEquals(1, events.size());
+        assertEquals(StandardField.TITLE, events.getFirst().getField());
+    }
 }
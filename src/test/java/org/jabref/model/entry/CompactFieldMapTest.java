@@ -0,0 +1,87 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactFieldMapTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 40})
+    void behavesLikeHashMap(int numberOfFields) {
+        CompactFieldMap map = new CompactFieldMap();
+        Map<Field, String> expected = new HashMap<>();
+        for (int i = 0; i < numberOfFields; i++) {
+            Field field = new UnknownField("field" + i);
+            assertEquals(expected.put(field, "value" + i), map.put(field, "value" + i));
+        }
+        assertEquals(expected.put(new UnknownField("field1"), "changed"), map.put(new UnknownField("FIELD1"), "changed"));
+        assertEquals(expected.remove(new UnknownField("field2")), map.remove(new UnknownField("field2")));
+        assertNull(map.remove(new UnknownField("field2")));
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected.size(), map.size());
+        assertEquals("changed", map.get(new UnknownField("field1")));
+    }
+
+    @Test
+    void differentKindsOfFieldsWithSameNameAreDifferentKeys() {
+        CompactFieldMap map = new CompactFieldMap();
+        map.put(StandardField.TITLE, "standard");
+        map.put(new UnknownField("title"), "unknown");
+
+        assertEquals(2, map.size());
+        assertEquals("standard", map.get(StandardField.TITLE));
+        assertEquals("unknown", map.get(new UnknownField("title")));
+    }
+
+    @Test
+    void iterationWorksOnSnapshot() {
+        CompactFieldMap map = new CompactFieldMap(Map.of(StandardField.TITLE, "title", StandardField.YEAR, "2024"));
+
+        Iterator<Map.Entry<Field, String>> iterator = map.entrySet().iterator();
+        map.put(StandardField.AUTHOR, "author");
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+
+        assertEquals(2, count);
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void iteratorRemovesAndEntriesWriteThrough() {
+        CompactFieldMap map = new CompactFieldMap(Map.of(StandardField.TITLE, "title", StandardField.YEAR, "2024"));
+
+        Iterator<Map.Entry<Field, String>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Field, String> entry = iterator.next();
+            if (entry.getKey() == StandardField.YEAR) {
+                iterator.remove();
+            } else {
+                entry.setValue("changed");
+            }
+        }
+
+        assertEquals(Map.of(StandardField.TITLE, "changed"), map);
+        assertFalse(map.containsKey(StandardField.YEAR));
+        assertTrue(map.containsKey(StandardField.TITLE));
+    }
+}
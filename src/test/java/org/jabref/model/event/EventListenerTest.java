@@ -6,6 +6,7 @@ import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedBatchEvent;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -15,6 +16,8 @@ public class EventListenerTest {
     private BibEntry firstInsertedEntry;
     private List<BibEntry> removedEntries;
     private BibEntry changedEntry;
+    private int entryChangedEvents;
+    private FieldsChangedBatchEvent batchEvent;
 
     @Subscribe
     public void listen(EntriesAddedEvent event) {
@@ -30,6 +33,12 @@ public class EventListenerTest {
     @Subscribe
     public void listen(EntryChangedEvent event) {
         this.changedEntry = event.getBibEntry();
+        this.entryChangedEvents++;
+    }
+
+    @Subscribe
+    public void listen(FieldsChangedBatchEvent event) {
+        this.batchEvent = event;
     }
 
     public List<BibEntry> getAddedEntries() {
@@ -47,4 +56,12 @@ public class EventListenerTest {
     public BibEntry getChangedEntry() {
         return changedEntry;
     }
+
+    public int getEntryChangedEvents() {
+        return entryChangedEvents;
+    }
+
+    public FieldsChangedBatchEvent getBatchEvent() {
+        return batchEvent;
+    }
 }
@@ -0,0 +1,120 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutomaticGroupIndexTest {
+
+    private final AutomaticKeywordGroup keywordsGroup = new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
+
+    private BibDatabase database;
+    private BibEntry entry;
+    private BibEntry otherEntry;
+    private AutomaticGroupIndex index;
+
+    @BeforeEach
+    void setUp() {
+        entry = new BibEntry().withField(StandardField.KEYWORDS, "A > B, C");
+        otherEntry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        database = new BibDatabase(List.of(entry, otherEntry));
+        index = new AutomaticGroupIndex(keywordsGroup, database, Runnable::run);
+    }
+
+    @Test
+    void createsMergedSubgroupTree() {
+        GroupTreeNode expectedA = GroupTreeNode.fromGroup(keyword("A", "A"));
+        expectedA.addSubgroup(keyword("B", "A > B"));
+        GroupTreeNode expectedC = GroupTreeNode.fromGroup(keyword("C", "C"));
+
+        assertEquals(Set.of(expectedA, expectedC), Set.copyOf(index.getSubgroups()));
+        assertEquals(keywordsGroup.createSubgroups(database.getEntries()), index.getSubgroups());
+    }
+
+    @Test
+    void countsEntriesOfSubgroups() {
+        GroupTreeNode subgroupA = getSubgroup(index, "A");
+
+        assertEquals(2, index.getHitCount(subgroupA));
+        assertEquals(1, index.getHitCount(subgroupA.getChildren().getFirst()));
+        assertEquals(List.of(entry), index.getEntries(getSubgroup(index, "C")));
+    }
+
+    @Test
+    void changedEntryOnlyTouchesAffectedSubgroups() {
+        GroupTreeNode subgroupA = getSubgroup(index, "A");
+        List<Set<GroupTreeNode>> notifications = new ArrayList<>();
+        Consumer<Set<GroupTreeNode>> listener = notifications::add;
+        index.addListener(listener);
+
+        entry.setField(StandardField.KEYWORDS, "A > B, D");
+
+        assertSame(subgroupA, getSubgroup(index, "A"));
+        assertEquals(List.of("A", "D"), index.getSubgroups().stream().map(GroupTreeNode::getName).toList());
+        assertEquals(1, notifications.size());
+        assertEquals(2, notifications.getFirst().size());
+        assertTrue(notifications.getFirst().contains(getSubgroup(index, "D")));
+    }
+
+    @Test
+    void changeOfOtherFieldIsIgnored() {
+        List<Set<GroupTreeNode>> notifications = new ArrayList<>();
+        Consumer<Set<GroupTreeNode>> listener = notifications::add;
+        index.addListener(listener);
+
+        entry.setField(StandardField.TITLE, "Title");
+
+        assertEquals(List.of(), notifications);
+    }
+
+    @Test
+    void addedAndRemovedEntriesUpdateSubgroups() {
+        BibEntry newEntry = new BibEntry().withField(StandardField.KEYWORDS, "A > E");
+        database.insertEntry(newEntry);
+
+        GroupTreeNode subgroupA = getSubgroup(index, "A");
+        assertEquals(3, index.getHitCount(subgroupA));
+        assertEquals(List.of("B", "E"), subgroupA.getChildren().stream().map(GroupTreeNode::getName).toList());
+
+        database.removeEntry(entry);
+
+        assertEquals(List.of("A"), index.getSubgroups().stream().map(GroupTreeNode::getName).toList());
+        assertEquals(List.of("E"), subgroupA.getChildren().stream().map(GroupTreeNode::getName).toList());
+        assertEquals(2, index.getHitCount(subgroupA));
+    }
+
+    @Test
+    void createsPersonSubgroups() {
+        database.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Doe, John and Smith, Jane"));
+        AutomaticGroupIndex personsIndex = new AutomaticGroupIndex(new AutomaticPersonsGroup("Authors", GroupHierarchyType.INDEPENDENT, StandardField.AUTHOR), database, Runnable::run);
+
+        database.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Doe, Jane"));
+
+        GroupTreeNode subgroupDoe = getSubgroup(personsIndex, "Doe");
+        assertEquals(2, personsIndex.getSubgroups().size());
+        assertEquals(2, personsIndex.getHitCount(subgroupDoe));
+    }
+
+    private static GroupTreeNode getSubgroup(AutomaticGroupIndex index, String name) {
+        return index.getSubgroups().stream()
+                    .filter(subgroup -> name.equals(subgroup.getName()))
+                    .findFirst()
+                    .orElseThrow();
+    }
+
+    private static WordKeywordGroup keyword(String name, String path) {
+        return new WordKeywordGroup(name, GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, path, true, ',', true);
+    }
+}
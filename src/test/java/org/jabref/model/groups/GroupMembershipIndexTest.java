@@ -0,0 +1,131 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.MetaData;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private MetaData metaData;
+    private GroupMembershipIndex index;
+    private GroupTreeNode root;
+    private GroupTreeNode keywordGroup;
+    private GroupTreeNode otherKeywordGroup;
+    private BibEntry entry;
+    private BibEntry otherEntry;
+
+    @BeforeEach
+    void setUp() {
+        entry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        otherEntry = new BibEntry().withField(StandardField.KEYWORDS, "A, B");
+        database = new BibDatabase(List.of(entry, otherEntry));
+        metaData = new MetaData();
+
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        keywordGroup = root.addSubgroup(new WordKeywordGroup("A", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "A", true, ',', false));
+        otherKeywordGroup = root.addSubgroup(new WordKeywordGroup("B", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "B", true, ',', false));
+        metaData.setGroups(root);
+
+        index = new BibDatabaseContext(database, metaData).getGroupMembershipIndex();
+    }
+
+    @Test
+    void countsMatchedEntries() {
+        assertEquals(2, index.getHitCount(root));
+        assertEquals(2, index.getHitCount(keywordGroup));
+        assertEquals(1, index.getHitCount(otherKeywordGroup));
+        assertEquals(List.of(otherEntry), index.getMatches(otherKeywordGroup));
+    }
+
+    @Test
+    void changedFieldUpdatesMatchedEntries() {
+        index.getHitCount(otherKeywordGroup);
+
+        entry.setField(StandardField.KEYWORDS, "A, B");
+
+        assertEquals(2, index.getHitCount(otherKeywordGroup));
+        assertTrue(index.matches(otherKeywordGroup, entry));
+    }
+
+    @Test
+    void addedAndRemovedEntriesUpdateMatchedEntries() {
+        index.getHitCount(otherKeywordGroup);
+        BibEntry newEntry = new BibEntry().withField(StandardField.KEYWORDS, "B");
+
+        database.insertEntry(newEntry);
+        assertEquals(2, index.getHitCount(otherKeywordGroup));
+
+        database.removeEntry(otherEntry);
+        assertEquals(List.of(newEntry), index.getMatches(otherKeywordGroup));
+    }
+
+    @Test
+    void combinesGroupsByUnionAndIntersection() {
+        List<GroupTreeNode> groups = List.of(keywordGroup, otherKeywordGroup);
+
+        assertTrue(index.matchesAny(groups, entry));
+        assertFalse(index.matchesAll(groups, entry));
+        assertTrue(index.matchesAll(groups, otherEntry));
+    }
+
+    @Test
+    void notifiesListenersOnlyAboutChangedGroups() {
+        index.getHitCount(keywordGroup);
+        index.getHitCount(otherKeywordGroup);
+        List<Set<GroupTreeNode>> notifications = new ArrayList<>();
+        Consumer<Set<GroupTreeNode>> listener = notifications::add;
+        index.addListener(listener);
+
+        entry.setField(StandardField.TITLE, "Not relevant for the groups");
+        entry.setField(StandardField.KEYWORDS, "B");
+
+        assertEquals(1, notifications.size());
+        assertEquals(Set.of(keywordGroup, otherKeywordGroup), notifications.getFirst());
+    }
+
+    @Test
+    void changedGroupTreeInvalidatesMatchedEntries() {
+        GroupTreeNode includingGroup = root.addSubgroup(new WordKeywordGroup("C", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "C", true, ',', false));
+        assertEquals(0, index.getHitCount(includingGroup));
+
+        includingGroup.addSubgroup(new WordKeywordGroup("B", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "B", true, ',', false));
+
+        assertEquals(List.of(otherEntry), index.getMatches(includingGroup));
+    }
+
+    @Test
+    void entryOutsideOfLibraryIsMatchedDirectly() {
+        assertTrue(index.matches(otherKeywordGroup, new BibEntry().withField(StandardField.KEYWORDS, "B")));
+    }
+
+    @Test
+    void entryChangedWhileComputingMatchedEntriesIsMatchedAgain() {
+        GroupTreeNode changingGroup = root.addSubgroup(new WordKeywordGroup("C", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "C", true, ',', false) {
+            @Override
+            public boolean contains(BibEntry bibEntry) {
+                if ((bibEntry == otherEntry) && !entry.getField(StandardField.KEYWORDS).orElse("").contains("C")) {
+                    // changes an entry which was matched already, as another thread could do meanwhile
+                    entry.setField(StandardField.KEYWORDS, "A, C");
+                }
+                return super.contains(bibEntry);
+            }
+        });
+
+        assertEquals(List.of(entry), index.getMatches(changingGroup));
+    }
+}